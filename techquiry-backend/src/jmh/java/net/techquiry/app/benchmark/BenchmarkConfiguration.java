@@ -0,0 +1,56 @@
+package net.techquiry.app.benchmark;
+
+import java.nio.file.Path;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.sqlite.SQLiteConfig;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import net.techquiry.app.common.Constants;
+import net.techquiry.app.database.EntityCacheManager;
+import net.techquiry.app.database.UnitOfWork;
+
+@Configuration
+@ComponentScan({ "net.techquiry.app.database", "net.techquiry.app.mapper" })
+public class BenchmarkConfiguration {
+
+	@Primary
+	@Bean(destroyMethod = "close")
+	public DataSource getDataSource(Path databasePath) {
+		HikariConfig hikariConfig = new HikariConfig();
+		hikariConfig.setJdbcUrl("jdbc:sqlite:" + databasePath);
+		hikariConfig.setMaximumPoolSize(4);
+		hikariConfig.setAutoCommit(false);
+		SQLiteConfig sqliteConfig = new SQLiteConfig();
+		sqliteConfig.enforceForeignKeys(true);
+		hikariConfig.setDataSourceProperties(sqliteConfig.toProperties());
+		return new HikariDataSource(hikariConfig);
+	}
+
+	@Bean(name = Constants.DATABASE_READ_SOURCE)
+	public DataSource getReadDataSource(DataSource dataSource) {
+		return dataSource;
+	}
+
+	@Primary
+	@Bean
+	public EntityCacheManager getEntityCacheManager(UnitOfWork unitOfWork) {
+		return new EntityCacheManager(unitOfWork, 0, 1);
+	}
+
+	@Bean
+	public MeterRegistry getMeterRegistry() {
+		return new SimpleMeterRegistry();
+	}
+
+}
@@ -0,0 +1,119 @@
+package net.techquiry.app.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import net.techquiry.app.common.SecurityUtils;
+import net.techquiry.app.database.DatabaseManager;
+
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+	@Param({ "10000" })
+	public int inquiries;
+
+	public int users;
+
+	public AnnotationConfigApplicationContext context;
+
+	private Path databasePath;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		users = Math.max(1, inquiries / 10);
+		databasePath = Files.createTempFile("techquiry-benchmark", ".db");
+		context = new AnnotationConfigApplicationContext();
+		context.registerBean(Path.class, () -> databasePath);
+		context.register(BenchmarkConfiguration.class);
+		context.refresh();
+		DatabaseManager manager = context.getBean(DatabaseManager.class);
+		manager.createSchema();
+		manager.migrateSchema();
+		seed(context.getBean(DataSource.class));
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() throws Exception {
+		context.close();
+		Files.deleteIfExists(databasePath);
+	}
+
+	public <T> T getBean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	public int randomInquiryId() {
+		return ThreadLocalRandom.current().nextInt(1, inquiries + 1);
+	}
+
+	public int randomUserId() {
+		return ThreadLocalRandom.current().nextInt(1, users + 1);
+	}
+
+	private void seed(DataSource dataSource) throws Exception {
+		String hash = SecurityUtils.encodeBase64(new byte[32]);
+		String salt = SecurityUtils.encodeBase64(new byte[16]);
+		try (Connection connection = dataSource.getConnection()) {
+			try (PreparedStatement statement = connection.prepareStatement("INSERT INTO user_login (user_id, username, password_hash, password_salt) VALUES (?, ?, ?, ?)")) {
+				for (int id = 1; id <= users; id++) {
+					statement.setInt(1, id);
+					statement.setString(2, "user" + id);
+					statement.setString(3, hash);
+					statement.setString(4, salt);
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+			try (PreparedStatement statement = connection.prepareStatement("INSERT INTO inquiry (inquiry_id, user_id, title, content, anonymous) VALUES (?, ?, ?, ?, ?)")) {
+				for (int id = 1; id <= inquiries; id++) {
+					statement.setInt(1, id);
+					statement.setInt(2, id % users + 1);
+					statement.setString(3, "Inquiry " + id);
+					statement.setString(4, "The content of the inquiry with the id " + id + ".");
+					statement.setBoolean(5, id % 3 == 0);
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+			try (PreparedStatement statement = connection.prepareStatement("INSERT INTO response (response_id, inquiry_id, user_id, anonymous, content) VALUES (?, ?, ?, ?, ?)")) {
+				for (int id = 1; id <= inquiries; id++) {
+					statement.setInt(1, id);
+					statement.setInt(2, id);
+					statement.setInt(3, (id + 1) % users + 1);
+					statement.setBoolean(4, id % 2 == 0);
+					statement.setString(5, "The content of the response with the id " + id + ".");
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+			try (PreparedStatement observer = connection.prepareStatement("INSERT INTO observer (inquiry_id, user_id) VALUES (?, ?)"); PreparedStatement upvote = connection.prepareStatement("INSERT INTO upvote (response_id, user_id) VALUES (?, ?)")) {
+				for (int id = 1; id <= inquiries; id++) {
+					observer.setInt(1, id);
+					observer.setInt(2, (id + 2) % users + 1);
+					observer.addBatch();
+					upvote.setInt(1, id);
+					upvote.setInt(2, (id + 3) % users + 1);
+					upvote.addBatch();
+				}
+				observer.executeBatch();
+				upvote.executeBatch();
+			}
+			connection.createStatement().execute("ANALYZE");
+			connection.commit();
+		}
+	}
+
+}
@@ -0,0 +1,125 @@
+package net.techquiry.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.techquiry.app.database.dao.InquiryDao;
+import net.techquiry.app.database.dao.ObserverDao;
+import net.techquiry.app.database.dao.ResponseDao;
+import net.techquiry.app.database.dao.UpvoteDao;
+import net.techquiry.app.database.dao.UserLoginDao;
+import net.techquiry.app.entity.FeedEntry;
+import net.techquiry.app.entity.Inquiry;
+import net.techquiry.app.entity.Response;
+import net.techquiry.app.entity.UserLogin;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DaoBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	private BenchmarkDatabase database;
+
+	private InquiryDao inquiryDao;
+
+	private ResponseDao responseDao;
+
+	private ObserverDao observerDao;
+
+	private UpvoteDao upvoteDao;
+
+	private UserLoginDao userLoginDao;
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkDatabase database) {
+		this.database = database;
+		this.inquiryDao = database.getBean(InquiryDao.class);
+		this.responseDao = database.getBean(ResponseDao.class);
+		this.observerDao = database.getBean(ObserverDao.class);
+		this.upvoteDao = database.getBean(UpvoteDao.class);
+		this.userLoginDao = database.getBean(UserLoginDao.class);
+	}
+
+	@Benchmark
+	public Inquiry inquirySelect() throws Exception {
+		return inquiryDao.select(database.randomInquiryId());
+	}
+
+	@Benchmark
+	public int inquiryCount() throws Exception {
+		return inquiryDao.count();
+	}
+
+	@Benchmark
+	public List<Inquiry> inquiryRange() throws Exception {
+		return inquiryDao.range(PAGE_SIZE, database.randomInquiryId() - 1);
+	}
+
+	@Benchmark
+	public List<Inquiry> inquiryRangeAfter() throws Exception {
+		return inquiryDao.rangeAfter(PAGE_SIZE, database.randomInquiryId());
+	}
+
+	@Benchmark
+	public List<FeedEntry> inquiryFeed() throws Exception {
+		return inquiryDao.feed(PAGE_SIZE, database.randomInquiryId(), database.randomUserId());
+	}
+
+	@Benchmark
+	public List<Inquiry> inquirySelectFromUserId() throws Exception {
+		return inquiryDao.selectFromUserId(database.randomUserId());
+	}
+
+	@Benchmark
+	public Response responseSelect() throws Exception {
+		return responseDao.select(database.randomInquiryId());
+	}
+
+	@Benchmark
+	public List<Response> responseSelectFromInquiryId() throws Exception {
+		return responseDao.selectFromInquiryId(database.randomInquiryId());
+	}
+
+	@Benchmark
+	public int responseCountFromInquiryId() throws Exception {
+		return responseDao.countFromInquiryId(database.randomInquiryId());
+	}
+
+	@Benchmark
+	public List<Inquiry> observerSelectFromUserId() throws Exception {
+		return observerDao.selectFromUserId(database.randomUserId());
+	}
+
+	@Benchmark
+	public List<Response> upvoteSelectFromUserId() throws Exception {
+		return upvoteDao.selectFromUserId(database.randomUserId());
+	}
+
+	@Benchmark
+	public UserLogin userLoginSelect() throws Exception {
+		return userLoginDao.select(database.randomUserId());
+	}
+
+	@Benchmark
+	public UserLogin userLoginSelectFromUsername() throws Exception {
+		return userLoginDao.selectFromUsername("user" + database.randomUserId());
+	}
+
+}
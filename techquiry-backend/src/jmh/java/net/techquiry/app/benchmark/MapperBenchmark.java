@@ -0,0 +1,94 @@
+package net.techquiry.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.techquiry.app.database.dao.InquiryDao;
+import net.techquiry.app.database.dao.ResponseDao;
+import net.techquiry.app.database.dao.UserLoginDao;
+import net.techquiry.app.entity.FeedEntry;
+import net.techquiry.app.entity.Inquiry;
+import net.techquiry.app.entity.Response;
+import net.techquiry.app.entity.UserLogin;
+import net.techquiry.app.mapper.InquiryMapper;
+import net.techquiry.app.mapper.ResponseMapper;
+import net.techquiry.app.mapper.UserLoginMapper;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	private InquiryMapper inquiryMapper;
+
+	private ResponseMapper responseMapper;
+
+	private UserLoginMapper userLoginMapper;
+
+	private List<Inquiry> inquiries;
+
+	private List<FeedEntry> feed;
+
+	private List<Response> responses;
+
+	private List<UserLogin> userLogins;
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkDatabase database) throws Exception {
+		this.inquiryMapper = database.getBean(InquiryMapper.class);
+		this.responseMapper = database.getBean(ResponseMapper.class);
+		this.userLoginMapper = database.getBean(UserLoginMapper.class);
+		InquiryDao inquiryDao = database.getBean(InquiryDao.class);
+		this.inquiries = inquiryDao.rangeAfter(PAGE_SIZE, 0);
+		this.feed = inquiryDao.feed(PAGE_SIZE, 0, 1);
+		this.responses = database.getBean(ResponseDao.class).selectFromInquiryId(1);
+		this.userLogins = database.getBean(UserLoginDao.class).rangeAfter(PAGE_SIZE, 0);
+	}
+
+	@Benchmark
+	public void inquiryToDto(Blackhole blackhole) {
+		for (Inquiry inquiry : inquiries) {
+			blackhole.consume(inquiryMapper.toDto(inquiry));
+		}
+	}
+
+	@Benchmark
+	public void feedEntryToDto(Blackhole blackhole) {
+		for (FeedEntry entry : feed) {
+			blackhole.consume(inquiryMapper.toDto(entry));
+		}
+	}
+
+	@Benchmark
+	public void responseToDto(Blackhole blackhole) {
+		for (Response response : responses) {
+			blackhole.consume(responseMapper.toDto(response));
+		}
+	}
+
+	@Benchmark
+	public void userLoginToDto(Blackhole blackhole) {
+		for (UserLogin userLogin : userLogins) {
+			blackhole.consume(userLoginMapper.toDto(userLogin));
+		}
+	}
+
+}
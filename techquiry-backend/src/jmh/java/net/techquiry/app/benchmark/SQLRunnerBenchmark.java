@@ -0,0 +1,106 @@
+package net.techquiry.app.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.techquiry.app.database.LocalResult;
+import net.techquiry.app.database.SQLRunner;
+import net.techquiry.app.database.row.InquiryRowMapper;
+import net.techquiry.app.entity.Inquiry;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SQLRunnerBenchmark {
+
+	private static final String SELECT_SCRIPT = "/database/inquiry/select.sql";
+
+	private static final String SELECT_STATEMENT = "SELECT * FROM inquiry WHERE inquiry_id = ?";
+
+	private static final String RANGE_STATEMENT = "SELECT * FROM inquiry WHERE inquiry_id > ? ORDER BY inquiry_id LIMIT 20";
+
+	private BenchmarkDatabase database;
+
+	private SQLRunner runner;
+
+	private InquiryRowMapper mapper;
+
+	private Connection connection;
+
+	private PreparedStatement range;
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkDatabase database) throws Exception {
+		this.database = database;
+		this.runner = database.getBean(SQLRunner.class);
+		this.mapper = database.getBean(InquiryRowMapper.class);
+		this.connection = database.getBean(DataSource.class).getConnection();
+		this.range = connection.prepareStatement(RANGE_STATEMENT);
+	}
+
+	@TearDown(Level.Trial)
+	public void teardown() throws Exception {
+		range.close();
+		connection.rollback();
+		connection.close();
+	}
+
+	@Benchmark
+	public List<LocalResult> runScript() throws Exception {
+		return runner.runScript(SELECT_SCRIPT, database.randomInquiryId());
+	}
+
+	@Benchmark
+	public List<Inquiry> runQuery() throws Exception {
+		return runner.runQuery(SELECT_SCRIPT, mapper, database.randomInquiryId());
+	}
+
+	@Benchmark
+	public LocalResult runStatement() throws Exception {
+		return runner.runStatement(SELECT_STATEMENT, database.randomInquiryId());
+	}
+
+	@Benchmark
+	public LocalResult localResultOf() throws Exception {
+		range.setInt(1, database.randomInquiryId());
+		try (ResultSet resultSet = range.executeQuery()) {
+			return LocalResult.of(resultSet);
+		}
+	}
+
+	@Benchmark
+	public List<Inquiry> rowMapperMapRow() throws Exception {
+		range.setInt(1, database.randomInquiryId());
+		try (ResultSet resultSet = range.executeQuery()) {
+			int[] columns = mapper.resolveColumns(resultSet);
+			List<Inquiry> list = new ArrayList<>();
+			while (resultSet.next()) {
+				list.add(mapper.mapRow(resultSet, columns));
+			}
+			return list;
+		}
+	}
+
+}
@@ -7,14 +7,21 @@ import javax.sql.DataSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConfig.JournalMode;
+import org.sqlite.SQLiteConfig.SynchronousMode;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 
+import net.techquiry.app.database.AdmissionDataSource;
+
 /**
  * The {@link AppConfiguration} class is a Spring configuration class that is
  * responsible for defining key application configuration beans.
@@ -28,12 +35,52 @@ public class AppConfiguration {
 
 	/**
 	 * This method configures and returns a new {@link DataSource} object for
-	 * connecting to the application database.
+	 * connecting to the application database. In WAL mode the returned pool
+	 * consists of a single connection, through which all writes are serialized.
 	 * 
+	 * @param meterRegistry The registry to publish the pool metrics to
 	 * @return The {@link DataSource} instance
 	 */
+	@Primary
 	@Bean(destroyMethod = "close")
-	public DataSource getDataSource() {
+	public DataSource getDataSource(MeterRegistry meterRegistry) {
+		int poolSize = Environment.DB_WAL_MODE ? 1 : Environment.DB_POOL_SIZE;
+		return createDataSource(Constants.APPLICATION_NAME + "ConnectionPool", poolSize, false, meterRegistry);
+	}
+
+	/**
+	 * This method configures and returns the {@link DataSource} object used for
+	 * the read-only queries to the application database. In WAL mode this is a
+	 * separate pool of read-only connections, which are not blocked by the writer,
+	 * otherwise it is the given primary {@link DataSource}.
+	 * 
+	 * @param dataSource    The primary {@link DataSource} instance
+	 * @param meterRegistry The registry to publish the pool metrics to
+	 * @return The read-only {@link DataSource} instance
+	 */
+	@Bean(name = Constants.DATABASE_READ_SOURCE, destroyMethod = "close")
+	public DataSource getReadDataSource(DataSource dataSource, MeterRegistry meterRegistry) {
+		if (!Environment.DB_WAL_MODE) {
+			return dataSource;
+		}
+		return createDataSource(Constants.APPLICATION_NAME + "ReadConnectionPool", Environment.DB_POOL_SIZE, true, meterRegistry);
+	}
+
+	/**
+	 * This method creates a new pooled {@link DataSource} for the application
+	 * database with the given pool name, size and access mode. The wait time as
+	 * well as the active and idle connections of the pool are published to the
+	 * given {@link MeterRegistry}, tagged with the pool name. When requests run on
+	 * virtual threads, the pool is placed behind an {@link AdmissionDataSource},
+	 * so that the requests waiting for a connection queue fairly.
+	 * 
+	 * @param poolName      The name of the connection pool
+	 * @param poolSize      The maximum size of the connection pool
+	 * @param readOnly      Whether the connections are opened in read-only mode
+	 * @param meterRegistry The registry to publish the pool metrics to
+	 * @return The {@link DataSource} instance
+	 */
+	private DataSource createDataSource(String poolName, int poolSize, boolean readOnly, MeterRegistry meterRegistry) {
 		Path databasePath = Environment.SRV_WORKING_DIRECTORY.toPath().resolve(Constants.DATABASE_FILENAME);
 		String databaseUrl = "jdbc:sqlite:" + databasePath;
 		HikariConfig hikariConfig = new HikariConfig();
@@ -42,12 +89,24 @@ public class AppConfiguration {
 		hikariConfig.setConnectionTimeout(Environment.DB_TIMEOUT);
 		hikariConfig.setIdleTimeout(Environment.DB_IDLE_TIMEOUT);
 		hikariConfig.setMaxLifetime(Environment.DB_LIFETIME);
-		hikariConfig.setMaximumPoolSize(Environment.DB_POOL_SIZE);
-		hikariConfig.setPoolName(Constants.APPLICATION_NAME + "ConnectionPool");
+		hikariConfig.setMaximumPoolSize(poolSize);
+		hikariConfig.setPoolName(poolName);
+		hikariConfig.setReadOnly(readOnly);
+		hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
 		SQLiteConfig sqliteConfig = new SQLiteConfig();
 		sqliteConfig.enforceForeignKeys(true);
+		sqliteConfig.setBusyTimeout(Environment.DB_BUSY_TIMEOUT);
+		sqliteConfig.setReadOnly(readOnly);
+		if (Environment.DB_WAL_MODE && !readOnly) {
+			sqliteConfig.setJournalMode(JournalMode.WAL);
+			sqliteConfig.setSynchronous(SynchronousMode.NORMAL);
+		}
 		hikariConfig.setDataSourceProperties(sqliteConfig.toProperties());
-		return new HikariDataSource(hikariConfig);
+		HikariDataSource dataSource = new HikariDataSource(hikariConfig);
+		if (!Environment.SRV_VIRTUAL_THREADS) {
+			return dataSource;
+		}
+		return new AdmissionDataSource(dataSource, poolSize, Environment.DB_ADMISSION_TIMEOUT);
 	}
 
 	/**
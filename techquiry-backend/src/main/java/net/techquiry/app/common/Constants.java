@@ -1,5 +1,7 @@
 package net.techquiry.app.common;
 
+import java.util.List;
+
 import net.techquiry.app.common.exception.IllegalConstructionException;
 
 /**
@@ -37,6 +39,11 @@ public final class Constants {
 	 */
 	public static final String DATABASE_FILENAME = "techquiry.db";
 
+	/**
+	 * The name of the bean of the data source used for read-only queries.
+	 */
+	public static final String DATABASE_READ_SOURCE = "readDataSource";
+
 	/**
 	 * The regular expression defining the valid format for usernames.
 	 */
@@ -47,4 +54,26 @@ public final class Constants {
 	 */
 	public static final String SECURITY_HASHING_ALGORITHM = "SHA-256";
 
+	/**
+	 * The hashing algorithm for generating the hashes addressing stored content.
+	 */
+	public static final String CONTENT_HASHING_ALGORITHM = "SHA-256";
+
+	/**
+	 * The sides in pixels of the squares that the downsampled variants of every
+	 * uploaded icon fit in, in descending order.
+	 */
+	public static final List<Integer> ICON_SIZES = List.of(256, 64, 32);
+
+	/**
+	 * The size in bytes of the buffers used for copying streamed content.
+	 */
+	public static final int STREAM_BUFFER_SIZE = 8192;
+
+	/**
+	 * The maximum size in bytes of each part of an icon read from the database
+	 * while it is streamed.
+	 */
+	public static final int ICON_CHUNK_SIZE = 262144;
+
 }
@@ -0,0 +1,76 @@
+package net.techquiry.app.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Base64.Decoder;
+import java.util.Base64.Encoder;
+
+import net.techquiry.app.common.exception.IllegalConstructionException;
+
+/**
+ * The {@link CursorUtils} class contains utility methods for encoding and
+ * decoding the opaque cursors used by the paginated listings of the TechQuiry
+ * application.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+public final class CursorUtils {
+
+	/**
+	 * This constructor will throw an {@link IllegalConstructionException} whenever
+	 * invoked. {@link CursorUtils} objects should <b>not</b> be constructible.
+	 *
+	 * @throws IllegalConstructionException Will always be thrown when the
+	 *                                      constructor is invoked.
+	 */
+	private CursorUtils() throws IllegalConstructionException {
+		throw new IllegalConstructionException("Objects of type %s should not be constructed!".formatted(getClass().getName()));
+	}
+
+	/**
+	 * This method encodes the given id or position of the last entry of a page to
+	 * an opaque URL-safe cursor.
+	 *
+	 * @param id The id or position of the last entry of the page
+	 * @return The encoded cursor
+	 */
+	public static String encodeCursor(int id) {
+		Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		byte[] source = ByteBuffer.allocate(Integer.BYTES).putInt(id).array();
+		byte[] raw = encoder.encode(source);
+		return new String(raw, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * This method decodes the given opaque cursor to the id or position of the
+	 * entry that the next page must follow.
+	 *
+	 * @param cursor The cursor to decode
+	 * @return The decoded id or position
+	 * @throws IllegalArgumentException If the cursor is not a valid cursor
+	 */
+	public static int decodeCursor(String cursor) {
+		return decode(cursor, Integer.BYTES).getInt();
+	}
+
+	/**
+	 * This method decodes the raw bytes of the given opaque cursor, which must
+	 * have the given length.
+	 *
+	 * @param cursor The cursor to decode
+	 * @param length The expected number of bytes
+	 * @return The buffer wrapping the decoded bytes
+	 * @throws IllegalArgumentException If the cursor is not a valid cursor
+	 */
+	private static ByteBuffer decode(String cursor, int length) {
+		Decoder decoder = Base64.getUrlDecoder();
+		byte[] raw = decoder.decode(cursor.getBytes(StandardCharsets.UTF_8));
+		if (raw.length != length) {
+			throw new IllegalArgumentException("The given cursor has an invalid length!");
+		}
+		return ByteBuffer.wrap(raw);
+	}
+
+}
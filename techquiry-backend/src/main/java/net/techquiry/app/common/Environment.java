@@ -29,6 +29,23 @@ public final class Environment {
 	public static final File SRV_WORKING_DIRECTORY = env(File.class, "TQ_BE_SRV_WORKING_DIRECTORY", new File(System.getProperty("user.dir")), File::new,
 			File::isDirectory);
 
+	/**
+	 * The maximum width and height in pixels of an uploaded icon.
+	 */
+	public static final int SRV_ICON_MAX_DIMENSION = env(Integer.class, "TQ_BE_SRV_ICON_MAX_DIMENSION", 4096, Integer::parseInt, num -> num > 0);
+
+	/**
+	 * The maximum size in bytes of an uploaded icon.
+	 */
+	public static final int SRV_ICON_MAX_SIZE = env(Integer.class, "TQ_BE_SRV_ICON_MAX_SIZE", 2097152, Integer::parseInt, num -> num > 0);
+
+	/**
+	 * Whether to handle the requests on virtual threads instead of a bounded pool
+	 * of platform threads. In this mode, the connections to the database are
+	 * handed out through a fair admission gate sized to the connection pool.
+	 */
+	public static final boolean SRV_VIRTUAL_THREADS = env(Boolean.class, "TQ_BE_SRV_VIRTUAL_THREADS", false, Boolean::parseBoolean);
+
 	/**
 	 * Whether to enable the API documentation.
 	 */
@@ -44,17 +61,37 @@ public final class Environment {
 	 */
 	public static final int SEC_USERNAME_MAX_SIZE = env(Integer.class, "TQ_BE_SEC_USERNAME_MAX_SIZE", 15, Integer::parseInt, num -> num >= 3);
 
+	/**
+	 * The token granting access to the administrative operations, which are
+	 * disabled when it is empty.
+	 */
+	public static final String SEC_ADMIN_TOKEN = env(String.class, "TQ_BE_SEC_ADMIN_TOKEN", "", String::strip);
+
 	/**
 	 * Whether to setup the database's schema on the application's start.
 	 */
 	public static final boolean DB_CREATE_SCHEMA = env(Boolean.class, "TQ_BE_DB_CREATE_SCHEMA", false, Boolean::parseBoolean);
 
+	/**
+	 * Whether to apply the pending schema migrations to the database on the
+	 * application's start. Migrations are always applied after the schema is
+	 * created. When disabled, the application refuses to start unless the schema
+	 * is already up to date.
+	 */
+	public static final boolean DB_MIGRATE_SCHEMA = env(Boolean.class, "TQ_BE_DB_MIGRATE_SCHEMA", true, Boolean::parseBoolean);
+
 	/**
 	 * The maximum time the application will wait for a connection from the database
 	 * connection pool.
 	 */
 	public static final long DB_TIMEOUT = env(Long.class, "TQ_BE_DB_TIMEOUT", 30000L, Long::parseLong, num -> num >= 250L);
 
+	/**
+	 * The maximum time the application will wait in the admission gate of the
+	 * database connection pool when requests run on virtual threads.
+	 */
+	public static final long DB_ADMISSION_TIMEOUT = env(Long.class, "TQ_BE_DB_ADMISSION_TIMEOUT", 120000L, Long::parseLong, num -> num >= 250L);
+
 	/**
 	 * The maximum time a database connection will stay idle in the database
 	 * connection pool.
@@ -68,10 +105,74 @@ public final class Environment {
 	public static final long DB_LIFETIME = env(Long.class, "TQ_BE_DB_LIFETIME", 1800000L, Long::parseLong, num -> num >= 30000L);
 
 	/**
-	 * The maximum size of the pool of connections to the database.
+	 * The maximum size of the pool of connections to the database. In WAL mode
+	 * this is the size of the read-only pool, while writes go through a single
+	 * connection.
 	 */
 	public static final int DB_POOL_SIZE = env(Integer.class, "TQ_BE_DB_POOL_SIZE", 10, Integer::parseInt, num -> num > 0);
 
+	/**
+	 * The maximum number of asynchronous database queries waiting for a thread of
+	 * the database executor, beyond which further queries are rejected.
+	 */
+	public static final int DB_EXECUTOR_QUEUE_SIZE = env(Integer.class, "TQ_BE_DB_EXECUTOR_QUEUE_SIZE", 1000, Integer::parseInt, num -> num > 0);
+
+	/**
+	 * Whether to run the database in write-ahead logging mode, with a read-only
+	 * connection pool for queries and a single-connection pool for writes. Large
+	 * listings and exports are only streamed in this mode, since their open read
+	 * transaction would otherwise block the writers.
+	 */
+	public static final boolean DB_WAL_MODE = env(Boolean.class, "TQ_BE_DB_WAL_MODE", true, Boolean::parseBoolean);
+
+	/**
+	 * The maximum time in milliseconds a database connection will wait for a lock
+	 * held by another connection before failing.
+	 */
+	public static final int DB_BUSY_TIMEOUT = env(Integer.class, "TQ_BE_DB_BUSY_TIMEOUT", 5000, Integer::parseInt, num -> num >= 0);
+
+	/**
+	 * The maximum number of compiled statements cached for each database
+	 * connection, where 0 disables the statement cache.
+	 */
+	public static final int DB_STATEMENT_CACHE_SIZE = env(Integer.class, "TQ_BE_DB_STATEMENT_CACHE_SIZE", 64, Integer::parseInt, num -> num >= 0);
+
+	/**
+	 * The number of parameter sets of a batched write that are executed and
+	 * committed together in a single transaction.
+	 */
+	public static final int DB_BATCH_SIZE = env(Integer.class, "TQ_BE_DB_BATCH_SIZE", 1000, Integer::parseInt, num -> num > 0);
+
+	/**
+	 * The maximum number of inquiries and of responses matching a full-text search
+	 * that are ranked, beyond which the less relevant matches are not returned.
+	 */
+	public static final int DB_SEARCH_LIMIT = env(Integer.class, "TQ_BE_DB_SEARCH_LIMIT", 1000, Integer::parseInt, num -> num > 0);
+
+	/**
+	 * The minimum time in milliseconds a database statement must take for it to be
+	 * logged along with its query plan, where 0 disables the slow query log.
+	 */
+	public static final long DB_SLOW_QUERY_THRESHOLD = env(Long.class, "TQ_BE_DB_SLOW_QUERY_THRESHOLD", 250L, Long::parseLong, num -> num >= 0L);
+
+	/**
+	 * The maximum number of entities of each type kept in the in-process entity
+	 * cache, where 0 disables the entity cache.
+	 */
+	public static final int DB_ENTITY_CACHE_SIZE = env(Integer.class, "TQ_BE_DB_ENTITY_CACHE_SIZE", 1024, Integer::parseInt, num -> num >= 0);
+
+	/**
+	 * The time in milliseconds after which an entity kept in the in-process entity
+	 * cache expires.
+	 */
+	public static final long DB_ENTITY_CACHE_TTL = env(Long.class, "TQ_BE_DB_ENTITY_CACHE_TTL", 30000L, Long::parseLong, num -> num > 0L);
+
+	/**
+	 * The maximum number of bytes of the encoded icons kept in the off-heap icon
+	 * cache, where 0 disables the icon cache.
+	 */
+	public static final long DB_ICON_CACHE_SIZE = env(Long.class, "TQ_BE_DB_ICON_CACHE_SIZE", 33554432L, Long::parseLong, num -> num >= 0L);
+
 	/**
 	 * This constructor will throw an {@link IllegalConstructionException} whenever
 	 * invoked. {@link Environment} objects should <b>not</b> be constructible.
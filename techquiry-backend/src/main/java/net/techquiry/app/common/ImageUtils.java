@@ -0,0 +1,154 @@
+package net.techquiry.app.common;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import net.techquiry.app.common.exception.IllegalConstructionException;
+
+/**
+ * The {@link ImageUtils} class contains utility methods for decoding and
+ * downsampling the images uploaded to the TechQuiry application.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+public final class ImageUtils {
+
+	/**
+	 * The format of the uploaded images and of the encoded downsampled images.
+	 */
+	private static final String FORMAT = "png";
+
+	/**
+	 * This constructor will throw an {@link IllegalConstructionException} whenever
+	 * invoked. {@link ImageUtils} objects should <b>not</b> be constructible.
+	 *
+	 * @throws IllegalConstructionException Will always be thrown when the
+	 *                                      constructor is invoked.
+	 */
+	private ImageUtils() throws IllegalConstructionException {
+		throw new IllegalConstructionException("Objects of type %s should not be constructed!".formatted(getClass().getName()));
+	}
+
+	/**
+	 * This method decodes the PNG image in the given file, subsampled so that it
+	 * is no smaller than twice the given size. The format and the dimensions of
+	 * the image are read before its pixels, so that an image in any other format,
+	 * which would still be served as PNG, or larger than the given maximum
+	 * dimension is rejected without being decoded. Since the reader skips the
+	 * pixels left out by the subsampling, the full-size image is never held in
+	 * memory, while the extra factor of two leaves the final downsampling enough
+	 * pixels to interpolate between.
+	 *
+	 * @param file         The file containing the encoded image
+	 * @param maxDimension The maximum width and height of the image
+	 * @param size         The side of the largest square the image will be
+	 *                     downsampled to
+	 * @return The decoded image
+	 * @throws IOException If the image is not in the PNG format, is invalid or is
+	 *                     too large
+	 */
+	public static BufferedImage decode(Path file, int maxDimension, int size) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+			if (input == null) {
+				throw new IOException("The image could not be opened!");
+			}
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				throw new IOException("The image is not in a supported format!");
+			}
+			ImageReader reader = readers.next();
+			try {
+				if (!FORMAT.equalsIgnoreCase(reader.getFormatName())) {
+					throw new IOException("The image is not in the PNG format!");
+				}
+				reader.setInput(input, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				if (width > maxDimension || height > maxDimension) {
+					throw new IOException("The image dimensions %sx%s exceed the maximum of %s!".formatted(width, height, maxDimension));
+				}
+				int subsampling = Math.max(1, Math.max(width, height) / (2 * size));
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * This method downsamples the given image so that it fits in a square with the
+	 * given side, keeping its aspect ratio. Images that already fit are returned
+	 * unchanged, since they are never upscaled. The image is halved repeatedly
+	 * before the final step, so that downsampling large images keeps their detail
+	 * while only interpolating between neighbouring pixels.
+	 *
+	 * @param image The image to downsample
+	 * @param size  The side of the square the image must fit in
+	 * @return The downsampled image
+	 */
+	public static BufferedImage downsample(BufferedImage image, int size) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+		double scale = Math.min(1.0, (double) size / Math.max(width, height));
+		int targetWidth = Math.max(1, (int) Math.round(width * scale));
+		int targetHeight = Math.max(1, (int) Math.round(height * scale));
+		BufferedImage current = image;
+		while (width != targetWidth || height != targetHeight) {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			current = scale(current, width, height);
+		}
+		return current;
+	}
+
+	/**
+	 * This method encodes the given image in the PNG format.
+	 *
+	 * @param image The image to encode
+	 * @return The encoded image
+	 * @throws IOException If the image could not be encoded
+	 */
+	public static byte[] encode(BufferedImage image) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		if (!ImageIO.write(image, FORMAT, output)) {
+			throw new IOException("The image could not be encoded!");
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * This method draws the given image scaled to the given dimensions using
+	 * bilinear interpolation, keeping its transparency.
+	 *
+	 * @param image  The image to scale
+	 * @param width  The width of the scaled image
+	 * @param height The height of the scaled image
+	 * @return The scaled image
+	 */
+	private static BufferedImage scale(BufferedImage image, int width, int height) {
+		BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = scaled.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(image, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return scaled;
+	}
+
+}
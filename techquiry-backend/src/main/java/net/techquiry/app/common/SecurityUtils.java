@@ -1,12 +1,17 @@
 package net.techquiry.app.common;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.Base64.Decoder;
 import java.util.Base64.Encoder;
+import java.util.HexFormat;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -107,4 +112,54 @@ public final class SecurityUtils {
 		return digest.digest(bytes);
 	}
 
+	/**
+	 * This method hashes the given content using the algorithm defined in
+	 * {@link Constants}, so that identical content always has the same hash.
+	 * 
+	 * @param content The content to hash
+	 * @return The lowercase hexadecimal hash of the content
+	 */
+	public static String hashContent(byte[] content) {
+		MessageDigest digest = getContentDigest();
+		return HexFormat.of().formatHex(digest.digest(content));
+	}
+
+	/**
+	 * This method hashes the content of the given file using the algorithm defined
+	 * in {@link Constants}, reading it in chunks so that it is never loaded as a
+	 * whole. The hash is identical to the one of the same content in memory.
+	 * 
+	 * @param file The file whose content to hash
+	 * @return The lowercase hexadecimal hash of the content
+	 * @throws IOException If an error occurs while reading the file
+	 */
+	public static String hashContent(Path file) throws IOException {
+		MessageDigest digest = getContentDigest();
+		try (InputStream input = Files.newInputStream(file)) {
+			byte[] buffer = new byte[Constants.STREAM_BUFFER_SIZE];
+			int read;
+			while ((read = input.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * This method returns a new {@link MessageDigest} for the content hashing
+	 * algorithm defined in {@link Constants}.
+	 * 
+	 * @return The message digest for hashing content
+	 */
+	private static MessageDigest getContentDigest() {
+		MessageDigest digest = null;
+		try {
+			digest = MessageDigest.getInstance(Constants.CONTENT_HASHING_ALGORITHM);
+		} catch (NoSuchAlgorithmException exception) {
+			log.fatal(exception);
+			System.exit(1);
+		}
+		return digest;
+	}
+
 }
@@ -1,10 +1,17 @@
 package net.techquiry.app.common;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -14,11 +21,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import net.techquiry.app.database.DatabaseManager;
+import net.techquiry.app.database.DatabaseTransfer;
+import net.techquiry.app.database.exception.DatabaseException;
 
 /**
  * This is the main class of the TechQuiry application, it is responsible for
  * starting the spring boot application by invoking the necessary methods when
- * the execution occurs.
+ * the execution occurs. When invoked with the arguments <code>export
+ * &lt;file&gt;</code> or <code>import &lt;file&gt;</code>, the application
+ * transfers the entries of the database to or from the given file instead of
+ * starting the server.
  * 
  * @author Aggelowe
  * @since 0.0.1
@@ -39,10 +51,44 @@ public class TechQuiry {
 		log.debug("Application work directory: %s".formatted(Environment.SRV_WORKING_DIRECTORY));
 		SpringApplication application = new SpringApplication(TechQuiry.class);
 		properties(application);
+		if (args.length == 2 && (args[0].equals("export") || args[0].equals("import"))) {
+			application.setWebApplicationType(WebApplicationType.NONE);
+			System.exit(transfer(application, args[0], Path.of(args[1])));
+		}
 		log.info("Invoking Spring application startup");
 		application.run();
 	}
 
+	/**
+	 * This method starts the given {@link SpringApplication} without a web server
+	 * and exports the entries of the database to or imports them from the given
+	 * file.
+	 * 
+	 * @param application The object of the spring application
+	 * @param operation   The operation to perform, either export or import
+	 * @param file        The file to transfer the entries to or from
+	 * @return The exit code of the operation
+	 */
+	private static int transfer(SpringApplication application, String operation, Path file) {
+		log.info("Invoking Spring application startup for database %s (file=%s)".formatted(operation, file));
+		try (ConfigurableApplicationContext context = application.run()) {
+			DatabaseTransfer transfer = context.getBean(DatabaseTransfer.class);
+			if (operation.equals("export")) {
+				try (OutputStream stream = Files.newOutputStream(file)) {
+					transfer.exportData(stream);
+				}
+			} else {
+				try (InputStream stream = Files.newInputStream(file)) {
+					transfer.importData(stream);
+				}
+			}
+			return 0;
+		} catch (DatabaseException | IOException exception) {
+			log.error("The database %s failed (file=%s)".formatted(operation, file), exception);
+			return 1;
+		}
+	}
+
 	/**
 	 * This method applies specific properties to the given
 	 * {@link SpringApplication} object.
@@ -53,6 +99,7 @@ public class TechQuiry {
 		log.debug("Setting up Spring application properties");
 		Map<String, Object> applicationProperties = new HashMap<>();
 		applicationProperties.put("server.port", Environment.SRV_PORT);
+		applicationProperties.put("spring.threads.virtual.enabled", Environment.SRV_VIRTUAL_THREADS);
 		applicationProperties.put("springdoc.api-docs.enabled", Environment.DOC_API);
 		applicationProperties.put("springdoc.swagger-ui.enabled", Environment.DOC_API);
 		application.setDefaultProperties(applicationProperties);
@@ -0,0 +1,135 @@
+package net.techquiry.app.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.controller.error.ErrorResponse;
+import net.techquiry.app.service.AdminService;
+import net.techquiry.app.service.exception.ForbiddenOperationException;
+import net.techquiry.app.service.exception.InternalErrorException;
+import net.techquiry.app.service.exception.InvalidRequestException;
+import net.techquiry.app.service.exception.ServiceException;
+import net.techquiry.app.service.exception.UnauthorizedOperationException;
+
+/**
+ * The {@link AdminController} class manages HTTP requests and responses for
+ * administrative operations in the TechQuiry application. Requests are
+ * authorized with the administrative token given as a bearer token in the
+ * {@value HttpHeaders#AUTHORIZATION} header.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@Log4j2
+@Tag(name = "admin-controller", description = "Controller for handling administrative operations")
+public class AdminController {
+
+	/**
+	 * The media type of newline delimited JSON.
+	 */
+	private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+	/**
+	 * The prefix of the value of bearer authorization headers.
+	 */
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	/**
+	 * The service responsible for managing administrative operations in the
+	 * TechQuiry application.
+	 */
+	private final AdminService adminService;
+
+	/**
+	 * This method responds to the received request by streaming every entry of
+	 * the database as newline delimited JSON.
+	 * 
+	 * @param authorization The value of the authorization header
+	 * @return The response streaming the entries
+	 * @throws UnauthorizedOperationException If no token was given
+	 * @throws ForbiddenOperationException    If the administrative operations are
+	 *                                        disabled or the token is invalid
+	 */
+	@GetMapping(value = "/export", produces = APPLICATION_NDJSON)
+	@Operation(summary = "Export database entries")
+	@ApiResponse(responseCode = "200", description = "Database entries exported successfully")
+	@ApiResponse(responseCode = "401", description = "Token is missing", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "403", description = "Administrative operations disabled or token invalid", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	public ResponseEntity<StreamingResponseBody> exportData(@RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization) throws ServiceException {
+		log.debug("Requested database export");
+		adminService.authorize(parseToken(authorization));
+		StreamingResponseBody body = stream -> {
+			try {
+				adminService.exportData(stream);
+			} catch (ServiceException exception) {
+				throw new IOException(exception.getMessage(), exception);
+			}
+		};
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON)).body(body);
+	}
+
+	/**
+	 * This method inserts the entries streamed in the body of the received
+	 * request as newline delimited JSON to the database and responds with the
+	 * number of imported entries.
+	 * 
+	 * @param authorization The value of the authorization header
+	 * @param stream        The stream of the request body
+	 * @return The response with the number of imported entries
+	 * @throws UnauthorizedOperationException If no token was given
+	 * @throws ForbiddenOperationException    If the administrative operations are
+	 *                                        disabled or the token is invalid
+	 * @throws InvalidRequestException        If the given entries are invalid
+	 * @throws InternalErrorException         If a database error occurs while
+	 *                                        inserting the entries
+	 */
+	@PostMapping(value = "/import", consumes = APPLICATION_NDJSON)
+	@Operation(summary = "Import database entries")
+	@ApiResponse(responseCode = "200", description = "Database entries imported successfully")
+	@ApiResponse(responseCode = "400", description = "Invalid entries", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "401", description = "Token is missing", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "403", description = "Administrative operations disabled or token invalid", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	public ResponseEntity<Integer> importData(@RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization, InputStream stream) throws ServiceException {
+		log.debug("Requested database import");
+		adminService.authorize(parseToken(authorization));
+		int count = adminService.importData(stream);
+		return ResponseEntity.ok(count);
+	}
+
+	/**
+	 * This method extracts the token from the given bearer authorization header.
+	 * 
+	 * @param authorization The value of the authorization header
+	 * @return The token or null if the header is missing or not a bearer token
+	 */
+	private String parseToken(String authorization) {
+		if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+			return null;
+		}
+		return authorization.substring(BEARER_PREFIX.length());
+	}
+
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,13 +21,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.common.CursorUtils;
 import net.techquiry.app.controller.error.ErrorResponse;
 import net.techquiry.app.dto.InquiryDto;
+import net.techquiry.app.dto.PageDto;
 import net.techquiry.app.dto.ResponseDto;
 import net.techquiry.app.dto.UserLoginDto;
+import net.techquiry.app.entity.FeedEntry;
 import net.techquiry.app.entity.Inquiry;
 import net.techquiry.app.entity.Observer;
 import net.techquiry.app.entity.Response;
+import net.techquiry.app.entity.SearchEntry;
 import net.techquiry.app.entity.UserLogin;
 import net.techquiry.app.mapper.InquiryMapper;
 import net.techquiry.app.mapper.ResponseMapper;
@@ -156,6 +161,103 @@ public class InquiryController {
 		return ResponseEntity.ok(range);
 	}
 
+	/**
+	 * This method responds to the received request with the requested number of
+	 * inquiries following the given cursor, along with the cursor of the next
+	 * page.
+	 * 
+	 * @param count  The count of inquiries in the page
+	 * @param cursor The cursor of the previous page or null for the first page
+	 * @return The response with the requested inquiry page
+	 * @throws InvalidRequestException If the count is smaller than 0 or the cursor
+	 *                                 is invalid
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the inquiries
+	 */
+	@GetMapping("/cursor/{count}")
+	@Operation(summary = "Get inquiry page")
+	@ApiResponse(responseCode = "200", description = "Inquiry page obtained successfully")
+	@ApiResponse(responseCode = "400", description = "Count smaller than 0 or invalid cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	public ResponseEntity<PageDto<InquiryDto>> getPage(@PathVariable int count, @RequestParam(required = false) String cursor) throws ServiceException {
+		log.debug("Requested inquiry page (count=%s, cursor=%s)".formatted(count, cursor));
+		List<Inquiry> entities = inquiryService.getInquiryRangeAfter(count, cursor);
+		List<InquiryDto> items = entities.stream().map(inquiryMapper::toDto).toList();
+		String nextCursor = null;
+		if (!entities.isEmpty() && entities.size() == count) {
+			nextCursor = CursorUtils.encodeCursor(entities.getLast().getInquiryId());
+		}
+		return ResponseEntity.ok(new PageDto<>(items, nextCursor));
+	}
+
+	/**
+	 * This method responds to the received request with the requested number of
+	 * inquiries following the given cursor, along with their response and observer
+	 * counts, whether the current user is observing each of them and the cursor of
+	 * the next page.
+	 * 
+	 * @param count  The count of inquiries in the page
+	 * @param cursor The cursor of the previous page or null for the first page
+	 * @return The response with the requested inquiry feed page
+	 * @throws InvalidRequestException If the count is smaller than 0 or the cursor
+	 *                                 is invalid
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the inquiries
+	 */
+	@GetMapping("/feed/{count}")
+	@Operation(summary = "Get inquiry feed")
+	@ApiResponse(responseCode = "200", description = "Inquiry feed obtained successfully")
+	@ApiResponse(responseCode = "400", description = "Count smaller than 0 or invalid cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	public ResponseEntity<PageDto<InquiryDto>> getFeed(@PathVariable int count, @RequestParam(required = false) String cursor) throws ServiceException {
+		log.debug("Requested inquiry feed (count=%s, cursor=%s)".formatted(count, cursor));
+		List<FeedEntry> entries = inquiryActionService.getInquiryFeed(count, cursor);
+		List<InquiryDto> items = entries.stream().map(inquiryMapper::toDto).toList();
+		String nextCursor = null;
+		if (!entries.isEmpty() && entries.size() == count) {
+			nextCursor = CursorUtils.encodeCursor(entries.getLast().getInquiry().getInquiryId());
+		}
+		return ResponseEntity.ok(new PageDto<>(items, nextCursor));
+	}
+
+	/**
+	 * This method responds to the received request with the requested number of
+	 * inquiries whose title, content or responses match the given query, ranked by
+	 * their relevance and following the given cursor, along with a highlighted
+	 * snippet of their best match and the cursor of the next page. If a user id is
+	 * given, only the inquiries of that user are searched, which are limited to
+	 * the non-anonymous ones unless the current user has the user id.
+	 * 
+	 * @param count  The count of inquiries in the page
+	 * @param query  The text to search for
+	 * @param userId The user id of the author of the inquiries or null to search
+	 *               all inquiries
+	 * @param cursor The cursor of the previous page or null for the first page
+	 * @return The response with the requested inquiry search page
+	 * @throws InvalidRequestException If the query is blank, the count is smaller
+	 *                                 than 0 or the cursor is invalid
+	 * @throws EntityNotFoundException If the given user id does not correspond to
+	 *                                 a user
+	 * @throws InternalErrorException  If a database error occurs while searching
+	 *                                 the inquiries
+	 */
+	@GetMapping("/search/{count}")
+	@Operation(summary = "Search inquiries")
+	@ApiResponse(responseCode = "200", description = "Inquiry search page obtained successfully")
+	@ApiResponse(responseCode = "400", description = "Query blank, count smaller than 0 or invalid cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "404", description = "User id does not correspond to user", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	public ResponseEntity<PageDto<InquiryDto>> searchInquiries(@PathVariable int count, @RequestParam String query, @RequestParam(required = false) Integer userId, @RequestParam(required = false) String cursor) throws ServiceException {
+		log.debug("Requested inquiry search (count=%s, query=%s, userId=%s, cursor=%s)".formatted(count, query, userId, cursor));
+		List<SearchEntry> entries = inquiryActionService.searchInquiries(query, userId, count, cursor);
+		List<InquiryDto> items = entries.stream().map(inquiryMapper::toDto).toList();
+		String nextCursor = null;
+		if (!entries.isEmpty() && entries.size() == count) {
+			nextCursor = CursorUtils.encodeCursor(entries.getLast().getPosition());
+		}
+		return ResponseEntity.ok(new PageDto<>(items, nextCursor));
+	}
+
 	/**
 	 * This method creates the inquiry with the given information in the database
 	 * and responds with the inquiry id of the newly constructed inquiry.
@@ -0,0 +1,118 @@
+package net.techquiry.app.controller;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.common.Environment;
+import net.techquiry.app.service.EntityStream;
+import net.techquiry.app.service.exception.InternalErrorException;
+import net.techquiry.app.service.exception.ServiceException;
+
+/**
+ * The {@link StreamHelper} class contains methods for writing the entities of
+ * an {@link EntityStream} directly to the body of a response, so that the
+ * memory used by large listings does not depend on their size. Entities are
+ * only streamed in WAL mode, where the open read transaction does not block
+ * writers. Otherwise it would hold a shared lock on the database for as long as
+ * a slow client takes to receive the response, so the entities are read before
+ * the response is written.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@Log4j2
+public class StreamHelper {
+
+	/**
+	 * The writer serializing the streamed objects, which neither flushes after
+	 * every object nor completes the output of failed streams.
+	 */
+	private final ObjectWriter writer;
+
+	/**
+	 * This constructor constructs a new {@link StreamHelper} serializing objects
+	 * with the given {@link ObjectMapper}.
+	 * 
+	 * @param objectMapper The mapper configured for the application
+	 */
+	public StreamHelper(ObjectMapper objectMapper) {
+		this.writer = objectMapper.writer()
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+				.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+				.without(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+	}
+
+	/**
+	 * This method creates a response writing the entities of the given stream as
+	 * a JSON array, after converting each of them with the given function. If the
+	 * stream fails after the response has been committed, the array is left
+	 * incomplete, so that the failure cannot be mistaken for a shorter listing.
+	 * Outside WAL mode, the entities are read before this method returns.
+	 * 
+	 * @param <T>    The type of the entities
+	 * @param <D>    The type of the written objects
+	 * @param stream The stream of the entities
+	 * @param mapper The function converting the entities to the written objects
+	 * @return The response streaming the array
+	 * @throws ServiceException If the entities are read before the response and
+	 *                          an error occurs while reading them
+	 */
+	public <T, D> ResponseEntity<StreamingResponseBody> streamArray(EntityStream<T> stream, Function<T, D> mapper) throws ServiceException {
+		if (!Environment.DB_WAL_MODE) {
+			return writeArray(stream, mapper);
+		}
+		StreamingResponseBody body = output -> {
+			try (JsonGenerator generator = writer.createGenerator(output)) {
+				generator.writeStartArray();
+				int count = stream.forEach(entity -> writer.writeValue(generator, mapper.apply(entity)));
+				generator.writeEndArray();
+				log.debug("Streamed response array (count=%s)".formatted(count));
+			} catch (ServiceException exception) {
+				throw new IOException(exception.getMessage(), exception);
+			}
+		};
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+	}
+
+	/**
+	 * This method reads the entities of the given stream, converting each of them
+	 * with the given function, and creates a response writing them as a JSON
+	 * array. The database is no longer accessed once the response is written.
+	 * 
+	 * @param <T>    The type of the entities
+	 * @param <D>    The type of the written objects
+	 * @param stream The stream of the entities
+	 * @param mapper The function converting the entities to the written objects
+	 * @return The response writing the array
+	 * @throws ServiceException If an error occurs while reading the entities
+	 */
+	private <T, D> ResponseEntity<StreamingResponseBody> writeArray(EntityStream<T> stream, Function<T, D> mapper) throws ServiceException {
+		List<D> objects = new ArrayList<>();
+		try {
+			stream.forEach(entity -> objects.add(mapper.apply(entity)));
+		} catch (IOException exception) {
+			throw new InternalErrorException("An error occured while reading the entities!", exception);
+		}
+		StreamingResponseBody body = output -> {
+			writer.writeValue(output, objects);
+			log.debug("Wrote response array (count=%s)".formatted(objects.size()));
+		};
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+	}
+
+}
@@ -1,8 +1,13 @@
 package net.techquiry.app.controller;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -12,10 +17,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -24,23 +33,29 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.common.CursorUtils;
 import net.techquiry.app.controller.error.ErrorResponse;
 import net.techquiry.app.dto.InquiryDto;
+import net.techquiry.app.dto.PageDto;
+import net.techquiry.app.dto.ProfileDto;
 import net.techquiry.app.dto.ResponseDto;
 import net.techquiry.app.dto.UserDataDto;
 import net.techquiry.app.dto.UserLoginDto;
 import net.techquiry.app.entity.Inquiry;
 import net.techquiry.app.entity.Observer;
+import net.techquiry.app.entity.Profile;
 import net.techquiry.app.entity.Response;
 import net.techquiry.app.entity.Upvote;
 import net.techquiry.app.entity.UserData;
 import net.techquiry.app.entity.UserLogin;
 import net.techquiry.app.mapper.InquiryMapper;
+import net.techquiry.app.mapper.ProfileMapper;
 import net.techquiry.app.mapper.ResponseMapper;
 import net.techquiry.app.mapper.UserDataMapper;
 import net.techquiry.app.mapper.UserLoginMapper;
 import net.techquiry.app.mapper.exception.MapperException;
 import net.techquiry.app.mapper.exception.MissingValueException;
+import net.techquiry.app.service.EntityStream;
 import net.techquiry.app.service.ObserverService;
 import net.techquiry.app.service.UpvoteService;
 import net.techquiry.app.service.UserDataService;
@@ -53,6 +68,7 @@ import net.techquiry.app.service.exception.ForbiddenOperationException;
 import net.techquiry.app.service.exception.InternalErrorException;
 import net.techquiry.app.service.exception.InvalidRequestException;
 import net.techquiry.app.service.exception.ServiceException;
+import net.techquiry.app.service.exception.ServiceUnavailableException;
 import net.techquiry.app.service.exception.UnauthorizedOperationException;
 
 /**
@@ -70,6 +86,16 @@ import net.techquiry.app.service.exception.UnauthorizedOperationException;
 @Tag(name = "user-controller", description = "Controller for handling user operations")
 public class UserController {
 
+	/**
+	 * The path of the icon shown for users without an icon.
+	 */
+	private static final String DEFAULT_ICON_PATH = "/static/user-default.png";
+
+	/**
+	 * The time for which clients may cache an icon requested by its hash.
+	 */
+	private static final Duration IMMUTABLE_MAX_AGE = Duration.ofDays(365);
+
 	/**
 	 * The service responsible for managing general {@link UserLogin} operations in
 	 * the TechQuiry application.
@@ -136,6 +162,17 @@ public class UserController {
 	 */
 	private final ResponseMapper responseMapper;
 
+	/**
+	 * The mapper responsible for mapping {@link Profile} objects to
+	 * {@link ProfileDto} objects.
+	 */
+	private final ProfileMapper profileMapper;
+
+	/**
+	 * The helper responsible for streaming listings to the response body.
+	 */
+	private final StreamHelper streamHelper;
+
 	/**
 	 * This method responds to the received request with the number of user logins
 	 * in the database.
@@ -177,6 +214,35 @@ public class UserController {
 		return ResponseEntity.ok(range);
 	}
 
+	/**
+	 * This method responds to the received request with the requested number of
+	 * user logins following the given cursor, along with the cursor of the next
+	 * page.
+	 * 
+	 * @param count  The count of user logins in the page
+	 * @param cursor The cursor of the previous page or null for the first page
+	 * @return The response with the requested user login page
+	 * @throws InvalidRequestException If the count is smaller than 0 or the cursor
+	 *                                 is invalid
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the user logins
+	 */
+	@GetMapping("/cursor/{count}")
+	@Operation(summary = "Get user login page")
+	@ApiResponse(responseCode = "200", description = "User login page obtained successfully")
+	@ApiResponse(responseCode = "400", description = "Count smaller than 0 or invalid cursor", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	public ResponseEntity<PageDto<UserLoginDto>> getPage(@PathVariable int count, @RequestParam(required = false) String cursor) throws ServiceException {
+		log.debug("Requested user login page (count=%s, cursor=%s)".formatted(count, cursor));
+		List<UserLogin> entities = userLoginService.getLoginRangeAfter(count, cursor);
+		List<UserLoginDto> items = entities.stream().map(userLoginMapper::toDto).toList();
+		String nextCursor = null;
+		if (!entities.isEmpty() && entities.size() == count) {
+			nextCursor = CursorUtils.encodeCursor(entities.getLast().getUserId());
+		}
+		return ResponseEntity.ok(new PageDto<>(items, nextCursor));
+	}
+
 	/**
 	 * This method creates the user with the given information to the database and
 	 * will respond with the user id of the newly constructed user.
@@ -339,6 +405,31 @@ public class UserController {
 		return ResponseEntity.ok(loginDto);
 	}
 
+	/**
+	 * This method responds to the received request with the profile of the user
+	 * with the given user id, which contains the user login, the user data and
+	 * the posted inquiries. These are selected concurrently and the response is
+	 * sent asynchronously once all of them are available.
+	 * 
+	 * @param userId The user id of the profile to retrieve
+	 * @return The future of the response with the requested profile, which
+	 *         completes exceptionally with an {@link EntityNotFoundException} if
+	 *         the given user id does not correspond to a user login or user data,
+	 *         with a {@link ServiceUnavailableException} if the database is too
+	 *         busy, or with an {@link InternalErrorException} if a database error
+	 *         occurs while retrieving the profile
+	 */
+	@GetMapping("/id/{userId}/profile")
+	@Operation(summary = "Get user profile")
+	@ApiResponse(responseCode = "200", description = "User profile obtained successfully")
+	@ApiResponse(responseCode = "404", description = "User id does not correspond to user login or user data", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "503", description = "Database is too busy", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	public CompletableFuture<ResponseEntity<ProfileDto>> getUserProfile(@PathVariable int userId) {
+		log.debug("Requested user profile (userId=%s)".formatted(userId));
+		return userLoginActionService.getProfile(userId).thenApply(profile -> ResponseEntity.ok(profileMapper.toDto(profile)));
+	}
+
 	/**
 	 * This method deletes the user with the given user id from the database.
 	 * 
@@ -409,14 +500,13 @@ public class UserController {
 	 */
 	@GetMapping("/id/{userId}/inquiries")
 	@Operation(summary = "Get user inquiries")
-	@ApiResponse(responseCode = "200", description = "User inquiries obtained successfully")
+	@ApiResponse(responseCode = "200", description = "User inquiries obtained successfully", content = @Content(array = @ArraySchema(schema = @Schema(implementation = InquiryDto.class))))
 	@ApiResponse(responseCode = "404", description = "User id does not correspond to user login", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-	public ResponseEntity<List<InquiryDto>> getInquiries(@PathVariable int userId) throws ServiceException {
+	public ResponseEntity<StreamingResponseBody> getInquiries(@PathVariable int userId) throws ServiceException {
 		log.debug("Requested posted inquiries (userId=%s)".formatted(userId));
-		List<Inquiry> entities = inquiryActionService.getInquiryListByUserId(userId);
-		List<InquiryDto> list = entities.stream().map(inquiryMapper::toDto).toList();
-		return ResponseEntity.ok(list);
+		EntityStream<Inquiry> entities = inquiryActionService.getInquiryStreamByUserId(userId);
+		return streamHelper.streamArray(entities, inquiryMapper::toDto);
 	}
 
 	/**
@@ -432,14 +522,13 @@ public class UserController {
 	 */
 	@GetMapping("/id/{userId}/observed")
 	@Operation(summary = "Get observed inquiries")
-	@ApiResponse(responseCode = "200", description = "Observed inquiries obtained successfully")
+	@ApiResponse(responseCode = "200", description = "Observed inquiries obtained successfully", content = @Content(array = @ArraySchema(schema = @Schema(implementation = InquiryDto.class))))
 	@ApiResponse(responseCode = "404", description = "User id does not correspond to user login", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-	public ResponseEntity<List<InquiryDto>> getObservedInquiries(@PathVariable int userId) throws ServiceException {
+	public ResponseEntity<StreamingResponseBody> getObservedInquiries(@PathVariable int userId) throws ServiceException {
 		log.debug("Requested observed inquiries (userId=%s)".formatted(userId));
-		List<Inquiry> entities = observerService.getObservedInquiryListByUserId(userId);
-		List<InquiryDto> list = entities.stream().map(inquiryMapper::toDto).toList();
-		return ResponseEntity.ok(list);
+		EntityStream<Inquiry> entities = observerService.getObservedInquiryStreamByUserId(userId);
+		return streamHelper.streamArray(entities, inquiryMapper::toDto);
 	}
 
 	/**
@@ -455,14 +544,13 @@ public class UserController {
 	 */
 	@GetMapping("/id/{userId}/upvotes")
 	@Operation(summary = "Get upvoted responses")
-	@ApiResponse(responseCode = "200", description = "Upvoted responses obtained successfully")
+	@ApiResponse(responseCode = "200", description = "Upvoted responses obtained successfully", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ResponseDto.class))))
 	@ApiResponse(responseCode = "404", description = "User id does not correspond to user login", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-	public ResponseEntity<List<ResponseDto>> getUpvotedResponses(@PathVariable int userId) throws ServiceException {
+	public ResponseEntity<StreamingResponseBody> getUpvotedResponses(@PathVariable int userId) throws ServiceException {
 		log.debug("Requested upvoted responses (userId=%s)".formatted(userId));
-		List<Response> entities = upvoteService.getUpvotedResponseListByUserId(userId);
-		List<ResponseDto> list = entities.stream().map(responseMapper::toDto).toList();
-		return ResponseEntity.ok(list);
+		EntityStream<Response> entities = upvoteService.getUpvotedResponseStreamByUserId(userId);
+		return streamHelper.streamArray(entities, responseMapper::toDto);
 	}
 
 	/**
@@ -546,60 +634,122 @@ public class UserController {
 
 	/**
 	 * This method responds to the received request with the user icon with the
-	 * given user id.
+	 * given user id, downsampled to the given size if one is given. The response
+	 * carries the hash of the icon as its entity tag and must be revalidated on
+	 * every use, so that a conditional request for an unchanged icon is answered
+	 * without loading it. A range of the icon may be requested with the
+	 * <code>Range</code> header, in which case only that range is read.
 	 * 
-	 * @param userId The user id of the user icon to retrieve
+	 * @param userId  The user id of the user icon to retrieve
+	 * @param size    The side of the square the icon must fit in, or null for the
+	 *                original icon
+	 * @param headers The headers of the received request
 	 * @return The response with the requested user icon
+	 * @throws InvalidRequestException If the given size is not supported
 	 * @throws EntityNotFoundException If the given id does not correspond to user
 	 *                                 data
 	 * @throws InternalErrorException  If a database error occurs while retrieving
-	 *                                 the user data
+	 *                                 the user icon
 	 */
 	@GetMapping("/id/{userId}/data/icon")
 	@Operation(summary = "Get user icon")
 	@ApiResponse(responseCode = "200", description = "User icon obtained successfully", content = @Content(mediaType = MediaType.IMAGE_PNG_VALUE))
+	@ApiResponse(responseCode = "206", description = "User icon range obtained successfully", content = @Content(mediaType = MediaType.IMAGE_PNG_VALUE))
 	@ApiResponse(responseCode = "302", description = "Missing user icon", content = @Content)
+	@ApiResponse(responseCode = "304", description = "User icon not modified", content = @Content)
+	@ApiResponse(responseCode = "400", description = "Icon size is not supported", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	@ApiResponse(responseCode = "404", description = "User id does not correspond to user data", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-	public ResponseEntity<byte[]> getUserIcon(@PathVariable int userId) throws ServiceException {
-		log.debug("Requested user icon (userId=%s)".formatted(userId));
+	public ResponseEntity<Resource> getUserIcon(@PathVariable int userId, @RequestParam(required = false) Integer size, @RequestHeader HttpHeaders headers)
+			throws ServiceException {
+		log.debug("Requested user icon (userId=%s, size=%s)".formatted(userId, size));
+		userDataService.checkIconSize(size);
 		UserData entity = userDataService.getDataByUserId(userId);
-		byte[] image = entity.getIcon();
-		HttpHeaders headers = new HttpHeaders();
-		if (image == null) {
-			headers.setLocation(URI.create("/static/user-default.png"));
-			return new ResponseEntity<>(headers, HttpStatus.FOUND);
-		} else {
-			headers.setContentType(MediaType.IMAGE_PNG);
-			return new ResponseEntity<>(image, headers, HttpStatus.OK);
+		String hash = entity.getIconHash();
+		if (hash == null) {
+			return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(DEFAULT_ICON_PATH)).cacheControl(CacheControl.noCache()).build();
+		}
+		String tag = getIconTag(hash, size);
+		if (isNotModified(headers, tag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).cacheControl(CacheControl.noCache()).build();
 		}
+		Resource icon = userDataService.getIconByHash(hash, size);
+		return ResponseEntity.ok().contentType(MediaType.IMAGE_PNG).eTag(tag).cacheControl(CacheControl.noCache()).body(icon);
+	}
+
+	/**
+	 * This method responds to the received request with the user icon with the
+	 * given hash. Since icons are addressed by their hash, the response never
+	 * changes and may be cached indefinitely by clients. A range of the icon may
+	 * be requested with the <code>Range</code> header, in which case only that
+	 * range is read.
+	 * 
+	 * @param userId   The user id of the user icon to retrieve
+	 * @param iconHash The hash of the user icon to retrieve
+	 * @param size     The side of the square the icon must fit in, or null for
+	 *                 the original icon
+	 * @param headers  The headers of the received request
+	 * @return The response with the requested user icon
+	 * @throws InvalidRequestException If the given size is not supported
+	 * @throws EntityNotFoundException If the given hash does not correspond to the
+	 *                                 icon of the user data with the given user
+	 *                                 id
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the user icon
+	 */
+	@GetMapping("/id/{userId}/data/icon/{iconHash}")
+	@Operation(summary = "Get versioned user icon")
+	@ApiResponse(responseCode = "200", description = "User icon obtained successfully", content = @Content(mediaType = MediaType.IMAGE_PNG_VALUE))
+	@ApiResponse(responseCode = "206", description = "User icon range obtained successfully", content = @Content(mediaType = MediaType.IMAGE_PNG_VALUE))
+	@ApiResponse(responseCode = "304", description = "User icon not modified", content = @Content)
+	@ApiResponse(responseCode = "400", description = "Icon size is not supported", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "404", description = "Hash does not correspond to the icon of the user", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	public ResponseEntity<Resource> getVersionedUserIcon(@PathVariable int userId, @PathVariable String iconHash, @RequestParam(required = false) Integer size,
+			@RequestHeader HttpHeaders headers) throws ServiceException {
+		log.debug("Requested versioned user icon (userId=%s, iconHash=%s, size=%s)".formatted(userId, iconHash, size));
+		userDataService.checkIconSize(size);
+		userDataService.checkIconHash(userId, iconHash);
+		CacheControl cacheControl = CacheControl.maxAge(IMMUTABLE_MAX_AGE).cachePublic().immutable();
+		String tag = getIconTag(iconHash, size);
+		if (isNotModified(headers, tag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).cacheControl(cacheControl).build();
+		}
+		Resource icon = userDataService.getIconByHash(iconHash, size);
+		return ResponseEntity.ok().contentType(MediaType.IMAGE_PNG).eTag(tag).cacheControl(cacheControl).body(icon);
 	}
 
 	/**
 	 * This method updates the user icon with the given user id in the database.
+	 * The icon is streamed from the body of the request instead of being buffered
+	 * in memory.
 	 * 
 	 * @param userId The user id of the user icon to update
-	 * @param icon   The user icon binary data
+	 * @param icon   The stream of the user icon binary data
 	 * @throws UnauthorizedOperationException If the current user is not logged in
 	 * @throws ForbiddenOperationException    If the current user does not have the
 	 *                                        given user id
+	 * @throws InvalidRequestException        If the given icon is not a valid PNG
+	 *                                        image, exceeds the maximum size or
+	 *                                        exceeds the maximum dimensions
 	 * @throws EntityNotFoundException        If the given id does not correspond to
 	 *                                        user data
-	 * @throws InternalErrorException         If a database error occurred while
-	 *                                        updating the user icon
+	 * @throws InternalErrorException         If an error occurred while receiving
+	 *                                        the icon or a database error occurred
+	 *                                        while updating the user icon
 	 */
 	@PostMapping(value = "/id/{userId}/data/icon/update", consumes = MediaType.IMAGE_PNG_VALUE)
 	@Operation(summary = "Update user icon")
 	@ApiResponse(responseCode = "204", description = "User icon updated successfully")
+	@io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(mediaType = MediaType.IMAGE_PNG_VALUE, schema = @Schema(type = "string", format = "binary")))
+	@ApiResponse(responseCode = "400", description = "Icon is not a valid PNG image or is too large", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	@ApiResponse(responseCode = "401", description = "User is not logged in", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	@ApiResponse(responseCode = "403", description = "Current user does not have given user id", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	@ApiResponse(responseCode = "404", description = "User id does not correspond to user data", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-	public ResponseEntity<Void> updateUserIcon(@PathVariable int userId, @RequestBody byte[] icon) throws ServiceException {
+	public ResponseEntity<Void> updateUserIcon(@PathVariable int userId, InputStream icon) throws ServiceException {
 		log.debug("Requested user icon update (userId=%s)".formatted(userId));
-		UserData original = userDataService.getDataByUserId(userId);
-		UserData data = original.toBuilder().icon(icon).build();
-		userDataActionService.updateData(data);
+		userDataActionService.updateIcon(userId, icon);
 		return ResponseEntity.noContent().build();
 	}
 
@@ -613,7 +763,7 @@ public class UserController {
 	 * @throws EntityNotFoundException        If the given id does not correspond to
 	 *                                        user data
 	 * @throws InternalErrorException         If a database error occurred while
-	 *                                        updating the user data
+	 *                                        deleting the user icon
 	 */
 	@PostMapping("/id/{userId}/data/icon/delete")
 	@Operation(summary = "Delete user icon")
@@ -624,10 +774,40 @@ public class UserController {
 	@ApiResponse(responseCode = "500", description = "Database error occured", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	public ResponseEntity<Void> deleteUserIcon(@PathVariable int userId) throws ServiceException {
 		log.debug("Requested user icon deletion (userId=%s)".formatted(userId));
-		UserData original = userDataService.getDataByUserId(userId);
-		UserData data = original.toBuilder().icon(null).build();
-		userDataActionService.updateData(data);
+		userDataActionService.deleteIcon(userId);
 		return ResponseEntity.noContent().build();
 	}
 
+	/**
+	 * This method returns the entity tag of the icon with the given hash in the
+	 * given size.
+	 * 
+	 * @param hash The hash of the icon
+	 * @param size The size of the icon, or null for the original icon
+	 * @return The entity tag of the icon
+	 */
+	private static String getIconTag(String hash, Integer size) {
+		return size == null ? hash : "%s-%s".formatted(hash, size);
+	}
+
+	/**
+	 * This method checks whether any of the entity tags in the If-None-Match
+	 * header of the given request headers matches the given entity tag, using
+	 * the weak comparison.
+	 * 
+	 * @param headers The headers of the received request
+	 * @param tag     The unquoted entity tag of the icon
+	 * @return Whether the client already has the icon
+	 */
+	private static boolean isNotModified(HttpHeaders headers, String tag) {
+		String current = "\"%s\"".formatted(tag);
+		for (String match : headers.getIfNoneMatch()) {
+			String candidate = match.startsWith("W/") ? match.substring(2) : match;
+			if (candidate.equals("*") || candidate.equals(current)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 }
@@ -14,6 +14,7 @@ import net.techquiry.app.service.exception.EntityNotFoundException;
 import net.techquiry.app.service.exception.ForbiddenOperationException;
 import net.techquiry.app.service.exception.InvalidRequestException;
 import net.techquiry.app.service.exception.ServiceException;
+import net.techquiry.app.service.exception.ServiceUnavailableException;
 import net.techquiry.app.service.exception.UnauthorizedOperationException;
 
 /**
@@ -81,6 +82,20 @@ public class ErrorHelper {
 		return resolveException(exception, HttpStatus.BAD_REQUEST);
 	}
 
+	/**
+	 * Handles exceptions of type {@link ServiceUnavailableException} when thrown
+	 * by a controller by returning a {@link ResponseEntity} with the
+	 * SERVICE_UNAVAILABLE (503) status code and an {@link ErrorResponse}
+	 * containing the exception message.
+	 *
+	 * @param exception The exception that was thrown
+	 * @return The {@link ResponseEntity} containing the {@link ErrorResponse}
+	 */
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<ErrorResponse> resolveServiceUnavailable(Exception exception) {
+		return resolveException(exception, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
 	/**
 	 * Handles exceptions of type {@link InternalServerError},
 	 * {@link ServiceException} and {@link MapperException} when thrown by a
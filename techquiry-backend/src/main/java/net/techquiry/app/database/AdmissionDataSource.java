@@ -0,0 +1,229 @@
+package net.techquiry.app.database;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * The {@link AdmissionDataSource} class is a {@link DataSource} admitting the
+ * callers to a wrapped connection pool through a fair {@link Semaphore} with as
+ * many permits as the pool has connections. Callers beyond the capacity of the
+ * pool wait at the gate in arrival order, which does not occupy a platform
+ * thread when they run on virtual threads, instead of all contending for the
+ * pool and failing once its connection timeout elapses. The permit of a caller
+ * is held for as long as the connection it obtained is open.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+public final class AdmissionDataSource implements DataSource, Closeable {
+
+	/**
+	 * The wrapped connection pool.
+	 */
+	private final DataSource delegate;
+
+	/**
+	 * The permits of the callers admitted to the connection pool.
+	 */
+	private final Semaphore permits;
+
+	/**
+	 * The maximum time in milliseconds a caller waits for admission.
+	 */
+	private final long timeout;
+
+	/**
+	 * This constructor constructs a new {@link AdmissionDataSource} admitting at
+	 * most the given number of callers to the given connection pool at a time.
+	 *
+	 * @param delegate The wrapped connection pool
+	 * @param capacity The number of callers admitted at a time, which should be
+	 *                 the size of the pool
+	 * @param timeout  The maximum time a caller waits for admission in
+	 *                 milliseconds
+	 */
+	public AdmissionDataSource(DataSource delegate, int capacity, long timeout) {
+		this.delegate = delegate;
+		this.permits = new Semaphore(capacity, true);
+		this.timeout = timeout;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		admit();
+		try {
+			return admitted(delegate.getConnection());
+		} catch (SQLException | RuntimeException exception) {
+			permits.release();
+			throw exception;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		admit();
+		try {
+			return admitted(delegate.getConnection(username, password));
+		} catch (SQLException | RuntimeException exception) {
+			permits.release();
+			throw exception;
+		}
+	}
+
+	/**
+	 * This method returns the number of callers currently waiting for admission.
+	 *
+	 * @return The number of waiting callers
+	 */
+	public int getWaitingCount() {
+		return permits.getQueueLength();
+	}
+
+	/**
+	 * This method returns the number of callers that can currently be admitted
+	 * without waiting.
+	 *
+	 * @return The number of available permits
+	 */
+	public int getAvailableCount() {
+		return permits.availablePermits();
+	}
+
+	@Override
+	public PrintWriter getLogWriter() throws SQLException {
+		return delegate.getLogWriter();
+	}
+
+	@Override
+	public void setLogWriter(PrintWriter out) throws SQLException {
+		delegate.setLogWriter(out);
+	}
+
+	@Override
+	public void setLoginTimeout(int seconds) throws SQLException {
+		delegate.setLoginTimeout(seconds);
+	}
+
+	@Override
+	public int getLoginTimeout() throws SQLException {
+		return delegate.getLoginTimeout();
+	}
+
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+		return delegate.getParentLogger();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return iface.cast(this);
+		}
+		return delegate.unwrap(iface);
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance(this) || delegate.isWrapperFor(iface);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (delegate instanceof Closeable closeable) {
+			closeable.close();
+		}
+	}
+
+	/**
+	 * This method waits until the caller is admitted to the connection pool or
+	 * the timeout elapses.
+	 *
+	 * @throws SQLTimeoutException If the caller was not admitted before the
+	 *                             timeout elapsed
+	 * @throws SQLException        If the caller was interrupted while waiting
+	 */
+	private void admit() throws SQLException {
+		try {
+			if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+				throw new SQLTimeoutException("Timed out after %s ms waiting for admission to the connection pool!".formatted(timeout));
+			}
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for admission to the connection pool!", exception);
+		}
+	}
+
+	/**
+	 * This method returns a view of the given connection that releases the permit
+	 * of the caller when it is closed for the first time.
+	 *
+	 * @param connection The connection obtained from the pool
+	 * @return The view of the connection
+	 */
+	private Connection admitted(Connection connection) {
+		Class<?>[] interfaces = { Connection.class };
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), interfaces, new AdmittedConnection(connection));
+	}
+
+	/**
+	 * The {@link AdmittedConnection} class handles the invocations on the view of
+	 * a connection obtained through the gate, forwarding them to the connection
+	 * and releasing the permit of the caller once it is closed.
+	 *
+	 * @author Aggelowe
+	 * @since 0.0.1
+	 */
+	private final class AdmittedConnection implements InvocationHandler {
+
+		/**
+		 * The connection obtained from the pool.
+		 */
+		private final Connection connection;
+
+		/**
+		 * Whether the permit of the caller has been released.
+		 */
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		/**
+		 * This constructor constructs a new {@link AdmittedConnection} forwarding
+		 * the invocations to the given connection.
+		 *
+		 * @param connection The connection obtained from the pool
+		 */
+		private AdmittedConnection(Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			boolean closing = method.getName().equals("close") && method.getParameterCount() == 0;
+			try {
+				return method.invoke(connection, args);
+			} catch (InvocationTargetException exception) {
+				throw exception.getCause();
+			} finally {
+				if (closing && released.compareAndSet(false, true)) {
+					permits.release();
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,134 @@
+package net.techquiry.app.database;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.common.Environment;
+import net.techquiry.app.database.UnitOfWork.Work;
+import net.techquiry.app.database.exception.DatabaseException;
+
+/**
+ * The {@link DatabaseExecutor} class runs the asynchronous queries of the data
+ * access objects on a bounded pool of threads dedicated to the database. The
+ * pool has as many threads as the connection pool has connections, so that the
+ * queries submitted at once never contend for more connections than exist, and
+ * the queries waiting for a thread are held in a bounded queue, beyond which
+ * further queries are rejected. Since the queries run on the threads of the
+ * executor, they never join the {@link UnitOfWork} active on the submitting
+ * thread.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@Log4j2
+public final class DatabaseExecutor implements AutoCloseable {
+
+	/**
+	 * The prefix of the names of the threads of the executor.
+	 */
+	private static final String THREAD_PREFIX = "techquiry-database-";
+
+	/**
+	 * The time in milliseconds to wait for the running queries to complete when
+	 * the executor is closed.
+	 */
+	private static final long SHUTDOWN_TIMEOUT = 10000L;
+
+	/**
+	 * The pool of threads running the queries.
+	 */
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * This constructor constructs a new {@link DatabaseExecutor} whose thread
+	 * count and queue size are defined in the {@link Environment}.
+	 */
+	public DatabaseExecutor() {
+		this(Environment.DB_POOL_SIZE, Environment.DB_EXECUTOR_QUEUE_SIZE);
+	}
+
+	/**
+	 * This constructor constructs a new {@link DatabaseExecutor} with the given
+	 * thread count and queue size.
+	 *
+	 * @param threads   The number of threads, which should be the size of the
+	 *                  connection pool
+	 * @param queueSize The maximum number of queries waiting for a thread
+	 */
+	public DatabaseExecutor(int threads, int queueSize) {
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), Thread.ofPlatform().name(THREAD_PREFIX, 0).daemon().factory());
+	}
+
+	/**
+	 * This method submits the given query to the executor and returns the future
+	 * of its result. The future is completed exceptionally with the
+	 * {@link DatabaseException} thrown by the query, or with a
+	 * {@link RejectedExecutionException} if the queue of the executor is full, so
+	 * that an overload can be told apart from a failure of the database.
+	 *
+	 * @param <T>   The type of the result
+	 * @param query The query to run
+	 * @return The future of the result of the query
+	 */
+	public <T> CompletableFuture<T> submit(Work<T, RuntimeException> query) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				try {
+					future.complete(query.execute());
+				} catch (Throwable throwable) {
+					future.completeExceptionally(throwable);
+				}
+			});
+		} catch (RejectedExecutionException exception) {
+			log.warn("The database executor rejected a query! (queued=%s)".formatted(getQueuedCount()));
+			future.completeExceptionally(exception);
+		}
+		return future;
+	}
+
+	/**
+	 * This method returns the number of queries that are currently running.
+	 *
+	 * @return The number of running queries
+	 */
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	/**
+	 * This method returns the number of queries currently waiting for a thread.
+	 *
+	 * @return The number of waiting queries
+	 */
+	public int getQueuedCount() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 * This method stops accepting queries and waits for a limited time for the
+	 * submitted queries to complete.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+				log.warn("The database executor did not terminate in time!");
+				executor.shutdownNow();
+			}
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -1,11 +1,15 @@
 package net.techquiry.app.database;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import net.techquiry.app.common.Environment;
+import net.techquiry.app.database.exception.DataAccessException;
 import net.techquiry.app.database.exception.DatabaseException;
 
 /**
@@ -25,6 +29,25 @@ public final class DatabaseManager {
 	 */
 	private static final String CREATE_SCHEMA_SCRIPT = "/database/schema.sql";
 
+	/**
+	 * The path of the SQL script for creating the schema version table.
+	 */
+	private static final String SCHEMA_VERSION_CREATE_SCRIPT = "/database/schema_version/create.sql";
+
+	/**
+	 * The path of the SQL script for selecting the current schema version.
+	 */
+	private static final String SCHEMA_VERSION_SELECT_SCRIPT = "/database/schema_version/select.sql";
+
+	/**
+	 * The paths of the SQL scripts migrating the database schema, in the order they
+	 * must be applied. The script at index i migrates the schema to version i + 1
+	 * and records that version in the schema version table. Scripts must never be
+	 * modified or reordered once released, new migrations are only appended.
+	 */
+	private static final String[] MIGRATION_SCRIPTS = { "/database/migration/0001_secondary_indexes.sql", "/database/migration/0002_counter_columns.sql",
+			"/database/migration/0003_full_text_search.sql", "/database/migration/0004_icon_storage.sql", "/database/migration/0005_icon_variants.sql" };
+
 	/**
 	 * The object responsible for executing SQL scripts on the application database
 	 */
@@ -41,10 +64,72 @@ public final class DatabaseManager {
 		runner.runScript(CREATE_SCHEMA_SCRIPT);
 	}
 
+	/**
+	 * This method applies the migration scripts that have not yet been applied to
+	 * the database, in order. Each migration script is executed in its own
+	 * transaction together with the update of the schema version, so a failed
+	 * migration leaves the database at the last successfully applied version.
+	 * 
+	 * @throws DatabaseException If an error occurs while migrating the schema.
+	 */
+	public void migrateSchema() throws DatabaseException {
+		log.debug("Migrating database schema");
+		runner.runScript(SCHEMA_VERSION_CREATE_SCRIPT);
+		int version = getSchemaVersion();
+		if (version > MIGRATION_SCRIPTS.length) {
+			throw new DataAccessException("The database schema version %s is newer than the supported version %s!".formatted(version, MIGRATION_SCRIPTS.length));
+		}
+		for (int index = version; index < MIGRATION_SCRIPTS.length; index++) {
+			log.info("Migrating database schema (version=%s)".formatted(index + 1));
+			runner.runScript(MIGRATION_SCRIPTS[index]);
+		}
+	}
+
+	/**
+	 * This method checks that every migration script has been applied to the
+	 * database schema.
+	 * 
+	 * @throws DataAccessException If the schema version differs from the version
+	 *                             of the latest migration script
+	 * @throws DatabaseException   If an error occurs while retrieving the
+	 *                             version.
+	 */
+	public void verifySchema() throws DatabaseException {
+		int version = getSchemaVersion();
+		if (version != MIGRATION_SCRIPTS.length) {
+			throw new DataAccessException("The database schema version %s does not match the supported version %s!".formatted(version, MIGRATION_SCRIPTS.length));
+		}
+	}
+
+	/**
+	 * This method returns the version of the latest migration applied to the
+	 * database schema, or 0 if no migration has been applied.
+	 * 
+	 * @return The current schema version
+	 * @throws DatabaseException If an error occurs while retrieving the version.
+	 */
+	public int getSchemaVersion() throws DatabaseException {
+		List<LocalResult> results = runner.runScript(SCHEMA_VERSION_SELECT_SCRIPT);
+		if (results.isEmpty()) {
+			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(SCHEMA_VERSION_SELECT_SCRIPT));
+		}
+		LocalResult result = results.getFirst();
+		if (result == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(SCHEMA_VERSION_SELECT_SCRIPT));
+		}
+		List<Map<String, Object>> list = result.list();
+		if (list.size() != 1) {
+			throw new DataAccessException(DataAccessException.INVALID_RESULT_MESSAGE.formatted(SCHEMA_VERSION_SELECT_SCRIPT));
+		}
+		return (int) list.getFirst().get("version");
+	}
+
 	/**
 	 * The {@link #initialize()} method is responsible for initializing the database
 	 * used by the application. When invoked, the method connects to the database
-	 * file and performs the necessary initialization operations.
+	 * file and performs the necessary initialization operations. If the migrations
+	 * are disabled, the application exits unless the schema is up to date, instead
+	 * of failing once the missing tables or columns are accessed.
 	 */
 	public void initialize() {
 		if (Environment.DB_CREATE_SCHEMA) {
@@ -55,6 +140,21 @@ public final class DatabaseManager {
 				System.exit(1);
 			}
 		}
+		if (Environment.DB_CREATE_SCHEMA || Environment.DB_MIGRATE_SCHEMA) {
+			try {
+				migrateSchema();
+			} catch (DatabaseException exception) {
+				log.fatal("Could not migrate database schema!", exception);
+				System.exit(1);
+			}
+		} else {
+			try {
+				verifySchema();
+			} catch (DatabaseException exception) {
+				log.fatal("The database schema is not up to date, enable TQ_BE_DB_MIGRATE_SCHEMA to migrate it!", exception);
+				System.exit(1);
+			}
+		}
 	}
 
 }
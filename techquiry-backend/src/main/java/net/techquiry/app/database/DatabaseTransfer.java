@@ -0,0 +1,349 @@
+package net.techquiry.app.database;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.common.Environment;
+import net.techquiry.app.database.exception.DatabaseException;
+
+/**
+ * The {@link DatabaseTransfer} class is responsible for moving the entries of
+ * the application database between instances. Entries are exported to and
+ * imported from newline delimited JSON, one entry per line in the form
+ * <code>{"table":"inquiry","row":{...}}</code>, without ever holding more than a
+ * single batch of them in memory.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public final class DatabaseTransfer {
+
+	/**
+	 * The path of the SQL script for selecting every transferred entry.
+	 */
+	private static final String TRANSFER_EXPORT_SCRIPT = "/database/transfer/export.sql";
+
+	/**
+	 * The prefix of the temporary files the exported entries are spooled to.
+	 */
+	private static final String SPOOL_PREFIX = "techquiry-export-";
+
+	/**
+	 * The transferred tables, in an order that satisfies their foreign keys.
+	 */
+	private static final List<Table> TABLES = List.of(
+			new Table("user_login", "/database/transfer/import_user_login.sql", List.of("user_id", "username", "password_hash", "password_salt"), Set.of()),
+			new Table("icon", "/database/transfer/import_icon.sql", List.of("icon_hash", "data"), Set.of("data")),
+			new Table("icon_variant", "/database/transfer/import_icon_variant.sql", List.of("icon_hash", "size", "data"), Set.of("data")),
+			new Table("user_data", "/database/transfer/import_user_data.sql", List.of("user_id", "first_name", "last_name", "icon_hash"), Set.of()),
+			new Table("inquiry", "/database/transfer/import_inquiry.sql", List.of("inquiry_id", "user_id", "title", "content", "anonymous"), Set.of()),
+			new Table("response", "/database/transfer/import_response.sql", List.of("response_id", "inquiry_id", "user_id", "anonymous", "content"), Set.of()),
+			new Table("observer", "/database/transfer/import_observer.sql", List.of("inquiry_id", "user_id"), Set.of()),
+			new Table("upvote", "/database/transfer/import_upvote.sql", List.of("response_id", "user_id"), Set.of()));
+
+	/**
+	 * The mapper reading and writing the transferred entries.
+	 */
+	private static final JsonMapper MAPPER = JsonMapper.builder().disable(StreamReadFeature.AUTO_CLOSE_SOURCE).disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+	/**
+	 * The runner responsible for executing the SQL scripts.
+	 */
+	private final SQLRunner runner;
+
+	/**
+	 * The manager holding the caches that must be cleared after an import.
+	 */
+	private final EntityCacheManager cacheManager;
+
+	/**
+	 * This method writes every transferred entry of the application database to
+	 * the given stream. All tables are read within a single transaction, so that
+	 * the exported entries are consistent with each other. Outside WAL mode, the
+	 * open transaction would block every writer for as long as the stream takes to
+	 * accept the entries, so they are first spooled to a temporary file, which is
+	 * then copied to the stream. The stream is not closed.
+	 *
+	 * @param stream The stream to write the entries to
+	 * @return The number of exported entries
+	 * @throws DatabaseException If a database error occurs while reading the
+	 *                           entries
+	 * @throws IOException       If an error occurs while writing the entries
+	 */
+	public int exportData(OutputStream stream) throws DatabaseException, IOException {
+		log.debug("Exporting database entries");
+		int count;
+		if (Environment.DB_WAL_MODE) {
+			count = writeEntries(stream);
+		} else {
+			Path spool = Files.createTempFile(SPOOL_PREFIX, ".ndjson");
+			try {
+				try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(spool))) {
+					count = writeEntries(output);
+				}
+				Files.copy(spool, stream);
+			} finally {
+				Files.deleteIfExists(spool);
+			}
+		}
+		log.info("Exported database entries (count=%s)".formatted(count));
+		return count;
+	}
+
+	/**
+	 * This method inserts the entries read from the given stream to the
+	 * application database, using batched inserts of the size defined in the
+	 * {@link Environment}. The entries of each table must follow those of the
+	 * tables it references, as written by {@link #exportData(OutputStream)}, and
+	 * must not already exist. The batches preceding a failure remain inserted. The
+	 * stream is not closed.
+	 *
+	 * @param stream The stream to read the entries from
+	 * @return The number of imported entries
+	 * @throws DatabaseException If a database error occurs while inserting the
+	 *                           entries
+	 * @throws IOException       If an error occurs while reading the entries or if
+	 *                           they are invalid
+	 */
+	public int importData(InputStream stream) throws DatabaseException, IOException {
+		log.debug("Importing database entries");
+		int count = 0;
+		int current = 0;
+		List<Object[]> batch = new ArrayList<>(Environment.DB_BATCH_SIZE);
+		try (MappingIterator<JsonNode> iterator = MAPPER.readerFor(JsonNode.class).readValues(stream)) {
+			while (iterator.hasNextValue()) {
+				JsonNode entry = iterator.nextValue();
+				int index = indexOf(entry.path("table").asText());
+				if (index < current) {
+					throw new IOException("The entries of table %s must precede those of table %s!".formatted(TABLES.get(index).name(), TABLES.get(current).name()));
+				}
+				if (index != current || batch.size() == Environment.DB_BATCH_SIZE) {
+					count += insertBatch(TABLES.get(current), batch);
+					current = index;
+				}
+				batch.add(readRow(TABLES.get(index), entry.path("row")));
+			}
+			count += insertBatch(TABLES.get(current), batch);
+		} finally {
+			cacheManager.clear();
+		}
+		log.info("Imported database entries (count=%s)".formatted(count));
+		return count;
+	}
+
+	/**
+	 * This method reads every transferred entry of the application database
+	 * within a single transaction and writes it to the given stream.
+	 *
+	 * @param stream The stream to write the entries to
+	 * @return The number of written entries
+	 * @throws DatabaseException If a database error occurs while reading the
+	 *                           entries
+	 * @throws IOException       If an error occurs while writing the entries
+	 */
+	private int writeEntries(OutputStream stream) throws DatabaseException, IOException {
+		try (JsonGenerator generator = MAPPER.createGenerator(stream)) {
+			generator.setRootValueSeparator(null);
+			int count = runner.runStream(TRANSFER_EXPORT_SCRIPT, new EntryRowMapper(), entry -> writeEntry(generator, entry));
+			generator.flush();
+			return count;
+		}
+	}
+
+	/**
+	 * This method writes the given exported entry to the given generator as a
+	 * single line.
+	 *
+	 * @param generator The generator to write the entry to
+	 * @param entry     The exported entry
+	 * @throws IOException If an error occurs while writing the entry
+	 */
+	private void writeEntry(JsonGenerator generator, Entry entry) throws IOException {
+		generator.writeStartObject();
+		generator.writeStringField("table", entry.table());
+		generator.writeObjectFieldStart("row");
+		for (int i = 0; i < entry.columns().length; i++) {
+			generator.writeFieldName(entry.columns()[i]);
+			switch (entry.values()[i]) {
+				case null -> generator.writeNull();
+				case Integer value -> generator.writeNumber(value);
+				case Long value -> generator.writeNumber(value);
+				case Double value -> generator.writeNumber(value);
+				case byte[] value -> generator.writeBinary(value);
+				case Object value -> generator.writeString(value.toString());
+			}
+		}
+		generator.writeEndObject();
+		generator.writeEndObject();
+		generator.writeRaw('\n');
+	}
+
+	/**
+	 * This method inserts the given batch of rows to the given table and clears
+	 * the batch.
+	 *
+	 * @param table The table to insert the rows to
+	 * @param batch The parameters of the rows to insert
+	 * @return The number of inserted rows
+	 * @throws DatabaseException If a database error occurs while inserting the
+	 *                           rows
+	 */
+	private int insertBatch(Table table, List<Object[]> batch) throws DatabaseException {
+		if (batch.isEmpty()) {
+			return 0;
+		}
+		log.debug("Importing database entry batch (table=%s, size=%s)".formatted(table.name(), batch.size()));
+		int count = runner.runBatch(table.importScript(), batch);
+		batch.clear();
+		return count;
+	}
+
+	/**
+	 * This method converts the given row of an imported entry to the parameters of
+	 * the import script of the given table.
+	 *
+	 * @param table The table of the entry
+	 * @param row   The row of the entry
+	 * @return The parameters of the import script
+	 * @throws IOException If the value of a binary column is not valid base64
+	 */
+	private Object[] readRow(Table table, JsonNode row) throws IOException {
+		List<String> columns = table.columns();
+		Object[] parameters = new Object[columns.size()];
+		for (int i = 0; i < parameters.length; i++) {
+			String column = columns.get(i);
+			JsonNode value = row.path(column);
+			if (value.isMissingNode() || value.isNull()) {
+				parameters[i] = null;
+			} else if (table.binaryColumns().contains(column)) {
+				parameters[i] = value.binaryValue();
+			} else if (value.isIntegralNumber()) {
+				parameters[i] = value.longValue();
+			} else if (value.isNumber()) {
+				parameters[i] = value.doubleValue();
+			} else if (value.isBoolean()) {
+				parameters[i] = value.booleanValue();
+			} else {
+				parameters[i] = value.asText();
+			}
+		}
+		return parameters;
+	}
+
+	/**
+	 * This method returns the position of the table with the given name in the
+	 * transfer order.
+	 *
+	 * @param name The name of the table
+	 * @return The position of the table
+	 * @throws IOException If the table is not transferred
+	 */
+	private int indexOf(String name) throws IOException {
+		for (int i = 0; i < TABLES.size(); i++) {
+			if (TABLES.get(i).name().equals(name)) {
+				return i;
+			}
+		}
+		throw new IOException("The table %s cannot be imported!".formatted(name));
+	}
+
+	/**
+	 * The {@link Table} record describes how the entries of a transferred table
+	 * are imported.
+	 *
+	 * @param name          The name of the table
+	 * @param importScript  The path of the SQL script inserting an entry
+	 * @param columns       The columns of the table, in the order of the
+	 *                      parameters of the import script
+	 * @param binaryColumns The columns holding binary data, which are encoded in
+	 *                      base64
+	 */
+	private record Table(String name, String importScript, List<String> columns, Set<String> binaryColumns) {
+	}
+
+	/**
+	 * The {@link Entry} record holds a single exported row along with the table it
+	 * belongs to.
+	 *
+	 * @param table   The name of the table
+	 * @param columns The labels of the columns
+	 * @param values  The values of the columns
+	 */
+	private record Entry(String table, String[] columns, Object[] values) {
+	}
+
+	/**
+	 * The {@link EntryRowMapper} class maps the rows of any table to
+	 * {@link Entry} objects, using the metadata of the result set. The metadata is
+	 * read on the first row of each table and reused for the rest of its rows.
+	 */
+	private static final class EntryRowMapper implements RowMapper<Entry> {
+
+		/**
+		 * The name of the table currently being mapped, or null if the metadata of
+		 * its result set has not been read yet.
+		 */
+		private String table;
+
+		/**
+		 * The labels of the columns of the table currently being mapped.
+		 */
+		private String[] labels;
+
+		@Override
+		public String[] getColumns() {
+			return new String[0];
+		}
+
+		@Override
+		public int[] resolveColumns(ResultSet resultSet) throws SQLException {
+			table = null;
+			labels = null;
+			return RowMapper.super.resolveColumns(resultSet);
+		}
+
+		@Override
+		public Entry mapRow(ResultSet resultSet, int[] columns) throws SQLException {
+			if (table == null) {
+				ResultSetMetaData meta = resultSet.getMetaData();
+				labels = new String[meta.getColumnCount()];
+				for (int i = 0; i < labels.length; i++) {
+					labels[i] = meta.getColumnLabel(i + 1);
+				}
+				table = meta.getTableName(1);
+			}
+			Object[] values = new Object[labels.length];
+			for (int i = 0; i < labels.length; i++) {
+				values[i] = resultSet.getObject(i + 1);
+			}
+			return new Entry(table, labels, values);
+		}
+
+	}
+
+}
@@ -0,0 +1,342 @@
+package net.techquiry.app.database;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.Getter;
+
+import net.techquiry.app.database.exception.DatabaseException;
+
+/**
+ * The {@link EntityCache} class is a size-bounded, read-through cache of the
+ * entities selected from the application database. Entries are evicted in
+ * least recently used order once the size is exceeded and expire after the
+ * configured time to live, so that changes which were not invalidated
+ * explicitly become visible eventually. While a {@link UnitOfWork} is active,
+ * the cache is bypassed, since the bound connection may observe uncommitted
+ * changes, and every invalidation is repeated once the unit completes, so that
+ * entities cached by other threads before the commit are discarded as well.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the cached entities
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+public final class EntityCache<K, V> {
+
+	/**
+	 * The name of the cache, used for identifying its metrics.
+	 */
+	@Getter
+	private final String name;
+
+	/**
+	 * The maximum number of cached entities.
+	 */
+	private final int size;
+
+	/**
+	 * The time in nanoseconds after which a cached entity expires.
+	 */
+	private final long ttl;
+
+	/**
+	 * The cached entries in least recently used order.
+	 */
+	private final Entries<K, V> entries;
+
+	/**
+	 * The unit of work whose active units bypass the cache, or null if the cache
+	 * is not used within units of work.
+	 */
+	private final UnitOfWork unitOfWork;
+
+	/**
+	 * The lock guarding the cached entries, which does not pin the carrier of a
+	 * virtual thread waiting for it.
+	 */
+	private final Lock lock = new ReentrantLock();
+
+	/**
+	 * The number of invalidations so far, used for discarding loaded entities that
+	 * may have been invalidated while they were being loaded.
+	 */
+	private long generation;
+
+	/**
+	 * The number of entities that were obtained from the cache.
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * The number of entities that had to be loaded.
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * The number of entities that were evicted because the cache was full or
+	 * because they had expired.
+	 */
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * This constructor constructs a new {@link EntityCache} with the given name,
+	 * size and time to live. A size of 0 disables the caching of entities.
+	 *
+	 * @param name The name of the cache
+	 * @param size The maximum number of cached entities
+	 * @param ttl  The time to live of the entities in milliseconds
+	 */
+	public EntityCache(String name, int size, long ttl) {
+		this(name, size, ttl, null);
+	}
+
+	/**
+	 * This constructor constructs a new {@link EntityCache} with the given name,
+	 * size and time to live, which is bypassed while a unit of the given
+	 * {@link UnitOfWork} is active. A size of 0 disables the caching of entities.
+	 *
+	 * @param name       The name of the cache
+	 * @param size       The maximum number of cached entities
+	 * @param ttl        The time to live of the entities in milliseconds
+	 * @param unitOfWork The unit of work whose active units bypass the cache
+	 */
+	public EntityCache(String name, int size, long ttl, UnitOfWork unitOfWork) {
+		this.name = name;
+		this.size = size;
+		this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+		this.entries = new Entries<>(size, evictions);
+		this.unitOfWork = unitOfWork;
+	}
+
+	/**
+	 * This method returns the entity with the given key. If the entity is cached
+	 * and has not expired, it is returned directly, otherwise it is obtained using
+	 * the given {@link Loader} and cached. Missing entities, for which the loader
+	 * returns null, are not cached. Within an active unit of work, the entity is
+	 * always obtained using the loader and never cached.
+	 *
+	 * @param key    The key of the entity
+	 * @param loader The loader obtaining the entity from the database
+	 * @return The entity or null if it does not exist
+	 * @throws DatabaseException If an error occurs while loading the entity
+	 */
+	public V get(K key, Loader<V> loader) throws DatabaseException {
+		if (size == 0 || isBound()) {
+			misses.increment();
+			return loader.load();
+		}
+		long loading;
+		lock.lock();
+		try {
+			Entry<V> entry = entries.get(key);
+			if (entry != null) {
+				if (entry.expiry() - System.nanoTime() > 0) {
+					hits.increment();
+					return entry.value();
+				}
+				entries.remove(key);
+				evictions.increment();
+			}
+			loading = generation;
+		} finally {
+			lock.unlock();
+		}
+		misses.increment();
+		V value = loader.load();
+		if (value != null) {
+			lock.lock();
+			try {
+				if (loading == generation) {
+					entries.put(key, new Entry<>(value, System.nanoTime() + ttl));
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * This method removes the entity with the given key from the cache. Within an
+	 * active unit of work, the entity is removed again once the unit completes.
+	 *
+	 * @param key The key of the entity
+	 */
+	public void invalidate(K key) {
+		remove(key);
+		if (isBound()) {
+			unitOfWork.afterCompletion(() -> remove(key));
+		}
+	}
+
+	/**
+	 * This method removes all entities from the cache. Within an active unit of
+	 * work, the entities are removed again once the unit completes.
+	 */
+	public void clear() {
+		removeAll();
+		if (isBound()) {
+			unitOfWork.afterCompletion(this::removeAll);
+		}
+	}
+
+	/**
+	 * This method returns the number of entities currently in the cache.
+	 *
+	 * @return The number of cached entities
+	 */
+	public int getSize() {
+		lock.lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method returns the number of entities that were obtained from the
+	 * cache.
+	 *
+	 * @return The number of cache hits
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * This method returns the number of entities that had to be loaded because
+	 * they were not found in the cache or had expired.
+	 *
+	 * @return The number of cache misses
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * This method returns the number of entities that were evicted from the cache
+	 * because it was full or because they had expired.
+	 *
+	 * @return The number of cache evictions
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * This method returns whether a unit of work is active on the current thread.
+	 *
+	 * @return Whether the current thread is within a unit of work
+	 */
+	private boolean isBound() {
+		return unitOfWork != null && unitOfWork.getConnection() != null;
+	}
+
+	/**
+	 * This method removes the entity with the given key from the cache and
+	 * discards the entities being loaded.
+	 *
+	 * @param key The key of the entity
+	 */
+	private void remove(K key) {
+		lock.lock();
+		try {
+			generation++;
+			entries.remove(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method removes all entities from the cache and discards the entities
+	 * being loaded.
+	 */
+	private void removeAll() {
+		lock.lock();
+		try {
+			generation++;
+			entries.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The {@link Loader} interface defines how a missing entity is obtained from
+	 * the database.
+	 *
+	 * @param <V> The type of the entity
+	 */
+	@FunctionalInterface
+	public interface Loader<V> {
+
+		/**
+		 * This method obtains the entity from the database.
+		 *
+		 * @return The entity or null if it does not exist
+		 * @throws DatabaseException If an error occurs while loading the entity
+		 */
+		V load() throws DatabaseException;
+
+	}
+
+	/**
+	 * The {@link Entry} record holds a cached entity along with the time at which
+	 * it expires.
+	 *
+	 * @param <V>    The type of the entity
+	 * @param value  The cached entity
+	 * @param expiry The value of {@link System#nanoTime()} at which the entity
+	 *               expires
+	 */
+	private record Entry<V>(V value, long expiry) {
+	}
+
+	/**
+	 * The {@link Entries} class holds the cached entries in least recently used
+	 * order and evicts the eldest entry once the capacity is exceeded.
+	 */
+	private static final class Entries<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+		/**
+		 * The maximum number of cached entries.
+		 */
+		private final int capacity;
+
+		/**
+		 * The counter of the evicted entries.
+		 */
+		private final LongAdder evictions;
+
+		/**
+		 * This constructor constructs a new {@link Entries} object with the given
+		 * capacity.
+		 *
+		 * @param capacity  The maximum number of cached entries
+		 * @param evictions The counter of the evicted entries
+		 */
+		private Entries(int capacity, LongAdder evictions) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+			this.evictions = evictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+			if (size() > capacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,128 @@
+package net.techquiry.app.database;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.Getter;
+
+import net.techquiry.app.common.Environment;
+import net.techquiry.app.entity.Inquiry;
+import net.techquiry.app.entity.Response;
+import net.techquiry.app.entity.UserLogin;
+
+/**
+ * The {@link EntityCacheManager} class holds the {@link EntityCache} objects
+ * placed in front of the hot single-entity selects of the data access objects.
+ * The data access objects are responsible for invalidating the cached entities
+ * affected by their writes, including the counters maintained by triggers and
+ * the rows removed by cascading deletes. The caches are bypassed within an
+ * active {@link UnitOfWork} and repeat its invalidations once it completes. The
+ * hits, misses, evictions and size of each cache are published as metrics
+ * tagged with the name of the cache.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@Getter
+public final class EntityCacheManager implements MeterBinder {
+
+	/**
+	 * The name of the metric counting the lookups of the entity caches.
+	 */
+	private static final String GETS_METRIC = "techquiry.entity.cache.gets";
+
+	/**
+	 * The name of the metric counting the evictions of the entity caches.
+	 */
+	private static final String EVICTIONS_METRIC = "techquiry.entity.cache.evictions";
+
+	/**
+	 * The name of the metric measuring the size of the entity caches.
+	 */
+	private static final String SIZE_METRIC = "techquiry.entity.cache.size";
+
+	/**
+	 * The cache of the inquiry entries, keyed by inquiry id.
+	 */
+	private final EntityCache<Integer, Inquiry> inquiryCache;
+
+	/**
+	 * The cache of the response entries, keyed by response id.
+	 */
+	private final EntityCache<Integer, Response> responseCache;
+
+	/**
+	 * The cache of the user login entries, keyed by user id.
+	 */
+	private final EntityCache<Integer, UserLogin> userLoginCache;
+
+	/**
+	 * This constructor constructs a new {@link EntityCacheManager} whose caches
+	 * have the size and time to live defined in the {@link Environment}.
+	 *
+	 * @param unitOfWork The unit of work whose active units bypass the caches
+	 */
+	@Autowired
+	public EntityCacheManager(UnitOfWork unitOfWork) {
+		this(unitOfWork, Environment.DB_ENTITY_CACHE_SIZE, Environment.DB_ENTITY_CACHE_TTL);
+	}
+
+	/**
+	 * This constructor constructs a new {@link EntityCacheManager} whose caches
+	 * have the given size and time to live. A size of 0 disables the caching of
+	 * entities.
+	 *
+	 * @param unitOfWork The unit of work whose active units bypass the caches
+	 * @param size       The maximum number of cached entities per cache
+	 * @param ttl        The time to live of the cached entities in milliseconds
+	 */
+	public EntityCacheManager(UnitOfWork unitOfWork, int size, long ttl) {
+		this.inquiryCache = new EntityCache<>("inquiry", size, ttl, unitOfWork);
+		this.responseCache = new EntityCache<>("response", size, ttl, unitOfWork);
+		this.userLoginCache = new EntityCache<>("user_login", size, ttl, unitOfWork);
+	}
+
+	/**
+	 * This method returns all the caches held by the manager.
+	 *
+	 * @return The entity caches
+	 */
+	public List<EntityCache<Integer, ?>> getCaches() {
+		return List.of(inquiryCache, responseCache, userLoginCache);
+	}
+
+	/**
+	 * This method publishes the hits, misses, evictions and size of every cache
+	 * held by the manager to the given {@link MeterRegistry}.
+	 *
+	 * @param registry The registry to publish the metrics to
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (EntityCache<Integer, ?> cache : getCaches()) {
+			String name = cache.getName();
+			FunctionCounter.builder(GETS_METRIC, cache, EntityCache::getHitCount).description("The lookups of the entity cache").tag("cache", name).tag("result", "hit").register(registry);
+			FunctionCounter.builder(GETS_METRIC, cache, EntityCache::getMissCount).description("The lookups of the entity cache").tag("cache", name).tag("result", "miss").register(registry);
+			FunctionCounter.builder(EVICTIONS_METRIC, cache, EntityCache::getEvictionCount).description("The evictions of the entity cache").tag("cache", name).register(registry);
+			Gauge.builder(SIZE_METRIC, cache, EntityCache::getSize).description("The number of cached entities").tag("cache", name).register(registry);
+		}
+	}
+
+	/**
+	 * This method removes all entities from every cache held by the manager.
+	 */
+	public void clear() {
+		inquiryCache.clear();
+		responseCache.clear();
+		userLoginCache.clear();
+	}
+
+}
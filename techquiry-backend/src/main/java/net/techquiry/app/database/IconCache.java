@@ -0,0 +1,311 @@
+package net.techquiry.app.database;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import net.techquiry.app.common.Environment;
+
+/**
+ * The {@link IconCache} class is a cache of the encoded icons selected from the
+ * application database, keyed by their hash and size. The icons are copied to
+ * direct {@link ByteBuffer} objects outside the heap, whose total size is bound
+ * by a byte budget, and are evicted in least recently used order once the
+ * budget is exceeded. Icons larger than a fraction of the budget are never
+ * cached, so that a single icon cannot evict all the others. Since icons are
+ * addressed by their content, cached icons never become stale and thus never
+ * expire, but they can be invalidated once they are replaced so that their
+ * space is freed early. The hits, misses, evictions, size and used bytes of the
+ * cache are published as metrics.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+public final class IconCache implements MeterBinder {
+
+	/**
+	 * The name of the metric counting the lookups of the icon cache.
+	 */
+	private static final String GETS_METRIC = "techquiry.icon.cache.gets";
+
+	/**
+	 * The name of the metric counting the evictions of the icon cache.
+	 */
+	private static final String EVICTIONS_METRIC = "techquiry.icon.cache.evictions";
+
+	/**
+	 * The name of the metric measuring the number of cached icons.
+	 */
+	private static final String SIZE_METRIC = "techquiry.icon.cache.size";
+
+	/**
+	 * The name of the metric measuring the total size of the cached icons.
+	 */
+	private static final String USED_METRIC = "techquiry.icon.cache.used";
+
+	/**
+	 * The fraction of the budget that a single icon may at most occupy.
+	 */
+	private static final int MAX_ENTRY_FRACTION = 8;
+
+	/**
+	 * The maximum total size in bytes of the cached icons.
+	 */
+	private final long budget;
+
+	/**
+	 * The maximum size in bytes of a single cached icon.
+	 */
+	private final long maxEntrySize;
+
+	/**
+	 * The cached icons in least recently used order.
+	 */
+	private final Map<Key, ByteBuffer> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The lock guarding the cached icons, which does not pin the carrier of a
+	 * virtual thread waiting for it.
+	 */
+	private final Lock lock = new ReentrantLock();
+
+	/**
+	 * The total size in bytes of the cached icons.
+	 */
+	private long used;
+
+	/**
+	 * The number of icons that were obtained from the cache.
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * The number of icons that were not found in the cache.
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * The number of icons that were evicted because the budget was exceeded.
+	 */
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * This constructor constructs a new {@link IconCache} whose budget is defined
+	 * in the {@link Environment}.
+	 */
+	public IconCache() {
+		this(Environment.DB_ICON_CACHE_SIZE);
+	}
+
+	/**
+	 * This constructor constructs a new {@link IconCache} with the given budget. A
+	 * budget of 0 disables the caching of icons.
+	 *
+	 * @param budget The maximum total size of the cached icons in bytes
+	 */
+	public IconCache(long budget) {
+		this.budget = budget;
+		this.maxEntrySize = budget / MAX_ENTRY_FRACTION;
+	}
+
+	/**
+	 * This method returns the cached icon with the given hash and size, or null if
+	 * it is not cached. The returned buffer is read-only and has its own position,
+	 * so that it can be consumed independently of other callers.
+	 *
+	 * @param hash The hash of the icon
+	 * @param size The size of the icon, or null for the original icon
+	 * @return The cached icon or null if it is not cached
+	 */
+	public ByteBuffer get(String hash, Integer size) {
+		ByteBuffer buffer;
+		lock.lock();
+		try {
+			buffer = entries.get(new Key(hash, size));
+		} finally {
+			lock.unlock();
+		}
+		if (buffer == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return buffer.duplicate();
+	}
+
+	/**
+	 * This method caches the given icon with the given hash and size, evicting the
+	 * least recently used icons if the budget is exceeded, and returns it as a
+	 * read-only buffer. Icons that are too large to be cached are returned without
+	 * being copied.
+	 *
+	 * @param hash The hash of the icon
+	 * @param size The size of the icon, or null for the original icon
+	 * @param data The encoded icon
+	 * @return The icon as a read-only buffer
+	 */
+	public ByteBuffer put(String hash, Integer size, byte[] data) {
+		if (!isCacheable(data.length)) {
+			return ByteBuffer.wrap(data).asReadOnlyBuffer();
+		}
+		ByteBuffer buffer = ByteBuffer.allocateDirect(data.length).put(data).flip().asReadOnlyBuffer();
+		lock.lock();
+		try {
+			ByteBuffer previous = entries.put(new Key(hash, size), buffer);
+			if (previous != null) {
+				used -= previous.capacity();
+			}
+			used += buffer.capacity();
+			Iterator<ByteBuffer> iterator = entries.values().iterator();
+			while (used > budget && iterator.hasNext()) {
+				used -= iterator.next().capacity();
+				iterator.remove();
+				evictions.increment();
+			}
+		} finally {
+			lock.unlock();
+		}
+		return buffer.duplicate();
+	}
+
+	/**
+	 * This method checks whether an icon of the given length is small enough to be
+	 * cached.
+	 *
+	 * @param length The length of the icon in bytes
+	 * @return Whether the icon can be cached
+	 */
+	public boolean isCacheable(long length) {
+		return budget > 0 && length <= maxEntrySize;
+	}
+
+	/**
+	 * This method removes every size of the icon with the given hash from the
+	 * cache.
+	 *
+	 * @param hash The hash of the icon
+	 */
+	public void invalidate(String hash) {
+		lock.lock();
+		try {
+			Iterator<Map.Entry<Key, ByteBuffer>> iterator = entries.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<Key, ByteBuffer> entry = iterator.next();
+				if (entry.getKey().hash().equals(hash)) {
+					used -= entry.getValue().capacity();
+					iterator.remove();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method removes all icons from the cache.
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			entries.clear();
+			used = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method returns the number of icons currently in the cache.
+	 *
+	 * @return The number of cached icons
+	 */
+	public int getSize() {
+		lock.lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method returns the total size in bytes of the icons currently in the
+	 * cache.
+	 *
+	 * @return The total size of the cached icons
+	 */
+	public long getUsedBytes() {
+		lock.lock();
+		try {
+			return used;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method returns the number of icons that were obtained from the cache.
+	 *
+	 * @return The number of cache hits
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * This method returns the number of icons that were not found in the cache.
+	 *
+	 * @return The number of cache misses
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * This method returns the number of icons that were evicted from the cache
+	 * because the budget was exceeded.
+	 *
+	 * @return The number of cache evictions
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * This method publishes the hits, misses, evictions, size and used bytes of
+	 * the cache to the given {@link MeterRegistry}.
+	 *
+	 * @param registry The registry to publish the metrics to
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(GETS_METRIC, this, IconCache::getHitCount).description("The lookups of the icon cache").tag("result", "hit").register(registry);
+		FunctionCounter.builder(GETS_METRIC, this, IconCache::getMissCount).description("The lookups of the icon cache").tag("result", "miss").register(registry);
+		FunctionCounter.builder(EVICTIONS_METRIC, this, IconCache::getEvictionCount).description("The evictions of the icon cache").register(registry);
+		Gauge.builder(SIZE_METRIC, this, IconCache::getSize).description("The number of cached icons").register(registry);
+		Gauge.builder(USED_METRIC, this, IconCache::getUsedBytes).description("The total size of the cached icons").baseUnit(BaseUnits.BYTES).register(registry);
+	}
+
+	/**
+	 * The {@link Key} record identifies a cached icon.
+	 *
+	 * @param hash The hash of the icon
+	 * @param size The size of the icon, or null for the original icon
+	 */
+	private record Key(String hash, Integer size) {
+	}
+
+}
@@ -8,6 +8,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -44,13 +45,13 @@ public class LocalResult implements Iterable<Map<String, Object>> {
 
 	/**
 	 * This method returns an iterator that iterates through the rows/maps of the
-	 * result. Any changes made by the iterator will NOT affect the result.
+	 * result without copying them. The iterator does NOT support removing rows.
 	 * 
 	 * @return An iterator of the data
 	 */
 	@Override
 	public Iterator<Map<String, Object>> iterator() {
-		return list().iterator();
+		return Collections.unmodifiableList(result).iterator();
 	}
 
 	/**
@@ -0,0 +1,25 @@
+package net.techquiry.app.database;
+
+import java.io.IOException;
+
+/**
+ * The {@link RowHandler} interface defines how the objects mapped from the rows
+ * of a streamed query are consumed, one at a time, while the query is still
+ * being executed.
+ *
+ * @param <T> The type of the handled objects
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface RowHandler<T> {
+
+	/**
+	 * This method consumes the given object mapped from the current row.
+	 *
+	 * @param row The mapped object
+	 * @throws IOException If an error occurs while writing the object
+	 */
+	void handle(T row) throws IOException;
+
+}
@@ -0,0 +1,60 @@
+package net.techquiry.app.database;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import net.techquiry.app.database.exception.DatabaseException;
+
+/**
+ * The {@link RowMapper} interface defines how the rows of a {@link ResultSet}
+ * are converted directly into objects of type {@link T}, without copying them
+ * to a {@link LocalResult} first. The indexes of the columns read by the mapper
+ * are resolved once per executed statement and handed to every
+ * {@link #mapRow(ResultSet, int[])} invocation.
+ *
+ * @param <T> The type of the mapped objects
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+public interface RowMapper<T> {
+
+	/**
+	 * This method returns the labels of the columns read by the mapper. The
+	 * resolved indexes are passed to {@link #mapRow(ResultSet, int[])} in the
+	 * same order.
+	 *
+	 * @return The labels of the required columns
+	 */
+	String[] getColumns();
+
+	/**
+	 * This method converts the current row of the given {@link ResultSet} into an
+	 * object of type {@link T}.
+	 *
+	 * @param resultSet The result set positioned on the row to map
+	 * @param columns   The indexes of the columns returned by
+	 *                  {@link #getColumns()}
+	 * @return The mapped object
+	 * @throws SQLException      If an error occurs while reading the row
+	 * @throws DatabaseException If the row contains invalid data
+	 */
+	T mapRow(ResultSet resultSet, int[] columns) throws SQLException, DatabaseException;
+
+	/**
+	 * This method resolves the indexes of the columns returned by
+	 * {@link #getColumns()} in the given {@link ResultSet}.
+	 *
+	 * @param resultSet The result set to resolve the columns in
+	 * @return The indexes of the required columns
+	 * @throws SQLException If a required column is missing
+	 */
+	default int[] resolveColumns(ResultSet resultSet) throws SQLException {
+		String[] labels = getColumns();
+		int[] columns = new int[labels.length];
+		for (int i = 0; i < labels.length; i++) {
+			columns[i] = resultSet.findColumn(labels[i]);
+		}
+		return columns;
+	}
+
+}
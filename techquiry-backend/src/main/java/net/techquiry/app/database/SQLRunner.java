@@ -2,43 +2,126 @@ package net.techquiry.app.database;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.sql.Connection;
-import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.common.Constants;
+import net.techquiry.app.common.Environment;
+import net.techquiry.app.database.exception.DatabaseException;
 import net.techquiry.app.database.exception.SQLRunnerException;
 import net.techquiry.app.database.exception.SQLRunnerExecuteException;
 import net.techquiry.app.database.exception.SQLRunnerLoadException;
 
 /**
  * The {@link SQLRunner} class is responsible for executing the provided SQL
- * scripts on the predefined connection with the application's database.
+ * scripts on the predefined connection with the application's database. While
+ * a {@link UnitOfWork} is active on the current thread, the scripts run on its
+ * connection and are committed or rolled back along with it. The number and
+ * duration of the executions of every script loaded by its path are published
+ * to the {@link MeterRegistry}, while the individual statements exceeding the
+ * threshold of the {@link SlowQueryLog} are reported to it.
  * 
  * @author Aggelowe
  * @since 0.0.1
  */
 @Component
-@RequiredArgsConstructor
+@Log4j2
 public final class SQLRunner {
 
 	/**
-	 * This object represents the connection with the SQLite database.
+	 * The name of the timer recording the executions of the SQL scripts.
+	 */
+	private static final String EXECUTION_METRIC = "techquiry.sql.execution";
+
+	/**
+	 * This object represents the connection with the SQLite database, used for
+	 * every script that may modify it.
 	 */
 	private final DataSource dataSource;
 
+	/**
+	 * This object represents the connection with the SQLite database used for the
+	 * read-only scripts. It may be the same as {@link #dataSource}.
+	 */
+	private final DataSource readDataSource;
+
+	/**
+	 * The registry holding the already parsed SQL scripts of the application.
+	 */
+	private final SQLScriptRegistry registry;
+
+	/**
+	 * The cache holding the compiled statements of each connection.
+	 */
+	private final StatementCache cache;
+
+	/**
+	 * The unit of work whose connection is used while it is active.
+	 */
+	private final UnitOfWork unitOfWork;
+
+	/**
+	 * The registry the execution metrics are published to.
+	 */
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * The log the slow statement executions are reported to.
+	 */
+	private final SlowQueryLog slowQueryLog;
+
+	/**
+	 * The timers of the successful executions, mapped by script path.
+	 */
+	private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+
+	/**
+	 * The timers of the failed executions, mapped by script path.
+	 */
+	private final Map<String, Timer> errorTimers = new ConcurrentHashMap<>();
+
+	/**
+	 * This constructor constructs a new {@link SQLRunner} executing the scripts on
+	 * the given data sources.
+	 *
+	 * @param dataSource     The data source for the scripts that may modify the
+	 *                       database
+	 * @param readDataSource The data source for the read-only scripts
+	 * @param registry       The registry holding the parsed SQL scripts
+	 * @param cache          The cache holding the compiled statements
+	 * @param unitOfWork     The unit of work binding connections to threads
+	 * @param meterRegistry  The registry to publish the execution metrics to
+	 * @param slowQueryLog   The log to report the slow statement executions to
+	 */
+	public SQLRunner(DataSource dataSource, @Qualifier(Constants.DATABASE_READ_SOURCE) DataSource readDataSource, SQLScriptRegistry registry, StatementCache cache, UnitOfWork unitOfWork, MeterRegistry meterRegistry,
+			SlowQueryLog slowQueryLog) {
+		this.dataSource = dataSource;
+		this.readDataSource = readDataSource;
+		this.registry = registry;
+		this.cache = cache;
+		this.unitOfWork = unitOfWork;
+		this.meterRegistry = meterRegistry;
+		this.slowQueryLog = slowQueryLog;
+	}
+
 	/**
 	 * This method loads the SQL statements from the provided {@link InputStream}
 	 * pointing to the SQL script file, executes them on the preset connection and
@@ -51,28 +134,165 @@ public final class SQLRunner {
 	 *                            script
 	 */
 	public List<LocalResult> runScript(InputStream stream, Object... parameters) throws SQLRunnerException {
-		try (Connection connection = dataSource.getConnection()) {
-			List<PreparedStatement> statements = loadStatements(connection, stream);
-			return executeStatements(connection, statements, parameters);
-		} catch (SQLException exception) {
-			throw new SQLRunnerExecuteException("Could not get database connection!", exception);
-		}
+		SQLScript script = SQLScript.parse(stream);
+		return runScript(script, parameters);
 	}
 
 	/**
-	 * This method loads the SQL statements from the SQL script file with the given
-	 * path, executes them on the preset connection and returns the {@link List}
-	 * containing the {@link LocalResult} objects.
+	 * This method obtains the already parsed SQL script with the given path from
+	 * the {@link SQLScriptRegistry}, executes its statements on the preset
+	 * connection and returns the {@link List} containing the {@link LocalResult}
+	 * objects.
 	 * 
-	 * @param stream     The stream reading the file containing the SQL statements
+	 * @param path       The classpath path of the file containing the SQL
+	 *                   statements
 	 * @param parameters The parameters for the statements
 	 * @return The list of {@link LocalResult} objects
 	 * @throws SQLRunnerException If an error occurs while loading or running the
 	 *                            script
 	 */
 	public List<LocalResult> runScript(String path, Object... parameters) throws SQLRunnerException {
-		InputStream stream = SQLRunner.class.getResourceAsStream(path);
-		return runScript(stream, parameters);
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			SQLScript script = registry.getScript(path);
+			List<LocalResult> results = executeScript(path, script, parameters);
+			success = true;
+			return results;
+		} finally {
+			record(path, start, success);
+		}
+	}
+
+	/**
+	 * This method prepares the statements of the given parsed {@link SQLScript},
+	 * executes them on the preset connection and returns the {@link List}
+	 * containing the {@link LocalResult} objects.
+	 * 
+	 * @param script     The parsed SQL script
+	 * @param parameters The parameters for the statements
+	 * @return The list of {@link LocalResult} objects
+	 * @throws SQLRunnerException If an error occurs while preparing or running the
+	 *                            script
+	 */
+	public List<LocalResult> runScript(SQLScript script, Object... parameters) throws SQLRunnerException {
+		return executeScript(null, script, parameters);
+	}
+
+	/**
+	 * This method obtains the already parsed SQL script with the given path from
+	 * the {@link SQLScriptRegistry}, executes its statements on the preset
+	 * connection and returns the number of rows returned by the last statement.
+	 * For conditional writes ending with a <code>RETURNING</code> clause, this is
+	 * the number of affected rows, so that the outcome of the write is known
+	 * without a separate check.
+	 * 
+	 * @param path       The classpath path of the file containing the SQL
+	 *                   statements
+	 * @param parameters The parameters for the statements
+	 * @return The number of rows returned by the last statement
+	 * @throws SQLRunnerException If an error occurs while loading or running the
+	 *                            script or if the last statement did not return
+	 *                            any result
+	 */
+	public int runConditional(String path, Object... parameters) throws SQLRunnerException {
+		List<LocalResult> results = runScript(path, parameters);
+		LocalResult result = results.isEmpty() ? null : results.getLast();
+		if (result == null) {
+			throw new SQLRunnerExecuteException("The last SQL statement did not return any result!");
+		}
+		return result.list().size();
+	}
+
+	/**
+	 * This method obtains the already parsed SQL script with the given path from
+	 * the {@link SQLScriptRegistry}, executes its statements on the preset
+	 * connection and maps the rows returned by the last statement of the script
+	 * directly to objects using the given {@link RowMapper}.
+	 * 
+	 * @param <T>        The type of the mapped objects
+	 * @param path       The classpath path of the file containing the SQL
+	 *                   statements
+	 * @param mapper     The mapper converting the rows to objects
+	 * @param parameters The parameters for the statements
+	 * @return The list of mapped objects, or null if the last statement did not
+	 *         return any result
+	 * @throws DatabaseException If an error occurs while loading or running the
+	 *                           script or while mapping the rows
+	 */
+	public <T> List<T> runQuery(String path, RowMapper<T> mapper, Object... parameters) throws DatabaseException {
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			SQLScript script = registry.getScript(path);
+			List<T> mapped;
+			Connection bound = unitOfWork.getConnection();
+			if (bound != null) {
+				mapped = executeQuery(bound, path, script, mapper, parameters);
+			} else {
+				try (Connection connection = route(script.isReadOnly()).getConnection()) {
+					try {
+						mapped = executeQuery(connection, path, script, mapper, parameters);
+					} finally {
+						reset(connection);
+					}
+				} catch (SQLException exception) {
+					throw new SQLRunnerExecuteException("Could not get database connection!", exception);
+				}
+			}
+			success = true;
+			return mapped;
+		} finally {
+			record(path, start, success);
+		}
+	}
+
+	/**
+	 * This method obtains the already parsed SQL script with the given path from
+	 * the {@link SQLScriptRegistry}, executes its statements on the preset
+	 * connection and passes the rows returned by every statement of the script to
+	 * the given {@link RowHandler} as they are read, after mapping them with the
+	 * given {@link RowMapper}. The rows are never collected, so that arbitrarily
+	 * large results can be processed with constant memory. All statements run in
+	 * a single transaction, so that they observe the same state of the database.
+	 * The recorded duration of the execution includes the handling of the rows.
+	 * 
+	 * @param <T>        The type of the mapped objects
+	 * @param path       The classpath path of the file containing the SQL
+	 *                   statements
+	 * @param mapper     The mapper converting the rows to objects
+	 * @param handler    The handler consuming the mapped objects
+	 * @param parameters The parameters for the statements
+	 * @return The number of handled rows
+	 * @throws DatabaseException If an error occurs while loading or running the
+	 *                           script or while mapping the rows
+	 * @throws IOException       If an error occurs while handling the rows
+	 */
+	public <T> int runStream(String path, RowMapper<T> mapper, RowHandler<T> handler, Object... parameters) throws DatabaseException, IOException {
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			SQLScript script = registry.getScript(path);
+			int count;
+			Connection bound = unitOfWork.getConnection();
+			if (bound != null) {
+				count = executeStream(bound, path, script, mapper, handler, parameters);
+			} else {
+				try (Connection connection = route(script.isReadOnly()).getConnection()) {
+					try {
+						count = executeStream(connection, path, script, mapper, handler, parameters);
+					} finally {
+						reset(connection);
+					}
+				} catch (SQLException exception) {
+					throw new SQLRunnerExecuteException("Could not get database connection!", exception);
+				}
+			}
+			success = true;
+			return count;
+		} finally {
+			record(path, start, success);
+		}
 	}
 
 	/**
@@ -86,19 +306,128 @@ public final class SQLRunner {
 	 *                            script
 	 */
 	public LocalResult runStatement(String statement, Object... parameters) throws SQLRunnerException {
+		Connection bound = unitOfWork.getConnection();
+		if (bound != null) {
+			return executeSingle(bound, statement, parameters);
+		}
+		try (Connection connection = route(SQLStatement.isReadOnly(statement)).getConnection()) {
+			try {
+				return executeSingle(connection, statement, parameters);
+			} finally {
+				reset(connection);
+			}
+		} catch (SQLException exception) {
+			throw new SQLRunnerExecuteException("Could not get database connection!", exception);
+		}
+	}
+
+	/**
+	 * This method obtains the already parsed SQL script with the given path from
+	 * the {@link SQLScriptRegistry} and executes its only statement once for each
+	 * of the given parameter sets, in chunks of the size defined in the
+	 * {@link Environment}.
+	 * 
+	 * @param path       The classpath path of the file containing the SQL
+	 *                   statement
+	 * @param parameters The parameter sets of the statement
+	 * @return The total number of updated rows
+	 * @throws SQLRunnerException If an error occurs while loading or running the
+	 *                            script
+	 * @see #runBatch(SQLScript, List, int)
+	 */
+	public int runBatch(String path, List<Object[]> parameters) throws SQLRunnerException {
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			int updated = executeBatchScript(path, registry.getScript(path), parameters, Environment.DB_BATCH_SIZE);
+			success = true;
+			return updated;
+		} finally {
+			record(path, start, success);
+		}
+	}
+
+	/**
+	 * This method executes the only statement of the given parsed
+	 * {@link SQLScript} once for each of the given parameter sets. The statement
+	 * is prepared once and the parameter sets are sent to the database in batches
+	 * of the given chunk size, each of which is committed as a single transaction.
+	 * If a chunk fails, it is rolled back, while the chunks preceding it remain
+	 * committed.
+	 * 
+	 * @param script     The parsed SQL script
+	 * @param parameters The parameter sets of the statement
+	 * @param chunkSize  The number of parameter sets committed together
+	 * @return The total number of updated rows
+	 * @throws SQLRunnerException If the script does not contain exactly one
+	 *                            statement or an error occurs while running it
+	 */
+	public int runBatch(SQLScript script, List<Object[]> parameters, int chunkSize) throws SQLRunnerException {
+		return executeBatchScript(null, script, parameters, chunkSize);
+	}
+
+	/**
+	 * This method executes the statements of the given parsed {@link SQLScript} on
+	 * the connection bound to the active {@link UnitOfWork}, or on a connection of
+	 * the data source matching the access mode of the script.
+	 * 
+	 * @param path       The classpath path of the script, or null if it was not
+	 *                   loaded by its path
+	 * @param script     The parsed SQL script
+	 * @param parameters The parameters for the statements
+	 * @return The list of {@link LocalResult} objects
+	 * @throws SQLRunnerException If an error occurs while preparing or running the
+	 *                            script
+	 */
+	private List<LocalResult> executeScript(String path, SQLScript script, Object... parameters) throws SQLRunnerException {
+		Connection bound = unitOfWork.getConnection();
+		if (bound != null) {
+			return executeStatements(bound, path, script, parameters);
+		}
+		try (Connection connection = route(script.isReadOnly()).getConnection()) {
+			try {
+				return executeStatements(connection, path, script, parameters);
+			} finally {
+				reset(connection);
+			}
+		} catch (SQLException exception) {
+			throw new SQLRunnerExecuteException("Could not get database connection!", exception);
+		}
+	}
+
+	/**
+	 * This method executes the only statement of the given parsed
+	 * {@link SQLScript} once for each of the given parameter sets, in batches of
+	 * the given chunk size.
+	 * 
+	 * @param path       The classpath path of the script, or null if it was not
+	 *                   loaded by its path
+	 * @param script     The parsed SQL script
+	 * @param parameters The parameter sets of the statement
+	 * @param chunkSize  The number of parameter sets committed together
+	 * @return The total number of updated rows
+	 * @throws SQLRunnerException If the script does not contain exactly one
+	 *                            statement or an error occurs while running it
+	 * @see #runBatch(SQLScript, List, int)
+	 */
+	private int executeBatchScript(String path, SQLScript script, List<Object[]> parameters, int chunkSize) throws SQLRunnerException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("The chunk size must be positive!");
+		}
+		List<SQLStatement> statements = script.getStatements();
+		if (statements.size() != 1) {
+			throw new SQLRunnerLoadException("Batched SQL scripts must contain exactly one statement!");
+		}
+		String sql = statements.getFirst().getText();
+		Connection bound = unitOfWork.getConnection();
+		if (bound != null) {
+			return executeBatch(bound, path, sql, parameters, chunkSize);
+		}
 		try (Connection connection = dataSource.getConnection()) {
 			try {
-				PreparedStatement prepared = connection.prepareStatement(statement);
-				LocalResult result = executeStatement(prepared, parameters);
-				connection.commit();
-				return result;
-			} catch (SQLException exception) {
-				try {
-					connection.rollback();
-				} catch (SQLException rollback) {
-					throw new SQLRunnerExecuteException("Could not rollback failed transaction!", rollback);
-				}
-				throw new SQLRunnerExecuteException("Could not execute SQL statement!", exception);
+				return executeBatch(connection, path, sql, parameters, chunkSize);
+			} finally {
+				reset(connection);
 			}
 		} catch (SQLException exception) {
 			throw new SQLRunnerExecuteException("Could not get database connection!", exception);
@@ -106,131 +435,175 @@ public final class SQLRunner {
 	}
 
 	/**
-	 * The {@link #loadStatement(InputStream)} method parses the SQL statements from
-	 * the provided {@link InputStream} pointing to the SQL script file and
-	 * generates the {@link List} containing the {@link PreparedStatement} objects,
-	 * ready to be executed.
+	 * This method records an execution of the script with the given path, which
+	 * started at the given time, to the timer matching its outcome.
+	 * 
+	 * @param path    The classpath path of the executed script
+	 * @param start   The value of {@link System#nanoTime()} at which the execution
+	 *                started
+	 * @param success Whether the execution completed successfully
+	 */
+	private void record(String path, long start, boolean success) {
+		long duration = System.nanoTime() - start;
+		Map<String, Timer> timers = success ? successTimers : errorTimers;
+		Timer timer = timers.computeIfAbsent(path, key -> Timer.builder(EXECUTION_METRIC).description("The executions of the SQL scripts").tag("script", key).tag("outcome", success ? "success" : "error").register(meterRegistry));
+		timer.record(duration, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * This method returns the data source that scripts with the given access mode
+	 * must be executed on.
+	 * 
+	 * @param readOnly Whether the script is read-only
+	 * @return The data source to obtain the connection from
+	 */
+	private DataSource route(boolean readOnly) {
+		return readOnly ? readDataSource : dataSource;
+	}
+
+	/**
+	 * The {@link #loadStatement(Connection, String)} method obtains the prepared
+	 * statement with the given text from the {@link StatementCache}, ready to be
+	 * executed. Statements are prepared right before they are executed, so that a
+	 * statement may refer to the objects created by the preceding statements of
+	 * the same script.
 	 * 
 	 * @param connection The connection to the database
-	 * @param stream     The stream reading the file containing the SQL statements
-	 * @return The list of {@link PreparedStatement} objects
-	 * @throws SQLRunnerLoadException If an error occurs while the statements are
-	 *                                being loaded
-	 */
-	private List<PreparedStatement> loadStatements(Connection connection, InputStream stream) throws SQLRunnerLoadException {
-		List<PreparedStatement> statements = new LinkedList<>();
-		StringBuilder commandBuilder = new StringBuilder();
-		int mode = 0;
-		char previous = (char) -1;
-		int code;
-		try (InputStreamReader reader = new InputStreamReader(stream)) {
-			while ((code = reader.read()) != -1) {
-				char character = (char) code;
-				switch (mode) {
-					case 0: {
-						if (character == '"') {
-							mode = 1;
-						}
-						if (character == '\'') {
-							mode = 2;
-						}
-						if (character == '*' && previous == '/') {
-							mode = 3;
-							commandBuilder.deleteCharAt(commandBuilder.length() - 1);
-							continue;
-						}
-						if (character == '-' && previous == '-') {
-							mode = 4;
-							commandBuilder.deleteCharAt(commandBuilder.length() - 1);
-							continue;
-						}
-						if (character == '\n' || character == '\t') {
-							if (previous != ' ' && previous != '\n' && previous != '\t') {
-								commandBuilder.append(' ');
-							}
-						} else {
-							commandBuilder.append(character);
-						}
-						if (character == ';') {
-							String command = commandBuilder.toString();
-							command = command.trim();
-							commandBuilder = new StringBuilder();
-							if (command.length() != 1) {
-								PreparedStatement statement = connection.prepareStatement(command);
-								statements.add(statement);
-							}
-						}
-						break;
-					}
-					case 1: {
-						if (character == '"') {
-							mode = 0;
-						}
-						commandBuilder.append(character);
-						break;
-					}
-					case 2: {
-						if (character == '\'' && previous != '\'') {
-							mode = 0;
-						}
-						commandBuilder.append(character);
-						break;
-					}
-					case 3: {
-						if (character == '/' && previous == '*') {
-							mode = 0;
-						}
-						break;
-					}
-					case 4: {
-						if (character == '\n') {
-							mode = 0;
-						}
-						break;
-					}
-				}
-				previous = character;
+	 * @param sql        The text of the statement
+	 * @return The {@link PreparedStatement} object
+	 * @throws SQLRunnerLoadException If an error occurs while the statement is
+	 *                                being prepared
+	 */
+	private PreparedStatement loadStatement(Connection connection, String sql) throws SQLRunnerLoadException {
+		try {
+			return cache.prepare(connection, sql);
+		} catch (SQLException exception) {
+			throw new SQLRunnerLoadException("Could not construct SQL statement!", exception);
+		}
+	}
+
+	/**
+	 * This method hands the given statement back to the {@link StatementCache}, so
+	 * that it can be reused by later executions.
+	 * 
+	 * @param connection The connection to the database
+	 * @param sql        The text of the statement
+	 * @param statement  The statement to release
+	 */
+	private void releaseStatement(Connection connection, String sql, PreparedStatement statement) {
+		try {
+			cache.release(connection, sql, statement);
+		} catch (SQLException exception) {
+			log.warn("Could not release SQL statement!", exception);
+		}
+	}
+
+	/**
+	 * This method commits the current transaction of the given connection, unless
+	 * the connection is bound to the active {@link UnitOfWork}, which commits it
+	 * once it completes.
+	 * 
+	 * @param connection The connection to the database
+	 * @throws SQLException If the transaction could not be committed
+	 */
+	private void commit(Connection connection) throws SQLException {
+		if (connection != unitOfWork.getConnection()) {
+			connection.commit();
+		}
+	}
+
+	/**
+	 * This method rolls back the current transaction of the given connection,
+	 * unless the connection is bound to the active {@link UnitOfWork}, which
+	 * decides whether to roll back once the failure reaches it.
+	 * 
+	 * @param connection The connection to the database
+	 * @throws SQLRunnerExecuteException If the transaction could not be rolled back
+	 */
+	private void rollback(Connection connection) throws SQLRunnerExecuteException {
+		if (connection == unitOfWork.getConnection()) {
+			return;
+		}
+		try {
+			connection.rollback();
+		} catch (SQLException rollback) {
+			throw new SQLRunnerExecuteException("Could not rollback failed transaction!", rollback);
+		}
+	}
+
+	/**
+	 * This method rolls back whatever the given connection left uncommitted before
+	 * it is returned to the pool. Since the cached statements are prepared on the
+	 * physical connection, the pool does not notice their writes and would
+	 * otherwise hand out the connection with an open transaction, for example
+	 * after a {@link RowHandler} failed in the middle of a stream.
+	 * 
+	 * @param connection The connection to the database
+	 */
+	private void reset(Connection connection) {
+		try {
+			if (!connection.getAutoCommit()) {
+				connection.rollback();
 			}
-			String command = commandBuilder.toString();
-			command = command.trim();
-			if (!command.isEmpty()) {
-				PreparedStatement statement = connection.prepareStatement(command);
-				statements.add(statement);
+		} catch (SQLException exception) {
+			log.warn("Could not reset database connection!", exception);
+		}
+	}
+
+	/**
+	 * This method prepares the given statement, executes it on the given
+	 * connection and returns the output {@link LocalResult} object.
+	 * 
+	 * @param connection The connection to the database
+	 * @param sql        The text of the statement
+	 * @param parameters The parameters of the statement
+	 * @return The result of the execution of the statement
+	 * @throws SQLRunnerException If an error occurs while preparing or executing
+	 *                            the statement
+	 */
+	private LocalResult executeSingle(Connection connection, String sql, Object... parameters) throws SQLRunnerException {
+		try {
+			PreparedStatement prepared = cache.prepare(connection, sql);
+			try {
+				LocalResult result = executeStatement(connection, null, sql, prepared, parameters);
+				commit(connection);
+				return result;
+			} finally {
+				cache.release(connection, sql, prepared);
 			}
-		} catch (IOException exception) {
-			throw new SQLRunnerLoadException("Could not read SQL script!", exception);
 		} catch (SQLException exception) {
-			throw new SQLRunnerLoadException("Could not construct SQL statement!", exception);
+			rollback(connection);
+			throw new SQLRunnerExecuteException("Could not execute SQL statement!", exception);
 		}
-		return statements;
 	}
 
 	/**
 	 * This method executes the given SQL statement with the provided parameters in
 	 * the TechQuiry database and then returns the {@link LocalResult} containing
-	 * the results of the executed statement.
+	 * the results of the executed statement. Executions exceeding the threshold of
+	 * the {@link SlowQueryLog} are reported to it.
 	 * 
+	 * @param connection The connection the statement was prepared on
+	 * @param path       The classpath path of the script the statement belongs to,
+	 *                   or null if it was not loaded by its path
+	 * @param sql        The text of the statement
 	 * @param statement  The {@link PreparedStatement} to execute
 	 * @param parameters The parameters for the statement
 	 * @return The results of the execution
 	 * @throws SQLRunnerExecuteException If an error occurs while executing the
 	 *                                   statement
 	 */
-	private LocalResult executeStatement(PreparedStatement statement, Object... parameters) throws SQLRunnerExecuteException {
+	private LocalResult executeStatement(Connection connection, String path, String sql, PreparedStatement statement, Object... parameters) throws SQLRunnerExecuteException {
 		ResultSet result = null;
 		LocalResult local;
+		long start = System.nanoTime();
 		try {
 			try {
-				int index = 1;
-				for (Object parameter : parameters) {
-					statement.setObject(index, parameter);
-					index++;
-				}
+				bindParameters(statement, parameters);
 				statement.execute();
 				result = statement.getResultSet();
 				local = LocalResult.of(result);
 			} finally {
-				statement.close();
 				if (result != null) {
 					result.close();
 				}
@@ -238,47 +611,310 @@ public final class SQLRunner {
 		} catch (SQLException exception) {
 			throw new SQLRunnerExecuteException("Could not execute SQL statement!", exception);
 		}
+		slowQueryLog.check(connection, path, sql, parameters, System.nanoTime() - start);
 		return local;
 	}
 
 	/**
-	 * This method executes the given list of statements with the provided
-	 * parameters in TechQuiry's database and then returns a list containing the
-	 * result of each executed SQL statement.
+	 * This method prepares and executes the statements of the given parsed
+	 * {@link SQLScript} with the provided parameters in TechQuiry's database and
+	 * passes the rows returned by each of them to the given {@link RowHandler}
+	 * after mapping them using the given {@link RowMapper}.
 	 * 
+	 * @param <T>        The type of the mapped objects
 	 * @param connection The connection to the database
-	 * @param statements The list of statements to execute
+	 * @param path       The classpath path of the script, or null if it was not
+	 *                   loaded by its path
+	 * @param script     The parsed SQL script
+	 * @param mapper     The mapper converting the rows to objects
+	 * @param handler    The handler consuming the mapped objects
 	 * @param parameters The parameters for the statements
-	 * @return The list of the result of each executed statement
-	 * @throws SQLRunnerExecuteException If an error occurs while executing the
-	 *                                   statements
+	 * @return The number of handled rows
+	 * @throws DatabaseException If an error occurs while preparing or executing
+	 *                           the statements or while mapping the rows
+	 * @throws IOException       If an error occurs while handling the rows
 	 */
-	private List<LocalResult> executeStatements(Connection connection, List<PreparedStatement> statements, Object... parameters)
-			throws SQLRunnerExecuteException {
-		List<LocalResult> results = new ArrayList<>(statements.size());
+	private <T> int executeStream(Connection connection, String path, SQLScript script, RowMapper<T> mapper, RowHandler<T> handler, Object... parameters) throws DatabaseException, IOException {
+		List<SQLStatement> parsed = script.getStatements();
+		Object[][] distributed = distributeParameters(script, parameters);
+		int count = 0;
 		try {
-			for (PreparedStatement statement : statements) {
-				if (statement == null) {
-					continue;
+			for (int i = 0; i < parsed.size(); i++) {
+				String sql = parsed.get(i).getText();
+				PreparedStatement statement = loadStatement(connection, sql);
+				try {
+					count += streamStatement(connection, path, sql, statement, mapper, handler, distributed[i]);
+				} finally {
+					releaseStatement(connection, sql, statement);
 				}
-				int len = parameters.length;
-				ParameterMetaData meta = statement.getParameterMetaData();
-				int max = Math.min(meta.getParameterCount(), parameters.length);
-				Object[] passed = Arrays.copyOf(parameters, max);
-				parameters = Arrays.copyOfRange(parameters, max, len);
-				LocalResult result = executeStatement(statement, passed);
-				results.add(result);
 			}
-			connection.commit();
+			commit(connection);
+		} catch (DatabaseException | IOException exception) {
+			rollback(connection);
+			throw exception;
 		} catch (SQLException exception) {
-			try {
-				connection.rollback();
-			} catch (SQLException rollback) {
-				throw new SQLRunnerExecuteException("Could not rollback failed transaction!", rollback);
+			rollback(connection);
+			throw new SQLRunnerExecuteException("Could not execute SQL statements!", exception);
+		}
+		return count;
+	}
+
+	/**
+	 * This method prepares the given statement once and executes it for each of
+	 * the given parameter sets using JDBC batches, committing after every chunk of
+	 * the given size. Chunks exceeding the threshold of the {@link SlowQueryLog}
+	 * are reported to it along with their first parameter set.
+	 * 
+	 * @param connection The connection to the database
+	 * @param path       The classpath path of the script, or null if it was not
+	 *                   loaded by its path
+	 * @param sql        The text of the statement
+	 * @param parameters The parameter sets of the statement
+	 * @param chunkSize  The number of parameter sets committed together
+	 * @return The total number of updated rows
+	 * @throws SQLRunnerException If an error occurs while preparing or executing
+	 *                            the statement
+	 */
+	private int executeBatch(Connection connection, String path, String sql, List<Object[]> parameters, int chunkSize) throws SQLRunnerException {
+		int updated = 0;
+		PreparedStatement statement = loadStatement(connection, sql);
+		try {
+			for (int start = 0; start < parameters.size(); start += chunkSize) {
+				int end = Math.min(start + chunkSize, parameters.size());
+				long begin = System.nanoTime();
+				for (Object[] set : parameters.subList(start, end)) {
+					bindParameters(statement, set);
+					statement.addBatch();
+				}
+				for (int count : statement.executeBatch()) {
+					updated += Math.max(count, 0);
+				}
+				slowQueryLog.check(connection, path, sql, parameters.get(start), System.nanoTime() - begin);
+				commit(connection);
+			}
+		} catch (SQLException exception) {
+			rollback(connection);
+			throw new SQLRunnerExecuteException("Could not execute SQL batch!", exception);
+		} finally {
+			releaseStatement(connection, sql, statement);
+		}
+		return updated;
+	}
+
+	/**
+	 * This method prepares and executes the statements of the given parsed
+	 * {@link SQLScript} with the provided parameters in TechQuiry's database and
+	 * then returns a list containing the result of each executed SQL statement.
+	 * The parameters are distributed to the statements in order, according to the
+	 * parameter counts of the script.
+	 * 
+	 * @param connection The connection to the database
+	 * @param path       The classpath path of the script, or null if it was not
+	 *                   loaded by its path
+	 * @param script     The parsed SQL script
+	 * @param parameters The parameters for the statements
+	 * @return The list of the result of each executed statement
+	 * @throws SQLRunnerException If an error occurs while preparing or executing
+	 *                            the statements
+	 */
+	private List<LocalResult> executeStatements(Connection connection, String path, SQLScript script, Object... parameters) throws SQLRunnerException {
+		List<SQLStatement> parsed = script.getStatements();
+		Object[][] distributed = distributeParameters(script, parameters);
+		List<LocalResult> results = new ArrayList<>(parsed.size());
+		try {
+			for (int i = 0; i < parsed.size(); i++) {
+				String sql = parsed.get(i).getText();
+				PreparedStatement statement = loadStatement(connection, sql);
+				try {
+					LocalResult result = executeStatement(connection, path, sql, statement, distributed[i]);
+					results.add(result);
+				} finally {
+					releaseStatement(connection, sql, statement);
+				}
 			}
+			commit(connection);
+		} catch (SQLRunnerException exception) {
+			rollback(connection);
+			throw exception;
+		} catch (SQLException exception) {
+			rollback(connection);
 			throw new SQLRunnerExecuteException("Could not execute SQL statements!", exception);
 		}
 		return results;
 	}
 
+	/**
+	 * This method prepares and executes the statements of the given parsed
+	 * {@link SQLScript} with the provided parameters in TechQuiry's database and
+	 * maps the rows returned by the last statement using the given
+	 * {@link RowMapper}. The results of the preceding statements are discarded.
+	 * 
+	 * @param <T>        The type of the mapped objects
+	 * @param connection The connection to the database
+	 * @param path       The classpath path of the script, or null if it was not
+	 *                   loaded by its path
+	 * @param script     The parsed SQL script
+	 * @param mapper     The mapper converting the rows to objects
+	 * @param parameters The parameters for the statements
+	 * @return The list of mapped objects, or null if the last statement did not
+	 *         return any result
+	 * @throws DatabaseException If an error occurs while preparing or executing
+	 *                           the statements or while mapping the rows
+	 */
+	private <T> List<T> executeQuery(Connection connection, String path, SQLScript script, RowMapper<T> mapper, Object... parameters) throws DatabaseException {
+		List<SQLStatement> parsed = script.getStatements();
+		Object[][] distributed = distributeParameters(script, parameters);
+		List<T> mapped = null;
+		try {
+			int last = parsed.size() - 1;
+			for (int i = 0; i <= last; i++) {
+				String sql = parsed.get(i).getText();
+				PreparedStatement statement = loadStatement(connection, sql);
+				try {
+					if (i == last) {
+						mapped = mapStatement(connection, path, sql, statement, mapper, distributed[i]);
+					} else {
+						executeStatement(connection, path, sql, statement, distributed[i]);
+					}
+				} finally {
+					releaseStatement(connection, sql, statement);
+				}
+			}
+			commit(connection);
+		} catch (DatabaseException exception) {
+			rollback(connection);
+			throw exception;
+		} catch (SQLException exception) {
+			rollback(connection);
+			throw new SQLRunnerExecuteException("Could not execute SQL statements!", exception);
+		}
+		return mapped;
+	}
+
+	/**
+	 * This method executes the given SQL statement with the provided parameters in
+	 * the TechQuiry database and maps each returned row using the given
+	 * {@link RowMapper}, resolving the required column indexes once. Executions
+	 * exceeding the threshold of the {@link SlowQueryLog} are reported to it.
+	 * 
+	 * @param <T>        The type of the mapped objects
+	 * @param connection The connection the statement was prepared on
+	 * @param path       The classpath path of the script the statement belongs to,
+	 *                   or null if it was not loaded by its path
+	 * @param sql        The text of the statement
+	 * @param statement  The {@link PreparedStatement} to execute
+	 * @param mapper     The mapper converting the rows to objects
+	 * @param parameters The parameters for the statement
+	 * @return The list of mapped objects, or null if the statement did not return
+	 *         any result
+	 * @throws DatabaseException If an error occurs while executing the statement or
+	 *                           while mapping the rows
+	 */
+	private <T> List<T> mapStatement(Connection connection, String path, String sql, PreparedStatement statement, RowMapper<T> mapper, Object... parameters) throws DatabaseException {
+		List<T> mapped = null;
+		long start = System.nanoTime();
+		try {
+			bindParameters(statement, parameters);
+			statement.execute();
+			try (ResultSet result = statement.getResultSet()) {
+				if (result != null) {
+					int[] columns = mapper.resolveColumns(result);
+					mapped = new ArrayList<>();
+					while (result.next()) {
+						mapped.add(mapper.mapRow(result, columns));
+					}
+				}
+			}
+		} catch (SQLException exception) {
+			throw new SQLRunnerExecuteException("Could not execute SQL statement!", exception);
+		}
+		slowQueryLog.check(connection, path, sql, parameters, System.nanoTime() - start);
+		return mapped;
+	}
+
+	/**
+	 * This method executes the given statement with the provided parameters and
+	 * passes each returned row to the given {@link RowHandler} as soon as it has
+	 * been mapped using the given {@link RowMapper}. The time spent by the handler
+	 * is excluded from the elapsed time reported to the {@link SlowQueryLog}, so
+	 * that slow consumers are not mistaken for slow statements.
+	 * 
+	 * @param <T>        The type of the mapped objects
+	 * @param connection The connection the statement was prepared on
+	 * @param path       The classpath path of the script the statement belongs to,
+	 *                   or null if it was not loaded by its path
+	 * @param sql        The text of the statement
+	 * @param statement  The statement to execute
+	 * @param mapper     The mapper converting the rows to objects
+	 * @param handler    The handler consuming the mapped objects
+	 * @param parameters The parameters for the statement
+	 * @return The number of handled rows
+	 * @throws DatabaseException If an error occurs while executing the statement
+	 *                           or while mapping the rows
+	 * @throws IOException       If an error occurs while handling the rows
+	 */
+	private <T> int streamStatement(Connection connection, String path, String sql, PreparedStatement statement, RowMapper<T> mapper, RowHandler<T> handler, Object... parameters) throws DatabaseException, IOException {
+		int count = 0;
+		long start = System.nanoTime();
+		long handling = 0;
+		try {
+			bindParameters(statement, parameters);
+			statement.execute();
+			try (ResultSet result = statement.getResultSet()) {
+				if (result != null) {
+					int[] columns = mapper.resolveColumns(result);
+					while (result.next()) {
+						T row = mapper.mapRow(result, columns);
+						long handled = System.nanoTime();
+						handler.handle(row);
+						handling += System.nanoTime() - handled;
+						count++;
+					}
+				}
+			}
+		} catch (SQLException exception) {
+			throw new SQLRunnerExecuteException("Could not execute SQL statement!", exception);
+		}
+		slowQueryLog.check(connection, path, sql, parameters, System.nanoTime() - start - handling);
+		return count;
+	}
+
+	/**
+	 * This method binds the given parameters to the given statement in order.
+	 * 
+	 * @param statement  The statement to bind the parameters to
+	 * @param parameters The parameters to bind
+	 * @throws SQLException If a parameter could not be bound
+	 */
+	private void bindParameters(PreparedStatement statement, Object... parameters) throws SQLException {
+		int index = 1;
+		for (Object parameter : parameters) {
+			statement.setObject(index, parameter);
+			index++;
+		}
+	}
+
+	/**
+	 * This method distributes the given parameters to the statements of the given
+	 * parsed {@link SQLScript} in order, according to the parameter count of each
+	 * statement.
+	 * 
+	 * @param script     The parsed SQL script
+	 * @param parameters The parameters for the statements
+	 * @return The parameters of each statement
+	 */
+	private Object[][] distributeParameters(SQLScript script, Object... parameters) {
+		List<SQLStatement> parsed = script.getStatements();
+		Object[][] distributed = new Object[parsed.size()][];
+		int offset = 0;
+		for (int i = 0; i < distributed.length; i++) {
+			int count = parsed.get(i).getParameterCount();
+			int start = Math.min(offset, parameters.length);
+			int end = Math.min(offset + count, parameters.length);
+			distributed[i] = Arrays.copyOfRange(parameters, start, end);
+			offset += count;
+		}
+		return distributed;
+	}
+
 }
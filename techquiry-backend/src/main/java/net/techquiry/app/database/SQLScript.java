@@ -0,0 +1,208 @@
+package net.techquiry.app.database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import net.techquiry.app.database.exception.SQLRunnerLoadException;
+
+/**
+ * The {@link SQLScript} class represents an SQL script that has been parsed
+ * into an immutable list of {@link SQLStatement} objects, so that it can be
+ * executed repeatedly without being read again.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString
+public final class SQLScript {
+
+	/**
+	 * The pattern matching the beginning of a trigger definition.
+	 */
+	private static final Pattern TRIGGER_PATTERN = Pattern.compile("CREATE\\s+(TEMP\\s+|TEMPORARY\\s+)?TRIGGER\\b", Pattern.CASE_INSENSITIVE);
+
+
+	/**
+	 * The parsed statements of the script, in order of execution
+	 */
+	private final List<SQLStatement> statements;
+
+	/**
+	 * This method parses the SQL statements from the provided {@link InputStream}
+	 * pointing to the SQL script file and constructs the respective
+	 * {@link SQLScript} object. The stream is closed once it has been read.
+	 *
+	 * @param stream The stream reading the file containing the SQL statements
+	 * @return The parsed SQL script
+	 * @throws SQLRunnerLoadException If an error occurs while the script is being
+	 *                                read
+	 */
+	public static SQLScript parse(InputStream stream) throws SQLRunnerLoadException {
+		if (stream == null) {
+			throw new SQLRunnerLoadException("Could not find SQL script!");
+		}
+		List<SQLStatement> statements = new ArrayList<>();
+		StringBuilder commandBuilder = new StringBuilder();
+		int parameters = 0;
+		int mode = 0;
+		char previous = (char) -1;
+		int code;
+		try (InputStreamReader reader = new InputStreamReader(stream)) {
+			while ((code = reader.read()) != -1) {
+				char character = (char) code;
+				switch (mode) {
+					case 0: {
+						if (character == '"') {
+							mode = 1;
+						}
+						if (character == '\'') {
+							mode = 2;
+						}
+						if (character == '*' && previous == '/') {
+							mode = 3;
+							commandBuilder.deleteCharAt(commandBuilder.length() - 1);
+							continue;
+						}
+						if (character == '-' && previous == '-') {
+							mode = 4;
+							commandBuilder.deleteCharAt(commandBuilder.length() - 1);
+							continue;
+						}
+						if (character == '?') {
+							parameters++;
+						}
+						if (character == '\n' || character == '\t') {
+							if (previous != ' ' && previous != '\n' && previous != '\t') {
+								commandBuilder.append(' ');
+							}
+						} else {
+							commandBuilder.append(character);
+						}
+						if (character == ';') {
+							String command = commandBuilder.toString();
+							command = command.trim();
+							if (isUnterminatedTrigger(command)) {
+								break;
+							}
+							commandBuilder = new StringBuilder();
+							if (command.length() != 1) {
+								statements.add(new SQLStatement(command, parameters));
+							}
+							parameters = 0;
+						}
+						break;
+					}
+					case 1: {
+						if (character == '"') {
+							mode = 0;
+						}
+						commandBuilder.append(character);
+						break;
+					}
+					case 2: {
+						if (character == '\'' && previous != '\'') {
+							mode = 0;
+						}
+						commandBuilder.append(character);
+						break;
+					}
+					case 3: {
+						if (character == '/' && previous == '*') {
+							mode = 0;
+						}
+						break;
+					}
+					case 4: {
+						if (character == '\n') {
+							mode = 0;
+						}
+						break;
+					}
+				}
+				previous = character;
+			}
+			String command = commandBuilder.toString();
+			command = command.trim();
+			if (!command.isEmpty()) {
+				statements.add(new SQLStatement(command, parameters));
+			}
+		} catch (IOException exception) {
+			throw new SQLRunnerLoadException("Could not read SQL script!", exception);
+		}
+		return new SQLScript(List.copyOf(statements));
+	}
+
+	/**
+	 * This method checks whether none of the statements of the script can modify
+	 * the database, so that the script can be executed on a read-only connection.
+	 *
+	 * @return Whether the script is read-only
+	 */
+	public boolean isReadOnly() {
+		return !statements.isEmpty() && statements.stream().allMatch(SQLStatement::isReadOnly);
+	}
+
+	/**
+	 * This method checks whether the given statement is a trigger definition whose
+	 * body has not been closed yet, meaning that the last encountered semicolon
+	 * terminates a statement of the trigger body rather than the definition. The
+	 * body is closed once every <code>BEGIN</code> and <code>CASE</code> keyword
+	 * outside of quotes has been matched by an <code>END</code> keyword, so that
+	 * <code>CASE</code> expressions inside the body do not end it early.
+	 *
+	 * @param command The statement read so far, ending with a semicolon
+	 * @return Whether the statement continues after the semicolon
+	 */
+	private static boolean isUnterminatedTrigger(String command) {
+		if (!TRIGGER_PATTERN.matcher(command).lookingAt()) {
+			return false;
+		}
+		int depth = 0;
+		int start = -1;
+		char quote = 0;
+		for (int i = 0; i <= command.length(); i++) {
+			char character = i < command.length() ? command.charAt(i) : ' ';
+			if (quote != 0) {
+				if (character == quote) {
+					quote = 0;
+				}
+				continue;
+			}
+			if (Character.isLetterOrDigit(character) || character == '_' || character == '$') {
+				if (start < 0) {
+					start = i;
+				}
+				continue;
+			}
+			if (start >= 0) {
+				String word = command.substring(start, i);
+				if (word.equalsIgnoreCase("BEGIN") || word.equalsIgnoreCase("CASE")) {
+					depth++;
+				} else if (word.equalsIgnoreCase("END")) {
+					depth--;
+				}
+				start = -1;
+			}
+			if (character == '\'' || character == '"' || character == '`') {
+				quote = character;
+			} else if (character == '[') {
+				quote = ']';
+			}
+		}
+		return depth > 0;
+	}
+
+}
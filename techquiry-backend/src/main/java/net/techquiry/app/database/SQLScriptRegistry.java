@@ -0,0 +1,97 @@
+package net.techquiry.app.database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.database.exception.SQLRunnerLoadException;
+
+/**
+ * The {@link SQLScriptRegistry} class is responsible for parsing the SQL
+ * scripts of the application once and holding the resulting {@link SQLScript}
+ * objects, so that they don't have to be read again on every execution.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@Log4j2
+public final class SQLScriptRegistry {
+
+	/**
+	 * The classpath directory containing the SQL scripts of the application.
+	 */
+	private static final String SCRIPT_DIRECTORY = "/database/";
+
+	/**
+	 * The pattern matching all the SQL scripts of the application.
+	 */
+	private static final String SCRIPT_PATTERN = "classpath:database/**/*.sql";
+
+	/**
+	 * The parsed scripts of the application, mapped by their classpath path.
+	 */
+	private final Map<String, SQLScript> scripts = new ConcurrentHashMap<>();
+
+	/**
+	 * This constructor constructs a new {@link SQLScriptRegistry} and parses all
+	 * the SQL scripts of the application in advance. Since the scripts are bundled
+	 * with the application, a script that cannot be parsed prevents the
+	 * application from starting instead of failing once it is first used.
+	 *
+	 * @throws SQLRunnerLoadException If a script could not be read or parsed
+	 */
+	public SQLScriptRegistry() throws SQLRunnerLoadException {
+		ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(SQLScriptRegistry.class.getClassLoader());
+		try {
+			String root = resolver.getResource("classpath:database/").getURL().toString();
+			for (Resource resource : resolver.getResources(SCRIPT_PATTERN)) {
+				String url = resource.getURL().toString();
+				if (!url.startsWith(root)) {
+					continue;
+				}
+				String path = SCRIPT_DIRECTORY + url.substring(root.length());
+				try (InputStream stream = resource.getInputStream()) {
+					scripts.put(path, SQLScript.parse(stream));
+				} catch (SQLRunnerLoadException exception) {
+					throw new SQLRunnerLoadException("Could not parse SQL script %s!".formatted(path), exception);
+				}
+			}
+		} catch (IOException exception) {
+			throw new SQLRunnerLoadException("Could not preload the SQL scripts!", exception);
+		}
+		log.debug("Loaded %s SQL scripts".formatted(scripts.size()));
+	}
+
+	/**
+	 * This method returns the parsed {@link SQLScript} with the given classpath
+	 * path. If the script has not been parsed yet, it is loaded and stored.
+	 *
+	 * @param path The classpath path of the script
+	 * @return The parsed SQL script
+	 * @throws SQLRunnerLoadException If the script does not exist or could not be
+	 *                                read
+	 */
+	public SQLScript getScript(String path) throws SQLRunnerLoadException {
+		SQLScript script = scripts.get(path);
+		if (script != null) {
+			return script;
+		}
+		InputStream stream = SQLScriptRegistry.class.getResourceAsStream(path);
+		if (stream == null) {
+			throw new SQLRunnerLoadException("Could not find SQL script %s!".formatted(path));
+		}
+		script = SQLScript.parse(stream);
+		scripts.put(path, script);
+		return script;
+	}
+
+}
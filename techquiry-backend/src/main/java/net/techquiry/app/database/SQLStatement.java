@@ -0,0 +1,62 @@
+package net.techquiry.app.database;
+
+import java.util.regex.Pattern;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The {@link SQLStatement} class represents a single parsed statement of an SQL
+ * script, along with the number of parameters it expects.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@ToString
+public final class SQLStatement {
+
+	/**
+	 * The pattern matching the beginning of a statement that cannot modify the
+	 * database.
+	 */
+	private static final Pattern READ_ONLY_PATTERN = Pattern.compile("(SELECT|VALUES)\\b", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * The text of the statement, stripped of comments and redundant whitespace
+	 */
+	@NonNull
+	private final String text;
+
+	/**
+	 * The number of positional parameters of the statement
+	 */
+	private final int parameterCount;
+
+	/**
+	 * This method checks whether the statement cannot modify the database, so that
+	 * it can be executed on a read-only connection.
+	 *
+	 * @return Whether the statement is read-only
+	 */
+	public boolean isReadOnly() {
+		return isReadOnly(text);
+	}
+
+	/**
+	 * This method checks whether the statement with the given text cannot modify
+	 * the database. Statements that are not recognized are assumed to modify it.
+	 *
+	 * @param text The text of the statement
+	 * @return Whether the statement is read-only
+	 */
+	public static boolean isReadOnly(String text) {
+		return READ_ONLY_PATTERN.matcher(text.stripLeading()).lookingAt();
+	}
+
+}
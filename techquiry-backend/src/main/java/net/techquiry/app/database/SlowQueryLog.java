@@ -0,0 +1,166 @@
+package net.techquiry.app.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.common.Environment;
+
+/**
+ * The {@link SlowQueryLog} class is responsible for logging the SQL statements
+ * whose execution took longer than a configured threshold, along with the
+ * script they belong to, the shapes of their bound parameters and their elapsed
+ * time. The first time a statement is found to be slow, the query plan chosen
+ * by SQLite for it is captured with <code>EXPLAIN QUERY PLAN</code> and logged
+ * as well. The values of the parameters are never logged.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@Log4j2
+public final class SlowQueryLog {
+
+	/**
+	 * The label used for statements that do not belong to a script loaded by its
+	 * path.
+	 */
+	private static final String INLINE_PATH = "<inline>";
+
+	/**
+	 * The minimum elapsed time in nanoseconds of a logged execution.
+	 */
+	private final long threshold;
+
+	/**
+	 * The texts of the statements whose query plan has already been captured.
+	 */
+	private final Set<String> explained = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * This constructor constructs a new {@link SlowQueryLog} whose threshold is
+	 * defined in the {@link Environment}.
+	 */
+	public SlowQueryLog() {
+		this(Environment.DB_SLOW_QUERY_THRESHOLD);
+	}
+
+	/**
+	 * This constructor constructs a new {@link SlowQueryLog} with the given
+	 * threshold. A threshold of 0 disables the logging of slow statements.
+	 *
+	 * @param threshold The minimum elapsed time of a logged execution in
+	 *                  milliseconds
+	 */
+	public SlowQueryLog(long threshold) {
+		this.threshold = TimeUnit.MILLISECONDS.toNanos(threshold);
+	}
+
+	/**
+	 * This method checks whether an execution with the given elapsed time is slow
+	 * enough to be logged.
+	 *
+	 * @param elapsed The elapsed time of the execution in nanoseconds
+	 * @return Whether the execution is slow
+	 */
+	public boolean isSlow(long elapsed) {
+		return threshold > 0 && elapsed >= threshold;
+	}
+
+	/**
+	 * This method logs the execution of the given statement if its elapsed time
+	 * exceeds the threshold. If the query plan of the statement has not been
+	 * captured yet, it is obtained on the given connection and logged along with
+	 * it.
+	 *
+	 * @param connection The connection the statement was executed on
+	 * @param path       The classpath path of the script the statement belongs to,
+	 *                   or null if it was not loaded by its path
+	 * @param sql        The text of the statement
+	 * @param parameters The parameters bound to the statement
+	 * @param elapsed    The elapsed time of the execution in nanoseconds
+	 */
+	public void check(Connection connection, String path, String sql, Object[] parameters, long elapsed) {
+		if (!isSlow(elapsed)) {
+			return;
+		}
+		String script = path == null ? INLINE_PATH : path;
+		String shapes = describeParameters(parameters);
+		double millis = elapsed / 1_000_000.0;
+		log.warn("Slow SQL statement in %s took %.3f ms with parameters %s: %s".formatted(script, millis, shapes, sql));
+		if (!explained.add(sql)) {
+			return;
+		}
+		try {
+			List<String> plan = explain(connection, sql, parameters);
+			log.warn("Query plan of slow SQL statement in %s:%n%s".formatted(script, String.join(System.lineSeparator(), plan)));
+		} catch (SQLException exception) {
+			log.warn("Could not capture the query plan of slow SQL statement in %s!".formatted(script), exception);
+		}
+	}
+
+	/**
+	 * This method obtains the query plan of the given statement with the given
+	 * parameters on the given connection. Every step of the plan is returned as a
+	 * separate line, indented according to its depth in the plan.
+	 *
+	 * @param connection The connection to the database
+	 * @param sql        The text of the statement
+	 * @param parameters The parameters of the statement
+	 * @return The lines of the query plan
+	 * @throws SQLException If the query plan could not be obtained
+	 */
+	public static List<String> explain(Connection connection, String sql, Object... parameters) throws SQLException {
+		List<String> plan = new ArrayList<>();
+		Map<Integer, Integer> depths = new HashMap<>();
+		try (PreparedStatement statement = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+			for (int i = 0; i < parameters.length; i++) {
+				statement.setObject(i + 1, parameters[i]);
+			}
+			try (ResultSet result = statement.executeQuery()) {
+				while (result.next()) {
+					int depth = depths.getOrDefault(result.getInt("parent"), -1) + 1;
+					depths.put(result.getInt("id"), depth);
+					plan.add("  ".repeat(depth) + result.getString("detail"));
+				}
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * This method describes the shapes of the given parameters without revealing
+	 * their values, using the simple name of their type along with the length of
+	 * strings and byte arrays.
+	 *
+	 * @param parameters The parameters to describe
+	 * @return The description of the parameters
+	 */
+	public static String describeParameters(Object... parameters) {
+		StringJoiner joiner = new StringJoiner(", ", "[", "]");
+		for (Object parameter : parameters) {
+			String shape = switch (parameter) {
+				case null -> "null";
+				case String string -> "String(%d)".formatted(string.length());
+				case byte[] bytes -> "byte[%d]".formatted(bytes.length);
+				default -> parameter.getClass().getSimpleName();
+			};
+			joiner.add(shape);
+		}
+		return joiner.toString();
+	}
+
+}
@@ -0,0 +1,278 @@
+package net.techquiry.app.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.common.Environment;
+
+/**
+ * The {@link StatementCache} class is responsible for keeping the compiled
+ * {@link PreparedStatement} objects of each physical database connection alive
+ * across requests, so that the same SQL text does not have to be compiled again
+ * every time it is executed. The hits and misses of the cache are published as
+ * metrics.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@Log4j2
+public final class StatementCache implements MeterBinder {
+
+	/**
+	 * The name of the metric counting the lookups of the statement cache.
+	 */
+	private static final String GETS_METRIC = "techquiry.statement.cache.gets";
+
+	/**
+	 * The cached statements, grouped by the physical connection they belong to.
+	 */
+	private final Map<Connection, ConnectionCache> caches = new IdentityHashMap<>();
+
+	/**
+	 * The lock guarding the cached statements. A {@link ReentrantLock} is used
+	 * instead of a monitor, since the connections are queried while it is held
+	 * and a virtual thread blocking inside a monitor would pin its carrier.
+	 */
+	private final Lock lock = new ReentrantLock();
+
+	/**
+	 * The maximum number of cached statements per connection.
+	 */
+	private final int size;
+
+	/**
+	 * The number of statements that were obtained from the cache.
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * The number of statements that had to be compiled.
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * This constructor constructs a new {@link StatementCache} whose size is
+	 * defined in the {@link Environment}.
+	 */
+	public StatementCache() {
+		this(Environment.DB_STATEMENT_CACHE_SIZE);
+	}
+
+	/**
+	 * This constructor constructs a new {@link StatementCache} with the given
+	 * size. A size of 0 disables the caching of statements.
+	 *
+	 * @param size The maximum number of cached statements per connection
+	 */
+	public StatementCache(int size) {
+		this.size = size;
+	}
+
+	/**
+	 * This method returns a {@link PreparedStatement} for the given SQL text on
+	 * the given connection. If a compiled statement with the same text is cached
+	 * for the underlying physical connection, it is reused, otherwise a new one is
+	 * prepared. The returned statement must be handed back with
+	 * {@link #release(Connection, String, PreparedStatement)} once it has been
+	 * executed.
+	 *
+	 * @param connection The connection to prepare the statement on
+	 * @param sql        The text of the statement
+	 * @return The prepared statement
+	 * @throws SQLException If the statement could not be prepared
+	 */
+	public PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+		if (size == 0) {
+			misses.increment();
+			return connection.prepareStatement(sql);
+		}
+		Connection physical = connection.unwrap(Connection.class);
+		ConnectionCache cache = getCache(physical);
+		PreparedStatement statement = cache.take(sql);
+		if (statement != null) {
+			hits.increment();
+			return statement;
+		}
+		misses.increment();
+		return physical.prepareStatement(sql);
+	}
+
+	/**
+	 * This method hands back a statement obtained from
+	 * {@link #prepare(Connection, String)}, clearing its parameters and storing it
+	 * for later reuse. If the cache is disabled or the statement cannot be reused,
+	 * it is closed instead.
+	 *
+	 * @param connection The connection the statement was prepared on
+	 * @param sql        The text of the statement
+	 * @param statement  The statement to release
+	 * @throws SQLException If the statement could not be closed
+	 */
+	public void release(Connection connection, String sql, PreparedStatement statement) throws SQLException {
+		if (size == 0 || statement.isClosed()) {
+			statement.close();
+			return;
+		}
+		try {
+			statement.clearParameters();
+			statement.clearBatch();
+			Connection physical = connection.unwrap(Connection.class);
+			getCache(physical).put(sql, statement);
+		} catch (SQLException exception) {
+			statement.close();
+			throw exception;
+		}
+	}
+
+	/**
+	 * This method returns the number of statements that were reused from the
+	 * cache.
+	 *
+	 * @return The number of cache hits
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * This method returns the number of statements that had to be compiled
+	 * because they were not found in the cache.
+	 *
+	 * @return The number of cache misses
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * This method publishes the hits and misses of the cache to the given
+	 * {@link MeterRegistry}.
+	 *
+	 * @param registry The registry to publish the metrics to
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(GETS_METRIC, this, StatementCache::getHitCount).description("The lookups of the statement cache").tag("result", "hit").register(registry);
+		FunctionCounter.builder(GETS_METRIC, this, StatementCache::getMissCount).description("The lookups of the statement cache").tag("result", "miss").register(registry);
+	}
+
+	/**
+	 * This method returns the statement cache of the given physical connection,
+	 * creating it if it does not exist. When a new cache is created, the caches of
+	 * connections that have since been closed by the pool are discarded.
+	 *
+	 * @param physical The physical connection
+	 * @return The cache of the connection
+	 * @throws SQLException If the state of a connection could not be determined
+	 */
+	private ConnectionCache getCache(Connection physical) throws SQLException {
+		lock.lock();
+		try {
+			ConnectionCache cache = caches.get(physical);
+			if (cache != null) {
+				return cache;
+			}
+			Iterator<Connection> iterator = caches.keySet().iterator();
+			while (iterator.hasNext()) {
+				if (iterator.next().isClosed()) {
+					iterator.remove();
+				}
+			}
+			log.debug("Creating statement cache for connection %s".formatted(physical));
+			cache = new ConnectionCache(size);
+			caches.put(physical, cache);
+			return cache;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The {@link ConnectionCache} class holds the idle cached statements of a
+	 * single physical connection in least recently used order. Since a connection
+	 * is only used by one thread at a time, it does not need to be synchronized.
+	 */
+	private static final class ConnectionCache extends LinkedHashMap<String, Deque<PreparedStatement>> {
+
+		/**
+		 * The maximum number of cached statements.
+		 */
+		private final int capacity;
+
+		/**
+		 * The current number of cached statements.
+		 */
+		private int count;
+
+		/**
+		 * This constructor constructs a new {@link ConnectionCache} with the given
+		 * capacity.
+		 *
+		 * @param capacity The maximum number of cached statements
+		 */
+		private ConnectionCache(int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		/**
+		 * This method removes and returns an idle statement with the given text.
+		 *
+		 * @param sql The text of the statement
+		 * @return The cached statement or null if none is available
+		 */
+		private PreparedStatement take(String sql) {
+			Deque<PreparedStatement> statements = get(sql);
+			if (statements == null || statements.isEmpty()) {
+				return null;
+			}
+			count--;
+			return statements.pop();
+		}
+
+		/**
+		 * This method stores the given idle statement, closing the least recently
+		 * used statements if the capacity is exceeded.
+		 *
+		 * @param sql       The text of the statement
+		 * @param statement The statement to store
+		 * @throws SQLException If an evicted statement could not be closed
+		 */
+		private void put(String sql, PreparedStatement statement) throws SQLException {
+			computeIfAbsent(sql, key -> new ArrayDeque<>()).push(statement);
+			count++;
+			Iterator<Deque<PreparedStatement>> iterator = values().iterator();
+			while (count > capacity && iterator.hasNext()) {
+				Deque<PreparedStatement> eldest = iterator.next();
+				while (count > capacity && !eldest.isEmpty()) {
+					eldest.removeLast().close();
+					count--;
+				}
+				if (eldest.isEmpty()) {
+					iterator.remove();
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,319 @@
+package net.techquiry.app.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.common.Constants;
+import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.database.exception.SQLRunnerExecuteException;
+
+/**
+ * The {@link UnitOfWork} class binds a single database connection and
+ * transaction to the operations performed by the current thread. While a unit
+ * is active, every script executed by the {@link SQLRunner} runs on the bound
+ * connection without committing, so that a sequence of data access calls checks
+ * out one connection and either takes effect as a whole or not at all. Units
+ * started while another unit is active join it. Units that may modify the
+ * database take the write lock as soon as they start, so that they wait for
+ * other writers through the busy timeout instead of failing when upgrading from
+ * a read to a write. Callbacks registered while a unit is active run once it
+ * has been committed or rolled back, so that the effects of the unit on shared
+ * state, such as the entity caches, are applied only once other connections can
+ * observe them.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@Log4j2
+public final class UnitOfWork {
+
+	/**
+	 * This object represents the connection with the SQLite database, used for
+	 * the units that may modify it.
+	 */
+	private final DataSource dataSource;
+
+	/**
+	 * This object represents the connection with the SQLite database, used for
+	 * the read-only units. It may be the same as {@link #dataSource}.
+	 */
+	private final DataSource readDataSource;
+
+	/**
+	 * The connection bound to the unit active on each thread.
+	 */
+	private final ThreadLocal<Connection> bound = new ThreadLocal<>();
+
+	/**
+	 * The callbacks to run once the unit active on each thread completes.
+	 */
+	private final ThreadLocal<List<Runnable>> callbacks = new ThreadLocal<>();
+
+	/**
+	 * This constructor constructs a new {@link UnitOfWork} obtaining the
+	 * connections of the units from the given data sources.
+	 *
+	 * @param dataSource     The data source for the units that may modify the
+	 *                       database
+	 * @param readDataSource The data source for the read-only units
+	 */
+	public UnitOfWork(DataSource dataSource, @Qualifier(Constants.DATABASE_READ_SOURCE) DataSource readDataSource) {
+		this.dataSource = dataSource;
+		this.readDataSource = readDataSource;
+	}
+
+	/**
+	 * This method performs the given {@link Work} within a unit that may modify
+	 * the database and returns its result. The transaction is committed once the
+	 * work completes and is rolled back if the work throws.
+	 *
+	 * @param <T>  The type of the result
+	 * @param <E>  The type of the exceptions thrown by the work
+	 * @param work The work to perform
+	 * @return The result of the work
+	 * @throws DatabaseException If a connection cannot be obtained, the
+	 *                           transaction cannot be committed or the work fails
+	 *                           to access the database
+	 * @throws E                 If the work throws
+	 */
+	public <T, E extends Exception> T execute(Work<T, E> work) throws DatabaseException, E {
+		return execute(dataSource, false, work);
+	}
+
+	/**
+	 * This method performs the given {@link Work} within a unit that only reads
+	 * from the database and returns its result, so that every read observes the
+	 * same state of the database.
+	 *
+	 * @param <T>  The type of the result
+	 * @param <E>  The type of the exceptions thrown by the work
+	 * @param work The work to perform
+	 * @return The result of the work
+	 * @throws DatabaseException If a connection cannot be obtained or the work
+	 *                           fails to access the database
+	 * @throws E                 If the work throws
+	 */
+	public <T, E extends Exception> T executeReadOnly(Work<T, E> work) throws DatabaseException, E {
+		return execute(readDataSource, true, work);
+	}
+
+	/**
+	 * This method performs the given {@link Action} within a unit that may modify
+	 * the database.
+	 *
+	 * @param <E>    The type of the exceptions thrown by the action
+	 * @param action The action to perform
+	 * @throws DatabaseException If a connection cannot be obtained, the
+	 *                           transaction cannot be committed or the action
+	 *                           fails to access the database
+	 * @throws E                 If the action throws
+	 * @see #execute(Work)
+	 */
+	public <E extends Exception> void run(Action<E> action) throws DatabaseException, E {
+		execute(() -> {
+			action.run();
+			return null;
+		});
+	}
+
+	/**
+	 * This method registers the given callback to run once the unit active on the
+	 * current thread has been committed or rolled back. If no unit is active, the
+	 * callback runs immediately.
+	 *
+	 * @param callback The callback to run
+	 */
+	public void afterCompletion(Runnable callback) {
+		List<Runnable> registered = callbacks.get();
+		if (registered == null) {
+			callback.run();
+			return;
+		}
+		registered.add(callback);
+	}
+
+	/**
+	 * This method returns the connection bound to the unit active on the current
+	 * thread.
+	 *
+	 * @return The bound connection or null if no unit is active
+	 */
+	Connection getConnection() {
+		return bound.get();
+	}
+
+	/**
+	 * This method performs the given {@link Work} on a connection obtained from
+	 * the given data source, unless a unit is already active on the current
+	 * thread, in which case the work joins it.
+	 *
+	 * @param <T>      The type of the result
+	 * @param <E>      The type of the exceptions thrown by the work
+	 * @param source   The data source to obtain the connection from
+	 * @param readOnly Whether the unit only reads from the database
+	 * @param work     The work to perform
+	 * @return The result of the work
+	 * @throws DatabaseException If a connection cannot be obtained, the
+	 *                           transaction cannot be committed or the work fails
+	 *                           to access the database
+	 * @throws E                 If the work throws
+	 */
+	private <T, E extends Exception> T execute(DataSource source, boolean readOnly, Work<T, E> work) throws DatabaseException, E {
+		if (bound.get() != null) {
+			return work.execute();
+		}
+		Connection connection;
+		try {
+			connection = source.getConnection();
+		} catch (SQLException exception) {
+			throw new SQLRunnerExecuteException("Could not get database connection!", exception);
+		}
+		bound.set(connection);
+		callbacks.set(new ArrayList<>());
+		try {
+			if (!readOnly) {
+				begin(connection);
+			}
+			T result;
+			try {
+				result = work.execute();
+			} catch (Throwable throwable) {
+				rollback(connection);
+				throw throwable;
+			}
+			try {
+				connection.commit();
+			} catch (SQLException exception) {
+				rollback(connection);
+				throw new SQLRunnerExecuteException("Could not commit unit of work!", exception);
+			}
+			return result;
+		} finally {
+			List<Runnable> registered = callbacks.get();
+			bound.remove();
+			callbacks.remove();
+			close(connection);
+			complete(registered);
+		}
+	}
+
+	/**
+	 * This method replaces the empty deferred transaction the driver keeps open on
+	 * the given connection with an immediate one, which acquires the write lock
+	 * before any statement runs. If the lock cannot be acquired within the busy
+	 * timeout, a deferred transaction is opened again, so that the connection is
+	 * returned to the pool in its usual state.
+	 *
+	 * @param connection The connection of the unit
+	 * @throws DatabaseException If the write lock cannot be acquired
+	 */
+	private void begin(Connection connection) throws DatabaseException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ROLLBACK");
+			try {
+				statement.execute("BEGIN IMMEDIATE");
+			} catch (SQLException exception) {
+				statement.execute("BEGIN");
+				throw exception;
+			}
+		} catch (SQLException exception) {
+			throw new SQLRunnerExecuteException("Could not begin unit of work!", exception);
+		}
+	}
+
+	/**
+	 * This method rolls back the transaction of the given connection.
+	 *
+	 * @param connection The connection of the unit
+	 */
+	private void rollback(Connection connection) {
+		try {
+			connection.rollback();
+		} catch (SQLException exception) {
+			log.warn("Could not rollback unit of work!", exception);
+		}
+	}
+
+	/**
+	 * This method runs the given callbacks of a completed unit in the order they
+	 * were registered. A failing callback does not prevent the rest from running.
+	 *
+	 * @param registered The callbacks registered during the unit
+	 */
+	private void complete(List<Runnable> registered) {
+		for (Runnable callback : registered) {
+			try {
+				callback.run();
+			} catch (RuntimeException exception) {
+				log.warn("Could not run unit of work callback!", exception);
+			}
+		}
+	}
+
+	/**
+	 * This method returns the given connection to its pool.
+	 *
+	 * @param connection The connection of the unit
+	 */
+	private void close(Connection connection) {
+		try {
+			connection.close();
+		} catch (SQLException exception) {
+			log.warn("Could not close unit of work connection!", exception);
+		}
+	}
+
+	/**
+	 * The {@link Work} interface defines an operation performed within a unit of
+	 * work, which produces a result.
+	 *
+	 * @param <T> The type of the result
+	 * @param <E> The type of the exceptions thrown besides
+	 *            {@link DatabaseException}
+	 */
+	@FunctionalInterface
+	public interface Work<T, E extends Exception> {
+
+		/**
+		 * This method performs the operation.
+		 *
+		 * @return The result of the operation
+		 * @throws DatabaseException If the operation fails to access the database
+		 * @throws E                 If the operation fails otherwise
+		 */
+		T execute() throws DatabaseException, E;
+
+	}
+
+	/**
+	 * The {@link Action} interface defines an operation performed within a unit
+	 * of work, which produces no result.
+	 *
+	 * @param <E> The type of the exceptions thrown besides
+	 *            {@link DatabaseException}
+	 */
+	@FunctionalInterface
+	public interface Action<E extends Exception> {
+
+		/**
+		 * This method performs the operation.
+		 *
+		 * @throws DatabaseException If the operation fails to access the database
+		 * @throws E                 If the operation fails otherwise
+		 */
+		void run() throws DatabaseException, E;
+
+	}
+
+}
@@ -0,0 +1,217 @@
+package net.techquiry.app.database.dao;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.database.LocalResult;
+import net.techquiry.app.database.SQLRunner;
+import net.techquiry.app.database.exception.DataAccessException;
+import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.database.row.IconRowMapper;
+import net.techquiry.app.database.row.IconVariantRowMapper;
+import net.techquiry.app.entity.Icon;
+import net.techquiry.app.entity.IconVariant;
+
+/**
+ * The {@link IconDao} class provides methods to interact with the database for
+ * managing icon and icon variant entries in the TechQuiry application. Icon
+ * entries are never deleted directly, since the database deletes them along with
+ * their variants once no user data entry references them.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class IconDao {
+
+	/**
+	 * The path of the SQL script for inserting an icon entry if it is absent.
+	 */
+	private static final String ICON_INSERT_ABSENT_SCRIPT = "/database/icon/insert_absent.sql";
+
+	/**
+	 * The path of the SQL script for selecting an icon entry.
+	 */
+	private static final String ICON_SELECT_SCRIPT = "/database/icon/select.sql";
+
+	/**
+	 * The path of the SQL script for selecting the length of the data of an icon
+	 * entry.
+	 */
+	private static final String ICON_SELECT_LENGTH_SCRIPT = "/database/icon/select_length.sql";
+
+	/**
+	 * The path of the SQL script for selecting a part of the data of an icon
+	 * entry.
+	 */
+	private static final String ICON_SELECT_CHUNK_SCRIPT = "/database/icon/select_chunk.sql";
+
+	/**
+	 * The path of the SQL script for inserting an icon variant entry if it is
+	 * absent.
+	 */
+	private static final String ICON_INSERT_VARIANT_ABSENT_SCRIPT = "/database/icon/insert_variant_absent.sql";
+
+	/**
+	 * The path of the SQL script for selecting an icon variant entry.
+	 */
+	private static final String ICON_SELECT_VARIANT_SCRIPT = "/database/icon/select_variant.sql";
+
+	/**
+	 * The runner responsible for executing the SQL scripts.
+	 */
+	private final SQLRunner runner;
+
+	/**
+	 * The mapper responsible for mapping the rows to {@link Icon} objects.
+	 */
+	private final IconRowMapper iconRowMapper;
+
+	/**
+	 * The mapper responsible for mapping the rows to {@link IconVariant} objects.
+	 */
+	private final IconVariantRowMapper iconVariantRowMapper;
+
+	/**
+	 * This method inserts the given {@link Icon} object as a new icon entry in the
+	 * application database, unless an entry with the same hash already exists.
+	 * 
+	 * @param icon The icon entry to insert
+	 * @throws DatabaseException If a database error occurs while inserting the icon
+	 *                           entry
+	 */
+	public void insertAbsent(Icon icon) throws DatabaseException {
+		log.debug("Inserting absent icon entry (icon=%s)".formatted(icon));
+		String hash = icon.getHash();
+		byte[] data = icon.getData();
+		runner.runScript(ICON_INSERT_ABSENT_SCRIPT, hash, data);
+	}
+
+	/**
+	 * This method returns the only icon entry with the given hash from the
+	 * application database.
+	 * 
+	 * @param hash The hash of the icon
+	 * @return The icon entry with the given hash
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           icon entry
+	 */
+	public Icon select(String hash) throws DatabaseException {
+		log.debug("Selecting icon entry (hash=%s)".formatted(hash));
+		List<Icon> list = runner.runQuery(ICON_SELECT_SCRIPT, iconRowMapper, hash);
+		if (list == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(ICON_SELECT_SCRIPT));
+		}
+		if (list.isEmpty()) {
+			return null;
+		}
+		return list.getFirst();
+	}
+
+	/**
+	 * This method returns the length in bytes of the data of the only icon entry
+	 * with the given hash from the application database, without reading the data
+	 * themselves.
+	 *
+	 * @param hash The hash of the icon
+	 * @return The length of the icon data, or null if the icon does not exist
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           length of the icon data
+	 */
+	public Integer selectLength(String hash) throws DatabaseException {
+		log.debug("Selecting icon entry length (hash=%s)".formatted(hash));
+		List<LocalResult> results = runner.runScript(ICON_SELECT_LENGTH_SCRIPT, hash);
+		if (results.isEmpty()) {
+			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(ICON_SELECT_LENGTH_SCRIPT));
+		}
+		LocalResult result = results.getFirst();
+		if (result == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(ICON_SELECT_LENGTH_SCRIPT));
+		}
+		List<Map<String, Object>> list = result.list();
+		if (list.isEmpty()) {
+			return null;
+		}
+		Map<String, Object> row = list.getFirst();
+		return (int) row.get("length");
+	}
+
+	/**
+	 * This method returns the part of the data of the only icon entry with the
+	 * given hash from the application database that starts at the given offset and
+	 * has the given length. The returned part is shorter if the data end before
+	 * it.
+	 *
+	 * @param hash   The hash of the icon
+	 * @param offset The 0-based offset of the first byte of the part
+	 * @param length The maximum length of the part
+	 * @return The part of the icon data, or null if the icon does not exist
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           part of the icon data
+	 */
+	public byte[] selectChunk(String hash, long offset, int length) throws DatabaseException {
+		log.debug("Selecting icon entry chunk (hash=%s, offset=%s, length=%s)".formatted(hash, offset, length));
+		List<LocalResult> results = runner.runScript(ICON_SELECT_CHUNK_SCRIPT, offset + 1, length, hash);
+		if (results.isEmpty()) {
+			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(ICON_SELECT_CHUNK_SCRIPT));
+		}
+		LocalResult result = results.getFirst();
+		if (result == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(ICON_SELECT_CHUNK_SCRIPT));
+		}
+		List<Map<String, Object>> list = result.list();
+		if (list.isEmpty()) {
+			return null;
+		}
+		Map<String, Object> row = list.getFirst();
+		Object chunk = row.get("chunk");
+		return chunk == null ? new byte[0] : (byte[]) chunk;
+	}
+
+	/**
+	 * This method inserts the given {@link IconVariant} object as a new icon
+	 * variant entry in the application database, unless an entry with the same
+	 * hash and size already exists. The icon it belongs to must already exist.
+	 * 
+	 * @param variant The icon variant entry to insert
+	 * @throws DatabaseException If a database error occurs while inserting the icon
+	 *                           variant entry
+	 */
+	public void insertVariantAbsent(IconVariant variant) throws DatabaseException {
+		log.debug("Inserting absent icon variant entry (variant=%s)".formatted(variant));
+		String hash = variant.getHash();
+		int size = variant.getSize();
+		byte[] data = variant.getData();
+		runner.runScript(ICON_INSERT_VARIANT_ABSENT_SCRIPT, hash, size, data);
+	}
+
+	/**
+	 * This method returns the only icon variant entry with the given hash and size
+	 * from the application database.
+	 * 
+	 * @param hash The hash of the icon
+	 * @param size The size of the variant
+	 * @return The icon variant entry with the given hash and size
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           icon variant entry
+	 */
+	public IconVariant selectVariant(String hash, int size) throws DatabaseException {
+		log.debug("Selecting icon variant entry (hash=%s, size=%s)".formatted(hash, size));
+		List<IconVariant> list = runner.runQuery(ICON_SELECT_VARIANT_SCRIPT, iconVariantRowMapper, hash, size);
+		if (list == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(ICON_SELECT_VARIANT_SCRIPT));
+		}
+		if (list.isEmpty()) {
+			return null;
+		}
+		return list.getFirst();
+	}
+
+}
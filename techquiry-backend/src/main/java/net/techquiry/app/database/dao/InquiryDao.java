@@ -1,19 +1,29 @@
 package net.techquiry.app.database.dao;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.common.Environment;
+import net.techquiry.app.database.DatabaseExecutor;
+import net.techquiry.app.database.EntityCacheManager;
 import net.techquiry.app.database.LocalResult;
+import net.techquiry.app.database.RowHandler;
 import net.techquiry.app.database.SQLRunner;
 import net.techquiry.app.database.exception.DataAccessException;
 import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.database.row.FeedEntryRowMapper;
+import net.techquiry.app.database.row.InquiryRowMapper;
+import net.techquiry.app.database.row.SearchEntryRowMapper;
+import net.techquiry.app.entity.FeedEntry;
 import net.techquiry.app.entity.Inquiry;
+import net.techquiry.app.entity.SearchEntry;
 
 /**
  * The {@link InquiryDao} class provides methods to interact with the database
@@ -37,6 +47,16 @@ public class InquiryDao {
 	 */
 	private static final String INQUIRY_DELETE_SCRIPT = "/database/inquiry/delete.sql";
 
+	/**
+	 * The path of the SQL script for deleting an inquiry entry owned by a user.
+	 */
+	private static final String INQUIRY_DELETE_OWNED_SCRIPT = "/database/inquiry/delete_owned.sql";
+
+	/**
+	 * The path of the SQL script for selecting the inquiry feed entries.
+	 */
+	private static final String INQUIRY_FEED_SCRIPT = "/database/inquiry/feed.sql";
+
 	/**
 	 * The path of the SQL script for inserting an inquiry entry.
 	 */
@@ -47,6 +67,28 @@ public class InquiryDao {
 	 */
 	private static final String INQUIRY_RANGE_SCRIPT = "/database/inquiry/range.sql";
 
+	/**
+	 * The path of the SQL script for selecting the inquiry entries following a
+	 * given inquiry id.
+	 */
+	private static final String INQUIRY_RANGE_AFTER_SCRIPT = "/database/inquiry/range_after.sql";
+
+	/**
+	 * The path of the SQL script for searching the inquiry entries.
+	 */
+	private static final String INQUIRY_SEARCH_SCRIPT = "/database/inquiry/search.sql";
+
+	/**
+	 * The path of the SQL script for searching the inquiry entries with a user id.
+	 */
+	private static final String INQUIRY_SEARCH_USER_ID_SCRIPT = "/database/inquiry/search_user_id.sql";
+
+	/**
+	 * The path of the SQL script for searching the inquiry entries with a user id
+	 * which are non-anonymous.
+	 */
+	private static final String INQUIRY_SEARCH_USER_ID_NON_ANONYMOUS_SCRIPT = "/database/inquiry/search_user_id_non_anonymous.sql";
+
 	/**
 	 * The path of the SQL script for selecting inquiry entries with a user id which
 	 * are non-anonymous.
@@ -68,11 +110,41 @@ public class InquiryDao {
 	 */
 	private static final String INQUIRY_UPDATE_SCRIPT = "/database/inquiry/update.sql";
 
+	/**
+	 * The path of the SQL script for updating an inquiry entry owned by a user.
+	 */
+	private static final String INQUIRY_UPDATE_OWNED_SCRIPT = "/database/inquiry/update_owned.sql";
+
 	/**
 	 * The runner responsible for executing the SQL scripts.
 	 */
 	private final SQLRunner runner;
 
+	/**
+	 * The mapper responsible for mapping the rows to {@link Inquiry} objects.
+	 */
+	private final InquiryRowMapper inquiryRowMapper;
+
+	/**
+	 * The mapper responsible for mapping the rows to {@link FeedEntry} objects.
+	 */
+	private final FeedEntryRowMapper feedEntryRowMapper;
+
+	/**
+	 * The mapper responsible for mapping the rows to {@link SearchEntry} objects.
+	 */
+	private final SearchEntryRowMapper searchEntryRowMapper;
+
+	/**
+	 * The manager holding the cache in front of {@link #select(int)}.
+	 */
+	private final EntityCacheManager cacheManager;
+
+	/**
+	 * The executor running the asynchronous queries.
+	 */
+	private final DatabaseExecutor executor;
+
 	/**
 	 * This method returns the number of inquiry entries inside the application
 	 * database.
@@ -110,6 +182,31 @@ public class InquiryDao {
 	public void delete(int inquiryId) throws DatabaseException {
 		log.debug("Deleting inquiry entry (inquiryId=%s)".formatted(inquiryId));
 		runner.runScript(INQUIRY_DELETE_SCRIPT, inquiryId);
+		cacheManager.getInquiryCache().invalidate(inquiryId);
+		cacheManager.getResponseCache().clear();
+	}
+
+	/**
+	 * This method deletes the inquiry entry with the provided inquiry id from the
+	 * application database in a single statement, if it belongs to the user with
+	 * the given user id.
+	 * 
+	 * @param inquiryId The inquiry id of the inquiry entry
+	 * @param userId    The user id of the owner of the inquiry entry
+	 * @return Whether the inquiry entry existed, belonged to the user and was
+	 *         deleted
+	 * @throws DatabaseException If a database error occurs while deleting the
+	 *                           inquiry entry
+	 */
+	public boolean deleteIfOwned(int inquiryId, int userId) throws DatabaseException {
+		log.debug("Deleting owned inquiry entry (inquiryId=%s, userId=%s)".formatted(inquiryId, userId));
+		int count = runner.runConditional(INQUIRY_DELETE_OWNED_SCRIPT, inquiryId, userId);
+		if (count == 0) {
+			return false;
+		}
+		cacheManager.getInquiryCache().invalidate(inquiryId);
+		cacheManager.getResponseCache().clear();
+		return true;
 	}
 
 	/**
@@ -156,27 +253,132 @@ public class InquiryDao {
 	 */
 	public List<Inquiry> range(int count, int offset) throws DatabaseException {
 		log.debug("Selecting inquiry entries (count=%s, offset=%s)".formatted(count, offset));
-		List<LocalResult> results = runner.runScript(INQUIRY_RANGE_SCRIPT, offset, count);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(INQUIRY_RANGE_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<Inquiry> range = runner.runQuery(INQUIRY_RANGE_SCRIPT, inquiryRowMapper, offset, count);
+		if (range == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(INQUIRY_RANGE_SCRIPT));
 		}
-		List<Inquiry> range = new ArrayList<>(count);
-		for (Map<String, Object> row : result) {
-			int id = (int) row.get("inquiry_id");
-			int userId = (int) row.get("user_id");
-			String title = (String) row.get("title");
-			String content = (String) row.get("content");
-			boolean anonymous = (int) row.get("anonymous") == 1;
-			Inquiry inquiry = new Inquiry(id, userId, title, content, anonymous);
-			range.add(inquiry);
+		return range;
+	}
+
+	/**
+	 * This method returns a list of inquiry entries from the application
+	 * database, that has the given size and contains the entries with the
+	 * smallest inquiry ids larger than the given one, ordered by their inquiry id.
+	 * 
+	 * @param count The number of inquiry entries
+	 * @param after The inquiry id the entries must follow
+	 * @return The selected inquiry entry range
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           inquiry information
+	 */
+	public List<Inquiry> rangeAfter(int count, int after) throws DatabaseException {
+		log.debug("Selecting inquiry entries (count=%s, after=%s)".formatted(count, after));
+		List<Inquiry> range = runner.runQuery(INQUIRY_RANGE_AFTER_SCRIPT, inquiryRowMapper, after, count);
+		if (range == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(INQUIRY_RANGE_AFTER_SCRIPT));
 		}
 		return range;
 	}
 
+	/**
+	 * This method returns a list of inquiry feed entries from the application
+	 * database, that has the given size and contains the inquiries with the
+	 * smallest inquiry ids larger than the given one, along with whether the user
+	 * with the given user id is observing each of them.
+	 * 
+	 * @param count  The number of inquiry entries
+	 * @param after  The inquiry id the entries must follow
+	 * @param userId The user id of the viewing user or null if there is none
+	 * @return The selected inquiry feed entries
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           inquiry information
+	 */
+	public List<FeedEntry> feed(int count, int after, Integer userId) throws DatabaseException {
+		log.debug("Selecting inquiry feed entries (count=%s, after=%s, userId=%s)".formatted(count, after, userId));
+		List<FeedEntry> feed = runner.runQuery(INQUIRY_FEED_SCRIPT, feedEntryRowMapper, userId, after, count);
+		if (feed == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(INQUIRY_FEED_SCRIPT));
+		}
+		return feed;
+	}
+
+	/**
+	 * This method returns a list of inquiry search entries from the application
+	 * database, that has the given size and contains the inquiries whose title,
+	 * content or responses match the given FTS5 query expression, ordered by their
+	 * relevance score and inquiry id and following the given position. Only the
+	 * number of most relevant matches defined in the {@link Environment} are
+	 * ranked.
+	 * 
+	 * @param query The FTS5 query expression
+	 * @param count The number of inquiry entries
+	 * @param after The position the entries must follow
+	 * @return The selected inquiry search entries
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           inquiry information
+	 */
+	public List<SearchEntry> search(String query, int count, int after) throws DatabaseException {
+		log.debug("Searching inquiry entries (query=%s, count=%s, after=%s)".formatted(query, count, after));
+		int limit = Environment.DB_SEARCH_LIMIT;
+		List<SearchEntry> list = runner.runQuery(INQUIRY_SEARCH_SCRIPT, searchEntryRowMapper, query, query, query, limit, query, limit, after, count);
+		if (list == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(INQUIRY_SEARCH_SCRIPT));
+		}
+		return list;
+	}
+
+	/**
+	 * This method returns a list of inquiry search entries with the given user id
+	 * from the application database, that has the given size and contains the
+	 * inquiries whose title, content or responses match the given FTS5 query
+	 * expression, ordered by their relevance score and inquiry id and following
+	 * the given position. Only the number of most relevant matches defined in the
+	 * {@link Environment} are ranked.
+	 * 
+	 * @param query  The FTS5 query expression
+	 * @param userId The user id
+	 * @param count  The number of inquiry entries
+	 * @param after  The position the entries must follow
+	 * @return The selected inquiry search entries
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           inquiry information
+	 */
+	public List<SearchEntry> searchFromUserId(String query, int userId, int count, int after) throws DatabaseException {
+		log.debug("Searching inquiry entries (query=%s, userId=%s, count=%s, after=%s)".formatted(query, userId, count, after));
+		int limit = Environment.DB_SEARCH_LIMIT;
+		List<SearchEntry> list = runner.runQuery(INQUIRY_SEARCH_USER_ID_SCRIPT, searchEntryRowMapper, query, query, query, userId, limit, query, userId, limit, after, count);
+		if (list == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(INQUIRY_SEARCH_USER_ID_SCRIPT));
+		}
+		return list;
+	}
+
+	/**
+	 * This method returns a list of non-anonymous inquiry search entries with the
+	 * given user id from the application database, that has the given size and
+	 * contains the inquiries whose title, content or responses match the given
+	 * FTS5 query expression, ordered by their relevance score and inquiry id and
+	 * following the given position. Only the number of most relevant matches
+	 * defined in the {@link Environment} are ranked.
+	 * 
+	 * @param query  The FTS5 query expression
+	 * @param userId The user id
+	 * @param count  The number of inquiry entries
+	 * @param after  The position the entries must follow
+	 * @return The selected inquiry search entries
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           inquiry information
+	 */
+	public List<SearchEntry> searchFromUserIdNonAnonymous(String query, int userId, int count, int after) throws DatabaseException {
+		log.debug("Searching non-anonymous inquiry entries (query=%s, userId=%s, count=%s, after=%s)".formatted(query, userId, count, after));
+		int limit = Environment.DB_SEARCH_LIMIT;
+		List<SearchEntry> list = runner.runQuery(INQUIRY_SEARCH_USER_ID_NON_ANONYMOUS_SCRIPT, searchEntryRowMapper, query, query, query, userId, limit, query, userId, limit, after, count);
+		if (list == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(INQUIRY_SEARCH_USER_ID_NON_ANONYMOUS_SCRIPT));
+		}
+		return list;
+	}
+
 	/**
 	 * This method returns the list of non-anonymous inquiry entries with the given
 	 * user id from the application database.
@@ -188,26 +390,27 @@ public class InquiryDao {
 	 */
 	public List<Inquiry> selectFromUserIdNonAnonymous(int userId) throws DatabaseException {
 		log.debug("Selecting non-anonymous inquiry entries (userId=%s)".formatted(userId));
-		List<LocalResult> results = runner.runScript(INQUIRY_SELECT_USER_ID_NON_ANONYMOUS_SCRIPT, userId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(INQUIRY_SELECT_USER_ID_NON_ANONYMOUS_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<Inquiry> list = runner.runQuery(INQUIRY_SELECT_USER_ID_NON_ANONYMOUS_SCRIPT, inquiryRowMapper, userId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(INQUIRY_SELECT_USER_ID_NON_ANONYMOUS_SCRIPT));
 		}
-		List<Inquiry> list = new ArrayList<>();
-		for (Map<String, Object> row : result) {
-			int id = (int) row.get("inquiry_id");
-			String title = (String) row.get("title");
-			String content = (String) row.get("content");
-			boolean anonymous = (int) row.get("anonymous") == 1;
-			Inquiry inquiry = new Inquiry(id, userId, title, content, anonymous);
-			list.add(inquiry);
-		}
 		return list;
 	}
 
+	/**
+	 * This method asynchronously retrieves the list of non-anonymous inquiry
+	 * entries with the given user id from the application database on the
+	 * {@link DatabaseExecutor}.
+	 * 
+	 * @param userId The user id
+	 * @return The future of the non-anonymous inquiry entries with the given user
+	 *         id
+	 * @see #selectFromUserIdNonAnonymous(int)
+	 */
+	public CompletableFuture<List<Inquiry>> selectFromUserIdNonAnonymousAsync(int userId) {
+		return executor.submit(() -> selectFromUserIdNonAnonymous(userId));
+	}
+
 	/**
 	 * This method returns the list of inquiry entries with the given user id from
 	 * the application database.
@@ -219,26 +422,60 @@ public class InquiryDao {
 	 */
 	public List<Inquiry> selectFromUserId(int userId) throws DatabaseException {
 		log.debug("Selecting inquiry entries (userId=%s)".formatted(userId));
-		List<LocalResult> results = runner.runScript(INQUIRY_SELECT_USER_ID_SCRIPT, userId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(INQUIRY_SELECT_USER_ID_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<Inquiry> list = runner.runQuery(INQUIRY_SELECT_USER_ID_SCRIPT, inquiryRowMapper, userId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(INQUIRY_SELECT_USER_ID_SCRIPT));
 		}
-		List<Inquiry> list = new ArrayList<>();
-		for (Map<String, Object> row : result) {
-			int id = (int) row.get("inquiry_id");
-			String title = (String) row.get("title");
-			String content = (String) row.get("content");
-			boolean anonymous = (int) row.get("anonymous") == 1;
-			Inquiry inquiry = new Inquiry(id, userId, title, content, anonymous);
-			list.add(inquiry);
-		}
 		return list;
 	}
 
+	/**
+	 * This method asynchronously retrieves the list of inquiry entries with the
+	 * given user id from the application database on the
+	 * {@link DatabaseExecutor}.
+	 * 
+	 * @param userId The user id
+	 * @return The future of the inquiry entries with the given user id
+	 * @see #selectFromUserId(int)
+	 */
+	public CompletableFuture<List<Inquiry>> selectFromUserIdAsync(int userId) {
+		return executor.submit(() -> selectFromUserId(userId));
+	}
+
+	/**
+	 * This method hands the non-anonymous inquiry entries with the given user id
+	 * to the given handler one by one, as they are read from the application
+	 * database, without loading them to memory all at once.
+	 * 
+	 * @param userId  The user id
+	 * @param handler The handler of the selected entries
+	 * @return The number of selected entries
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           inquiry information
+	 * @throws IOException       If the handler fails to handle an entry
+	 */
+	public int streamFromUserIdNonAnonymous(int userId, RowHandler<Inquiry> handler) throws DatabaseException, IOException {
+		log.debug("Streaming non-anonymous inquiry entries (userId=%s)".formatted(userId));
+		return runner.runStream(INQUIRY_SELECT_USER_ID_NON_ANONYMOUS_SCRIPT, inquiryRowMapper, handler, userId);
+	}
+
+	/**
+	 * This method hands the inquiry entries with the given user id to the given
+	 * handler one by one, as they are read from the application database, without
+	 * loading them to memory all at once.
+	 * 
+	 * @param userId  The user id
+	 * @param handler The handler of the selected entries
+	 * @return The number of selected entries
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           inquiry information
+	 * @throws IOException       If the handler fails to handle an entry
+	 */
+	public int streamFromUserId(int userId, RowHandler<Inquiry> handler) throws DatabaseException, IOException {
+		log.debug("Streaming inquiry entries (userId=%s)".formatted(userId));
+		return runner.runStream(INQUIRY_SELECT_USER_ID_SCRIPT, inquiryRowMapper, handler, userId);
+	}
+
 	/**
 	 * This method returns the only inquiry entry with the given inquiry id from the
 	 * application database.
@@ -249,25 +486,28 @@ public class InquiryDao {
 	 *                           inquiry information
 	 */
 	public Inquiry select(int inquiryId) throws DatabaseException {
+		return cacheManager.getInquiryCache().get(inquiryId, () -> load(inquiryId));
+	}
+
+	/**
+	 * This method loads the only inquiry entry with the given inquiry id from the
+	 * application database, bypassing the entity cache.
+	 * 
+	 * @param inquiryId The inquiry id
+	 * @return The inquiry entry with the given inquiry id
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           inquiry information
+	 */
+	private Inquiry load(int inquiryId) throws DatabaseException {
 		log.debug("Selecting inquiry entry (inquiryId=%s)".formatted(inquiryId));
-		List<LocalResult> results = runner.runScript(INQUIRY_SELECT_SCRIPT, inquiryId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(INQUIRY_SELECT_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<Inquiry> list = runner.runQuery(INQUIRY_SELECT_SCRIPT, inquiryRowMapper, inquiryId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(INQUIRY_SELECT_SCRIPT));
 		}
-		List<Map<String, Object>> list = result.list();
 		if (list.isEmpty()) {
 			return null;
 		}
-		Map<String, Object> row = list.getFirst();
-		int userId = (int) row.get("user_id");
-		String title = (String) row.get("title");
-		String content = (String) row.get("content");
-		boolean anonymous = (int) row.get("anonymous") == 1;
-		return new Inquiry(inquiryId, userId, title, content, anonymous);
+		return list.getFirst();
 	}
 
 	/**
@@ -287,6 +527,34 @@ public class InquiryDao {
 		String content = inquiry.getContent();
 		boolean anonymous = inquiry.getAnonymous();
 		runner.runScript(INQUIRY_UPDATE_SCRIPT, userId, title, content, anonymous, id);
+		cacheManager.getInquiryCache().invalidate(id);
+	}
+
+	/**
+	 * This method replaces the title, content and anonymity of an inquiry entry
+	 * with those contained in the {@link Inquiry} object in a single statement, if
+	 * the entry with the inquiry id of the object belongs to the user with the user
+	 * id of the object.
+	 * 
+	 * @param inquiry The inquiry entry to update
+	 * @return Whether the inquiry entry existed, belonged to the user and was
+	 *         updated
+	 * @throws DatabaseException If a database error occurs while updating the
+	 *                           inquiry entry
+	 */
+	public boolean updateIfOwned(Inquiry inquiry) throws DatabaseException {
+		log.debug("Updating owned inquiry entry (inquiry=%s)".formatted(inquiry));
+		int id = inquiry.getInquiryId();
+		int userId = inquiry.getUserId();
+		String title = inquiry.getTitle();
+		String content = inquiry.getContent();
+		boolean anonymous = inquiry.getAnonymous();
+		int count = runner.runConditional(INQUIRY_UPDATE_OWNED_SCRIPT, title, content, anonymous, id, userId);
+		if (count == 0) {
+			return false;
+		}
+		cacheManager.getInquiryCache().invalidate(id);
+		return true;
 	}
 
 }
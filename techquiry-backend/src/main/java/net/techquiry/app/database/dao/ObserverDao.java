@@ -1,6 +1,6 @@
 package net.techquiry.app.database.dao;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -9,11 +9,14 @@ import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
-import net.techquiry.app.common.SecurityUtils;
+import net.techquiry.app.database.EntityCacheManager;
 import net.techquiry.app.database.LocalResult;
+import net.techquiry.app.database.RowHandler;
 import net.techquiry.app.database.SQLRunner;
 import net.techquiry.app.database.exception.DataAccessException;
 import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.database.row.InquiryRowMapper;
+import net.techquiry.app.database.row.UserLoginRowMapper;
 import net.techquiry.app.entity.Inquiry;
 import net.techquiry.app.entity.Observer;
 import net.techquiry.app.entity.UserLogin;
@@ -47,11 +50,22 @@ public class ObserverDao {
 	 */
 	private static final String OBSERVER_DELETE_SCRIPT = "/database/observer/delete.sql";
 
+	/**
+	 * The path of the SQL script for deleting an observer entry if it exists.
+	 */
+	private static final String OBSERVER_DELETE_PRESENT_SCRIPT = "/database/observer/delete_present.sql";
+
 	/**
 	 * The path of the SQL script for inserting an observer entry.
 	 */
 	private static final String OBSERVER_INSERT_SCRIPT = "/database/observer/insert.sql";
 
+	/**
+	 * The path of the SQL script for inserting an observer entry if it does not
+	 * exist.
+	 */
+	private static final String OBSERVER_INSERT_ABSENT_SCRIPT = "/database/observer/insert_absent.sql";
+
 	/**
 	 * The path of the SQL script for selecting an observer entry with an inquiry
 	 * id.
@@ -68,6 +82,21 @@ public class ObserverDao {
 	 */
 	private final SQLRunner runner;
 
+	/**
+	 * The mapper responsible for mapping the rows to {@link Inquiry} objects.
+	 */
+	private final InquiryRowMapper inquiryRowMapper;
+
+	/**
+	 * The mapper responsible for mapping the rows to {@link UserLogin} objects.
+	 */
+	private final UserLoginRowMapper userLoginRowMapper;
+
+	/**
+	 * The manager holding the caches invalidated by the writes of this object.
+	 */
+	private final EntityCacheManager cacheManager;
+
 	/**
 	 * This method checks whether the given observer entry exists inside the
 	 * application database.
@@ -137,6 +166,28 @@ public class ObserverDao {
 		int inquiryId = observer.getInquiryId();
 		int userId = observer.getUserId();
 		runner.runScript(OBSERVER_DELETE_SCRIPT, inquiryId, userId);
+		cacheManager.getInquiryCache().invalidate(inquiryId);
+	}
+
+	/**
+	 * This method deletes the observer entry with the provided information from the
+	 * application database in a single statement, if it exists.
+	 * 
+	 * @param observer The observer entry to delete
+	 * @return Whether the observer entry existed and was deleted
+	 * @throws DatabaseException If a database error occurs while deleting the
+	 *                           observer entry
+	 */
+	public boolean deleteIfPresent(Observer observer) throws DatabaseException {
+		log.debug("Deleting observer entry if present (observer=%s)".formatted(observer));
+		int inquiryId = observer.getInquiryId();
+		int userId = observer.getUserId();
+		int count = runner.runConditional(OBSERVER_DELETE_PRESENT_SCRIPT, inquiryId, userId);
+		if (count == 0) {
+			return false;
+		}
+		cacheManager.getInquiryCache().invalidate(inquiryId);
+		return true;
 	}
 
 	/**
@@ -152,6 +203,29 @@ public class ObserverDao {
 		int inquiryId = observer.getInquiryId();
 		int userId = observer.getUserId();
 		runner.runScript(OBSERVER_INSERT_SCRIPT, inquiryId, userId);
+		cacheManager.getInquiryCache().invalidate(inquiryId);
+	}
+
+	/**
+	 * This method inserts the given {@link Observer} object as a new observer entry
+	 * in the application database in a single statement, unless the entry already
+	 * exists or its inquiry does not exist.
+	 * 
+	 * @param observer The observer entry to insert
+	 * @return Whether the observer entry was inserted
+	 * @throws DatabaseException If a database error occurs while inserting the
+	 *                           observer entry
+	 */
+	public boolean insertIfAbsent(Observer observer) throws DatabaseException {
+		log.debug("Inserting observer entry if absent (observer=%s)".formatted(observer));
+		int inquiryId = observer.getInquiryId();
+		int userId = observer.getUserId();
+		int count = runner.runConditional(OBSERVER_INSERT_ABSENT_SCRIPT, userId, inquiryId);
+		if (count == 0) {
+			return false;
+		}
+		cacheManager.getInquiryCache().invalidate(inquiryId);
+		return true;
 	}
 
 	/**
@@ -166,31 +240,10 @@ public class ObserverDao {
 	 */
 	public List<UserLogin> selectFromInquiryId(int inquiryId) throws DatabaseException {
 		log.debug("Selecting observer entries (inquiryId=%s)".formatted(inquiryId));
-		List<LocalResult> results = runner.runScript(OBSERVER_SELECT_INQUIRY_ID_SCRIPT, inquiryId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(OBSERVER_SELECT_INQUIRY_ID_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<UserLogin> list = runner.runQuery(OBSERVER_SELECT_INQUIRY_ID_SCRIPT, userLoginRowMapper, inquiryId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(OBSERVER_SELECT_INQUIRY_ID_SCRIPT));
 		}
-		List<UserLogin> list = new ArrayList<>();
-		for (Map<String, Object> row : result) {
-			int userId = (int) row.get("user_id");
-			String username = (String) row.get("username");
-			String encodedHash = (String) row.get("password_hash");
-			String encodedSalt = (String) row.get("password_salt");
-			byte[] passwordHash;
-			byte[] passwordSalt;
-			try {
-				passwordHash = SecurityUtils.decodeBase64(encodedHash);
-				passwordSalt = SecurityUtils.decodeBase64(encodedSalt);
-			} catch (IllegalArgumentException exception) {
-				throw new DataAccessException("There was an error while retrieving the user login information!", exception);
-			}
-			UserLogin userLogin = new UserLogin(userId, username, passwordHash, passwordSalt);
-			list.add(userLogin);
-		}
 		return list;
 	}
 
@@ -206,25 +259,28 @@ public class ObserverDao {
 	 */
 	public List<Inquiry> selectFromUserId(int userId) throws DatabaseException {
 		log.debug("Selecting observer entries (userId=%s)".formatted(userId));
-		List<LocalResult> results = runner.runScript(OBSERVER_SELECT_USER_ID_SCRIPT, userId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(OBSERVER_SELECT_USER_ID_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<Inquiry> list = runner.runQuery(OBSERVER_SELECT_USER_ID_SCRIPT, inquiryRowMapper, userId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(OBSERVER_SELECT_USER_ID_SCRIPT));
 		}
-		List<Inquiry> list = new ArrayList<>();
-		for (Map<String, Object> row : result) {
-			int inquiryId = (int) row.get("inquiry_id");
-			int authorId = (int) row.get("user_id");
-			String title = (String) row.get("title");
-			String content = (String) row.get("content");
-			boolean anonymous = (int) row.get("anonymous") == 1;
-			Inquiry inquiry = new Inquiry(inquiryId, authorId, title, content, anonymous);
-			list.add(inquiry);
-		}
 		return list;
 	}
 
+	/**
+	 * This method hands the inquiry entries observed by the user with the given
+	 * user id to the given handler one by one, as they are read from the
+	 * application database, without loading them to memory all at once.
+	 * 
+	 * @param userId  The user id
+	 * @param handler The handler of the selected entries
+	 * @return The number of selected entries
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           inquiry information
+	 * @throws IOException       If the handler fails to handle an entry
+	 */
+	public int streamFromUserId(int userId, RowHandler<Inquiry> handler) throws DatabaseException, IOException {
+		log.debug("Streaming observer entries (userId=%s)".formatted(userId));
+		return runner.runStream(OBSERVER_SELECT_USER_ID_SCRIPT, inquiryRowMapper, handler, userId);
+	}
+
 }
@@ -1,6 +1,5 @@
 package net.techquiry.app.database.dao;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -9,10 +8,12 @@ import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.database.EntityCacheManager;
 import net.techquiry.app.database.LocalResult;
 import net.techquiry.app.database.SQLRunner;
 import net.techquiry.app.database.exception.DataAccessException;
 import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.database.row.ResponseRowMapper;
 import net.techquiry.app.entity.Response;
 
 /**
@@ -38,6 +39,11 @@ public class ResponseDao {
 	 */
 	private static final String RESPONSE_DELETE_SCRIPT = "/database/response/delete.sql";
 
+	/**
+	 * The path of the SQL script for deleting a response entry owned by a user.
+	 */
+	private static final String RESPONSE_DELETE_OWNED_SCRIPT = "/database/response/delete_owned.sql";
+
 	/**
 	 * The path of the SQL script for inserting a response entry.
 	 */
@@ -58,11 +64,26 @@ public class ResponseDao {
 	 */
 	private static final String RESPONSE_UPDATE_SCRIPT = "/database/response/update.sql";
 
+	/**
+	 * The path of the SQL script for updating a response entry owned by a user.
+	 */
+	private static final String RESPONSE_UPDATE_OWNED_SCRIPT = "/database/response/update_owned.sql";
+
 	/**
 	 * The runner responsible for executing the SQL scripts.
 	 */
 	private final SQLRunner runner;
 
+	/**
+	 * The mapper responsible for mapping the rows to {@link Response} objects.
+	 */
+	private final ResponseRowMapper responseRowMapper;
+
+	/**
+	 * The manager holding the cache in front of {@link #select(int)}.
+	 */
+	private final EntityCacheManager cacheManager;
+
 	/**
 	 * This method returns the number of response entries inside the application
 	 * database with the given inquiry id.
@@ -101,6 +122,31 @@ public class ResponseDao {
 	public void delete(int responseId) throws DatabaseException {
 		log.debug("Deleting response entry (responseId=%s)".formatted(responseId));
 		runner.runScript(RESPONSE_DELETE_SCRIPT, responseId);
+		cacheManager.getResponseCache().invalidate(responseId);
+		cacheManager.getInquiryCache().clear();
+	}
+
+	/**
+	 * This method deletes the response entry with the provided response id from
+	 * the application database in a single statement, if it belongs to the user
+	 * with the given user id.
+	 * 
+	 * @param responseId The response id of the response entry
+	 * @param userId     The user id of the owner of the response entry
+	 * @return Whether the response entry existed, belonged to the user and was
+	 *         deleted
+	 * @throws DatabaseException If a database error occurs while deleting the
+	 *                           response entry
+	 */
+	public boolean deleteIfOwned(int responseId, int userId) throws DatabaseException {
+		log.debug("Deleting owned response entry (responseId=%s, userId=%s)".formatted(responseId, userId));
+		int count = runner.runConditional(RESPONSE_DELETE_OWNED_SCRIPT, responseId, userId);
+		if (count == 0) {
+			return false;
+		}
+		cacheManager.getResponseCache().invalidate(responseId);
+		cacheManager.getInquiryCache().clear();
+		return true;
 	}
 
 	/**
@@ -120,6 +166,7 @@ public class ResponseDao {
 		boolean anonymous = response.getAnonymous();
 		String content = response.getContent();
 		List<LocalResult> results = runner.runScript(RESPONSE_INSERT_SCRIPT, inquiryId, userId, anonymous, content);
+		cacheManager.getInquiryCache().invalidate(inquiryId);
 		if (results.size() < 2) {
 			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(RESPONSE_INSERT_SCRIPT));
 		}
@@ -146,23 +193,10 @@ public class ResponseDao {
 	 */
 	public List<Response> selectFromInquiryId(int inquiryId) throws DatabaseException {
 		log.debug("Selecting response entries (inquiryId=%s)".formatted(inquiryId));
-		List<LocalResult> results = runner.runScript(RESPONSE_SELECT_INQUIRY_ID_SCRIPT, inquiryId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(RESPONSE_SELECT_INQUIRY_ID_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<Response> list = runner.runQuery(RESPONSE_SELECT_INQUIRY_ID_SCRIPT, responseRowMapper, inquiryId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(RESPONSE_SELECT_INQUIRY_ID_SCRIPT));
 		}
-		List<Response> list = new ArrayList<>();
-		for (Map<String, Object> row : result) {
-			int id = (int) row.get("response_id");
-			int userId = (int) row.get("user_id");
-			boolean anonymous = (int) row.get("anonymous") == 1;
-			String content = (String) row.get("content");
-			Response response = new Response(id, inquiryId, userId, anonymous, content);
-			list.add(response);
-		}
 		return list;
 	}
 
@@ -176,25 +210,28 @@ public class ResponseDao {
 	 *                           response information
 	 */
 	public Response select(int responseId) throws DatabaseException {
+		return cacheManager.getResponseCache().get(responseId, () -> load(responseId));
+	}
+
+	/**
+	 * This method loads the only response entry with the given response id from the
+	 * application database, bypassing the entity cache.
+	 * 
+	 * @param responseId The response id
+	 * @return The response entry with the given response id
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           response information
+	 */
+	private Response load(int responseId) throws DatabaseException {
 		log.debug("Selecting response entry (responseId=%s)".formatted(responseId));
-		List<LocalResult> results = runner.runScript(RESPONSE_SELECT_SCRIPT, responseId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(RESPONSE_SELECT_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<Response> list = runner.runQuery(RESPONSE_SELECT_SCRIPT, responseRowMapper, responseId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(RESPONSE_SELECT_SCRIPT));
 		}
-		List<Map<String, Object>> list = result.list();
 		if (list.isEmpty()) {
 			return null;
 		}
-		Map<String, Object> row = list.getFirst();
-		int inquiryId = (int) row.get("inquiry_id");
-		int userId = (int) row.get("user_id");
-		boolean anonymous = (int) row.get("anonymous") == 1;
-		String content = (String) row.get("content");
-		return new Response(responseId, inquiryId, userId, anonymous, content);
+		return list.getFirst();
 	}
 
 	/**
@@ -214,6 +251,34 @@ public class ResponseDao {
 		boolean anonymous = response.getAnonymous();
 		String content = response.getContent();
 		runner.runScript(RESPONSE_UPDATE_SCRIPT, inquiryId, userId, anonymous, content, id);
+		cacheManager.getResponseCache().invalidate(id);
+		cacheManager.getInquiryCache().clear();
+	}
+
+	/**
+	 * This method replaces the anonymity and content of a response entry with
+	 * those contained in the {@link Response} object in a single statement, if the
+	 * entry with the response id of the object belongs to the user with the user
+	 * id of the object. The inquiry of the entry is left unchanged.
+	 * 
+	 * @param response The response entry to update
+	 * @return Whether the response entry existed, belonged to the user and was
+	 *         updated
+	 * @throws DatabaseException If a database error occurs while updating the
+	 *                           response entry
+	 */
+	public boolean updateIfOwned(Response response) throws DatabaseException {
+		log.debug("Updating owned response entry (response=%s)".formatted(response));
+		int id = response.getResponseId();
+		int userId = response.getUserId();
+		boolean anonymous = response.getAnonymous();
+		String content = response.getContent();
+		int count = runner.runConditional(RESPONSE_UPDATE_OWNED_SCRIPT, anonymous, content, id, userId);
+		if (count == 0) {
+			return false;
+		}
+		cacheManager.getResponseCache().invalidate(id);
+		return true;
 	}
 
 }
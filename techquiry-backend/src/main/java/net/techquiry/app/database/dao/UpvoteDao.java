@@ -1,6 +1,6 @@
 package net.techquiry.app.database.dao;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -9,11 +9,14 @@ import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
-import net.techquiry.app.common.SecurityUtils;
+import net.techquiry.app.database.EntityCacheManager;
 import net.techquiry.app.database.LocalResult;
+import net.techquiry.app.database.RowHandler;
 import net.techquiry.app.database.SQLRunner;
 import net.techquiry.app.database.exception.DataAccessException;
 import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.database.row.ResponseRowMapper;
+import net.techquiry.app.database.row.UserLoginRowMapper;
 import net.techquiry.app.entity.Response;
 import net.techquiry.app.entity.Upvote;
 import net.techquiry.app.entity.UserLogin;
@@ -47,11 +50,22 @@ public class UpvoteDao {
 	 */
 	private static final String UPVOTE_DELETE_SCRIPT = "/database/upvote/delete.sql";
 
+	/**
+	 * The path of the SQL script for deleting an upvote entry if it exists.
+	 */
+	private static final String UPVOTE_DELETE_PRESENT_SCRIPT = "/database/upvote/delete_present.sql";
+
 	/**
 	 * The path of the SQL script for inserting an upvote entry.
 	 */
 	private static final String UPVOTE_INSERT_SCRIPT = "/database/upvote/insert.sql";
 
+	/**
+	 * The path of the SQL script for inserting an upvote entry if it does not
+	 * exist.
+	 */
+	private static final String UPVOTE_INSERT_ABSENT_SCRIPT = "/database/upvote/insert_absent.sql";
+
 	/**
 	 * The path of the SQL script for selecting an upvote entry with a response id.
 	 */
@@ -67,6 +81,21 @@ public class UpvoteDao {
 	 */
 	private final SQLRunner runner;
 
+	/**
+	 * The mapper responsible for mapping the rows to {@link Response} objects.
+	 */
+	private final ResponseRowMapper responseRowMapper;
+
+	/**
+	 * The mapper responsible for mapping the rows to {@link UserLogin} objects.
+	 */
+	private final UserLoginRowMapper userLoginRowMapper;
+
+	/**
+	 * The manager holding the caches invalidated by the writes of this object.
+	 */
+	private final EntityCacheManager cacheManager;
+
 	/**
 	 * This method checks whether the given upvote entry exists inside the
 	 * application database.
@@ -136,6 +165,28 @@ public class UpvoteDao {
 		int responseId = upvote.getResponseId();
 		int userId = upvote.getUserId();
 		runner.runScript(UPVOTE_DELETE_SCRIPT, responseId, userId);
+		cacheManager.getResponseCache().invalidate(responseId);
+	}
+
+	/**
+	 * This method deletes the upvote entry with the provided information from the
+	 * application database in a single statement, if it exists.
+	 * 
+	 * @param upvote The upvote entry to delete
+	 * @return Whether the upvote entry existed and was deleted
+	 * @throws DatabaseException If a database error occurs while deleting the
+	 *                           upvote entry
+	 */
+	public boolean deleteIfPresent(Upvote upvote) throws DatabaseException {
+		log.debug("Deleting upvote entry if present (upvote=%s)".formatted(upvote));
+		int responseId = upvote.getResponseId();
+		int userId = upvote.getUserId();
+		int count = runner.runConditional(UPVOTE_DELETE_PRESENT_SCRIPT, responseId, userId);
+		if (count == 0) {
+			return false;
+		}
+		cacheManager.getResponseCache().invalidate(responseId);
+		return true;
 	}
 
 	/**
@@ -151,6 +202,29 @@ public class UpvoteDao {
 		int responseId = upvote.getResponseId();
 		int userId = upvote.getUserId();
 		runner.runScript(UPVOTE_INSERT_SCRIPT, responseId, userId);
+		cacheManager.getResponseCache().invalidate(responseId);
+	}
+
+	/**
+	 * This method inserts the given {@link Upvote} object as a new upvote entry in
+	 * the application database in a single statement, unless the entry already
+	 * exists or its response does not exist.
+	 * 
+	 * @param upvote The upvote entry to insert
+	 * @return Whether the upvote entry was inserted
+	 * @throws DatabaseException If a database error occurs while inserting the
+	 *                           upvote entry
+	 */
+	public boolean insertIfAbsent(Upvote upvote) throws DatabaseException {
+		log.debug("Inserting upvote entry if absent (upvote=%s)".formatted(upvote));
+		int responseId = upvote.getResponseId();
+		int userId = upvote.getUserId();
+		int count = runner.runConditional(UPVOTE_INSERT_ABSENT_SCRIPT, userId, responseId);
+		if (count == 0) {
+			return false;
+		}
+		cacheManager.getResponseCache().invalidate(responseId);
+		return true;
 	}
 
 	/**
@@ -165,31 +239,10 @@ public class UpvoteDao {
 	 */
 	public List<UserLogin> selectFromResponseId(int responseId) throws DatabaseException {
 		log.debug("Selecting upvote entries (responseId=%s)".formatted(responseId));
-		List<LocalResult> results = runner.runScript(UPVOTE_SELECT_RESPONSE_ID_SCRIPT, responseId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(UPVOTE_SELECT_RESPONSE_ID_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<UserLogin> list = runner.runQuery(UPVOTE_SELECT_RESPONSE_ID_SCRIPT, userLoginRowMapper, responseId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(UPVOTE_SELECT_RESPONSE_ID_SCRIPT));
 		}
-		List<UserLogin> list = new ArrayList<>();
-		for (Map<String, Object> row : result) {
-			int id = (int) row.get("user_id");
-			String username = (String) row.get("username");
-			String encodedHash = (String) row.get("password_hash");
-			String encodedSalt = (String) row.get("password_salt");
-			byte[] passwordHash;
-			byte[] passwordSalt;
-			try {
-				passwordHash = SecurityUtils.decodeBase64(encodedHash);
-				passwordSalt = SecurityUtils.decodeBase64(encodedSalt);
-			} catch (IllegalArgumentException exception) {
-				throw new DataAccessException("There was an error while retrieving the user login information!", exception);
-			}
-			UserLogin userLogin = new UserLogin(id, username, passwordHash, passwordSalt);
-			list.add(userLogin);
-		}
 		return list;
 	}
 
@@ -205,25 +258,28 @@ public class UpvoteDao {
 	 */
 	public List<Response> selectFromUserId(int userId) throws DatabaseException {
 		log.debug("Selecting upvote entries (userId=%s)".formatted(userId));
-		List<LocalResult> results = runner.runScript(UPVOTE_SELECT_USER_ID_SCRIPT, userId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(UPVOTE_SELECT_USER_ID_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<Response> list = runner.runQuery(UPVOTE_SELECT_USER_ID_SCRIPT, responseRowMapper, userId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(UPVOTE_SELECT_USER_ID_SCRIPT));
 		}
-		List<Response> list = new ArrayList<>();
-		for (Map<String, Object> row : result) {
-			int responseId = (int) row.get("response_id");
-			int inquiryId = (int) row.get("inquiry_id");
-			int authorId = (int) row.get("user_id");
-			boolean anonymous = (int) row.get("anonymous") == 1;
-			String content = (String) row.get("content");
-			Response response = new Response(responseId, inquiryId, authorId, anonymous, content);
-			list.add(response);
-		}
 		return list;
 	}
 
+	/**
+	 * This method hands the response entries upvoted by the user with the given
+	 * user id to the given handler one by one, as they are read from the
+	 * application database, without loading them to memory all at once.
+	 * 
+	 * @param userId  The user id
+	 * @param handler The handler of the selected entries
+	 * @return The number of selected entries
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           response information
+	 * @throws IOException       If the handler fails to handle an entry
+	 */
+	public int streamFromUserId(int userId, RowHandler<Response> handler) throws DatabaseException, IOException {
+		log.debug("Streaming upvote entries (userId=%s)".formatted(userId));
+		return runner.runStream(UPVOTE_SELECT_USER_ID_SCRIPT, responseRowMapper, handler, userId);
+	}
+
 }
@@ -1,18 +1,19 @@
 package net.techquiry.app.database.dao;
 
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
-import net.techquiry.app.database.LocalResult;
+import net.techquiry.app.database.DatabaseExecutor;
 import net.techquiry.app.database.SQLRunner;
 import net.techquiry.app.database.exception.DataAccessException;
 import net.techquiry.app.database.exception.DatabaseException;
 import net.techquiry.app.database.exception.SQLRunnerLoadException;
+import net.techquiry.app.database.row.UserDataRowMapper;
 import net.techquiry.app.entity.UserData;
 
 /**
@@ -47,11 +48,26 @@ public class UserDataDao {
 	 */
 	private static final String USER_DATA_UPDATE_SCRIPT = "/database/user_data/update.sql";
 
+	/**
+	 * The path of the SQL script for updating the icon of a user data entry.
+	 */
+	private static final String USER_DATA_UPDATE_ICON_SCRIPT = "/database/user_data/update_icon.sql";
+
 	/**
 	 * The runner responsible for executing the SQL scripts.
 	 */
 	private final SQLRunner runner;
 
+	/**
+	 * The mapper responsible for mapping the rows to {@link UserData} objects.
+	 */
+	private final UserDataRowMapper userDataRowMapper;
+
+	/**
+	 * The executor running the asynchronous queries.
+	 */
+	private final DatabaseExecutor executor;
+
 	/**
 	 * This method deletes the user data entry with the provided user id from the
 	 * application database.
@@ -71,7 +87,7 @@ public class UserDataDao {
 
 	/**
 	 * This method inserts the given {@link UserData} object as a new user data
-	 * entry in the application database.
+	 * entry without an icon in the application database.
 	 * 
 	 * @param userData The user data entry to insert
 	 * @throws DatabaseException If a database occurs while inserting the user data
@@ -82,13 +98,12 @@ public class UserDataDao {
 		int id = userData.getUserId();
 		String firstName = userData.getFirstName();
 		String lastName = userData.getLastName();
-		byte[] icon = userData.getIcon();
-		runner.runScript(USER_DATA_INSERT_SCRIPT, id, firstName, lastName, icon);
+		runner.runScript(USER_DATA_INSERT_SCRIPT, id, firstName, lastName);
 	}
 
 	/**
 	 * This method returns the only user data entry with the given user id from the
-	 * application database.
+	 * application database. Only the hash of the icon is loaded.
 	 * 
 	 * @param userId The user id
 	 * @return The user data entry with the given id
@@ -97,29 +112,32 @@ public class UserDataDao {
 	 */
 	public UserData select(int userId) throws DatabaseException {
 		log.debug("Selecting user data entry (userId=%s)".formatted(userId));
-		List<LocalResult> results = runner.runScript(USER_DATA_SELECT_SCRIPT, userId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(USER_DATA_SELECT_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<UserData> list = runner.runQuery(USER_DATA_SELECT_SCRIPT, userDataRowMapper, userId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(USER_DATA_SELECT_SCRIPT));
 		}
-		List<Map<String, Object>> list = result.list();
 		if (list.isEmpty()) {
 			return null;
 		}
-		Map<String, Object> row = list.getFirst();
-		String firstName = (String) row.get("first_name");
-		String lastName = (String) row.get("last_name");
-		byte[] icon = (byte[]) row.get("icon");
-		return new UserData(userId, firstName, lastName, icon);
+		return list.getFirst();
+	}
+
+	/**
+	 * This method asynchronously retrieves the only user data entry with the given
+	 * user id from the application database on the {@link DatabaseExecutor}.
+	 * 
+	 * @param userId The user id
+	 * @return The future of the user data entry with the given id
+	 * @see #select(int)
+	 */
+	public CompletableFuture<UserData> selectAsync(int userId) {
+		return executor.submit(() -> select(userId));
 	}
 
 	/**
-	 * This method replaces the information of a user data entry with the data
-	 * contained in the {@link UserData} object, using the user id from the object
-	 * to select the correct entry.
+	 * This method replaces the names of a user data entry with those contained in
+	 * the {@link UserData} object, using the user id from the object to select the
+	 * correct entry. The icon of the entry is left unchanged.
 	 * 
 	 * @param userData The user data entry to update
 	 * @throws DatabaseException If a database error occurs while updating the user
@@ -130,8 +148,21 @@ public class UserDataDao {
 		int id = userData.getUserId();
 		String firstName = userData.getFirstName();
 		String lastName = userData.getLastName();
-		byte[] icon = userData.getIcon();
-		runner.runScript(USER_DATA_UPDATE_SCRIPT, firstName, lastName, icon, id);
+		runner.runScript(USER_DATA_UPDATE_SCRIPT, firstName, lastName, id);
+	}
+
+	/**
+	 * This method sets the icon of the user data entry with the given user id to
+	 * the icon entry with the given hash, which must already exist.
+	 * 
+	 * @param userId   The user id of the user data entry
+	 * @param iconHash The hash of the icon, or null to remove the icon
+	 * @throws DatabaseException If a database error occurs while updating the user
+	 *                           data entry
+	 */
+	public void updateIcon(int userId, String iconHash) throws DatabaseException {
+		log.debug("Updating user data entry icon (userId=%s, iconHash=%s)".formatted(userId, iconHash));
+		runner.runScript(USER_DATA_UPDATE_ICON_SCRIPT, iconHash, userId);
 	}
 
 }
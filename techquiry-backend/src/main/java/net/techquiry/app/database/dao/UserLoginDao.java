@@ -1,8 +1,8 @@
 package net.techquiry.app.database.dao;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
@@ -10,10 +10,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import net.techquiry.app.common.SecurityUtils;
+import net.techquiry.app.database.DatabaseExecutor;
+import net.techquiry.app.database.EntityCacheManager;
 import net.techquiry.app.database.LocalResult;
 import net.techquiry.app.database.SQLRunner;
 import net.techquiry.app.database.exception.DataAccessException;
 import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.database.row.UserLoginRowMapper;
 import net.techquiry.app.entity.UserLogin;
 
 /**
@@ -48,6 +51,12 @@ public class UserLoginDao {
 	 */
 	private static final String USER_LOGIN_RANGE_SCRIPT = "/database/user_login/range.sql";
 
+	/**
+	 * The path of the SQL script for selecting the user login entries following a
+	 * given user id.
+	 */
+	private static final String USER_LOGIN_RANGE_AFTER_SCRIPT = "/database/user_login/range_after.sql";
+
 	/**
 	 * The path of the SQL script for selecting a user login entry with an id.
 	 */
@@ -68,6 +77,21 @@ public class UserLoginDao {
 	 */
 	private final SQLRunner runner;
 
+	/**
+	 * The mapper responsible for mapping the rows to {@link UserLogin} objects.
+	 */
+	private final UserLoginRowMapper userLoginRowMapper;
+
+	/**
+	 * The manager holding the cache in front of {@link #select(int)}.
+	 */
+	private final EntityCacheManager cacheManager;
+
+	/**
+	 * The executor running the asynchronous queries.
+	 */
+	private final DatabaseExecutor executor;
+
 	/**
 	 * This method returns the number of user login entries inside the application
 	 * database.
@@ -105,6 +129,7 @@ public class UserLoginDao {
 	public void delete(int userId) throws DatabaseException {
 		log.debug("Deleting user login entry (userId=%s)".formatted(userId));
 		runner.runScript(USER_LOGIN_DELETE_SCRIPT, userId);
+		cacheManager.clear();
 	}
 
 	/**
@@ -153,30 +178,29 @@ public class UserLoginDao {
 	 */
 	public List<UserLogin> range(int count, int offset) throws DatabaseException {
 		log.debug("Selecting user login entries (count=%s, offset=%s)".formatted(count, offset));
-		List<LocalResult> results = runner.runScript(USER_LOGIN_RANGE_SCRIPT, offset, count);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(USER_LOGIN_RANGE_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<UserLogin> range = runner.runQuery(USER_LOGIN_RANGE_SCRIPT, userLoginRowMapper, offset, count);
+		if (range == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(USER_LOGIN_RANGE_SCRIPT));
 		}
-		List<UserLogin> range = new ArrayList<>(count);
-		for (Map<String, Object> row : result) {
-			int id = (int) row.get("user_id");
-			String username = (String) row.get("username");
-			String encodedHash = (String) row.get("password_hash");
-			String encodedSalt = (String) row.get("password_salt");
-			byte[] passwordHash;
-			byte[] passwordSalt;
-			try {
-				passwordHash = SecurityUtils.decodeBase64(encodedHash);
-				passwordSalt = SecurityUtils.decodeBase64(encodedSalt);
-			} catch (IllegalArgumentException exception) {
-				throw new DataAccessException("Could not decode the user login information!", exception);
-			}
-			UserLogin userLogin = new UserLogin(id, username, passwordHash, passwordSalt);
-			range.add(userLogin);
+		return range;
+	}
+
+	/**
+	 * This method returns a list of user login entries from the application
+	 * database, that has the given size and contains the entries with the
+	 * smallest user ids larger than the given one, ordered by their user id.
+	 * 
+	 * @param count The number of user login entries
+	 * @param after The user id the entries must follow
+	 * @return The selected user login entry range
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           user login information
+	 */
+	public List<UserLogin> rangeAfter(int count, int after) throws DatabaseException {
+		log.debug("Selecting user login entries (count=%s, after=%s)".formatted(count, after));
+		List<UserLogin> range = runner.runQuery(USER_LOGIN_RANGE_AFTER_SCRIPT, userLoginRowMapper, after, count);
+		if (range == null) {
+			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(USER_LOGIN_RANGE_AFTER_SCRIPT));
 		}
 		return range;
 	}
@@ -191,32 +215,41 @@ public class UserLoginDao {
 	 *                           user login information
 	 */
 	public UserLogin select(int userId) throws DatabaseException {
+		return cacheManager.getUserLoginCache().get(userId, () -> load(userId));
+	}
+
+	/**
+	 * This method asynchronously retrieves the only user login entry with the
+	 * given user id from the application database on the
+	 * {@link DatabaseExecutor}.
+	 * 
+	 * @param userId The user id
+	 * @return The future of the user login entry with the given id
+	 * @see #select(int)
+	 */
+	public CompletableFuture<UserLogin> selectAsync(int userId) {
+		return executor.submit(() -> select(userId));
+	}
+
+	/**
+	 * This method loads the only user login entry with the given user id from the
+	 * application database, bypassing the entity cache.
+	 * 
+	 * @param userId The user id
+	 * @return The user login entry with the given user id
+	 * @throws DatabaseException If a database error occurs while retrieving the
+	 *                           user login information
+	 */
+	private UserLogin load(int userId) throws DatabaseException {
 		log.debug("Selecting user login entry (userId=%s)".formatted(userId));
-		List<LocalResult> results = runner.runScript(USER_LOGIN_SELECT_SCRIPT, userId);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(USER_LOGIN_SELECT_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<UserLogin> list = runner.runQuery(USER_LOGIN_SELECT_SCRIPT, userLoginRowMapper, userId);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(USER_LOGIN_SELECT_SCRIPT));
 		}
-		List<Map<String, Object>> list = result.list();
 		if (list.isEmpty()) {
 			return null;
 		}
-		Map<String, Object> row = list.getFirst();
-		String username = (String) row.get("username");
-		String encodedHash = (String) row.get("password_hash");
-		String encodedSalt = (String) row.get("password_salt");
-		byte[] passwordHash;
-		byte[] passwordSalt;
-		try {
-			passwordHash = SecurityUtils.decodeBase64(encodedHash);
-			passwordSalt = SecurityUtils.decodeBase64(encodedSalt);
-		} catch (IllegalArgumentException exception) {
-			throw new DataAccessException("There was an error while retrieving the user login information!", exception);
-		}
-		return new UserLogin(userId, username, passwordHash, passwordSalt);
+		return list.getFirst();
 	}
 
 	/**
@@ -230,31 +263,14 @@ public class UserLoginDao {
 	 */
 	public UserLogin selectFromUsername(String username) throws DatabaseException {
 		log.debug("Selecting user login entry (username=%s)".formatted(username));
-		List<LocalResult> results = runner.runScript(USER_LOGIN_SELECT_USERNAME_SCRIPT, username);
-		if (results.isEmpty()) {
-			throw new DataAccessException(DataAccessException.INVALID_RESULT_COUNT_MESSAGE.formatted(USER_LOGIN_SELECT_USERNAME_SCRIPT));
-		}
-		LocalResult result = results.getFirst();
-		if (result == null) {
+		List<UserLogin> list = runner.runQuery(USER_LOGIN_SELECT_USERNAME_SCRIPT, userLoginRowMapper, username);
+		if (list == null) {
 			throw new DataAccessException(DataAccessException.MISSING_RESULT_MESSAGE.formatted(USER_LOGIN_SELECT_USERNAME_SCRIPT));
 		}
-		List<Map<String, Object>> list = result.list();
 		if (list.isEmpty()) {
 			return null;
 		}
-		Map<String, Object> row = list.getFirst();
-		int id = (int) row.get("user_id");
-		String encodedHash = (String) row.get("password_hash");
-		String encodedSalt = (String) row.get("password_salt");
-		byte[] passwordHash;
-		byte[] passwordSalt;
-		try {
-			passwordHash = SecurityUtils.decodeBase64(encodedHash);
-			passwordSalt = SecurityUtils.decodeBase64(encodedSalt);
-		} catch (IllegalArgumentException exception) {
-			throw new DataAccessException("There was an error while retrieving the user login information!", exception);
-		}
-		return new UserLogin(id, username, passwordHash, passwordSalt);
+		return list.getFirst();
 	}
 
 	/**
@@ -275,6 +291,7 @@ public class UserLoginDao {
 		String encodedHash = SecurityUtils.encodeBase64(passwordHash);
 		String encodedSalt = SecurityUtils.encodeBase64(passwordSalt);
 		runner.runScript(USER_LOGIN_UPDATE_SCRIPT, username, encodedHash, encodedSalt, id);
+		cacheManager.getUserLoginCache().invalidate(id);
 	}
 
 }
@@ -0,0 +1,47 @@
+package net.techquiry.app.database.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+import net.techquiry.app.database.RowMapper;
+import net.techquiry.app.entity.FeedEntry;
+import net.techquiry.app.entity.Inquiry;
+
+/**
+ * The {@link FeedEntryRowMapper} class is responsible for mapping the rows of
+ * the inquiry feed to {@link FeedEntry} objects. The inquiry columns are mapped
+ * by the {@link InquiryRowMapper}.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedEntryRowMapper implements RowMapper<FeedEntry> {
+
+	/**
+	 * The mapper responsible for mapping the inquiry columns.
+	 */
+	private final InquiryRowMapper inquiryRowMapper;
+
+	@Override
+	public String[] getColumns() {
+		String[] inquiryColumns = inquiryRowMapper.getColumns();
+		String[] columns = Arrays.copyOf(inquiryColumns, inquiryColumns.length + 1);
+		columns[inquiryColumns.length] = "observing";
+		return columns;
+	}
+
+	@Override
+	public FeedEntry mapRow(ResultSet resultSet, int[] columns) throws SQLException {
+		Inquiry inquiry = inquiryRowMapper.mapRow(resultSet, columns);
+		boolean observing = resultSet.getInt(columns[columns.length - 1]) == 1;
+		return new FeedEntry(inquiry, observing);
+	}
+
+}
@@ -0,0 +1,38 @@
+package net.techquiry.app.database.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.stereotype.Component;
+
+import net.techquiry.app.database.RowMapper;
+import net.techquiry.app.entity.Icon;
+
+/**
+ * The {@link IconRowMapper} class is responsible for mapping the rows of the
+ * icon table to {@link Icon} objects.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+public class IconRowMapper implements RowMapper<Icon> {
+
+	/**
+	 * The labels of the columns read by the mapper.
+	 */
+	private static final String[] COLUMNS = { "icon_hash", "data" };
+
+	@Override
+	public String[] getColumns() {
+		return COLUMNS;
+	}
+
+	@Override
+	public Icon mapRow(ResultSet resultSet, int[] columns) throws SQLException {
+		String hash = resultSet.getString(columns[0]);
+		byte[] data = resultSet.getBytes(columns[1]);
+		return new Icon(hash, data);
+	}
+
+}
@@ -0,0 +1,39 @@
+package net.techquiry.app.database.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.stereotype.Component;
+
+import net.techquiry.app.database.RowMapper;
+import net.techquiry.app.entity.IconVariant;
+
+/**
+ * The {@link IconVariantRowMapper} class is responsible for mapping the rows of
+ * the icon_variant table to {@link IconVariant} objects.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+public class IconVariantRowMapper implements RowMapper<IconVariant> {
+
+	/**
+	 * The labels of the columns read by the mapper.
+	 */
+	private static final String[] COLUMNS = { "icon_hash", "size", "data" };
+
+	@Override
+	public String[] getColumns() {
+		return COLUMNS;
+	}
+
+	@Override
+	public IconVariant mapRow(ResultSet resultSet, int[] columns) throws SQLException {
+		String hash = resultSet.getString(columns[0]);
+		int size = resultSet.getInt(columns[1]);
+		byte[] data = resultSet.getBytes(columns[2]);
+		return new IconVariant(hash, size, data);
+	}
+
+}
@@ -0,0 +1,43 @@
+package net.techquiry.app.database.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.stereotype.Component;
+
+import net.techquiry.app.database.RowMapper;
+import net.techquiry.app.entity.Inquiry;
+
+/**
+ * The {@link InquiryRowMapper} class is responsible for mapping the rows of the
+ * inquiry table to {@link Inquiry} objects.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+public class InquiryRowMapper implements RowMapper<Inquiry> {
+
+	/**
+	 * The labels of the columns read by the mapper.
+	 */
+	private static final String[] COLUMNS = { "inquiry_id", "user_id", "title", "content", "anonymous", "response_count", "observer_count" };
+
+	@Override
+	public String[] getColumns() {
+		return COLUMNS;
+	}
+
+	@Override
+	public Inquiry mapRow(ResultSet resultSet, int[] columns) throws SQLException {
+		int inquiryId = resultSet.getInt(columns[0]);
+		int userId = resultSet.getInt(columns[1]);
+		String title = resultSet.getString(columns[2]);
+		String content = resultSet.getString(columns[3]);
+		boolean anonymous = resultSet.getInt(columns[4]) == 1;
+		int responseCount = resultSet.getInt(columns[5]);
+		int observerCount = resultSet.getInt(columns[6]);
+		return new Inquiry(inquiryId, userId, title, content, anonymous, responseCount, observerCount);
+	}
+
+}
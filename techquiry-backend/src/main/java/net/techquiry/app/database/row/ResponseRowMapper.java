@@ -0,0 +1,42 @@
+package net.techquiry.app.database.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.stereotype.Component;
+
+import net.techquiry.app.database.RowMapper;
+import net.techquiry.app.entity.Response;
+
+/**
+ * The {@link ResponseRowMapper} class is responsible for mapping the rows of the
+ * response table to {@link Response} objects.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+public class ResponseRowMapper implements RowMapper<Response> {
+
+	/**
+	 * The labels of the columns read by the mapper.
+	 */
+	private static final String[] COLUMNS = { "response_id", "inquiry_id", "user_id", "anonymous", "content", "upvote_count" };
+
+	@Override
+	public String[] getColumns() {
+		return COLUMNS;
+	}
+
+	@Override
+	public Response mapRow(ResultSet resultSet, int[] columns) throws SQLException {
+		int responseId = resultSet.getInt(columns[0]);
+		int inquiryId = resultSet.getInt(columns[1]);
+		int userId = resultSet.getInt(columns[2]);
+		boolean anonymous = resultSet.getInt(columns[3]) == 1;
+		String content = resultSet.getString(columns[4]);
+		int upvoteCount = resultSet.getInt(columns[5]);
+		return new Response(responseId, inquiryId, userId, anonymous, content, upvoteCount);
+	}
+
+}
@@ -0,0 +1,75 @@
+package net.techquiry.app.database.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import lombok.RequiredArgsConstructor;
+
+import net.techquiry.app.database.RowMapper;
+import net.techquiry.app.entity.Inquiry;
+import net.techquiry.app.entity.SearchEntry;
+
+/**
+ * The {@link SearchEntryRowMapper} class is responsible for mapping the rows of
+ * the inquiry search results to {@link SearchEntry} objects. The inquiry columns
+ * are mapped by the {@link InquiryRowMapper}. The snippet is escaped as HTML
+ * before its matched terms are enclosed in <code>mark</code> elements, so that
+ * the markup of the searched text is never interpreted.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchEntryRowMapper implements RowMapper<SearchEntry> {
+
+	/**
+	 * The character preceding each matched term of the snippet.
+	 */
+	private static final String MATCH_START = "\u0002";
+
+	/**
+	 * The character following each matched term of the snippet.
+	 */
+	private static final String MATCH_END = "\u0003";
+
+	/**
+	 * The mapper responsible for mapping the inquiry columns.
+	 */
+	private final InquiryRowMapper inquiryRowMapper;
+
+	@Override
+	public String[] getColumns() {
+		String[] inquiryColumns = inquiryRowMapper.getColumns();
+		String[] columns = Arrays.copyOf(inquiryColumns, inquiryColumns.length + 3);
+		columns[inquiryColumns.length] = "score";
+		columns[inquiryColumns.length + 1] = "position";
+		columns[inquiryColumns.length + 2] = "snippet";
+		return columns;
+	}
+
+	@Override
+	public SearchEntry mapRow(ResultSet resultSet, int[] columns) throws SQLException {
+		Inquiry inquiry = inquiryRowMapper.mapRow(resultSet, columns);
+		double score = resultSet.getDouble(columns[columns.length - 3]);
+		int position = resultSet.getInt(columns[columns.length - 2]);
+		String snippet = resultSet.getString(columns[columns.length - 1]);
+		return new SearchEntry(inquiry, score, position, snippet == null ? "" : highlight(snippet));
+	}
+
+	/**
+	 * This method escapes the given snippet as HTML and encloses its matched
+	 * terms in <code>mark</code> elements.
+	 *
+	 * @param snippet The snippet with the matched terms delimited
+	 * @return The highlighted snippet
+	 */
+	private static String highlight(String snippet) {
+		return HtmlUtils.htmlEscape(snippet).replace(MATCH_START, "<mark>").replace(MATCH_END, "</mark>");
+	}
+
+}
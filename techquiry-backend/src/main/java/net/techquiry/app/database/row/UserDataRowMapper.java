@@ -0,0 +1,40 @@
+package net.techquiry.app.database.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.stereotype.Component;
+
+import net.techquiry.app.database.RowMapper;
+import net.techquiry.app.entity.UserData;
+
+/**
+ * The {@link UserDataRowMapper} class is responsible for mapping the rows of the
+ * user_data table to {@link UserData} objects.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+public class UserDataRowMapper implements RowMapper<UserData> {
+
+	/**
+	 * The labels of the columns read by the mapper.
+	 */
+	private static final String[] COLUMNS = { "user_id", "first_name", "last_name", "icon_hash" };
+
+	@Override
+	public String[] getColumns() {
+		return COLUMNS;
+	}
+
+	@Override
+	public UserData mapRow(ResultSet resultSet, int[] columns) throws SQLException {
+		int userId = resultSet.getInt(columns[0]);
+		String firstName = resultSet.getString(columns[1]);
+		String lastName = resultSet.getString(columns[2]);
+		String iconHash = resultSet.getString(columns[3]);
+		return new UserData(userId, firstName, lastName, iconHash);
+	}
+
+}
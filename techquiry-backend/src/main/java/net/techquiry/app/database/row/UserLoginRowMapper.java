@@ -0,0 +1,50 @@
+package net.techquiry.app.database.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.stereotype.Component;
+
+import net.techquiry.app.common.SecurityUtils;
+import net.techquiry.app.database.RowMapper;
+import net.techquiry.app.database.exception.DataAccessException;
+import net.techquiry.app.entity.UserLogin;
+
+/**
+ * The {@link UserLoginRowMapper} class is responsible for mapping the rows of
+ * the user_login table to {@link UserLogin} objects.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+public class UserLoginRowMapper implements RowMapper<UserLogin> {
+
+	/**
+	 * The labels of the columns read by the mapper.
+	 */
+	private static final String[] COLUMNS = { "user_id", "username", "password_hash", "password_salt" };
+
+	@Override
+	public String[] getColumns() {
+		return COLUMNS;
+	}
+
+	@Override
+	public UserLogin mapRow(ResultSet resultSet, int[] columns) throws SQLException, DataAccessException {
+		int userId = resultSet.getInt(columns[0]);
+		String username = resultSet.getString(columns[1]);
+		String encodedHash = resultSet.getString(columns[2]);
+		String encodedSalt = resultSet.getString(columns[3]);
+		byte[] passwordHash;
+		byte[] passwordSalt;
+		try {
+			passwordHash = SecurityUtils.decodeBase64(encodedHash);
+			passwordSalt = SecurityUtils.decodeBase64(encodedSalt);
+		} catch (IllegalArgumentException exception) {
+			throw new DataAccessException("There was an error while retrieving the user login information!", exception);
+		}
+		return new UserLogin(userId, username, passwordHash, passwordSalt);
+	}
+
+}
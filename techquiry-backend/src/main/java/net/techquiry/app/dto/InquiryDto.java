@@ -60,4 +60,36 @@ public class InquiryDto {
 	@Schema(description = "Inquiry anonymous flag", example = "false")
 	private Boolean anonymous;
 
+	/**
+	 * The number of responses to the inquiry
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Inquiry response count", example = "0")
+	private Integer responseCount;
+
+	/**
+	 * The number of users observing the inquiry
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Inquiry observer count", example = "0")
+	private Integer observerCount;
+
+	/**
+	 * Whether the current user is observing the inquiry
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Whether the current user observes the inquiry", example = "false")
+	private Boolean observing;
+
+	/**
+	 * The snippet of the text matching the search query
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Search match snippet, escaped as HTML, with the matched terms enclosed in <mark> tags", example = "An <mark>example</mark> inquiry")
+	private String snippet;
+
 }
@@ -0,0 +1,47 @@
+package net.techquiry.app.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class contains a page of a keyset paginated listing to be transfered from
+ * the server to the client.
+ * 
+ * @param <T> The type of the contained items
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+@Schema(description = "Represents a page of a listing")
+public class PageDto<T> {
+
+	/**
+	 * The items of the page
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@Schema(description = "Page items")
+	private List<T> items;
+
+	/**
+	 * The cursor of the next page
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Cursor of the next page, absent on the last page", example = "AAAAAQ")
+	private String nextCursor;
+
+}
@@ -0,0 +1,51 @@
+package net.techquiry.app.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This class contains the profile of a user to be transfered from the server to
+ * the client.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+@Schema(description = "Represents a user profile")
+public class ProfileDto {
+
+	/**
+	 * The login of the user
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@Schema(description = "User login")
+	private UserLoginDto login;
+
+	/**
+	 * The data of the user
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@Schema(description = "User data")
+	private UserDataDto data;
+
+	/**
+	 * The inquiries posted by the user
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@Schema(description = "Inquiries posted by the user")
+	private List<InquiryDto> inquiries;
+
+}
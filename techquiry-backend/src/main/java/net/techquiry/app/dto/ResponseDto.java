@@ -61,4 +61,12 @@ public class ResponseDto {
 	@Schema(description = "Response content", example = "This is an example response content")
 	private String content;
 
+	/**
+	 * The number of upvotes of the response
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "Response upvote count", example = "0")
+	private Integer upvoteCount;
+
 }
@@ -44,4 +44,11 @@ public class UserDataDto {
 	@Schema(description = "User last name", example = "Smith")
 	private String lastName;
 
+	/**
+	 * The hash of the icon of the user, which versions the icon URL
+	 */
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	@Schema(description = "User icon hash, served at /user/id/{userId}/data/icon/{iconHash}", example = "96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7")
+	private String iconHash;
+
 }
@@ -0,0 +1,37 @@
+package net.techquiry.app.entity;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The {@link FeedEntry} class represents an entry of the inquiry feed of the
+ * TechQuiry application, which combines an inquiry with the information that
+ * is specific to the user viewing the feed.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Getter
+@RequiredArgsConstructor
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+public class FeedEntry {
+
+	/**
+	 * The inquiry of the entry
+	 */
+	@NonNull
+	private Inquiry inquiry;
+
+	/**
+	 * Whether the viewing user is observing the inquiry
+	 */
+	@NonNull
+	private Boolean observing;
+
+}
@@ -0,0 +1,38 @@
+package net.techquiry.app.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The {@link Icon} class represents an icon entry of the TechQuiry application,
+ * which is addressed by the hash of its data, so that identical icons are only
+ * stored once.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+public class Icon {
+
+	/**
+	 * The hash of the icon data
+	 */
+	@NonNull
+	private String hash;
+
+	/**
+	 * The binary data of the icon
+	 */
+	@NonNull
+	@ToString.Exclude
+	private byte[] data;
+
+}
@@ -0,0 +1,44 @@
+package net.techquiry.app.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The {@link IconVariant} class represents an icon variant entry of the
+ * TechQuiry application, which holds an icon downsampled to one of the
+ * predefined sizes.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+public class IconVariant {
+
+	/**
+	 * The hash of the original icon data
+	 */
+	@NonNull
+	private String hash;
+
+	/**
+	 * The side of the square the variant fits in
+	 */
+	@NonNull
+	private Integer size;
+
+	/**
+	 * The binary data of the variant
+	 */
+	@NonNull
+	@ToString.Exclude
+	private byte[] data;
+
+}
@@ -1,5 +1,6 @@
 package net.techquiry.app.entity;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,6 +17,7 @@ import lombok.ToString;
  */
 @Getter
 @RequiredArgsConstructor
+@AllArgsConstructor
 @Builder(toBuilder = true)
 @EqualsAndHashCode
 @ToString
@@ -52,4 +54,16 @@ public class Inquiry {
 	@NonNull
 	private Boolean anonymous;
 
+	/**
+	 * The number of responses to the inquiry
+	 */
+	@EqualsAndHashCode.Exclude
+	private Integer responseCount;
+
+	/**
+	 * The number of users observing the inquiry
+	 */
+	@EqualsAndHashCode.Exclude
+	private Integer observerCount;
+
 }
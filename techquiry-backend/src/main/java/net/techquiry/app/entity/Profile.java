@@ -0,0 +1,45 @@
+package net.techquiry.app.entity;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The {@link Profile} class represents the profile of a user of the TechQuiry
+ * application, which combines the login and data of the user with the
+ * inquiries the user has posted.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Getter
+@RequiredArgsConstructor
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+public class Profile {
+
+	/**
+	 * The login of the user
+	 */
+	@NonNull
+	private UserLogin login;
+
+	/**
+	 * The data of the user
+	 */
+	@NonNull
+	private UserData data;
+
+	/**
+	 * The inquiries posted by the user
+	 */
+	@NonNull
+	private List<Inquiry> inquiries;
+
+}
@@ -1,5 +1,6 @@
 package net.techquiry.app.entity;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -16,6 +17,7 @@ import lombok.ToString;
  */
 @Getter
 @RequiredArgsConstructor
+@AllArgsConstructor
 @Builder(toBuilder = true)
 @EqualsAndHashCode
 @ToString
@@ -52,4 +54,10 @@ public class Response {
 	@NonNull
 	private String content;
 
+	/**
+	 * The number of upvotes of the response
+	 */
+	@EqualsAndHashCode.Exclude
+	private Integer upvoteCount;
+
 }
@@ -0,0 +1,51 @@
+package net.techquiry.app.entity;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The {@link SearchEntry} class represents a result of the full-text search
+ * over the inquiries of the TechQuiry application, which combines an inquiry
+ * with its relevance to the search query and a highlighted snippet of the text
+ * that matched it.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Getter
+@RequiredArgsConstructor
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+@ToString
+public class SearchEntry {
+
+	/**
+	 * The inquiry of the entry
+	 */
+	@NonNull
+	private Inquiry inquiry;
+
+	/**
+	 * The relevance score of the inquiry, where lower scores are more relevant
+	 */
+	@NonNull
+	private Double score;
+
+	/**
+	 * The position of the inquiry among the ranked results, starting from 1
+	 */
+	@NonNull
+	private Integer position;
+
+	/**
+	 * The snippet of the best match of the inquiry, escaped as HTML, with
+	 * the matched terms highlighted
+	 */
+	@NonNull
+	private String snippet;
+
+}
@@ -42,9 +42,8 @@ public class UserData {
 	private String lastName;
 
 	/**
-	 * The icon of the user's profile
+	 * The hash of the icon of the user's profile
 	 */
-	@ToString.Exclude
-	private byte[] icon;
+	private String iconHash;
 
 }
@@ -4,8 +4,10 @@ import org.springframework.stereotype.Component;
 
 import net.techquiry.app.dto.InquiryDto;
 import net.techquiry.app.dto.InquiryDto.InquiryDtoBuilder;
+import net.techquiry.app.entity.FeedEntry;
 import net.techquiry.app.entity.Inquiry;
 import net.techquiry.app.entity.Inquiry.InquiryBuilder;
+import net.techquiry.app.entity.SearchEntry;
 import net.techquiry.app.mapper.exception.MapperException;
 import net.techquiry.app.mapper.exception.MissingValueException;
 
@@ -30,6 +32,8 @@ public class InquiryMapper {
 		builder.inquiryId(inquiry.getInquiryId());
 		builder.title(inquiry.getTitle());
 		builder.content(inquiry.getContent());
+		builder.responseCount(inquiry.getResponseCount());
+		builder.observerCount(inquiry.getObserverCount());
 		boolean anonymous = inquiry.getAnonymous();
 		builder.anonymous(anonymous);
 		if (!anonymous) {
@@ -38,6 +42,30 @@ public class InquiryMapper {
 		return builder.build();
 	}
 
+	/**
+	 * This method maps the given {@link FeedEntry} to a {@link InquiryDto} object
+	 * that also contains whether the current user is observing the inquiry.
+	 * 
+	 * @param feedEntry The feed entry to map
+	 * @return The inquiry DTO
+	 */
+	public InquiryDto toDto(FeedEntry feedEntry) {
+		InquiryDto inquiryDto = toDto(feedEntry.getInquiry());
+		return inquiryDto.toBuilder().observing(feedEntry.getObserving()).build();
+	}
+
+	/**
+	 * This method maps the given {@link SearchEntry} to a {@link InquiryDto}
+	 * object that also contains the snippet of the text matching the search query.
+	 * 
+	 * @param searchEntry The search entry to map
+	 * @return The inquiry DTO
+	 */
+	public InquiryDto toDto(SearchEntry searchEntry) {
+		InquiryDto inquiryDto = toDto(searchEntry.getInquiry());
+		return inquiryDto.toBuilder().snippet(searchEntry.getSnippet()).build();
+	}
+
 	/**
 	 * This method creates a new {@link Inquiry} object based on the data of the
 	 * given {@link InquiryDto}.
@@ -0,0 +1,54 @@
+package net.techquiry.app.mapper;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+import net.techquiry.app.dto.InquiryDto;
+import net.techquiry.app.dto.ProfileDto;
+import net.techquiry.app.dto.UserDataDto;
+import net.techquiry.app.dto.UserLoginDto;
+import net.techquiry.app.entity.Profile;
+
+/**
+ * The {@link ProfileMapper} class is responsible for mapping {@link Profile}
+ * objects to {@link ProfileDto} objects.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileMapper {
+
+	/**
+	 * The mapper responsible for mapping the login of the profile.
+	 */
+	private final UserLoginMapper userLoginMapper;
+
+	/**
+	 * The mapper responsible for mapping the data of the profile.
+	 */
+	private final UserDataMapper userDataMapper;
+
+	/**
+	 * The mapper responsible for mapping the inquiries of the profile.
+	 */
+	private final InquiryMapper inquiryMapper;
+
+	/**
+	 * This method maps the given {@link Profile} to a {@link ProfileDto} object.
+	 * 
+	 * @param profile The profile to map
+	 * @return The profile DTO
+	 */
+	public ProfileDto toDto(Profile profile) {
+		UserLoginDto login = userLoginMapper.toDto(profile.getLogin());
+		UserDataDto data = userDataMapper.toDto(profile.getData());
+		List<InquiryDto> inquiries = profile.getInquiries().stream().map(inquiryMapper::toDto).toList();
+		return new ProfileDto(login, data, inquiries);
+	}
+
+}
@@ -30,6 +30,7 @@ public class ResponseMapper {
 		builder.responseId(response.getResponseId());
 		builder.inquiryId(response.getInquiryId());
 		builder.content(response.getContent());
+		builder.upvoteCount(response.getUpvoteCount());
 		boolean anonymous = response.getAnonymous();
 		builder.anonymous(anonymous);
 		if (!anonymous) {
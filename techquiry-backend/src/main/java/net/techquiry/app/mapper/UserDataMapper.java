@@ -28,7 +28,8 @@ public class UserDataMapper {
 		Integer userId = userData.getUserId();
 		String firstName = userData.getFirstName();
 		String lastName = userData.getLastName();
-		return new UserDataDto(userId, firstName, lastName);
+		String iconHash = userData.getIconHash();
+		return new UserDataDto(userId, firstName, lastName, iconHash);
 	}
 
 	/**
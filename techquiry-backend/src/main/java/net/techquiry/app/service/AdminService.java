@@ -0,0 +1,105 @@
+package net.techquiry.app.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import net.techquiry.app.common.Environment;
+import net.techquiry.app.database.DatabaseTransfer;
+import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.service.exception.ForbiddenOperationException;
+import net.techquiry.app.service.exception.InternalErrorException;
+import net.techquiry.app.service.exception.InvalidRequestException;
+import net.techquiry.app.service.exception.ServiceException;
+import net.techquiry.app.service.exception.UnauthorizedOperationException;
+
+/**
+ * The {@link AdminService} class provides methods for the administrative
+ * operations of the TechQuiry application, which are authorized using the
+ * administrative token instead of a user session.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AdminService {
+
+	/**
+	 * The object responsible for transferring the entries of the database.
+	 */
+	private final DatabaseTransfer databaseTransfer;
+
+	/**
+	 * This method checks whether the given token grants access to the
+	 * administrative operations.
+	 *
+	 * @param token The given administrative token
+	 * @throws ForbiddenOperationException    If the administrative operations are
+	 *                                        disabled or the token is invalid
+	 * @throws UnauthorizedOperationException If no token was given
+	 */
+	public void authorize(String token) throws ServiceException {
+		if (Environment.SEC_ADMIN_TOKEN.isEmpty()) {
+			throw new ForbiddenOperationException("The administrative operations are disabled!");
+		}
+		if (token == null || token.isBlank()) {
+			throw new UnauthorizedOperationException("The administrative operations require a token!");
+		}
+		byte[] expected = Environment.SEC_ADMIN_TOKEN.getBytes(StandardCharsets.UTF_8);
+		byte[] given = token.strip().getBytes(StandardCharsets.UTF_8);
+		if (!MessageDigest.isEqual(expected, given)) {
+			throw new ForbiddenOperationException("The given administrative token is invalid!");
+		}
+	}
+
+	/**
+	 * This method writes every entry of the database to the given stream as
+	 * newline delimited JSON.
+	 *
+	 * @param stream The stream to write the entries to
+	 * @return The number of exported entries
+	 * @throws InternalErrorException If a database error occurs while reading the
+	 *                                entries or they cannot be written
+	 */
+	public int exportData(OutputStream stream) throws ServiceException {
+		log.debug("Exporting database data");
+		try {
+			return databaseTransfer.exportData(stream);
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while exporting the data!", exception);
+		} catch (IOException exception) {
+			throw new InternalErrorException("An error occured while writing the exported data!", exception);
+		}
+	}
+
+	/**
+	 * This method inserts the entries read from the given stream of newline
+	 * delimited JSON to the database.
+	 *
+	 * @param stream The stream to read the entries from
+	 * @return The number of imported entries
+	 * @throws InvalidRequestException If the given entries are invalid
+	 * @throws InternalErrorException  If a database error occurs while inserting
+	 *                                 the entries
+	 */
+	public int importData(InputStream stream) throws ServiceException {
+		log.debug("Importing database data");
+		try {
+			return databaseTransfer.importData(stream);
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while importing the data!", exception);
+		} catch (IOException exception) {
+			throw new InvalidRequestException("The given data could not be imported!", exception);
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+package net.techquiry.app.service;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The {@link BufferResource} class is a {@link Resource} containing the
+ * remaining bytes of a {@link ByteBuffer}. The content is read directly from
+ * the buffer, which may be outside the heap, without being copied to an array
+ * first. Each stream of the resource has its own position, so that the buffer
+ * can be shared by concurrent readers.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@RequiredArgsConstructor
+public class BufferResource extends AbstractResource {
+
+	/**
+	 * The buffer containing the content of the resource.
+	 */
+	private final ByteBuffer buffer;
+
+	@Override
+	public boolean exists() {
+		return true;
+	}
+
+	@Override
+	public long contentLength() {
+		return buffer.remaining();
+	}
+
+	@Override
+	public String getDescription() {
+		return "Buffer [%s bytes]".formatted(buffer.remaining());
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return new BufferInputStream(buffer.duplicate());
+	}
+
+	/**
+	 * The {@link BufferInputStream} class is an {@link InputStream} reading the
+	 * remaining bytes of a {@link ByteBuffer}.
+	 *
+	 * @author Aggelowe
+	 * @since 0.0.1
+	 */
+	@RequiredArgsConstructor
+	private static class BufferInputStream extends InputStream {
+
+		/**
+		 * The buffer whose position is advanced while it is read.
+		 */
+		private final ByteBuffer buffer;
+
+		@Override
+		public int read() {
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			return buffer.get() & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] target, int offset, int count) {
+			Objects.checkFromIndexSize(offset, count, target.length);
+			if (count == 0) {
+				return 0;
+			}
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			int copied = Math.min(count, buffer.remaining());
+			buffer.get(target, offset, copied);
+			return copied;
+		}
+
+		@Override
+		public long skip(long count) {
+			if (count <= 0) {
+				return 0;
+			}
+			int skipped = (int) Math.min(count, buffer.remaining());
+			buffer.position(buffer.position() + skipped);
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+
+	}
+
+}
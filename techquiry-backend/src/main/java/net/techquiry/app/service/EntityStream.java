@@ -0,0 +1,33 @@
+package net.techquiry.app.service;
+
+import java.io.IOException;
+
+import net.techquiry.app.database.RowHandler;
+import net.techquiry.app.service.exception.ServiceException;
+
+/**
+ * The {@link EntityStream} interface represents a sequence of entities that is
+ * read from the database only once it is consumed, handing each entity to a
+ * {@link RowHandler} as it is read instead of loading the whole sequence to
+ * memory. The checks preceding the sequence are performed when it is obtained,
+ * so that errors are reported before its consumption begins.
+ *
+ * @param <T> The type of the entities
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface EntityStream<T> {
+
+	/**
+	 * This method reads the entities of the sequence, handing each of them to
+	 * the given handler.
+	 *
+	 * @param handler The handler of the entities
+	 * @return The number of entities
+	 * @throws ServiceException If an error occurs while reading the entities
+	 * @throws IOException      If the handler fails to handle an entity
+	 */
+	int forEach(RowHandler<T> handler) throws ServiceException, IOException;
+
+}
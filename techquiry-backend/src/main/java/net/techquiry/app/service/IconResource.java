@@ -0,0 +1,166 @@
+package net.techquiry.app.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import lombok.RequiredArgsConstructor;
+
+import net.techquiry.app.common.Constants;
+import net.techquiry.app.database.dao.IconDao;
+import net.techquiry.app.database.exception.DatabaseException;
+
+/**
+ * The {@link IconResource} class is a {@link Resource} containing the data of
+ * an icon entry, which are read from the database in parts of the size defined
+ * in {@link Constants} only as they are consumed, instead of being loaded to
+ * memory as a whole. Skipping over the data does not read the skipped parts, so
+ * that a range of the icon can be served without reading the rest of it.
+ *
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+@RequiredArgsConstructor
+public class IconResource extends AbstractResource {
+
+	/**
+	 * The object responsible for reading the parts of the icon data.
+	 */
+	private final IconDao iconDao;
+
+	/**
+	 * The hash of the icon.
+	 */
+	private final String hash;
+
+	/**
+	 * The length of the icon data in bytes.
+	 */
+	private final long length;
+
+	@Override
+	public boolean exists() {
+		return true;
+	}
+
+	@Override
+	public long contentLength() {
+		return length;
+	}
+
+	@Override
+	public String getDescription() {
+		return "Icon [%s]".formatted(hash);
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return new ChunkInputStream();
+	}
+
+	/**
+	 * The {@link ChunkInputStream} class is an {@link InputStream} reading the
+	 * data of the icon one part at a time, keeping only the current part in
+	 * memory.
+	 *
+	 * @author Aggelowe
+	 * @since 0.0.1
+	 */
+	private class ChunkInputStream extends InputStream {
+
+		/**
+		 * The offset of the first byte of the icon data that has not been read yet.
+		 */
+		private long position = 0;
+
+		/**
+		 * The part of the icon data that was read last.
+		 */
+		private byte[] chunk = new byte[0];
+
+		/**
+		 * The index of the next byte to return from the current part.
+		 */
+		private int index = 0;
+
+		@Override
+		public int read() throws IOException {
+			if (!fill()) {
+				return -1;
+			}
+			return chunk[index++] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int count) throws IOException {
+			Objects.checkFromIndexSize(offset, count, buffer.length);
+			if (count == 0) {
+				return 0;
+			}
+			if (!fill()) {
+				return -1;
+			}
+			int copied = Math.min(count, chunk.length - index);
+			System.arraycopy(chunk, index, buffer, offset, copied);
+			index += copied;
+			return copied;
+		}
+
+		@Override
+		public long skip(long count) {
+			if (count <= 0) {
+				return 0;
+			}
+			int buffered = chunk.length - index;
+			if (count <= buffered) {
+				index += (int) count;
+				return count;
+			}
+			long skipped = Math.min(count, buffered + length - position);
+			position += skipped - buffered;
+			index = chunk.length;
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return chunk.length - index;
+		}
+
+		/**
+		 * This method reads the next part of the icon data if the current one has
+		 * been consumed.
+		 *
+		 * @return Whether there are data left to read
+		 * @throws IOException If the part could not be read or the icon no longer
+		 *                     exists
+		 */
+		private boolean fill() throws IOException {
+			if (index < chunk.length) {
+				return true;
+			}
+			if (position >= length) {
+				return false;
+			}
+			int size = (int) Math.min(Constants.ICON_CHUNK_SIZE, length - position);
+			byte[] next;
+			try {
+				next = iconDao.selectChunk(hash, position, size);
+			} catch (DatabaseException exception) {
+				throw new IOException("A database error occured while reading the icon!", exception);
+			}
+			if (next == null || next.length == 0) {
+				throw new IOException("The icon with hash %s no longer exists!".formatted(hash));
+			}
+			chunk = next;
+			index = 0;
+			position += next.length;
+			return true;
+		}
+
+	}
+
+}
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.common.CursorUtils;
 import net.techquiry.app.database.dao.InquiryDao;
 import net.techquiry.app.database.exception.DatabaseException;
 import net.techquiry.app.entity.Inquiry;
@@ -74,6 +75,41 @@ public class InquiryService {
 		return range;
 	}
 
+	/**
+	 * This method returns the given number of inquiries that follow the entry
+	 * identified by the given cursor, ordered by their inquiry id. If no cursor is
+	 * given, the first inquiries are returned.
+	 *
+	 * @param count  The number of inquiries to return
+	 * @param cursor The opaque cursor of the last inquiry of the previous page
+	 * @return The requested inquiries
+	 * @throws InvalidRequestException If the count is smaller than 0 or the cursor
+	 *                                 is invalid
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the inquiries
+	 */
+	public List<Inquiry> getInquiryRangeAfter(int count, String cursor) throws ServiceException {
+		log.debug("Getting inquiry range (count=%s, cursor=%s)".formatted(count, cursor));
+		if (count < 0) {
+			throw new InvalidRequestException("The given count must be larger than 0!");
+		}
+		int after = Integer.MIN_VALUE;
+		if (cursor != null) {
+			try {
+				after = CursorUtils.decodeCursor(cursor);
+			} catch (IllegalArgumentException exception) {
+				throw new InvalidRequestException("The given cursor is invalid!", exception);
+			}
+		}
+		List<Inquiry> range;
+		try {
+			range = inquiryDao.rangeAfter(count, after);
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while getting the inquiries!", exception);
+		}
+		return range;
+	}
+
 	/**
 	 * This method returns the inquiry with the given inquiry id.
 	 *
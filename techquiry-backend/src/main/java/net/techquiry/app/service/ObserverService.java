@@ -70,11 +70,7 @@ public class ObserverService {
 		if (inquiry == null) {
 			throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
 		}
-		try {
-			return observerDao.countFromInquiryId(inquiryId);
-		} catch (DatabaseException exception) {
-			throw new InternalErrorException("A database error occured while getting the observer count!", exception);
-		}
+		return inquiry.getObserverCount();
 	}
 
 	/**
@@ -135,4 +131,36 @@ public class ObserverService {
 		}
 	}
 
+	/**
+	 * This method returns the stream of inquiries which are being observed by the user login with the
+	 * given user id, which are read from the database only as they are consumed.
+	 *
+	 * @param userId The user id
+	 * @return The stream of the observed inquiries
+	 * @throws EntityNotFoundException If the given user id does not correspond to a
+	 *                                 user login
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the user login or, once consumed, the
+	 *                                 observer entries
+	 */
+	public EntityStream<Inquiry> getObservedInquiryStreamByUserId(int userId) throws ServiceException {
+		log.debug("Getting observed inquiry stream (userId=%s)".formatted(userId));
+		UserLogin userLogin;
+		try {
+			userLogin = userLoginDao.select(userId);
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while getting the user login!", exception);
+		}
+		if (userLogin == null) {
+			throw new EntityNotFoundException("The given user id does not have a corresponding user login!");
+		}
+		return handler -> {
+			try {
+				return observerDao.streamFromUserId(userId, handler);
+			} catch (DatabaseException exception) {
+				throw new InternalErrorException("A database error occured while getting the observed inquiries!", exception);
+			}
+		};
+	}
+
 }
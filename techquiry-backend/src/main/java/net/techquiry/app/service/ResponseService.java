@@ -62,11 +62,7 @@ public class ResponseService {
 		if (inquiry == null) {
 			throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
 		}
-		try {
-			return responseDao.countFromInquiryId(inquiryId);
-		} catch (DatabaseException exception) {
-			throw new InternalErrorException("A database error occured while getting the response count!", exception);
-		}
+		return inquiry.getResponseCount();
 	}
 
 	/**
@@ -70,11 +70,7 @@ public class UpvoteService {
 		if (response == null) {
 			throw new EntityNotFoundException("The given response id does not have a corresponding response!");
 		}
-		try {
-			return upvoteDao.countFromResponseId(responseId);
-		} catch (DatabaseException exception) {
-			throw new InternalErrorException("A database error occured while getting the upvote count!", exception);
-		}
+		return response.getUpvoteCount();
 	}
 
 	/**
@@ -135,4 +131,36 @@ public class UpvoteService {
 		}
 	}
 
+	/**
+	 * This method returns the stream of responses which have been upvoted by the user login with the
+	 * given user id, which are read from the database only as they are consumed.
+	 *
+	 * @param userId The user id
+	 * @return The stream of the upvoted responses
+	 * @throws EntityNotFoundException If the given user id does not correspond to a
+	 *                                 user login
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the user login or, once consumed, the
+	 *                                 upvote entries
+	 */
+	public EntityStream<Response> getUpvotedResponseStreamByUserId(int userId) throws ServiceException {
+		log.debug("Getting upvoted response stream (userId=%s)".formatted(userId));
+		UserLogin userLogin;
+		try {
+			userLogin = userLoginDao.select(userId);
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while getting the user login!", exception);
+		}
+		if (userLogin == null) {
+			throw new EntityNotFoundException("The given user id does not have a corresponding user login!");
+		}
+		return handler -> {
+			try {
+				return upvoteDao.streamFromUserId(userId, handler);
+			} catch (DatabaseException exception) {
+				throw new InternalErrorException("A database error occured while getting the upvoted responses!", exception);
+			}
+		};
+	}
+
 }
@@ -1,15 +1,25 @@
 package net.techquiry.app.service;
 
+import java.nio.ByteBuffer;
+
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.common.Constants;
+import net.techquiry.app.database.IconCache;
+import net.techquiry.app.database.UnitOfWork;
+import net.techquiry.app.database.dao.IconDao;
 import net.techquiry.app.database.dao.UserDataDao;
 import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.entity.Icon;
+import net.techquiry.app.entity.IconVariant;
 import net.techquiry.app.entity.UserData;
 import net.techquiry.app.service.exception.EntityNotFoundException;
 import net.techquiry.app.service.exception.InternalErrorException;
+import net.techquiry.app.service.exception.InvalidRequestException;
 import net.techquiry.app.service.exception.ServiceException;
 
 /**
@@ -30,6 +40,23 @@ public class UserDataService {
 	 */
 	private final UserDataDao userDataDao;
 
+	/**
+	 * The object responsible for handling the data access for {@link Icon}
+	 * objects.
+	 */
+	private final IconDao iconDao;
+
+	/**
+	 * The cache holding the most recently served icons outside the heap.
+	 */
+	private final IconCache iconCache;
+
+	/**
+	 * The unit of work binding the data access calls of each operation to a
+	 * single transaction.
+	 */
+	private final UnitOfWork unitOfWork;
+
 	/**
 	 * This method returns the user data with the given user id.
 	 *
@@ -54,4 +81,127 @@ public class UserDataService {
 		return data;
 	}
 
+	/**
+	 * This method returns the icon of the user data with the given user id, or
+	 * null if the user data do not have an icon. The icon is the only part of the
+	 * user data whose binary data are loaded.
+	 *
+	 * @param userId The user id
+	 * @return The icon of the user data with the given id
+	 * @throws EntityNotFoundException If the given id does not correspond to user
+	 *                                 data
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the user icon
+	 */
+	public Icon getIconByUserId(int userId) throws ServiceException {
+		log.debug("Getting user icon (userId=%s)".formatted(userId));
+		try {
+			return unitOfWork.executeReadOnly(() -> {
+				UserData data = userDataDao.select(userId);
+				if (data == null) {
+					throw new EntityNotFoundException("The given user id does not have corresponding user data!");
+				}
+				String hash = data.getIconHash();
+				return hash == null ? null : iconDao.select(hash);
+			});
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while getting the user icon!", exception);
+		}
+	}
+
+	/**
+	 * This method checks that the given icon size is one of the sizes defined in
+	 * {@link Constants}, so that an unsupported size is rejected before any
+	 * conditional request for the icon is answered.
+	 *
+	 * @param size The side of the square the icon must fit in, or null for the
+	 *             original icon
+	 * @throws InvalidRequestException If the given size is not one of the sizes
+	 *                                 defined in {@link Constants}
+	 */
+	public void checkIconSize(Integer size) throws ServiceException {
+		if (size != null && !Constants.ICON_SIZES.contains(size)) {
+			throw new InvalidRequestException("The given icon size must be one of %s!".formatted(Constants.ICON_SIZES));
+		}
+	}
+
+	/**
+	 * This method checks that the given hash is the hash of the current icon of
+	 * the user data with the given user id, so that icons are only addressed
+	 * through the user they belong to.
+	 *
+	 * @param userId The user id
+	 * @param hash   The hash of the icon
+	 * @throws EntityNotFoundException If the given id does not correspond to user
+	 *                                 data or if the given hash is not the hash
+	 *                                 of their icon
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the user data
+	 */
+	public void checkIconHash(int userId, String hash) throws ServiceException {
+		log.debug("Checking icon hash (userId=%s, hash=%s)".formatted(userId, hash));
+		UserData data = getDataByUserId(userId);
+		if (!hash.equals(data.getIconHash())) {
+			throw new EntityNotFoundException("The given hash does not correspond to the icon of the given user id!");
+		}
+	}
+
+	/**
+	 * This method returns the data of the icon with the given hash, downsampled to
+	 * the given size if one is given. Since icons are addressed by their hash, the
+	 * returned data never change. Icons stored before their variants were
+	 * introduced are returned in their original size, which is cached only once
+	 * for all the requested sizes. Icons are served from the
+	 * off-heap {@link IconCache} whenever possible and cached once loaded, while
+	 * icons too large to be cached are read from the database only as the returned
+	 * {@link Resource} is consumed.
+	 *
+	 * @param hash The hash of the icon
+	 * @param size The side of the square the icon must fit in, or null for the
+	 *             original icon
+	 * @return The data of the icon with the given hash
+	 * @throws InvalidRequestException If the given size is not one of the sizes
+	 *                                 defined in {@link Constants}
+	 * @throws EntityNotFoundException If the given hash does not correspond to an
+	 *                                 icon
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the icon
+	 */
+	public Resource getIconByHash(String hash, Integer size) throws ServiceException {
+		log.debug("Getting icon (hash=%s, size=%s)".formatted(hash, size));
+		checkIconSize(size);
+		ByteBuffer cached = iconCache.get(hash, size);
+		if (cached != null) {
+			return new BufferResource(cached);
+		}
+		Resource icon;
+		try {
+			icon = unitOfWork.executeReadOnly(() -> {
+				IconVariant variant = size == null ? null : iconDao.selectVariant(hash, size);
+				if (variant != null) {
+					return new BufferResource(iconCache.put(hash, size, variant.getData()));
+				}
+				ByteBuffer fallback = size == null ? null : iconCache.get(hash, null);
+				if (fallback != null) {
+					return new BufferResource(fallback);
+				}
+				Integer length = iconDao.selectLength(hash);
+				if (length == null) {
+					return null;
+				}
+				if (!iconCache.isCacheable(length)) {
+					return new IconResource(iconDao, hash, length);
+				}
+				Icon original = iconDao.select(hash);
+				return original == null ? null : new BufferResource(iconCache.put(hash, null, original.getData()));
+			});
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while getting the icon!", exception);
+		}
+		if (icon == null) {
+			throw new EntityNotFoundException("The given hash does not have a corresponding icon!");
+		}
+		return icon;
+	}
+
 }
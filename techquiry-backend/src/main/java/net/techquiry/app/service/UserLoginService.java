@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.common.CursorUtils;
 import net.techquiry.app.database.dao.UserLoginDao;
 import net.techquiry.app.database.exception.DatabaseException;
 import net.techquiry.app.entity.UserLogin;
@@ -74,6 +75,41 @@ public class UserLoginService {
 		return range;
 	}
 
+	/**
+	 * This method returns the given number of user logins that follow the entry
+	 * identified by the given cursor, ordered by their user id. If no cursor is
+	 * given, the first user logins are returned.
+	 *
+	 * @param count  The number of user logins to return
+	 * @param cursor The opaque cursor of the last user login of the previous page
+	 * @return The requested user logins
+	 * @throws InvalidRequestException If the count is smaller than 0 or the cursor
+	 *                                 is invalid
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the user logins
+	 */
+	public List<UserLogin> getLoginRangeAfter(int count, String cursor) throws ServiceException {
+		log.debug("Getting user login range (count=%s, cursor=%s)".formatted(count, cursor));
+		if (count < 0) {
+			throw new InvalidRequestException("The given count must be larger than 0!");
+		}
+		int after = Integer.MIN_VALUE;
+		if (cursor != null) {
+			try {
+				after = CursorUtils.decodeCursor(cursor);
+			} catch (IllegalArgumentException exception) {
+				throw new InvalidRequestException("The given cursor is invalid!", exception);
+			}
+		}
+		List<UserLogin> range;
+		try {
+			range = userLoginDao.rangeAfter(count, after);
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while getting the user login!", exception);
+		}
+		return range;
+	}
+
 	/**
 	 * This method returns the user login with the given user id.
 	 *
@@ -1,17 +1,23 @@
 package net.techquiry.app.service.action;
 
 import java.util.List;
+import java.util.StringJoiner;
 
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.common.CursorUtils;
+import net.techquiry.app.database.UnitOfWork;
 import net.techquiry.app.database.dao.InquiryDao;
 import net.techquiry.app.database.dao.UserLoginDao;
 import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.entity.FeedEntry;
 import net.techquiry.app.entity.Inquiry;
+import net.techquiry.app.entity.SearchEntry;
 import net.techquiry.app.entity.UserLogin;
+import net.techquiry.app.service.EntityStream;
 import net.techquiry.app.service.InquiryService;
 import net.techquiry.app.service.exception.EntityNotFoundException;
 import net.techquiry.app.service.exception.ForbiddenOperationException;
@@ -47,12 +53,118 @@ public class InquiryActionService {
 	 */
 	private final UserLoginDao userLoginDao;
 
+	/**
+	 * The unit of work binding the data access calls of each operation to a
+	 * single transaction.
+	 */
+	private final UnitOfWork unitOfWork;
+
 	/**
 	 * The {@link SessionHelper} containing the information of the user currently
 	 * acting
 	 */
 	private final SessionHelper sessionHelper;
 
+	/**
+	 * This method returns the given number of inquiry feed entries that follow the
+	 * entry identified by the given cursor, ordered by their inquiry id. Each entry
+	 * contains whether the current user is observing the inquiry, which is always
+	 * false if no user is logged in. If no cursor is given, the first entries are
+	 * returned.
+	 *
+	 * @param count  The number of entries to return
+	 * @param cursor The opaque cursor of the last entry of the previous page
+	 * @return The requested feed entries
+	 * @throws InvalidRequestException If the count is smaller than 0 or the cursor
+	 *                                 is invalid
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the entries
+	 */
+	public List<FeedEntry> getInquiryFeed(int count, String cursor) throws ServiceException {
+		log.debug("Getting inquiry feed (count=%s, cursor=%s)".formatted(count, cursor));
+		if (count < 0) {
+			throw new InvalidRequestException("The given count must be larger than 0!");
+		}
+		int after = Integer.MIN_VALUE;
+		if (cursor != null) {
+			try {
+				after = CursorUtils.decodeCursor(cursor);
+			} catch (IllegalArgumentException exception) {
+				throw new InvalidRequestException("The given cursor is invalid!", exception);
+			}
+		}
+		Authentication current = sessionHelper.getAuthentication();
+		Integer userId = current != null ? current.getUserId() : null;
+		try {
+			return inquiryDao.feed(count, after, userId);
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while getting the inquiry feed!", exception);
+		}
+	}
+
+	/**
+	 * This method returns the given number of inquiry search entries whose title,
+	 * content or responses contain all the terms of the given query, ranked by
+	 * their relevance and following the entry identified by the given cursor. Each
+	 * term of the query is matched as a quoted phrase, so that the query syntax of
+	 * the search index cannot be injected. If a user id is given, the search is
+	 * limited to the inquiries of that user and, if the current user does not have
+	 * the user id, to the non-anonymous ones. If no cursor is given, the most
+	 * relevant entries are returned. The cursor identifies the position of an
+	 * entry among the ranked results, which is not affected by the scores changing
+	 * as the index grows.
+	 *
+	 * @param query  The text to search for
+	 * @param userId The user id of the author of the inquiries or null to search
+	 *               all inquiries
+	 * @param count  The number of entries to return
+	 * @param cursor The opaque cursor of the last entry of the previous page
+	 * @return The requested search entries
+	 * @throws InvalidRequestException If the query is blank, the count is smaller
+	 *                                 than 0 or the cursor is invalid
+	 * @throws EntityNotFoundException If the given user id does not correspond to a
+	 *                                 user login
+	 * @throws InternalErrorException  If a database error occurs while searching
+	 *                                 the inquiries
+	 */
+	public List<SearchEntry> searchInquiries(String query, Integer userId, int count, String cursor) throws ServiceException {
+		log.debug("Searching inquiries (query=%s, userId=%s, count=%s, cursor=%s)".formatted(query, userId, count, cursor));
+		if (query.isBlank()) {
+			throw new InvalidRequestException("The given query must not be blank!");
+		}
+		if (count < 0) {
+			throw new InvalidRequestException("The given count must be larger than 0!");
+		}
+		int after = 0;
+		if (cursor != null) {
+			try {
+				after = CursorUtils.decodeCursor(cursor);
+			} catch (IllegalArgumentException exception) {
+				throw new InvalidRequestException("The given cursor is invalid!", exception);
+			}
+			if (after < 0) {
+				throw new InvalidRequestException("The given cursor is invalid!");
+			}
+		}
+		String expression = toMatchExpression(query);
+		try {
+			if (userId == null) {
+				return inquiryDao.search(expression, count, after);
+			}
+			UserLogin userLogin = userLoginDao.select(userId);
+			if (userLogin == null) {
+				throw new EntityNotFoundException("The given user id does not have a corresponding user login!");
+			}
+			Authentication current = sessionHelper.getAuthentication();
+			if (current == null || current.getUserId() != userId) {
+				return inquiryDao.searchFromUserIdNonAnonymous(expression, userId, count, after);
+			}
+			return inquiryDao.searchFromUserId(expression, userId, count, after);
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while searching the inquiries!", exception);
+		}
+	}
+
 	/**
 	 * This method inserts the given {@link Inquiry} object in the database. The
 	 * inquiry id and user id are automatically selected and are not carried over to
@@ -104,14 +216,16 @@ public class InquiryActionService {
 			throw new UnauthorizedOperationException("Deleting inquiries requires an active session!");
 		}
 		try {
-			Inquiry inquiry = inquiryDao.select(inquiryId);
-			if (inquiry == null) {
-				throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
-			}
-			if (current.getUserId() != inquiry.getUserId()) {
+			unitOfWork.run(() -> {
+				if (inquiryDao.deleteIfOwned(inquiryId, current.getUserId())) {
+					return;
+				}
+				Inquiry inquiry = inquiryDao.select(inquiryId);
+				if (inquiry == null) {
+					throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
+				}
 				throw new ForbiddenOperationException("The requested inquiry deletion is forbidden!");
-			}
-			inquiryDao.delete(inquiryId);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while deleting the inquiry!", exception);
 		}
@@ -145,15 +259,17 @@ public class InquiryActionService {
 			throw new InvalidRequestException("The given title and content must not be blank!");
 		}
 		try {
-			Inquiry previous = inquiryDao.select(inquiry.getInquiryId());
-			if (previous == null) {
-				throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
-			}
-			if (current.getUserId() != previous.getUserId()) {
+			unitOfWork.run(() -> {
+				Inquiry copy = inquiry.toBuilder().userId(current.getUserId()).build();
+				if (inquiryDao.updateIfOwned(copy)) {
+					return;
+				}
+				Inquiry previous = inquiryDao.select(inquiry.getInquiryId());
+				if (previous == null) {
+					throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
+				}
 				throw new ForbiddenOperationException("The requested inquiry update is forbidden!");
-			}
-			Inquiry copy = inquiry.toBuilder().userId(current.getUserId()).build();
-			inquiryDao.update(copy);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while creating the inquiry!", exception);
 		}
@@ -191,4 +307,59 @@ public class InquiryActionService {
 		return inquiries;
 	}
 
+	/**
+	 * This method returns the stream of inquiries with the given user id, which
+	 * are read from the database only as they are consumed. If the current user
+	 * does not have the user id, the stream will be limited to non-anonymous
+	 * inquiries.
+	 *
+	 * @param userId The user id
+	 * @return The stream of the inquiries with the given user id
+	 * @throws EntityNotFoundException If the given user id does not correspond to a
+	 *                                 user login
+	 * @throws InternalErrorException  If a database error occurs while retrieving
+	 *                                 the user login or, once consumed, the
+	 *                                 inquiries
+	 */
+	public EntityStream<Inquiry> getInquiryStreamByUserId(int userId) throws ServiceException {
+		log.debug("Getting inquiry stream (userId=%s)".formatted(userId));
+		UserLogin userLogin;
+		try {
+			userLogin = userLoginDao.select(userId);
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while getting the user login!", exception);
+		}
+		if (userLogin == null) {
+			throw new EntityNotFoundException("The given user id does not have a corresponding user login!");
+		}
+		Authentication current = sessionHelper.getAuthentication();
+		boolean owner = current != null && current.getUserId() == userId;
+		return handler -> {
+			try {
+				if (owner) {
+					return inquiryDao.streamFromUserId(userId, handler);
+				}
+				return inquiryDao.streamFromUserIdNonAnonymous(userId, handler);
+			} catch (DatabaseException exception) {
+				throw new InternalErrorException("A database error occured while getting the inquiries!", exception);
+			}
+		};
+	}
+
+	/**
+	 * This method converts the given search text to a full-text query expression
+	 * that matches the entries containing every whitespace separated term of the
+	 * text, by quoting each term as a phrase.
+	 *
+	 * @param query The text to search for
+	 * @return The full-text query expression
+	 */
+	private static String toMatchExpression(String query) {
+		StringJoiner joiner = new StringJoiner(" ");
+		for (String term : query.strip().split("\\s+")) {
+			joiner.add('"' + term.replace("\"", "\"\"") + '"');
+		}
+		return joiner.toString();
+	}
+
 }
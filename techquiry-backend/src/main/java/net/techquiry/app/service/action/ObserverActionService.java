@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.database.UnitOfWork;
 import net.techquiry.app.database.dao.InquiryDao;
 import net.techquiry.app.database.dao.ObserverDao;
 import net.techquiry.app.database.exception.DatabaseException;
@@ -44,6 +45,12 @@ public class ObserverActionService {
 	 */
 	private final InquiryDao inquiryDao;
 
+	/**
+	 * The unit of work binding the data access calls of each operation to a
+	 * single transaction.
+	 */
+	private final UnitOfWork unitOfWork;
+
 	/**
 	 * The {@link SessionHelper} containing the information of the user currently
 	 * acting
@@ -70,11 +77,13 @@ public class ObserverActionService {
 		}
 		Observer observer = new Observer(inquiryId, current.getUserId());
 		try {
-			Inquiry inquiry = inquiryDao.select(inquiryId);
-			if (inquiry == null) {
-				throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
-			}
-			return observerDao.check(observer);
+			return unitOfWork.executeReadOnly(() -> {
+				Inquiry inquiry = inquiryDao.select(inquiryId);
+				if (inquiry == null) {
+					throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
+				}
+				return observerDao.check(observer);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while checking the observer!", exception);
 		}
@@ -99,15 +108,17 @@ public class ObserverActionService {
 			throw new UnauthorizedOperationException("Creating observers requires an active session!");
 		}
 		try {
-			Inquiry inquiry = inquiryDao.select(inquiryId);
-			if (inquiry == null) {
-				throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
-			}
-			Observer observer = new Observer(inquiryId, current.getUserId());
-			if (observerDao.check(observer)) {
+			unitOfWork.run(() -> {
+				Observer observer = new Observer(inquiryId, current.getUserId());
+				if (observerDao.insertIfAbsent(observer)) {
+					return;
+				}
+				Inquiry inquiry = inquiryDao.select(inquiryId);
+				if (inquiry == null) {
+					throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
+				}
 				throw new InvalidRequestException("An observer with the given information already exists!");
-			}
-			observerDao.insert(observer);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while creating the observer!", exception);
 		}
@@ -131,14 +142,15 @@ public class ObserverActionService {
 			throw new UnauthorizedOperationException("Deleting observers requires an active session!");
 		}
 		Observer observer = new Observer(inquiryId, current.getUserId());
+		boolean deleted;
 		try {
-			if (!observerDao.check(observer)) {
-				throw new EntityNotFoundException("The given observer information does not have a corresponding observer!");
-			}
-			observerDao.delete(observer);
+			deleted = observerDao.deleteIfPresent(observer);
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while deleting the observer!", exception);
 		}
+		if (!deleted) {
+			throw new EntityNotFoundException("The given observer information does not have a corresponding observer!");
+		}
 	}
 
 }
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.database.UnitOfWork;
 import net.techquiry.app.database.dao.InquiryDao;
 import net.techquiry.app.database.dao.ResponseDao;
 import net.techquiry.app.database.exception.DatabaseException;
@@ -45,6 +46,12 @@ public class ResponseActionService {
 	 */
 	private final InquiryDao inquiryDao;
 
+	/**
+	 * The unit of work binding the data access calls of each operation to a
+	 * single transaction.
+	 */
+	private final UnitOfWork unitOfWork;
+
 	/**
 	 * The {@link SessionHelper} containing the information of the user currently
 	 * acting
@@ -77,12 +84,14 @@ public class ResponseActionService {
 			throw new InvalidRequestException("The given content must not be blank!");
 		}
 		try {
-			Inquiry inquiry = inquiryDao.select(response.getInquiryId());
-			if (inquiry == null) {
-				throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
-			}
-			Response copy = response.toBuilder().userId(current.getUserId()).build();
-			return responseDao.insert(copy);
+			return unitOfWork.execute(() -> {
+				Inquiry inquiry = inquiryDao.select(response.getInquiryId());
+				if (inquiry == null) {
+					throw new EntityNotFoundException("The given inquiry id does not have a corresponding inquiry!");
+				}
+				Response copy = response.toBuilder().userId(current.getUserId()).build();
+				return responseDao.insert(copy);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while creating the response!", exception);
 		}
@@ -108,14 +117,16 @@ public class ResponseActionService {
 			throw new UnauthorizedOperationException("Deleting responses requires an active session!");
 		}
 		try {
-			Response response = responseDao.select(responseId);
-			if (response == null) {
-				throw new EntityNotFoundException("The given response id does not have a corresponding response!");
-			}
-			if (current.getUserId() != response.getUserId()) {
+			unitOfWork.run(() -> {
+				if (responseDao.deleteIfOwned(responseId, current.getUserId())) {
+					return;
+				}
+				Response response = responseDao.select(responseId);
+				if (response == null) {
+					throw new EntityNotFoundException("The given response id does not have a corresponding response!");
+				}
 				throw new ForbiddenOperationException("The requested response deletion is forbidden!");
-			}
-			responseDao.delete(responseId);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while deleting the response!", exception);
 		}
@@ -148,15 +159,17 @@ public class ResponseActionService {
 			throw new InvalidRequestException("The given content must not be empty!");
 		}
 		try {
-			Response previous = responseDao.select(response.getResponseId());
-			if (previous == null) {
-				throw new EntityNotFoundException("The given response id does not have a corresponding response!");
-			}
-			if (current.getUserId() != previous.getUserId()) {
+			unitOfWork.run(() -> {
+				Response copy = response.toBuilder().userId(current.getUserId()).build();
+				if (responseDao.updateIfOwned(copy)) {
+					return;
+				}
+				Response previous = responseDao.select(response.getResponseId());
+				if (previous == null) {
+					throw new EntityNotFoundException("The given response id does not have a corresponding response!");
+				}
 				throw new ForbiddenOperationException("The requested response update is forbidden!");
-			}
-			Response copy = response.toBuilder().userId(current.getUserId()).inquiryId(previous.getResponseId()).build();
-			responseDao.update(copy);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while creating the inquiry!", exception);
 		}
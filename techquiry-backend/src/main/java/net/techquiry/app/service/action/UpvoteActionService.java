@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.database.UnitOfWork;
 import net.techquiry.app.database.dao.ResponseDao;
 import net.techquiry.app.database.dao.UpvoteDao;
 import net.techquiry.app.database.exception.DatabaseException;
@@ -43,6 +44,12 @@ public class UpvoteActionService {
 	 */
 	private final ResponseDao responseDao;
 
+	/**
+	 * The unit of work binding the data access calls of each operation to a
+	 * single transaction.
+	 */
+	private final UnitOfWork unitOfWork;
+
 	/**
 	 * The {@link SessionHelper} containing the information of the user currently
 	 * acting
@@ -69,11 +76,13 @@ public class UpvoteActionService {
 		}
 		Upvote upvote = new Upvote(responseId, current.getUserId());
 		try {
-			Response response = responseDao.select(responseId);
-			if (response == null) {
-				throw new EntityNotFoundException("The given response id does not have a corresponding response!");
-			}
-			return upvoteDao.check(upvote);
+			return unitOfWork.executeReadOnly(() -> {
+				Response response = responseDao.select(responseId);
+				if (response == null) {
+					throw new EntityNotFoundException("The given response id does not have a corresponding response!");
+				}
+				return upvoteDao.check(upvote);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while checking the upvote!", exception);
 		}
@@ -98,15 +107,17 @@ public class UpvoteActionService {
 			throw new UnauthorizedOperationException("Creating upvotes requires an active session!");
 		}
 		try {
-			Response response = responseDao.select(responseId);
-			if (response == null) {
-				throw new EntityNotFoundException("The given response id does not have a corresponding response!");
-			}
-			Upvote upvote = new Upvote(responseId, current.getUserId());
-			if (upvoteDao.check(upvote)) {
+			unitOfWork.run(() -> {
+				Upvote upvote = new Upvote(responseId, current.getUserId());
+				if (upvoteDao.insertIfAbsent(upvote)) {
+					return;
+				}
+				Response response = responseDao.select(responseId);
+				if (response == null) {
+					throw new EntityNotFoundException("The given response id does not have a corresponding response!");
+				}
 				throw new InvalidRequestException("An upvote with the given information already exists!");
-			}
-			upvoteDao.insert(upvote);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while creating the upvote!", exception);
 		}
@@ -130,14 +141,15 @@ public class UpvoteActionService {
 			throw new UnauthorizedOperationException("Deleting upvotes requires an active session!");
 		}
 		Upvote upvote = new Upvote(responseId, current.getUserId());
+		boolean deleted;
 		try {
-			if (!upvoteDao.check(upvote)) {
-				throw new EntityNotFoundException("The given upvote information does not have a corresponding upvote!");
-			}
-			upvoteDao.delete(upvote);
+			deleted = upvoteDao.deleteIfPresent(upvote);
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while deleting the upvote!", exception);
 		}
+		if (!deleted) {
+			throw new EntityNotFoundException("The given upvote information does not have a corresponding upvote!");
+		}
 	}
 
 }
@@ -1,12 +1,31 @@
 package net.techquiry.app.service.action;
 
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+import net.techquiry.app.common.Constants;
+import net.techquiry.app.common.Environment;
+import net.techquiry.app.common.ImageUtils;
+import net.techquiry.app.common.SecurityUtils;
+import net.techquiry.app.database.IconCache;
+import net.techquiry.app.database.UnitOfWork;
+import net.techquiry.app.database.dao.IconDao;
 import net.techquiry.app.database.dao.UserDataDao;
 import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.entity.Icon;
+import net.techquiry.app.entity.IconVariant;
 import net.techquiry.app.entity.UserData;
 import net.techquiry.app.service.UserDataService;
 import net.techquiry.app.service.exception.EntityNotFoundException;
@@ -31,12 +50,34 @@ import net.techquiry.app.service.session.SessionHelper;
 @Log4j2
 public class UserDataActionService {
 
+	/**
+	 * The prefix of the temporary files the uploaded icons are spooled to.
+	 */
+	private static final String ICON_SPOOL_PREFIX = "techquiry-icon-";
+
 	/**
 	 * The object responsible for handling the data access for {@link UserData}
 	 * objects.
 	 */
 	private final UserDataDao userDataDao;
 
+	/**
+	 * The object responsible for handling the data access for {@link Icon}
+	 * objects.
+	 */
+	private final IconDao iconDao;
+
+	/**
+	 * The cache holding the most recently served icons outside the heap.
+	 */
+	private final IconCache iconCache;
+
+	/**
+	 * The unit of work binding the data access calls of each operation to a
+	 * single transaction.
+	 */
+	private final UnitOfWork unitOfWork;
+
 	/**
 	 * The {@link SessionHelper} containing the information of the user currently
 	 * acting
@@ -68,12 +109,14 @@ public class UserDataActionService {
 			throw new InvalidRequestException("The given first and last name must not be blank!");
 		}
 		try {
-			UserData userData = userDataDao.select(current.getUserId());
-			if (userData != null) {
-				throw new InvalidRequestException("User data with the given user id already exist!");
-			}
-			UserData copy = data.toBuilder().userId(current.getUserId()).build();
-			userDataDao.insert(copy);
+			unitOfWork.run(() -> {
+				UserData userData = userDataDao.select(current.getUserId());
+				if (userData != null) {
+					throw new InvalidRequestException("User data with the given user id already exist!");
+				}
+				UserData copy = data.toBuilder().userId(current.getUserId()).build();
+				userDataDao.insert(copy);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while creating the user data!", exception);
 		}
@@ -101,19 +144,21 @@ public class UserDataActionService {
 			throw new ForbiddenOperationException("The requested user data deletion is forbidden!");
 		}
 		try {
-			UserData data = userDataDao.select(userId);
-			if (data == null) {
-				throw new EntityNotFoundException("The given user id does not have corresponding user data!");
-			}
-			userDataDao.delete(userId);
+			unitOfWork.run(() -> {
+				UserData data = userDataDao.select(userId);
+				if (data == null) {
+					throw new EntityNotFoundException("The given user id does not have corresponding user data!");
+				}
+				userDataDao.delete(userId);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while deleting the user data!", exception);
 		}
 	}
 
 	/**
-	 * This method updates an existing user data with the data from the given
-	 * {@link UserData} object.
+	 * This method updates the names of an existing user data with those from the
+	 * given {@link UserData} object. The icon of the user data is left unchanged.
 	 * 
 	 * @param data The user data
 	 * @throws UnauthorizedOperationException If the current user is not logged in
@@ -142,14 +187,201 @@ public class UserDataActionService {
 			throw new InvalidRequestException("The given first and last name must not be blank!");
 		}
 		try {
-			UserData userData = userDataDao.select(data.getUserId());
-			if (userData == null) {
-				throw new EntityNotFoundException("The given user id does not have corresponding user data!");
-			}
-			userDataDao.update(data);
+			unitOfWork.run(() -> {
+				UserData userData = userDataDao.select(data.getUserId());
+				if (userData == null) {
+					throw new EntityNotFoundException("The given user id does not have corresponding user data!");
+				}
+				userDataDao.update(data);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while updating the user data!", exception);
 		}
 	}
 
+	/**
+	 * This method replaces the icon of the user data with the specified user id
+	 * with the icon read from the given stream. The icon is spooled to a temporary
+	 * file while being read, so that it is never held in memory as a whole before
+	 * it is known to be new, and it is rejected as soon as it exceeds the maximum
+	 * size defined in {@link Environment}. The icon is then decoded once and
+	 * downsampled to each of the sizes defined in {@link Constants}, before the
+	 * database is accessed. Identical icons are stored only once, while the
+	 * previous icon is removed once no user data use it and is evicted from the
+	 * {@link IconCache}.
+	 *
+	 * @param userId The user id
+	 * @param data   The stream containing the binary data of the new icon
+	 * @throws UnauthorizedOperationException If the current user is not logged in
+	 * @throws ForbiddenOperationException    If the current user does not have the
+	 *                                        given user id
+	 * @throws InvalidRequestException        If the given icon is not a valid PNG
+	 *                                        image, exceeds the maximum size or
+	 *                                        exceeds the maximum dimensions
+	 * @throws EntityNotFoundException        If the given id does not correspond to
+	 *                                        user data
+	 * @throws InternalErrorException         If an error occurred while reading
+	 *                                        the icon or a database error occurred
+	 *                                        while updating the user icon
+	 */
+	public void updateIcon(int userId, InputStream data) throws ServiceException {
+		log.debug("Updating user icon (userId=%s)".formatted(userId));
+		Authentication current = sessionHelper.getAuthentication();
+		if (current == null) {
+			throw new UnauthorizedOperationException("Updating user icons requires an active session!");
+		}
+		if (current.getUserId() != userId) {
+			throw new ForbiddenOperationException("The requested user icon update is forbidden!");
+		}
+		Path file;
+		try {
+			file = Files.createTempFile(ICON_SPOOL_PREFIX, null);
+		} catch (IOException exception) {
+			throw new InternalErrorException("An error occured while receiving the user icon!", exception);
+		}
+		try {
+			String hash = spool(data, file);
+			List<IconVariant> variants = createVariants(file, hash);
+			String previous = unitOfWork.execute(() -> {
+				UserData userData = userDataDao.select(userId);
+				if (userData == null) {
+					throw new EntityNotFoundException("The given user id does not have corresponding user data!");
+				}
+				if (iconDao.selectLength(hash) == null) {
+					iconDao.insertAbsent(new Icon(hash, readSpooled(file)));
+				}
+				for (IconVariant variant : variants) {
+					iconDao.insertVariantAbsent(variant);
+				}
+				userDataDao.updateIcon(userId, hash);
+				return userData.getIconHash();
+			});
+			if (previous != null && !previous.equals(hash)) {
+				iconCache.invalidate(previous);
+			}
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while updating the user icon!", exception);
+		} finally {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException exception) {
+				log.warn("Could not delete the spooled user icon %s!".formatted(file), exception);
+			}
+		}
+	}
+
+	/**
+	 * This method removes the icon of the user data with the specified user id.
+	 *
+	 * @param userId The user id
+	 * @throws UnauthorizedOperationException If the current user is not logged in
+	 * @throws ForbiddenOperationException    If the current user does not have the
+	 *                                        given user id
+	 * @throws EntityNotFoundException        If the given id does not correspond to
+	 *                                        user data
+	 * @throws InternalErrorException         If a database error occurred while
+	 *                                        deleting the user icon
+	 */
+	public void deleteIcon(int userId) throws ServiceException {
+		log.debug("Deleting user icon (userId=%s)".formatted(userId));
+		Authentication current = sessionHelper.getAuthentication();
+		if (current == null) {
+			throw new UnauthorizedOperationException("Deleting user icons requires an active session!");
+		}
+		if (current.getUserId() != userId) {
+			throw new ForbiddenOperationException("The requested user icon deletion is forbidden!");
+		}
+		try {
+			String previous = unitOfWork.execute(() -> {
+				UserData userData = userDataDao.select(userId);
+				if (userData == null) {
+					throw new EntityNotFoundException("The given user id does not have corresponding user data!");
+				}
+				userDataDao.updateIcon(userId, null);
+				return userData.getIconHash();
+			});
+			if (previous != null) {
+				iconCache.invalidate(previous);
+			}
+		} catch (DatabaseException exception) {
+			throw new InternalErrorException("A database error occured while deleting the user icon!", exception);
+		}
+	}
+
+	/**
+	 * This method copies the icon read from the given stream to the given file,
+	 * failing as soon as it exceeds the maximum size defined in
+	 * {@link Environment}, and returns its hash.
+	 *
+	 * @param data The stream containing the binary data of the icon
+	 * @param file The file to copy the icon to
+	 * @return The hash of the icon
+	 * @throws InvalidRequestException If the icon exceeds the maximum size
+	 * @throws InternalErrorException  If an error occurred while reading or
+	 *                                 copying the icon
+	 */
+	private String spool(InputStream data, Path file) throws ServiceException {
+		try (OutputStream output = Files.newOutputStream(file)) {
+			byte[] buffer = new byte[Constants.STREAM_BUFFER_SIZE];
+			long total = 0;
+			int read;
+			while ((read = data.read(buffer)) != -1) {
+				total += read;
+				if (total > Environment.SRV_ICON_MAX_SIZE) {
+					throw new InvalidRequestException("The given icon exceeds the maximum size of %s bytes!".formatted(Environment.SRV_ICON_MAX_SIZE));
+				}
+				output.write(buffer, 0, read);
+			}
+		} catch (IOException exception) {
+			throw new InternalErrorException("An error occured while receiving the user icon!", exception);
+		}
+		try {
+			return SecurityUtils.hashContent(file);
+		} catch (IOException exception) {
+			throw new InternalErrorException("An error occured while hashing the user icon!", exception);
+		}
+	}
+
+	/**
+	 * This method reads the icon spooled to the given file, which is only done
+	 * once the icon is known to be absent from the database.
+	 *
+	 * @param file The file the icon was spooled to
+	 * @return The binary data of the icon
+	 * @throws InternalErrorException If an error occurred while reading the file
+	 */
+	private byte[] readSpooled(Path file) throws ServiceException {
+		try {
+			return Files.readAllBytes(file);
+		} catch (IOException exception) {
+			throw new InternalErrorException("An error occured while reading the user icon!", exception);
+		}
+	}
+
+	/**
+	 * This method decodes the icon spooled to the given file and downsamples it to
+	 * each of the sizes defined in {@link Constants}. The icon is subsampled while
+	 * being decoded, so that the full image is never held in memory, and every
+	 * variant is downsampled from the previous, larger one.
+	 *
+	 * @param file The file the icon was spooled to
+	 * @param hash The hash of the icon
+	 * @return The variants of the icon
+	 * @throws InvalidRequestException If the icon is not a valid image or exceeds
+	 *                                 the maximum dimensions
+	 */
+	private List<IconVariant> createVariants(Path file, String hash) throws ServiceException {
+		try {
+			BufferedImage image = ImageUtils.decode(file, Environment.SRV_ICON_MAX_DIMENSION, Collections.max(Constants.ICON_SIZES));
+			List<IconVariant> variants = new ArrayList<>(Constants.ICON_SIZES.size());
+			for (int size : Constants.ICON_SIZES) {
+				image = ImageUtils.downsample(image, size);
+				variants.add(new IconVariant(hash, size, ImageUtils.encode(image)));
+			}
+			return variants;
+		} catch (IOException exception) {
+			throw new InvalidRequestException("The given icon is not a valid PNG image or is too large!", exception);
+		}
+	}
+
 }
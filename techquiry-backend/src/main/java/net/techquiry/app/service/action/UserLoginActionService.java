@@ -1,5 +1,9 @@
 package net.techquiry.app.service.action;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.regex.Pattern;
 
 import org.springframework.stereotype.Service;
@@ -10,8 +14,14 @@ import lombok.extern.log4j.Log4j2;
 import net.techquiry.app.common.Constants;
 import net.techquiry.app.common.Environment;
 import net.techquiry.app.common.SecurityUtils;
+import net.techquiry.app.database.UnitOfWork;
+import net.techquiry.app.database.dao.InquiryDao;
+import net.techquiry.app.database.dao.UserDataDao;
 import net.techquiry.app.database.dao.UserLoginDao;
 import net.techquiry.app.database.exception.DatabaseException;
+import net.techquiry.app.entity.Inquiry;
+import net.techquiry.app.entity.Profile;
+import net.techquiry.app.entity.UserData;
 import net.techquiry.app.entity.UserLogin;
 import net.techquiry.app.service.UserLoginService;
 import net.techquiry.app.service.exception.EntityNotFoundException;
@@ -19,6 +29,7 @@ import net.techquiry.app.service.exception.ForbiddenOperationException;
 import net.techquiry.app.service.exception.InternalErrorException;
 import net.techquiry.app.service.exception.InvalidRequestException;
 import net.techquiry.app.service.exception.ServiceException;
+import net.techquiry.app.service.exception.ServiceUnavailableException;
 import net.techquiry.app.service.exception.UnauthorizedOperationException;
 import net.techquiry.app.service.session.Authentication;
 import net.techquiry.app.service.session.SessionHelper;
@@ -42,12 +53,74 @@ public class UserLoginActionService {
 	 */
 	private final UserLoginDao userLoginDao;
 
+	/**
+	 * The object responsible for handling the data access for {@link UserData}
+	 * objects.
+	 */
+	private final UserDataDao userDataDao;
+
+	/**
+	 * The object responsible for handling the data access for {@link Inquiry}
+	 * objects.
+	 */
+	private final InquiryDao inquiryDao;
+
+	/**
+	 * The unit of work binding the data access calls of each operation to a
+	 * single transaction.
+	 */
+	private final UnitOfWork unitOfWork;
+
 	/**
 	 * The {@link SessionHelper} containing the information of the user currently
 	 * acting
 	 */
 	private final SessionHelper sessionHelper;
 
+	/**
+	 * This method returns the future of the profile of the user with the given
+	 * user id. The login, data and inquiries of the user are selected concurrently
+	 * on the database executor, so that the profile is complete once the slowest
+	 * of them is. If the current user does not have the user id, the profile will
+	 * be limited to non-anonymous inquiries.
+	 *
+	 * @param userId The user id
+	 * @return The future of the profile of the user with the given user id, which
+	 *         completes exceptionally with an {@link EntityNotFoundException} if
+	 *         the given user id does not correspond to a user login or user data,
+	 *         with a {@link ServiceUnavailableException} if the database executor
+	 *         is too busy to accept the queries, or with an
+	 *         {@link InternalErrorException} if a database error occurs while
+	 *         retrieving the profile
+	 */
+	public CompletableFuture<Profile> getProfile(int userId) {
+		log.debug("Getting profile (userId=%s)".formatted(userId));
+		Authentication current = sessionHelper.getAuthentication();
+		boolean owner = current != null && current.getUserId() == userId;
+		CompletableFuture<UserLogin> login = userLoginDao.selectAsync(userId);
+		CompletableFuture<UserData> data = userDataDao.selectAsync(userId);
+		CompletableFuture<List<Inquiry>> inquiries = owner ? inquiryDao.selectFromUserIdAsync(userId) : inquiryDao.selectFromUserIdNonAnonymousAsync(userId);
+		return CompletableFuture.allOf(login, data, inquiries).handle((ignored, throwable) -> {
+			if (throwable != null) {
+				Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+				if (cause instanceof RejectedExecutionException) {
+					throw new CompletionException(new ServiceUnavailableException("The database is too busy to get the profile!", cause));
+				}
+				if (cause instanceof DatabaseException) {
+					throw new CompletionException(new InternalErrorException("A database error occured while getting the profile!", cause));
+				}
+				throw throwable instanceof CompletionException completion ? completion : new CompletionException(cause);
+			}
+			if (login.join() == null) {
+				throw new CompletionException(new EntityNotFoundException("The given user id does not have a corresponding user login!"));
+			}
+			if (data.join() == null) {
+				throw new CompletionException(new EntityNotFoundException("The given user id does not have corresponding user data!"));
+			}
+			return new Profile(login.join(), data.join(), inquiries.join());
+		});
+	}
+
 	/**
 	 * This method inserts the given {@link UserLogin} object in the database
 	 *
@@ -74,11 +147,13 @@ public class UserLoginActionService {
 		}
 		int userId;
 		try {
-			UserLogin userLogin = userLoginDao.selectFromUsername(login.getUsername());
-			if (userLogin != null) {
-				throw new InvalidRequestException("A user login with the given username already exists!");
-			}
-			userId = userLoginDao.insert(login);
+			userId = unitOfWork.execute(() -> {
+				UserLogin userLogin = userLoginDao.selectFromUsername(login.getUsername());
+				if (userLogin != null) {
+					throw new InvalidRequestException("A user login with the given username already exists!");
+				}
+				return userLoginDao.insert(login);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while creating the user login!", exception);
 		}
@@ -109,12 +184,14 @@ public class UserLoginActionService {
 			throw new ForbiddenOperationException("The requested user login deletion is forbidden!");
 		}
 		try {
-			UserLogin login = userLoginDao.select(userId);
-			if (login == null) {
-				throw new EntityNotFoundException("The given user id does not have corresponding user login!");
-			}
-			sessionHelper.setAuthentication(null);
-			userLoginDao.delete(userId);
+			unitOfWork.run(() -> {
+				UserLogin login = userLoginDao.select(userId);
+				if (login == null) {
+					throw new EntityNotFoundException("The given user id does not have corresponding user login!");
+				}
+				sessionHelper.setAuthentication(null);
+				userLoginDao.delete(userId);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while deleting the user login!", exception);
 		}
@@ -152,15 +229,17 @@ public class UserLoginActionService {
 			throw new InvalidRequestException("The given username does not abide by the requirements!");
 		}
 		try {
-			UserLogin idLogin = userLoginDao.select(login.getUserId());
-			if (idLogin == null) {
-				throw new EntityNotFoundException("The given user id does not have corresponding user login!");
-			}
-			UserLogin usernameLogin = userLoginDao.selectFromUsername(login.getUsername());
-			if (usernameLogin != null && !usernameLogin.getUserId().equals(login.getUserId())) {
-				throw new InvalidRequestException("A user login with the given username already exists!");
-			}
-			userLoginDao.update(login);
+			unitOfWork.run(() -> {
+				UserLogin idLogin = userLoginDao.select(login.getUserId());
+				if (idLogin == null) {
+					throw new EntityNotFoundException("The given user id does not have corresponding user login!");
+				}
+				UserLogin usernameLogin = userLoginDao.selectFromUsername(login.getUsername());
+				if (usernameLogin != null && !usernameLogin.getUserId().equals(login.getUserId())) {
+					throw new InvalidRequestException("A user login with the given username already exists!");
+				}
+				userLoginDao.update(login);
+			});
 		} catch (DatabaseException exception) {
 			throw new InternalErrorException("A database error occured while getting the user!", exception);
 		}
@@ -0,0 +1,35 @@
+package net.techquiry.app.service.exception;
+
+/**
+ * {@link ServiceUnavailableException} is an {@link ServiceException} subclass
+ * that is thrown when a requested operation cannot be performed because the
+ * application is temporarily overloaded.
+ * 
+ * @author Aggelowe
+ * @since 0.0.1
+ */
+public class ServiceUnavailableException extends ServiceException {
+
+	/**
+	 * Constructs a new {@link ServiceUnavailableException} with the given message.
+	 *
+	 * @param message The details message of the exception.
+	 */
+	public ServiceUnavailableException(String message) {
+		super(message);
+	}
+
+	/**
+	 * Constructs a new {@link ServiceUnavailableException} with the given message
+	 * and cause.
+	 *
+	 * @param message The details message of the exception.
+	 * @param cause   The <i>cause</i> of the exception.
+	 */
+	public ServiceUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+	private static final long serialVersionUID = 1L;
+
+}
@@ -0,0 +1,8 @@
+/*
+ * This sql file inserts a new icon entry with the given hash and data to the
+ * database, unless an entry with the same hash already exists.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT OR IGNORE INTO icon(icon_hash, data) VALUES(?, ?);
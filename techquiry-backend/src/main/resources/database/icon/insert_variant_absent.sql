@@ -0,0 +1,9 @@
+/*
+ * This sql file inserts a new icon variant entry with the given hash, size and
+ * data to the database, unless an entry with the same hash and size already
+ * exists.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT OR IGNORE INTO icon_variant(icon_hash, size, data) VALUES(?, ?, ?);
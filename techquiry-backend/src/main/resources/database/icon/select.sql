@@ -0,0 +1,7 @@
+/*
+ * This sql file selects the only icon entry with the given hash.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT icon_hash, data FROM icon WHERE icon_hash = ? LIMIT 1;
@@ -0,0 +1,8 @@
+/*
+ * This sql file selects the part of the data of the only icon entry with the
+ * given hash that starts at the given 1-based offset and has the given length.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT substr(data, ?, ?) AS chunk FROM icon WHERE icon_hash = ? LIMIT 1;
@@ -0,0 +1,8 @@
+/*
+ * This sql file selects the length in bytes of the data of the only icon entry
+ * with the given hash.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT length(data) AS length FROM icon WHERE icon_hash = ? LIMIT 1;
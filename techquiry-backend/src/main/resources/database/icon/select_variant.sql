@@ -0,0 +1,8 @@
+/*
+ * This sql file selects the only icon variant entry with the given hash and
+ * size.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT icon_hash, size, data FROM icon_variant WHERE icon_hash = ? AND size = ? LIMIT 1;
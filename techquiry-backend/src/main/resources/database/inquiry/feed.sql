@@ -0,0 +1,10 @@
+/*
+ * This sql file selects the given number of inquiry entries following the given
+ * inquiry id, along with whether the given user id is observing each of them.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT inquiry.*, observer.user_id IS NOT NULL AS observing FROM inquiry
+LEFT JOIN observer ON observer.inquiry_id = inquiry.inquiry_id AND observer.user_id = ?
+WHERE inquiry.inquiry_id > ? ORDER BY inquiry.inquiry_id LIMIT ?;
@@ -0,0 +1,8 @@
+/*
+ * This sql file selects the given number of inquiry entries following the given
+ * inquiry id.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT * FROM inquiry WHERE inquiry_id > ? ORDER BY inquiry_id LIMIT ?;
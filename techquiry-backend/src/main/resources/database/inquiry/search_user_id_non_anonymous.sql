@@ -0,0 +1,38 @@
+/*
+ * This sql file selects the given number of inquiry entries with the given user
+ * id which are also not anonymous and whose title, content or responses match
+ * the given full-text query, ordered by their relevance score and inquiry id and
+ * following the given position. Only the given number of the most relevant
+ * inquiries and of the most relevant responses are ranked, so that the cost of a
+ * page does not depend on the number of matches. Each entry is accompanied by
+ * its score, its position and a snippet of its best match, which is only
+ * computed for the selected entries. The matched terms of the snippet are
+ * enclosed in the control characters 0x02 and 0x03, so that they can be
+ * highlighted once the snippet has been escaped.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT inquiry.*, ranked.best AS score, ranked.position, CASE WHEN ranked.response_id IS NULL
+	THEN (SELECT snippet(inquiry_search, -1, char(2), char(3), '...', 16) FROM inquiry_search WHERE inquiry_search MATCH ? AND inquiry_search.rowid = ranked.inquiry_id)
+	ELSE (SELECT snippet(response_search, 0, char(2), char(3), '...', 16) FROM response_search WHERE response_search MATCH ? AND response_search.rowid = ranked.response_id)
+END AS snippet
+FROM (
+	SELECT * FROM (
+		SELECT inquiry_id, response_id, best, ROW_NUMBER() OVER (ORDER BY best, inquiry_id) AS position FROM (
+			SELECT inquiry_id, response_id, MIN(score) AS best FROM (
+				SELECT * FROM (
+					SELECT rowid AS inquiry_id, NULL AS response_id, rank AS score FROM inquiry_search
+					WHERE inquiry_search MATCH ? AND rank MATCH 'bm25(2.0, 1.0)'
+					AND rowid IN (SELECT inquiry_id FROM inquiry WHERE user_id = ? AND anonymous = 0) ORDER BY rank LIMIT ?
+				)
+				UNION ALL
+				SELECT response.inquiry_id, response.response_id, matched.score FROM (
+					SELECT rowid AS response_id, rank AS score FROM response_search
+					WHERE response_search MATCH ?
+					AND rowid IN (SELECT response.response_id FROM response JOIN inquiry ON inquiry.inquiry_id = response.inquiry_id WHERE inquiry.user_id = ? AND inquiry.anonymous = 0) ORDER BY rank LIMIT ?
+				) AS matched JOIN response ON response.response_id = matched.response_id
+			) GROUP BY inquiry_id
+		)
+	) WHERE position > ? ORDER BY position LIMIT ?
+) AS ranked JOIN inquiry ON inquiry.inquiry_id = ranked.inquiry_id ORDER BY ranked.position;
@@ -0,0 +1,8 @@
+/*
+ * This sql file updates the only inquiry entry that has the given inquiry id
+ * and user id with the given values and returns the updated entry.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+UPDATE inquiry SET title = ?, content = ?, anonymous = ? WHERE inquiry_id = ? AND user_id = ? RETURNING inquiry_id;
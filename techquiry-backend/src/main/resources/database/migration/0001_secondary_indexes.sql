@@ -0,0 +1,18 @@
+/*
+ * This sql file adds the secondary indexes on the foreign keys that are used for
+ * looking up inquiry, response, observer and upvote entries.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+CREATE INDEX IF NOT EXISTS "inquiry_user_id_index" ON "inquiry" ("user_id", "anonymous");
+
+CREATE INDEX IF NOT EXISTS "response_inquiry_id_index" ON "response" ("inquiry_id");
+
+CREATE INDEX IF NOT EXISTS "response_user_id_index" ON "response" ("user_id");
+
+CREATE INDEX IF NOT EXISTS "observer_user_id_index" ON "observer" ("user_id", "inquiry_id");
+
+CREATE INDEX IF NOT EXISTS "upvote_user_id_index" ON "upvote" ("user_id", "response_id");
+
+INSERT INTO "schema_version" ("version") VALUES (1);
@@ -0,0 +1,51 @@
+/*
+ * This sql file adds the response, observer and upvote counter columns to the
+ * inquiry and response entries, fills them with the current counts and creates
+ * the triggers keeping them up to date on every insert or delete.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+ALTER TABLE "inquiry" ADD COLUMN "response_count" INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE "inquiry" ADD COLUMN "observer_count" INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE "response" ADD COLUMN "upvote_count" INTEGER NOT NULL DEFAULT 0;
+
+UPDATE "inquiry" SET
+	"response_count" = (SELECT COUNT(*) FROM "response" WHERE "response"."inquiry_id" = "inquiry"."inquiry_id"),
+	"observer_count" = (SELECT COUNT(*) FROM "observer" WHERE "observer"."inquiry_id" = "inquiry"."inquiry_id");
+
+UPDATE "response" SET
+	"upvote_count" = (SELECT COUNT(*) FROM "upvote" WHERE "upvote"."response_id" = "response"."response_id");
+
+CREATE TRIGGER IF NOT EXISTS "response_insert_trigger" AFTER INSERT ON "response" BEGIN
+	UPDATE "inquiry" SET "response_count" = "response_count" + 1 WHERE "inquiry_id" = NEW."inquiry_id";
+END;
+
+CREATE TRIGGER IF NOT EXISTS "response_delete_trigger" AFTER DELETE ON "response" BEGIN
+	UPDATE "inquiry" SET "response_count" = "response_count" - 1 WHERE "inquiry_id" = OLD."inquiry_id";
+END;
+
+CREATE TRIGGER IF NOT EXISTS "response_update_trigger" AFTER UPDATE OF "inquiry_id" ON "response" WHEN OLD."inquiry_id" <> NEW."inquiry_id" BEGIN
+	UPDATE "inquiry" SET "response_count" = "response_count" - 1 WHERE "inquiry_id" = OLD."inquiry_id";
+	UPDATE "inquiry" SET "response_count" = "response_count" + 1 WHERE "inquiry_id" = NEW."inquiry_id";
+END;
+
+CREATE TRIGGER IF NOT EXISTS "observer_insert_trigger" AFTER INSERT ON "observer" BEGIN
+	UPDATE "inquiry" SET "observer_count" = "observer_count" + 1 WHERE "inquiry_id" = NEW."inquiry_id";
+END;
+
+CREATE TRIGGER IF NOT EXISTS "observer_delete_trigger" AFTER DELETE ON "observer" BEGIN
+	UPDATE "inquiry" SET "observer_count" = "observer_count" - 1 WHERE "inquiry_id" = OLD."inquiry_id";
+END;
+
+CREATE TRIGGER IF NOT EXISTS "upvote_insert_trigger" AFTER INSERT ON "upvote" BEGIN
+	UPDATE "response" SET "upvote_count" = "upvote_count" + 1 WHERE "response_id" = NEW."response_id";
+END;
+
+CREATE TRIGGER IF NOT EXISTS "upvote_delete_trigger" AFTER DELETE ON "upvote" BEGIN
+	UPDATE "response" SET "upvote_count" = "upvote_count" - 1 WHERE "response_id" = OLD."response_id";
+END;
+
+INSERT INTO "schema_version" ("version") VALUES (2);
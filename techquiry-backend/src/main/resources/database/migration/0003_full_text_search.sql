@@ -0,0 +1,45 @@
+/*
+ * This sql file adds the full-text search indexes over the title and content of
+ * the inquiry entries and the content of the response entries, fills them with
+ * the current entries and creates the triggers keeping them up to date on every
+ * insert, update or delete. The indexes are external content tables, so the
+ * text itself is only stored in the inquiry and response tables.
+ *
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+CREATE VIRTUAL TABLE IF NOT EXISTS "inquiry_search" USING fts5("title", "content", content = 'inquiry', content_rowid = 'inquiry_id', tokenize = 'unicode61 remove_diacritics 2');
+
+CREATE VIRTUAL TABLE IF NOT EXISTS "response_search" USING fts5("content", content = 'response', content_rowid = 'response_id', tokenize = 'unicode61 remove_diacritics 2');
+
+INSERT INTO "inquiry_search" ("inquiry_search") VALUES ('rebuild');
+
+INSERT INTO "response_search" ("response_search") VALUES ('rebuild');
+
+CREATE TRIGGER IF NOT EXISTS "inquiry_search_insert_trigger" AFTER INSERT ON "inquiry" BEGIN
+	INSERT INTO "inquiry_search" ("rowid", "title", "content") VALUES (NEW."inquiry_id", NEW."title", NEW."content");
+END;
+
+CREATE TRIGGER IF NOT EXISTS "inquiry_search_delete_trigger" AFTER DELETE ON "inquiry" BEGIN
+	INSERT INTO "inquiry_search" ("inquiry_search", "rowid", "title", "content") VALUES ('delete', OLD."inquiry_id", OLD."title", OLD."content");
+END;
+
+CREATE TRIGGER IF NOT EXISTS "inquiry_search_update_trigger" AFTER UPDATE OF "inquiry_id", "title", "content" ON "inquiry" BEGIN
+	INSERT INTO "inquiry_search" ("inquiry_search", "rowid", "title", "content") VALUES ('delete', OLD."inquiry_id", OLD."title", OLD."content");
+	INSERT INTO "inquiry_search" ("rowid", "title", "content") VALUES (NEW."inquiry_id", NEW."title", NEW."content");
+END;
+
+CREATE TRIGGER IF NOT EXISTS "response_search_insert_trigger" AFTER INSERT ON "response" BEGIN
+	INSERT INTO "response_search" ("rowid", "content") VALUES (NEW."response_id", NEW."content");
+END;
+
+CREATE TRIGGER IF NOT EXISTS "response_search_delete_trigger" AFTER DELETE ON "response" BEGIN
+	INSERT INTO "response_search" ("response_search", "rowid", "content") VALUES ('delete', OLD."response_id", OLD."content");
+END;
+
+CREATE TRIGGER IF NOT EXISTS "response_search_update_trigger" AFTER UPDATE OF "response_id", "content" ON "response" BEGIN
+	INSERT INTO "response_search" ("response_search", "rowid", "content") VALUES ('delete', OLD."response_id", OLD."content");
+	INSERT INTO "response_search" ("rowid", "content") VALUES (NEW."response_id", NEW."content");
+END;
+
+INSERT INTO "schema_version" ("version") VALUES (3);
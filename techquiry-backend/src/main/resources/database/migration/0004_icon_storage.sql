@@ -0,0 +1,37 @@
+/*
+ * This sql file moves the user icons out of the user data entries into their
+ * own table, where each distinct icon is stored once and addressed by its hash,
+ * and creates the triggers deleting an icon once no user data entry references
+ * it. SQLite has no built-in hash function, so the existing icons are keyed by
+ * the id of the first user holding them instead, while identical icons are
+ * still stored once. Icons stored afterwards are keyed by their SHA-256 hash.
+ *
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+CREATE TABLE IF NOT EXISTS "icon" (
+	"icon_hash" TEXT NOT NULL UNIQUE,
+	"data" BLOB NOT NULL,
+	PRIMARY KEY("icon_hash")
+);
+
+ALTER TABLE "user_data" ADD COLUMN "icon_hash" TEXT REFERENCES "icon"("icon_hash");
+
+INSERT INTO "icon" ("icon_hash", "data")
+	SELECT 'legacy-' || MIN("user_id"), "icon" FROM "user_data" WHERE "icon" IS NOT NULL GROUP BY "icon";
+
+UPDATE "user_data" SET "icon_hash" = (SELECT "icon_hash" FROM "icon" WHERE "icon"."data" = "user_data"."icon") WHERE "icon" IS NOT NULL;
+
+ALTER TABLE "user_data" DROP COLUMN "icon";
+
+CREATE INDEX IF NOT EXISTS "user_data_icon_hash_index" ON "user_data" ("icon_hash");
+
+CREATE TRIGGER IF NOT EXISTS "icon_update_trigger" AFTER UPDATE OF "icon_hash" ON "user_data" WHEN OLD."icon_hash" IS NOT NULL AND OLD."icon_hash" IS NOT NEW."icon_hash" BEGIN
+	DELETE FROM "icon" WHERE "icon_hash" = OLD."icon_hash" AND NOT EXISTS (SELECT 1 FROM "user_data" WHERE "icon_hash" = OLD."icon_hash");
+END;
+
+CREATE TRIGGER IF NOT EXISTS "icon_delete_trigger" AFTER DELETE ON "user_data" WHEN OLD."icon_hash" IS NOT NULL BEGIN
+	DELETE FROM "icon" WHERE "icon_hash" = OLD."icon_hash" AND NOT EXISTS (SELECT 1 FROM "user_data" WHERE "icon_hash" = OLD."icon_hash");
+END;
+
+INSERT INTO "schema_version" ("version") VALUES (4);
@@ -0,0 +1,19 @@
+/*
+ * This sql file adds the table holding the downsampled variants of the icons,
+ * one for each of the predefined sizes. The variants of an icon are deleted
+ * along with it. Icons stored before this migration have no variants, so their
+ * original data are served in every size.
+ *
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+CREATE TABLE IF NOT EXISTS "icon_variant" (
+	"icon_hash" TEXT NOT NULL,
+	"size" INTEGER NOT NULL,
+	"data" BLOB NOT NULL,
+	PRIMARY KEY("icon_hash", "size"),
+	FOREIGN KEY ("icon_hash") REFERENCES "icon"("icon_hash")
+	ON UPDATE CASCADE ON DELETE CASCADE
+);
+
+INSERT INTO "schema_version" ("version") VALUES (5);
@@ -1,7 +1,8 @@
 /*
- * This sql file selects the count of observer entries with the given inquiry id.
+ * This sql file selects the count of observer entries with the given inquiry id
+ * from the counter column of the inquiry entry.
  * 
  * Author: Aggelowe
  * Since: 0.0.1
  */
-SELECT COUNT(user_id) AS observer_count FROM observer WHERE inquiry_id = ?;
+SELECT COALESCE((SELECT observer_count FROM inquiry WHERE inquiry_id = ?), 0) AS observer_count;
@@ -0,0 +1,8 @@
+/*
+ * This sql file deletes the observer entry with the given inquiry id and user id
+ * and returns the deleted entry.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+DELETE FROM observer WHERE inquiry_id = ? AND user_id = ? RETURNING inquiry_id;
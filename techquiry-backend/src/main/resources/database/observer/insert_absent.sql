@@ -0,0 +1,9 @@
+/*
+ * This sql file inserts a new observer entry with the given user id and inquiry
+ * id to the database, unless it already exists or the inquiry does not exist,
+ * and returns the inserted entry.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT OR IGNORE INTO observer(inquiry_id, user_id) SELECT inquiry_id, ? FROM inquiry WHERE inquiry_id = ? RETURNING inquiry_id;
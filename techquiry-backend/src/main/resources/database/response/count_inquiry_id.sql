@@ -1,7 +1,8 @@
 /*
- * This sql file selects the count of response entries with the given inquiry id.
+ * This sql file selects the count of response entries with the given inquiry id
+ * from the counter column of the inquiry entry.
  * 
  * Author: Aggelowe
  * Since: 0.0.1
  */
-SELECT COUNT(response_id) AS response_count FROM response WHERE inquiry_id = ?;
\ No newline at end of file
+SELECT COALESCE((SELECT response_count FROM inquiry WHERE inquiry_id = ?), 0) AS response_count;
@@ -0,0 +1,8 @@
+/*
+ * This sql file deletes the only response entry that has the given response id
+ * and user id and returns the deleted entry.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+DELETE FROM response WHERE response_id = ? AND user_id = ? RETURNING response_id;
@@ -0,0 +1,8 @@
+/*
+ * This sql file updates the only response entry that has the given response id
+ * and user id with the given values and returns the updated entry.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+UPDATE response SET anonymous = ?, content = ? WHERE response_id = ? AND user_id = ? RETURNING response_id;
@@ -0,0 +1,11 @@
+/*
+ * This sql file creates the table keeping track of the applied schema migrations.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+CREATE TABLE IF NOT EXISTS "schema_version" (
+	"version" INTEGER NOT NULL UNIQUE,
+	"applied" TEXT NOT NULL DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY("version")
+);
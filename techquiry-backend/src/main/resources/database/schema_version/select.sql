@@ -0,0 +1,7 @@
+/*
+ * This sql file selects the version of the latest applied schema migration.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT COALESCE(MAX(version), 0) AS version FROM schema_version;
@@ -0,0 +1,17 @@
+/*
+ * This sql file selects every entry of the database that is transferred
+ * between instances, table by table in an order that satisfies the foreign
+ * keys. The counter columns are omitted, since they are recomputed by the
+ * triggers on import.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT user_id, username, password_hash, password_salt FROM user_login ORDER BY user_id;
+SELECT icon_hash, data FROM icon ORDER BY icon_hash;
+SELECT icon_hash, size, data FROM icon_variant ORDER BY icon_hash, size;
+SELECT user_id, first_name, last_name, icon_hash FROM user_data ORDER BY user_id;
+SELECT inquiry_id, user_id, title, content, anonymous FROM inquiry ORDER BY inquiry_id;
+SELECT response_id, inquiry_id, user_id, anonymous, content FROM response ORDER BY response_id;
+SELECT inquiry_id, user_id FROM observer ORDER BY inquiry_id, user_id;
+SELECT response_id, user_id FROM upvote ORDER BY response_id, user_id;
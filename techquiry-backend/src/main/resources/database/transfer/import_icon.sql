@@ -0,0 +1,8 @@
+/*
+ * This sql file inserts a transferred icon entry to the database, keeping its
+ * original hash.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT INTO icon(icon_hash, data) VALUES(?, ?);
@@ -0,0 +1,8 @@
+/*
+ * This sql file inserts a transferred icon variant entry to the database,
+ * keeping its original hash and size.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT INTO icon_variant(icon_hash, size, data) VALUES(?, ?, ?);
@@ -0,0 +1,8 @@
+/*
+ * This sql file inserts a transferred inquiry entry to the database, keeping
+ * its original keys.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(?, ?, ?, ?, ?);
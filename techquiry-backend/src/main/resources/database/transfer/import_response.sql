@@ -0,0 +1,8 @@
+/*
+ * This sql file inserts a transferred response entry to the database, keeping
+ * its original keys.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT INTO response(response_id, inquiry_id, user_id, anonymous, content) VALUES(?, ?, ?, ?, ?);
@@ -0,0 +1,8 @@
+/*
+ * This sql file inserts a transferred upvote entry to the database, keeping
+ * its original keys.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT INTO upvote(response_id, user_id) VALUES(?, ?);
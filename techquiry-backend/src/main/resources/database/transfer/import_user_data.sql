@@ -0,0 +1,8 @@
+/*
+ * This sql file inserts a transferred user data entry to the database, keeping
+ * its original keys.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(?, ?, ?, ?);
@@ -0,0 +1,8 @@
+/*
+ * This sql file inserts a transferred user login entry to the database, keeping
+ * its original keys.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(?, ?, ?, ?);
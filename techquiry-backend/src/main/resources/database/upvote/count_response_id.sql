@@ -1,7 +1,8 @@
 /*
- * This sql file selects the count of upvote entries with the given response id.
+ * This sql file selects the count of upvote entries with the given response id
+ * from the counter column of the response entry.
  * 
  * Author: Aggelowe
  * Since: 0.0.1
  */
-SELECT COUNT(user_id) AS upvote_count FROM upvote WHERE response_id = ?;
+SELECT COALESCE((SELECT upvote_count FROM response WHERE response_id = ?), 0) AS upvote_count;
@@ -0,0 +1,9 @@
+/*
+ * This sql file inserts a new upvote entry with the given user id and response
+ * id to the database, unless it already exists or the response does not exist,
+ * and returns the inserted entry.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+INSERT OR IGNORE INTO upvote(response_id, user_id) SELECT response_id, ? FROM response WHERE response_id = ? RETURNING response_id;
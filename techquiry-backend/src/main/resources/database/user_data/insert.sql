@@ -4,4 +4,4 @@
  * Author: Aggelowe 
  * Since: 0.0.1
  */
-INSERT INTO user_data(user_id, first_name, last_name, icon) VALUES(?, ?, ?, ?);
+INSERT INTO user_data(user_id, first_name, last_name) VALUES(?, ?, ?);
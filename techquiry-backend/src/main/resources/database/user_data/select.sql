@@ -1,7 +1,8 @@
 /*
- * This sql file selects the only user data entry with the given user id.
+ * This sql file selects the only user data entry with the given user id,
+ * along with the hash of its icon but not the icon itself.
  * 
  * Author: Aggelowe
  * Since: 0.0.1
  */
-SELECT * FROM user_data WHERE user_id = ? LIMIT 1;
+SELECT user_id, first_name, last_name, icon_hash FROM user_data WHERE user_id = ? LIMIT 1;
@@ -1,8 +1,8 @@
 /*
  * This sql file updates the only user data entry that has the given user id
- * with the given values.
+ * with the given names.
  * 
  * Author: Aggelowe
  * Since: 0.0.1
  */
-UPDATE user_data SET first_name = ?, last_name = ?, icon = ? WHERE user_id = ?;
+UPDATE user_data SET first_name = ?, last_name = ? WHERE user_id = ?;
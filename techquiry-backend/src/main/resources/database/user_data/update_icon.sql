@@ -0,0 +1,8 @@
+/*
+ * This sql file sets the hash of the icon of the only user data entry that has
+ * the given user id, where a null hash removes the icon.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+UPDATE user_data SET icon_hash = ? WHERE user_id = ?;
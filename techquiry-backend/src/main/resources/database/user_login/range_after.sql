@@ -0,0 +1,8 @@
+/*
+ * This sql file selects the given number of user login entries following the
+ * given user id.
+ * 
+ * Author: Aggelowe
+ * Since: 0.0.1
+ */
+SELECT * FROM user_login WHERE user_id > ? ORDER BY user_id LIMIT ?;
@@ -11,6 +11,12 @@ import org.sqlite.SQLiteConfig;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import net.techquiry.app.database.EntityCacheManager;
+import net.techquiry.app.database.UnitOfWork;
+
 @Configuration
 @ComponentScan({ "net.techquiry.app.database", "net.techquiry.app.service", "net.techquiry.app.mapper" })
 public class TestAppConfiguration {
@@ -28,4 +34,20 @@ public class TestAppConfiguration {
 		return new HikariDataSource(hikariConfig);
 	}
 
+	@Bean(name = Constants.DATABASE_READ_SOURCE)
+	public DataSource getReadDataSource(DataSource dataSource) {
+		return dataSource;
+	}
+
+	@Primary
+	@Bean
+	public EntityCacheManager getEntityCacheManager(UnitOfWork unitOfWork) {
+		return new EntityCacheManager(unitOfWork, 0, 1);
+	}
+
+	@Bean
+	public MeterRegistry getMeterRegistry() {
+		return new SimpleMeterRegistry();
+	}
+
 }
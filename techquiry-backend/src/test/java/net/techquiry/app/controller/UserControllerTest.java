@@ -0,0 +1,108 @@
+package net.techquiry.app.controller;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import net.techquiry.app.common.TestAppConfiguration;
+import net.techquiry.app.service.exception.InvalidRequestException;
+
+@SpringBootTest(classes = { TestAppConfiguration.class, JacksonAutoConfiguration.class, StreamHelper.class, UserController.class })
+@ExtendWith(SpringExtension.class)
+class UserControllerTest {
+
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	UserController userController;
+
+	@BeforeEach
+	void initialize() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'user_login' (
+								'user_id' INTEGER NOT NULL UNIQUE,
+								'username' TEXT NOT NULL UNIQUE,
+								'password_hash' TEXT NOT NULL,
+								'password_salt' TEXT NOT NULL,
+								PRIMARY KEY('user_id')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'icon' (
+								'icon_hash' TEXT NOT NULL UNIQUE,
+								'data' BLOB NOT NULL,
+								PRIMARY KEY('icon_hash')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'user_data' (
+								'user_id' INTEGER NOT NULL UNIQUE,
+								'first_name' TEXT NOT NULL,
+								'last_name' TEXT NOT NULL,
+								'icon_hash' TEXT,
+								PRIMARY KEY('user_id'),
+								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
+								ON UPDATE CASCADE ON DELETE CASCADE,
+								FOREIGN KEY ('icon_hash') REFERENCES 'icon'('icon_hash')
+						);
+						""");
+				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
+				statement.execute("INSERT INTO icon(icon_hash, data) VALUES('96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7', X'0000');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(0, 'Alice', 'Smith', '96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7');");
+				connection.commit();
+			}
+		});
+	}
+
+	@AfterEach
+	void destroy() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("DROP TABLE 'user_data'");
+				statement.execute("DROP TABLE 'icon'");
+				statement.execute("DROP TABLE 'user_login'");
+				connection.commit();
+			}
+		});
+	}
+
+	@Test
+	void testGetUserIconNotModified() {
+		String hash = "96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7";
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"%s-64\"".formatted(hash));
+		assertEquals(HttpStatus.NOT_MODIFIED, assertDoesNotThrow(() -> userController.getUserIcon(0, 64, headers)).getStatusCode());
+		assertEquals(HttpStatus.NOT_MODIFIED, assertDoesNotThrow(() -> userController.getVersionedUserIcon(0, hash, 64, headers)).getStatusCode());
+	}
+
+	@Test
+	void testGetUserIconUnsupportedSize() {
+		String hash = "96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7";
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"%s-100\"".formatted(hash));
+		assertThrowsExactly(InvalidRequestException.class, () -> userController.getUserIcon(0, 100, headers));
+		assertThrowsExactly(InvalidRequestException.class, () -> userController.getVersionedUserIcon(0, hash, 100, headers));
+	}
+
+}
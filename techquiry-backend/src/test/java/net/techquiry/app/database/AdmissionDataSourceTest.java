@@ -0,0 +1,81 @@
+package net.techquiry.app.database;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.sqlite.SQLiteConnection;
+
+import net.techquiry.app.common.TestAppConfiguration;
+
+@SpringBootTest(classes = TestAppConfiguration.class)
+@ExtendWith(SpringExtension.class)
+class AdmissionDataSourceTest {
+
+	@Autowired
+	DataSource dataSource;
+
+	@Test
+	void testConnectionForwarded() {
+		AdmissionDataSource gate = new AdmissionDataSource(dataSource, 1, 250);
+		assertDoesNotThrow(() -> {
+			try (Connection connection = gate.getConnection()) {
+				Statement statement = connection.createStatement();
+				ResultSet result = statement.executeQuery("SELECT 1 AS one");
+				assertTrue(result.next());
+				assertEquals(1, result.getInt("one"));
+				assertTrue(connection.unwrap(Connection.class) instanceof SQLiteConnection);
+			}
+		});
+		assertEquals(1, gate.getAvailableCount());
+	}
+
+	@Test
+	void testAdmissionTimeout() {
+		AdmissionDataSource gate = new AdmissionDataSource(dataSource, 1, 250);
+		Connection connection = assertDoesNotThrow(() -> gate.getConnection());
+		assertEquals(0, gate.getAvailableCount());
+		assertThrowsExactly(SQLTimeoutException.class, () -> gate.getConnection());
+		assertDoesNotThrow(() -> connection.close());
+		assertDoesNotThrow(() -> connection.close());
+		assertEquals(1, gate.getAvailableCount());
+	}
+
+	@Test
+	void testWaitingAdmitted() {
+		AdmissionDataSource gate = new AdmissionDataSource(dataSource, 1, 10000);
+		Connection connection = assertDoesNotThrow(() -> gate.getConnection());
+		AtomicBoolean admitted = new AtomicBoolean();
+		Thread waiting = Thread.ofVirtual().start(() -> {
+			try (Connection next = gate.getConnection()) {
+				admitted.set(true);
+			} catch (Exception exception) {
+				admitted.set(false);
+			}
+		});
+		assertDoesNotThrow(() -> {
+			while (gate.getWaitingCount() == 0) {
+				Thread.sleep(10);
+			}
+			connection.close();
+			waiting.join();
+		});
+		assertTrue(admitted.get());
+		assertEquals(1, gate.getAvailableCount());
+	}
+
+}
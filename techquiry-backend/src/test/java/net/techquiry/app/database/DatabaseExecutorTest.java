@@ -0,0 +1,56 @@
+package net.techquiry.app.database;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import net.techquiry.app.database.exception.DataAccessException;
+
+class DatabaseExecutorTest {
+
+	@Test
+	void testSubmitSuccess() {
+		try (DatabaseExecutor executor = new DatabaseExecutor(2, 4)) {
+			CompletableFuture<String> future = executor.submit(() -> Thread.currentThread().getName());
+			String name = assertDoesNotThrow(() -> future.join());
+			assertTrue(name.startsWith("techquiry-database-"));
+		}
+	}
+
+	@Test
+	void testSubmitException() {
+		try (DatabaseExecutor executor = new DatabaseExecutor(2, 4)) {
+			CompletableFuture<Integer> future = executor.submit(() -> {
+				throw new DataAccessException("Failure");
+			});
+			CompletionException exception = assertThrowsExactly(CompletionException.class, () -> future.join());
+			assertEquals(DataAccessException.class, exception.getCause().getClass());
+		}
+	}
+
+	@Test
+	void testSubmitRejected() {
+		CountDownLatch latch = new CountDownLatch(1);
+		try (DatabaseExecutor executor = new DatabaseExecutor(1, 1)) {
+			CompletableFuture<Boolean> running = executor.submit(() -> assertDoesNotThrow(() -> latch.await(10, TimeUnit.SECONDS)));
+			CompletableFuture<Boolean> queued = executor.submit(() -> true);
+			CompletableFuture<Boolean> rejected = executor.submit(() -> true);
+			CompletionException exception = assertThrowsExactly(CompletionException.class, () -> rejected.join());
+			assertEquals(RejectedExecutionException.class, exception.getCause().getClass());
+			assertEquals(1, executor.getQueuedCount());
+			latch.countDown();
+			assertTrue(running.join());
+			assertTrue(queued.join());
+		}
+	}
+
+}
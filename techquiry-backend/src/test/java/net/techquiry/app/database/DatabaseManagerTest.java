@@ -1,6 +1,9 @@
 package net.techquiry.app.database;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.sql.Connection;
@@ -18,6 +21,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import net.techquiry.app.common.TestAppConfiguration;
+import net.techquiry.app.database.exception.SQLRunnerLoadException;
 
 @SpringBootTest(classes = TestAppConfiguration.class)
 @ExtendWith(SpringExtension.class)
@@ -60,4 +64,100 @@ class DatabaseManagerTest {
 		});
 	}
 
+	@Test
+	void testMigrateSchemaSuccess() {
+		assertDoesNotThrow(() -> databaseManager.createSchema());
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
+				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(2, 'charlie', 'YWJjZGFiY2Q=', 'YWJjZA==');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon) VALUES(1, 'Bob', 'Johnson', X'0102');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon) VALUES(2, 'Charlie', 'Brown', X'0102');");
+				connection.commit();
+			}
+		});
+		assertThrowsExactly(SQLRunnerLoadException.class, () -> databaseManager.verifySchema());
+		assertDoesNotThrow(() -> databaseManager.migrateSchema());
+		assertEquals(5, assertDoesNotThrow(() -> databaseManager.getSchemaVersion()));
+		assertDoesNotThrow(() -> databaseManager.verifySchema());
+		assertDoesNotThrow(() -> databaseManager.migrateSchema());
+		assertEquals(5, assertDoesNotThrow(() -> databaseManager.getSchemaVersion()));
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = assertDoesNotThrow(() -> connection.createStatement());
+				String sql = "SELECT name FROM sqlite_master WHERE type IN ('index', 'trigger');";
+				ResultSet result = assertDoesNotThrow(() -> statement.executeQuery(sql));
+				List<String> indexes = new ArrayList<>();
+				assertDoesNotThrow(() -> {
+					while (result.next()) {
+						indexes.add(result.getString("name"));
+					}
+				});
+				assertTrue(indexes.contains("inquiry_user_id_index"));
+				assertTrue(indexes.contains("response_inquiry_id_index"));
+				assertTrue(indexes.contains("response_user_id_index"));
+				assertTrue(indexes.contains("observer_user_id_index"));
+				assertTrue(indexes.contains("upvote_user_id_index"));
+				assertTrue(indexes.contains("response_insert_trigger"));
+				assertTrue(indexes.contains("observer_delete_trigger"));
+				assertTrue(indexes.contains("upvote_insert_trigger"));
+				assertTrue(indexes.contains("inquiry_search_insert_trigger"));
+				assertTrue(indexes.contains("response_search_delete_trigger"));
+				assertTrue(indexes.contains("user_data_icon_hash_index"));
+				assertTrue(indexes.contains("icon_delete_trigger"));
+				ResultSet icons = statement.executeQuery("SELECT COUNT(DISTINCT icon_hash) AS hashes, COUNT(*) AS count FROM user_data WHERE icon_hash IS NOT NULL;");
+				assertTrue(icons.next());
+				assertEquals(1, icons.getInt("hashes"));
+				assertEquals(2, icons.getInt("count"));
+				icons.close();
+				statement.execute("INSERT INTO icon_variant(icon_hash, size, data) SELECT icon_hash, 32, data FROM icon;");
+				statement.execute("UPDATE user_data SET icon_hash = NULL WHERE user_id = 1;");
+				statement.execute("DELETE FROM user_login WHERE user_id = 2;");
+				ResultSet orphan = statement.executeQuery("SELECT icon_hash FROM icon;");
+				assertFalse(orphan.next());
+				orphan.close();
+				ResultSet variant = statement.executeQuery("SELECT icon_hash FROM icon_variant;");
+				assertFalse(variant.next());
+				variant.close();
+				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
+				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 0, 'Test', 'Test Content', false);");
+				statement.execute("INSERT INTO response(response_id, inquiry_id, user_id, anonymous, content) VALUES(0, 0, 0, false, 'Test Response');");
+				statement.execute("INSERT INTO observer(inquiry_id, user_id) VALUES(0, 0);");
+				statement.execute("INSERT INTO upvote(response_id, user_id) VALUES(0, 0);");
+				statement.execute("DELETE FROM observer WHERE inquiry_id = 0;");
+				ResultSet inquiry = statement.executeQuery("SELECT response_count, observer_count FROM inquiry WHERE inquiry_id = 0;");
+				assertTrue(inquiry.next());
+				assertEquals(1, inquiry.getInt("response_count"));
+				assertEquals(0, inquiry.getInt("observer_count"));
+				inquiry.close();
+				ResultSet response = statement.executeQuery("SELECT upvote_count FROM response WHERE response_id = 0;");
+				assertTrue(response.next());
+				assertEquals(1, response.getInt("upvote_count"));
+				response.close();
+				statement.execute("UPDATE inquiry SET title = 'Updated' WHERE inquiry_id = 0;");
+				ResultSet search = statement.executeQuery("SELECT rowid FROM inquiry_search WHERE inquiry_search MATCH 'updated';");
+				assertTrue(search.next());
+				assertEquals(0, search.getInt("rowid"));
+				search.close();
+				statement.execute("DELETE FROM response WHERE response_id = 0;");
+				ResultSet empty = statement.executeQuery("SELECT rowid FROM response_search WHERE response_search MATCH 'response';");
+				assertFalse(empty.next());
+				empty.close();
+				statement.execute("DROP TABLE 'response_search'");
+				statement.execute("DROP TABLE 'inquiry_search'");
+				statement.execute("DROP TABLE 'schema_version'");
+				statement.execute("DROP TABLE 'upvote'");
+				statement.execute("DROP TABLE 'observer'");
+				statement.execute("DROP TABLE 'response'");
+				statement.execute("DROP TABLE 'inquiry'");
+				statement.execute("DROP TABLE 'user_data'");
+				statement.execute("DROP TABLE 'icon_variant'");
+				statement.execute("DROP TABLE 'icon'");
+				statement.execute("DROP TABLE 'user_login'");
+				connection.commit();
+			}
+		});
+	}
+
 }
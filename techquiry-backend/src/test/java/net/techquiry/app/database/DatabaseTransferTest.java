@@ -0,0 +1,234 @@
+package net.techquiry.app.database;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import net.techquiry.app.common.TestAppConfiguration;
+
+@SpringBootTest(classes = TestAppConfiguration.class)
+@ExtendWith(SpringExtension.class)
+class DatabaseTransferTest {
+
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	DatabaseTransfer databaseTransfer;
+
+	@BeforeEach
+	void initialize() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'user_login' (
+								'user_id' INTEGER NOT NULL UNIQUE,
+								'username' TEXT NOT NULL UNIQUE,
+								'password_hash' TEXT NOT NULL,
+								'password_salt' TEXT NOT NULL,
+								PRIMARY KEY('user_id')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'icon' (
+								'icon_hash' TEXT NOT NULL UNIQUE,
+								'data' BLOB NOT NULL,
+								PRIMARY KEY('icon_hash')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'icon_variant' (
+								'icon_hash' TEXT NOT NULL,
+								'size' INTEGER NOT NULL,
+								'data' BLOB NOT NULL,
+								PRIMARY KEY('icon_hash', 'size')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'user_data' (
+								'user_id' INTEGER NOT NULL UNIQUE,
+								'first_name' TEXT NOT NULL,
+								'last_name' TEXT NOT NULL,
+								'icon_hash' TEXT,
+								PRIMARY KEY('user_id')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'inquiry' (
+								'inquiry_id' INTEGER NOT NULL UNIQUE,
+								'user_id' INTEGER NOT NULL,
+								'title' TEXT NOT NULL,
+								'content' TEXT NOT NULL,
+								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
+								PRIMARY KEY('inquiry_id')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'response' (
+								'response_id' INTEGER NOT NULL UNIQUE,
+								'inquiry_id' INTEGER NOT NULL,
+								'user_id' INTEGER NOT NULL,
+								'anonymous' INTEGER NOT NULL,
+								'content' TEXT NOT NULL,
+								'upvote_count' INTEGER NOT NULL DEFAULT 0,
+								PRIMARY KEY('response_id')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'observer' (
+								'inquiry_id' INTEGER NOT NULL,
+								'user_id' INTEGER NOT NULL,
+								PRIMARY KEY('inquiry_id', 'user_id')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'upvote' (
+								'response_id' INTEGER NOT NULL,
+								'user_id' INTEGER NOT NULL,
+								PRIMARY KEY('response_id', 'user_id')
+						);
+						""");
+				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
+				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
+				statement.execute("INSERT INTO icon(icon_hash, data) VALUES('ab01', X'00FF10');");
+				statement.execute("INSERT INTO icon_variant(icon_hash, size, data) VALUES('ab01', 32, X'FF');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(0, 'Alice', 'Smith', 'ab01');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(1, 'Bob', 'Brown', NULL);");
+				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test', 'Test Content', true);");
+				statement.execute("INSERT INTO response(response_id, inquiry_id, user_id, anonymous, content) VALUES(0, 0, 0, false, 'Test Response');");
+				statement.execute("INSERT INTO observer(inquiry_id, user_id) VALUES(0, 0);");
+				statement.execute("INSERT INTO upvote(response_id, user_id) VALUES(0, 1);");
+				connection.commit();
+			}
+		});
+	}
+
+	@AfterEach
+	void destroy() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("DROP TABLE 'upvote'");
+				statement.execute("DROP TABLE 'observer'");
+				statement.execute("DROP TABLE 'response'");
+				statement.execute("DROP TABLE 'inquiry'");
+				statement.execute("DROP TABLE 'user_data'");
+				statement.execute("DROP TABLE 'icon_variant'");
+				statement.execute("DROP TABLE 'icon'");
+				statement.execute("DROP TABLE 'user_login'");
+				connection.commit();
+			}
+		});
+	}
+
+	@Test
+	void testExportSuccess() {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		int count = assertDoesNotThrow(() -> databaseTransfer.exportData(stream));
+		assertEquals(10, count);
+		String[] lines = stream.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(10, lines.length);
+		assertEquals("{\"table\":\"user_login\",\"row\":{\"user_id\":0,\"username\":\"alice\",\"password_hash\":\"MTIzNDU2Nzg=\",\"password_salt\":\"MTIzNA==\"}}", lines[0]);
+		assertEquals("{\"table\":\"icon\",\"row\":{\"icon_hash\":\"ab01\",\"data\":\"AP8Q\"}}", lines[2]);
+		assertEquals("{\"table\":\"icon_variant\",\"row\":{\"icon_hash\":\"ab01\",\"size\":32,\"data\":\"/w==\"}}", lines[3]);
+		assertEquals("{\"table\":\"user_data\",\"row\":{\"user_id\":0,\"first_name\":\"Alice\",\"last_name\":\"Smith\",\"icon_hash\":\"ab01\"}}", lines[4]);
+		assertEquals("{\"table\":\"user_data\",\"row\":{\"user_id\":1,\"first_name\":\"Bob\",\"last_name\":\"Brown\",\"icon_hash\":null}}", lines[5]);
+		assertEquals("{\"table\":\"upvote\",\"row\":{\"response_id\":0,\"user_id\":1}}", lines[9]);
+	}
+
+	@Test
+	void testImportSuccess() {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		assertDoesNotThrow(() -> databaseTransfer.exportData(output));
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("DELETE FROM upvote");
+				statement.execute("DELETE FROM observer");
+				statement.execute("DELETE FROM response");
+				statement.execute("DELETE FROM inquiry");
+				statement.execute("DELETE FROM user_data");
+				statement.execute("DELETE FROM icon_variant");
+				statement.execute("DELETE FROM icon");
+				statement.execute("DELETE FROM user_login");
+				connection.commit();
+			}
+		});
+		ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+		int count = assertDoesNotThrow(() -> databaseTransfer.importData(input));
+		assertEquals(10, count);
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("SELECT first_name, data FROM user_data LEFT JOIN icon ON user_data.icon_hash = icon.icon_hash ORDER BY user_id");
+				ResultSet result = statement.getResultSet();
+				assertNotNull(result);
+				assertTrue(result.next());
+				assertEquals("Alice", result.getString("first_name"));
+				assertArrayEquals(new byte[] { 0x00, (byte) 0xFF, 0x10 }, result.getBytes("data"));
+				assertTrue(result.next());
+				assertEquals("Bob", result.getString("first_name"));
+				assertEquals(null, result.getBytes("data"));
+				assertFalse(result.next());
+				statement.execute("SELECT * FROM response");
+				result = statement.getResultSet();
+				assertTrue(result.next());
+				assertEquals(0, result.getInt("inquiry_id"));
+				assertEquals(false, result.getBoolean("anonymous"));
+				assertEquals("Test Response", result.getString("content"));
+				assertFalse(result.next());
+				statement.execute("SELECT * FROM upvote");
+				result = statement.getResultSet();
+				assertTrue(result.next());
+				assertEquals(1, result.getInt("user_id"));
+				assertFalse(result.next());
+			}
+		});
+	}
+
+	@Test
+	void testImportException() {
+		byte[] unknown = "{\"table\":\"unknown\",\"row\":{}}\n".getBytes(StandardCharsets.UTF_8);
+		assertThrowsExactly(IOException.class, () -> databaseTransfer.importData(new ByteArrayInputStream(unknown)));
+		byte[] order = """
+				{"table":"observer","row":{"inquiry_id":0,"user_id":1}}
+				{"table":"inquiry","row":{"inquiry_id":1,"user_id":1,"title":"Example","content":"Example Content","anonymous":0}}
+				""".getBytes(StandardCharsets.UTF_8);
+		assertThrowsExactly(IOException.class, () -> databaseTransfer.importData(new ByteArrayInputStream(order)));
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("SELECT * FROM inquiry WHERE inquiry_id = 1");
+				ResultSet result = statement.getResultSet();
+				assertNotNull(result);
+				assertFalse(result.next());
+			}
+		});
+	}
+
+}
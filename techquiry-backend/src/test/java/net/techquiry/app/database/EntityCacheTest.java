@@ -0,0 +1,120 @@
+package net.techquiry.app.database;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import net.techquiry.app.database.exception.DataAccessException;
+
+class EntityCacheTest {
+
+	@Test
+	void testGetReadThrough() {
+		EntityCache<Integer, String> cache = new EntityCache<>("test", 4, 60000);
+		AtomicInteger loads = new AtomicInteger();
+		assertEquals("Alice", assertDoesNotThrow(() -> cache.get(0, () -> {
+			loads.incrementAndGet();
+			return "Alice";
+		})));
+		assertEquals("Alice", assertDoesNotThrow(() -> cache.get(0, () -> {
+			loads.incrementAndGet();
+			return "Bob";
+		})));
+		assertEquals(1, loads.get());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getSize());
+	}
+
+	@Test
+	void testGetMissingNotCached() {
+		EntityCache<Integer, String> cache = new EntityCache<>("test", 4, 60000);
+		assertNull(assertDoesNotThrow(() -> cache.get(0, () -> null)));
+		assertEquals("Alice", assertDoesNotThrow(() -> cache.get(0, () -> "Alice")));
+		assertEquals(2, cache.getMissCount());
+	}
+
+	@Test
+	void testGetException() {
+		EntityCache<Integer, String> cache = new EntityCache<>("test", 4, 60000);
+		assertThrowsExactly(DataAccessException.class, () -> cache.get(0, () -> {
+			throw new DataAccessException("Test");
+		}));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	void testInvalidateSuccess() {
+		EntityCache<Integer, String> cache = new EntityCache<>("test", 4, 60000);
+		assertDoesNotThrow(() -> cache.get(0, () -> "Alice"));
+		assertDoesNotThrow(() -> cache.get(1, () -> "Bob"));
+		cache.invalidate(0);
+		assertEquals("Charlie", assertDoesNotThrow(() -> cache.get(0, () -> "Charlie")));
+		assertEquals("Bob", assertDoesNotThrow(() -> cache.get(1, () -> "Dave")));
+		cache.clear();
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	void testInvalidateWhileLoading() {
+		EntityCache<Integer, String> cache = new EntityCache<>("test", 4, 60000);
+		assertDoesNotThrow(() -> cache.get(0, () -> {
+			cache.invalidate(0);
+			return "Alice";
+		}));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	void testEvictionLeastRecentlyUsed() {
+		EntityCache<Integer, String> cache = new EntityCache<>("test", 2, 60000);
+		assertDoesNotThrow(() -> cache.get(0, () -> "Alice"));
+		assertDoesNotThrow(() -> cache.get(1, () -> "Bob"));
+		assertDoesNotThrow(() -> cache.get(0, () -> "Alice"));
+		assertDoesNotThrow(() -> cache.get(2, () -> "Charlie"));
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals("Alice", assertDoesNotThrow(() -> cache.get(0, () -> "Dave")));
+		assertEquals("Eve", assertDoesNotThrow(() -> cache.get(1, () -> "Eve")));
+	}
+
+	@Test
+	void testEvictionExpired() {
+		EntityCache<Integer, String> cache = new EntityCache<>("test", 4, 1);
+		assertDoesNotThrow(() -> cache.get(0, () -> "Alice"));
+		assertDoesNotThrow(() -> Thread.sleep(5));
+		assertEquals("Bob", assertDoesNotThrow(() -> cache.get(0, () -> "Bob")));
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(0, cache.getHitCount());
+	}
+
+	@Test
+	void testDisabledCache() {
+		EntityCache<Integer, String> cache = new EntityCache<>("test", 0, 60000);
+		assertDoesNotThrow(() -> cache.get(0, () -> "Alice"));
+		assertEquals("Bob", assertDoesNotThrow(() -> cache.get(0, () -> "Bob")));
+		assertEquals(0, cache.getSize());
+		assertEquals(2, cache.getMissCount());
+	}
+
+	@Test
+	void testMetricsBound() {
+		EntityCacheManager manager = new EntityCacheManager(null, 4, 60000);
+		MeterRegistry registry = new SimpleMeterRegistry();
+		manager.bindTo(registry);
+		assertDoesNotThrow(() -> manager.getInquiryCache().get(0, () -> null));
+		assertDoesNotThrow(() -> manager.getUserLoginCache().get(0, () -> null));
+		assertEquals(1, registry.get("techquiry.entity.cache.gets").tag("cache", "inquiry").tag("result", "miss").functionCounter().count());
+		assertEquals(0, registry.get("techquiry.entity.cache.gets").tag("cache", "inquiry").tag("result", "hit").functionCounter().count());
+		assertEquals(0, registry.get("techquiry.entity.cache.evictions").tag("cache", "response").functionCounter().count());
+		assertEquals(0, registry.get("techquiry.entity.cache.size").tag("cache", "user_login").gauge().value());
+	}
+
+}
@@ -0,0 +1,109 @@
+package net.techquiry.app.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IconCacheTest {
+
+	@Test
+	void testPutAndGet() {
+		IconCache cache = new IconCache(64);
+		ByteBuffer put = cache.put("abcd", 32, new byte[] { 0x01, 0x02 });
+		assertTrue(put.isDirect());
+		assertTrue(put.isReadOnly());
+		assertEquals(2, put.remaining());
+		ByteBuffer buffer = cache.get("abcd", 32);
+		assertNotNull(buffer);
+		assertEquals(0x01, buffer.get());
+		assertEquals(0x02, cache.get("abcd", 32).get(1));
+		assertEquals(2, cache.get("abcd", 32).remaining());
+		assertNull(cache.get("abcd", null));
+		assertEquals(3, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getSize());
+		assertEquals(2, cache.getUsedBytes());
+	}
+
+	@Test
+	void testEvictLeastRecentlyUsed() {
+		IconCache cache = new IconCache(64);
+		cache.put("a", null, new byte[8]);
+		cache.put("b", null, new byte[8]);
+		cache.put("c", null, new byte[8]);
+		cache.put("d", null, new byte[8]);
+		assertNotNull(cache.get("a", null));
+		cache.put("e", null, new byte[8]);
+		cache.put("f", null, new byte[8]);
+		cache.put("g", null, new byte[8]);
+		cache.put("h", null, new byte[8]);
+		cache.put("i", null, new byte[8]);
+		assertNotNull(cache.get("a", null));
+		assertNull(cache.get("b", null));
+		assertEquals(8, cache.getSize());
+		assertEquals(64, cache.getUsedBytes());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void testLargeIconNotCached() {
+		IconCache cache = new IconCache(64);
+		assertTrue(cache.isCacheable(8));
+		assertFalse(cache.isCacheable(9));
+		ByteBuffer buffer = cache.put("abcd", null, new byte[9]);
+		assertFalse(buffer.isDirect());
+		assertEquals(9, buffer.remaining());
+		assertNull(cache.get("abcd", null));
+		assertEquals(0, cache.getUsedBytes());
+	}
+
+	@Test
+	void testInvalidateSuccess() {
+		IconCache cache = new IconCache(64);
+		cache.put("abcd", null, new byte[4]);
+		cache.put("abcd", 32, new byte[2]);
+		cache.put("ef01", 32, new byte[2]);
+		cache.invalidate("abcd");
+		assertNull(cache.get("abcd", null));
+		assertNull(cache.get("abcd", 32));
+		assertNotNull(cache.get("ef01", 32));
+		assertEquals(2, cache.getUsedBytes());
+		cache.clear();
+		assertEquals(0, cache.getSize());
+		assertEquals(0, cache.getUsedBytes());
+	}
+
+	@Test
+	void testDisabledCache() {
+		IconCache cache = new IconCache(0);
+		assertFalse(cache.isCacheable(0));
+		cache.put("abcd", null, new byte[0]);
+		assertNull(cache.get("abcd", null));
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	void testMetricsBound() {
+		IconCache cache = new IconCache(64);
+		MeterRegistry registry = new SimpleMeterRegistry();
+		cache.bindTo(registry);
+		cache.put("abcd", null, new byte[4]);
+		cache.get("abcd", null);
+		cache.get("ef01", null);
+		assertEquals(1, registry.get("techquiry.icon.cache.gets").tag("result", "hit").functionCounter().count());
+		assertEquals(1, registry.get("techquiry.icon.cache.gets").tag("result", "miss").functionCounter().count());
+		assertEquals(0, registry.get("techquiry.icon.cache.evictions").functionCounter().count());
+		assertEquals(1, registry.get("techquiry.icon.cache.size").gauge().value());
+		assertEquals(4, registry.get("techquiry.icon.cache.used").gauge().value());
+	}
+
+}
@@ -4,12 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.Iterator;
 import java.util.List;
@@ -25,7 +27,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import net.techquiry.app.common.TestAppConfiguration;
+import net.techquiry.app.database.exception.SQLRunnerException;
 import net.techquiry.app.database.exception.SQLRunnerExecuteException;
 import net.techquiry.app.database.exception.SQLRunnerLoadException;
 
@@ -39,6 +45,9 @@ class SQLRunnerTest {
 	@Autowired
 	SQLRunner runner;
 
+	@Autowired
+	MeterRegistry meterRegistry;
+
 	@BeforeEach
 	void initialize() {
 		assertDoesNotThrow(() -> {
@@ -107,4 +116,74 @@ class SQLRunnerTest {
 		assertThrowsExactly(SQLRunnerExecuteException.class, () -> runner.runScript(stream1, 1, "Charlie"));
 	}
 
+	@Test
+	void testRunBatchSuccess() {
+		String sql = "INSERT INTO test (id, username) VALUES (?, ?);";
+		SQLScript script = assertDoesNotThrow(() -> SQLScript.parse(new ByteArrayInputStream(sql.getBytes())));
+		List<Object[]> parameters = List.of(new Object[] { 2, "Charlie" }, new Object[] { 3, "Dave" }, new Object[] { 4, "Eve" });
+		assertEquals(3, assertDoesNotThrow(() -> runner.runBatch(script, parameters, 2)));
+		LocalResult result = assertDoesNotThrow(() -> runner.runStatement("SELECT COUNT(*) AS count FROM test"));
+		assertEquals(5, result.list().getFirst().get("count"));
+	}
+
+	@Test
+	void testRunBatchException() {
+		String false0 = "INSERT INTO test (id, username) VALUES (?, ?); SELECT * FROM test;";
+		SQLScript script0 = assertDoesNotThrow(() -> SQLScript.parse(new ByteArrayInputStream(false0.getBytes())));
+		assertThrowsExactly(SQLRunnerLoadException.class, () -> runner.runBatch(script0, List.of(), 1));
+		String false1 = "INSERT INTO test (id, username) VALUES (?, ?);";
+		SQLScript script1 = assertDoesNotThrow(() -> SQLScript.parse(new ByteArrayInputStream(false1.getBytes())));
+		List<Object[]> parameters = List.of(new Object[] { 2, "Charlie" }, new Object[] { 3, "Dave" }, new Object[] { 4, "Eve" }, new Object[] { 0, "Frank" });
+		assertThrowsExactly(SQLRunnerExecuteException.class, () -> runner.runBatch(script1, parameters, 2));
+		LocalResult result = assertDoesNotThrow(() -> runner.runStatement("SELECT COUNT(*) AS count FROM test"));
+		assertEquals(4, result.list().getFirst().get("count"));
+	}
+
+	@Test
+	void testRunQueryReset() {
+		assertDoesNotThrow(() -> runner.runStatement("CREATE TABLE user_login (user_id INTEGER PRIMARY KEY, username TEXT NOT NULL, password_hash TEXT NOT NULL, password_salt TEXT NOT NULL)"));
+		try {
+			RowMapper<Integer> mapper = new RowMapper<>() {
+
+				@Override
+				public String[] getColumns() {
+					return new String[] { "user_id" };
+				}
+
+				@Override
+				public Integer mapRow(ResultSet resultSet, int[] columns) {
+					throw new IllegalStateException("Failure");
+				}
+
+			};
+			assertThrowsExactly(IllegalStateException.class, () -> runner.runQuery("/database/user_login/insert.sql", mapper, "alice", "hash", "salt"));
+			assertDoesNotThrow(() -> {
+				try (Connection connection = dataSource.getConnection()) {
+					Statement statement = connection.createStatement();
+					ResultSet result = statement.executeQuery("SELECT COUNT(*) AS count FROM user_login");
+					assertTrue(result.next());
+					assertEquals(0, result.getInt("count"));
+					result.close();
+				}
+			});
+		} finally {
+			assertDoesNotThrow(() -> runner.runStatement("DROP TABLE user_login"));
+		}
+	}
+
+	@Test
+	void testRunScriptMetrics() {
+		String path = "/database/user_login/count.sql";
+		long errors = countExecutions(path, "error");
+		long successes = countExecutions(path, "success");
+		assertThrows(SQLRunnerException.class, () -> runner.runScript(path));
+		assertEquals(errors + 1, countExecutions(path, "error"));
+		assertEquals(successes, countExecutions(path, "success"));
+	}
+
+	long countExecutions(String path, String outcome) {
+		Timer timer = meterRegistry.find("techquiry.sql.execution").tag("script", path).tag("outcome", outcome).timer();
+		return timer == null ? 0 : timer.count();
+	}
+
 }
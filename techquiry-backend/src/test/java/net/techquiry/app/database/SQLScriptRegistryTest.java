@@ -0,0 +1,90 @@
+package net.techquiry.app.database;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import net.techquiry.app.common.TestAppConfiguration;
+import net.techquiry.app.database.exception.SQLRunnerLoadException;
+
+@SpringBootTest(classes = TestAppConfiguration.class)
+@ExtendWith(SpringExtension.class)
+class SQLScriptRegistryTest {
+
+	@Autowired
+	SQLScriptRegistry registry;
+
+	@Test
+	void testParseSuccess() {
+		String sql = "INSERT INTO test (id, username) /* Comment ? */ VALUES (?, '?');;\n SELECT * -- Comment ? \n FROM test WHERE id = ?";
+		InputStream stream = new ByteArrayInputStream(sql.getBytes());
+		SQLScript script = assertDoesNotThrow(() -> SQLScript.parse(stream));
+		List<SQLStatement> statements = script.getStatements();
+		assertEquals(2, statements.size());
+		assertEquals("INSERT INTO test (id, username)  VALUES (?, '?');", statements.get(0).getText());
+		assertEquals(1, statements.get(0).getParameterCount());
+		assertEquals("SELECT *  FROM test WHERE id = ?", statements.get(1).getText());
+		assertEquals(1, statements.get(1).getParameterCount());
+	}
+
+	@Test
+	void testParseTriggerSuccess() {
+		String sql = "CREATE TRIGGER test_trigger AFTER INSERT ON test BEGIN\n\tUPDATE test SET id = id + 1;\n\tDELETE FROM test WHERE id = 0;\nEND;\nSELECT * FROM test;";
+		InputStream stream = new ByteArrayInputStream(sql.getBytes());
+		SQLScript script = assertDoesNotThrow(() -> SQLScript.parse(stream));
+		List<SQLStatement> statements = script.getStatements();
+		assertEquals(2, statements.size());
+		assertEquals("CREATE TRIGGER test_trigger AFTER INSERT ON test BEGIN UPDATE test SET id = id + 1; DELETE FROM test WHERE id = 0; END;", statements.get(0).getText());
+		assertEquals("SELECT * FROM test;", statements.get(1).getText());
+	}
+
+	@Test
+	void testParseTriggerCaseSuccess() {
+		String sql = "CREATE TRIGGER test_trigger AFTER INSERT ON test BEGIN\n\tUPDATE test SET username = CASE WHEN id = 0 THEN 'end' ELSE username END;\n\tDELETE FROM \"end\" WHERE id = 0;\nEND;\nSELECT * FROM test;";
+		InputStream stream = new ByteArrayInputStream(sql.getBytes());
+		SQLScript script = assertDoesNotThrow(() -> SQLScript.parse(stream));
+		List<SQLStatement> statements = script.getStatements();
+		assertEquals(2, statements.size());
+		assertEquals("CREATE TRIGGER test_trigger AFTER INSERT ON test BEGIN UPDATE test SET username = CASE WHEN id = 0 THEN 'end' ELSE username END; DELETE FROM \"end\" WHERE id = 0; END;", statements.get(0).getText());
+		assertEquals("SELECT * FROM test;", statements.get(1).getText());
+	}
+
+	@Test
+	void testReadOnlySuccess() {
+		SQLScript select = assertDoesNotThrow(() -> registry.getScript("/database/inquiry/select.sql"));
+		assertTrue(select.isReadOnly());
+		SQLScript insert = assertDoesNotThrow(() -> registry.getScript("/database/inquiry/insert.sql"));
+		assertFalse(insert.isReadOnly());
+		assertTrue(SQLStatement.isReadOnly("  select * FROM test"));
+		assertFalse(SQLStatement.isReadOnly("WITH t AS (SELECT 1) DELETE FROM test"));
+		assertFalse(SQLStatement.isReadOnly("SELECTED"));
+	}
+
+	@Test
+	void testGetScriptSuccess() {
+		SQLScript script = assertDoesNotThrow(() -> registry.getScript("/database/inquiry/insert.sql"));
+		assertEquals(2, script.getStatements().size());
+		assertEquals(4, script.getStatements().get(0).getParameterCount());
+		assertEquals(0, script.getStatements().get(1).getParameterCount());
+		assertSame(script, assertDoesNotThrow(() -> registry.getScript("/database/inquiry/insert.sql")));
+	}
+
+	@Test
+	void testGetScriptException() {
+		assertThrowsExactly(SQLRunnerLoadException.class, () -> registry.getScript("/database/missing.sql"));
+	}
+
+}
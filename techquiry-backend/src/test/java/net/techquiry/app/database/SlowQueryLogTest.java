@@ -0,0 +1,106 @@
+package net.techquiry.app.database;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import net.techquiry.app.common.TestAppConfiguration;
+
+@SpringBootTest(classes = TestAppConfiguration.class)
+@ExtendWith(SpringExtension.class)
+class SlowQueryLogTest {
+
+	@Autowired
+	DataSource dataSource;
+
+	@BeforeEach
+	void initialize() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("CREATE TABLE test (id INTEGER PRIMARY KEY, username TEXT NOT NULL)");
+				statement.execute("INSERT INTO test (id, username) VALUES (0, 'Alice')");
+				connection.commit();
+			}
+		});
+	}
+
+	@AfterEach
+	void destroy() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("DROP TABLE test");
+				connection.commit();
+			}
+		});
+	}
+
+	@Test
+	void testIsSlowThreshold() {
+		SlowQueryLog log = new SlowQueryLog(100);
+		assertFalse(log.isSlow(TimeUnit.MILLISECONDS.toNanos(99)));
+		assertTrue(log.isSlow(TimeUnit.MILLISECONDS.toNanos(100)));
+	}
+
+	@Test
+	void testDisabledLogNeverSlow() {
+		SlowQueryLog log = new SlowQueryLog(0);
+		assertFalse(log.isSlow(Long.MAX_VALUE));
+	}
+
+	@Test
+	void testDescribeParameters() {
+		String shapes = SlowQueryLog.describeParameters(1, "Alice", null, new byte[4]);
+		assertEquals("[Integer, String(5), null, byte[4]]", shapes);
+	}
+
+	@Test
+	void testExplainScan() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				List<String> plan = SlowQueryLog.explain(connection, "SELECT id FROM test WHERE username = ?", "Alice");
+				assertTrue(plan.getFirst().startsWith("SCAN"));
+			}
+		});
+	}
+
+	@Test
+	void testExplainSearch() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				List<String> plan = SlowQueryLog.explain(connection, "SELECT username FROM test WHERE id = ?", 0);
+				assertTrue(plan.getFirst().startsWith("SEARCH"));
+			}
+		});
+	}
+
+	@Test
+	void testCheckSlowStatement() {
+		SlowQueryLog log = new SlowQueryLog(1);
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				long elapsed = TimeUnit.SECONDS.toNanos(1);
+				log.check(connection, "/database/test.sql", "SELECT username FROM test WHERE id = ?", new Object[] { 0 }, elapsed);
+				log.check(connection, null, "SELECT username FROM test WHERE id = ?", new Object[] { 0 }, elapsed);
+			}
+		});
+	}
+
+}
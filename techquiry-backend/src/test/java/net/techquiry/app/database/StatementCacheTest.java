@@ -0,0 +1,113 @@
+package net.techquiry.app.database;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import net.techquiry.app.common.TestAppConfiguration;
+
+@SpringBootTest(classes = TestAppConfiguration.class)
+@ExtendWith(SpringExtension.class)
+class StatementCacheTest {
+
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	SQLRunner runner;
+
+	@Autowired
+	StatementCache cache;
+
+	@BeforeEach
+	void initialize() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("CREATE TABLE test (id INTEGER PRIMARY KEY, username TEXT NOT NULL)");
+				statement.execute("INSERT INTO test (id, username) VALUES (0, 'Alice')");
+				connection.commit();
+			}
+		});
+	}
+
+	@AfterEach
+	void destroy() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("DROP TABLE test");
+				connection.commit();
+			}
+		});
+	}
+
+	@Test
+	void testRunStatementReuse() {
+		String sql = "SELECT * FROM test WHERE id = ?";
+		assertDoesNotThrow(() -> runner.runStatement(sql, 0));
+		long hits = cache.getHitCount();
+		long misses = cache.getMissCount();
+		LocalResult result = assertDoesNotThrow(() -> runner.runStatement(sql, 0));
+		assertEquals("Alice", result.list().getFirst().get("username"));
+		assertEquals(hits + 1, cache.getHitCount());
+		assertEquals(misses, cache.getMissCount());
+	}
+
+	@Test
+	void testMetricsBound() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		cache.bindTo(registry);
+		assertEquals(cache.getHitCount(), registry.get("techquiry.statement.cache.gets").tag("result", "hit").functionCounter().count());
+		assertEquals(cache.getMissCount(), registry.get("techquiry.statement.cache.gets").tag("result", "miss").functionCounter().count());
+	}
+
+	@Test
+	void testPrepareReleaseSuccess() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				String sql = "SELECT username FROM test WHERE id = ?";
+				PreparedStatement first = cache.prepare(connection, sql);
+				PreparedStatement second = cache.prepare(connection, sql);
+				assertNotSame(first, second);
+				cache.release(connection, sql, first);
+				assertSame(first, cache.prepare(connection, sql));
+				cache.release(connection, sql, first);
+				cache.release(connection, sql, second);
+			}
+		});
+	}
+
+	@Test
+	void testDisabledCacheCloses() {
+		StatementCache disabled = new StatementCache(0);
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				String sql = "SELECT username FROM test";
+				PreparedStatement statement = disabled.prepare(connection, sql);
+				disabled.release(connection, sql, statement);
+				assertTrue(statement.isClosed());
+			}
+		});
+	}
+
+}
@@ -0,0 +1,165 @@
+package net.techquiry.app.database;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.sqlite.SQLiteException;
+
+import net.techquiry.app.common.TestAppConfiguration;
+import net.techquiry.app.database.exception.SQLRunnerExecuteException;
+
+@SpringBootTest(classes = TestAppConfiguration.class)
+@ExtendWith(SpringExtension.class)
+class UnitOfWorkTest {
+
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	SQLRunner runner;
+
+	@Autowired
+	UnitOfWork unitOfWork;
+
+	@BeforeEach
+	void initialize() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("CREATE TABLE test (id INTEGER PRIMARY KEY, username TEXT NOT NULL)");
+				statement.execute("INSERT INTO test (id, username) VALUES (0, 'Alice')");
+				connection.commit();
+			}
+		});
+	}
+
+	@AfterEach
+	void destroy() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("DROP TABLE test");
+				connection.commit();
+			}
+		});
+	}
+
+	@Test
+	void testRunSuccess() {
+		assertDoesNotThrow(() -> unitOfWork.run(() -> {
+			runner.runStatement("INSERT INTO test (id, username) VALUES (1, 'Bob')");
+			runner.runStatement("UPDATE test SET username = 'Charlie' WHERE id = 0");
+		}));
+		assertNull(unitOfWork.getConnection());
+		assertEquals(2, count("SELECT COUNT(*) AS count FROM test"));
+		assertEquals(1, count("SELECT COUNT(*) AS count FROM test WHERE username = 'Charlie'"));
+	}
+
+	@Test
+	void testRunException() {
+		assertThrowsExactly(IOException.class, () -> unitOfWork.run(() -> {
+			runner.runStatement("INSERT INTO test (id, username) VALUES (1, 'Bob')");
+			throw new IOException();
+		}));
+		assertThrowsExactly(SQLRunnerExecuteException.class, () -> unitOfWork.run(() -> {
+			runner.runStatement("INSERT INTO test (id, username) VALUES (1, 'Bob')");
+			runner.runStatement("INSERT INTO test (id, username) VALUES (0, 'Alice')");
+		}));
+		assertNull(unitOfWork.getConnection());
+		assertEquals(1, count("SELECT COUNT(*) AS count FROM test"));
+	}
+
+	@Test
+	void testExecuteSuccess() {
+		int count = assertDoesNotThrow(() -> unitOfWork.execute(() -> {
+			Connection outer = unitOfWork.getConnection();
+			assertNotNull(outer);
+			unitOfWork.run(() -> {
+				assertSame(outer, unitOfWork.getConnection());
+				runner.runStatement("INSERT INTO test (id, username) VALUES (1, 'Bob')");
+			});
+			return unitOfWork.executeReadOnly(() -> count("SELECT COUNT(*) AS count FROM test"));
+		}));
+		assertEquals(2, count);
+		assertEquals(2, count("SELECT COUNT(*) AS count FROM test"));
+	}
+
+	@Test
+	void testWriteLockAcquired() {
+		assertDoesNotThrow(() -> unitOfWork.run(() -> {
+			try (Connection other = DriverManager.getConnection("jdbc:sqlite:file::memory:?cache=shared")) {
+				Statement statement = other.createStatement();
+				assertThrowsExactly(SQLiteException.class, () -> statement.execute("INSERT INTO test (id, username) VALUES (1, 'Bob')"));
+			}
+		}));
+		assertDoesNotThrow(() -> unitOfWork.executeReadOnly(() -> {
+			try (Connection other = DriverManager.getConnection("jdbc:sqlite:file::memory:?cache=shared")) {
+				Statement statement = other.createStatement();
+				return statement.execute("INSERT INTO test (id, username) VALUES (1, 'Bob')");
+			}
+		}));
+		assertEquals(2, count("SELECT COUNT(*) AS count FROM test"));
+	}
+
+	@Test
+	void testAfterCompletion() {
+		List<String> events = new ArrayList<>();
+		unitOfWork.afterCompletion(() -> events.add("immediate"));
+		assertDoesNotThrow(() -> unitOfWork.run(() -> {
+			unitOfWork.afterCompletion(() -> events.add("committed"));
+			unitOfWork.afterCompletion(() -> {
+				throw new IllegalStateException();
+			});
+			unitOfWork.run(() -> unitOfWork.afterCompletion(() -> events.add("joined")));
+			events.add("working");
+		}));
+		assertThrowsExactly(IOException.class, () -> unitOfWork.run(() -> {
+			unitOfWork.afterCompletion(() -> events.add("rolled back"));
+			throw new IOException();
+		}));
+		assertEquals(List.of("immediate", "working", "committed", "joined", "rolled back"), events);
+	}
+
+	@Test
+	void testEntityCacheBypassed() {
+		EntityCache<Integer, String> cache = new EntityCache<>("test", 4, 60000, unitOfWork);
+		assertDoesNotThrow(() -> unitOfWork.run(() -> {
+			assertEquals("Alice", cache.get(0, () -> "Alice"));
+			assertEquals(0, cache.getSize());
+		}));
+		assertEquals("Bob", assertDoesNotThrow(() -> cache.get(0, () -> "Bob")));
+		assertDoesNotThrow(() -> unitOfWork.run(() -> {
+			cache.invalidate(0);
+			cache.get(0, () -> "Charlie");
+			assertEquals(0, cache.getSize());
+		}));
+		assertEquals(0, cache.getSize());
+		assertEquals("David", assertDoesNotThrow(() -> cache.get(0, () -> "David")));
+	}
+
+	int count(String sql) {
+		LocalResult result = assertDoesNotThrow(() -> runner.runStatement(sql));
+		return ((Number) result.list().getFirst().get("count")).intValue();
+	}
+
+}
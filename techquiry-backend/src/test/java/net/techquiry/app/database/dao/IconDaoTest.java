@@ -0,0 +1,161 @@
+package net.techquiry.app.database.dao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import net.techquiry.app.common.TestAppConfiguration;
+import net.techquiry.app.database.exception.SQLRunnerExecuteException;
+import net.techquiry.app.entity.Icon;
+import net.techquiry.app.entity.IconVariant;
+
+@SpringBootTest(classes = TestAppConfiguration.class)
+@ExtendWith(SpringExtension.class)
+class IconDaoTest {
+
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	IconDao iconDao;
+
+	@BeforeEach
+	void initialize() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'icon' (
+								'icon_hash' TEXT NOT NULL UNIQUE,
+								'data' BLOB NOT NULL,
+								PRIMARY KEY('icon_hash')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'icon_variant' (
+								'icon_hash' TEXT NOT NULL,
+								'size' INTEGER NOT NULL,
+								'data' BLOB NOT NULL,
+								PRIMARY KEY('icon_hash', 'size'),
+								FOREIGN KEY ('icon_hash') REFERENCES 'icon'('icon_hash')
+								ON UPDATE CASCADE ON DELETE CASCADE
+						);
+						""");
+				statement.execute("INSERT INTO icon(icon_hash, data) VALUES('abcd', X'0000');");
+				statement.execute("INSERT INTO icon_variant(icon_hash, size, data) VALUES('abcd', 32, X'00');");
+				connection.commit();
+			}
+		});
+	}
+
+	@AfterEach
+	void destroy() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("DROP TABLE 'icon_variant'");
+				statement.execute("DROP TABLE 'icon'");
+				connection.commit();
+			}
+		});
+	}
+
+	@Test
+	void testInsertAbsentSuccess() {
+		assertDoesNotThrow(() -> iconDao.insertAbsent(new Icon("ef01", new byte[] { 0x01 })));
+		assertDoesNotThrow(() -> iconDao.insertAbsent(new Icon("abcd", new byte[] { 0x02 })));
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("SELECT * FROM icon ORDER BY icon_hash");
+				ResultSet result = statement.getResultSet();
+				assertNotNull(result);
+				assertTrue(result.next());
+				assertEquals("abcd", result.getString("icon_hash"));
+				assertArrayEquals(new byte[2], result.getBytes("data"));
+				assertTrue(result.next());
+				assertEquals("ef01", result.getString("icon_hash"));
+				assertArrayEquals(new byte[] { 0x01 }, result.getBytes("data"));
+				assertFalse(result.next());
+			}
+		});
+	}
+
+	@Test
+	void testSelectSuccess() {
+		Icon icon = assertDoesNotThrow(() -> iconDao.select("abcd"));
+		assertEquals("abcd", icon.getHash());
+		assertArrayEquals(new byte[2], icon.getData());
+		assertNull(assertDoesNotThrow(() -> iconDao.select("ef01")));
+	}
+
+	@Test
+	void testSelectLengthSuccess() {
+		assertEquals(2, assertDoesNotThrow(() -> iconDao.selectLength("abcd")));
+		assertNull(assertDoesNotThrow(() -> iconDao.selectLength("ef01")));
+	}
+
+	@Test
+	void testSelectChunkSuccess() {
+		assertDoesNotThrow(() -> iconDao.insertAbsent(new Icon("ef01", new byte[] { 0x01, 0x02, 0x03, 0x04 })));
+		assertArrayEquals(new byte[] { 0x01, 0x02 }, assertDoesNotThrow(() -> iconDao.selectChunk("ef01", 0, 2)));
+		assertArrayEquals(new byte[] { 0x03, 0x04 }, assertDoesNotThrow(() -> iconDao.selectChunk("ef01", 2, 5)));
+		assertArrayEquals(new byte[0], assertDoesNotThrow(() -> iconDao.selectChunk("ef01", 4, 1)));
+		assertNull(assertDoesNotThrow(() -> iconDao.selectChunk("ab02", 0, 1)));
+	}
+
+	@Test
+	void testInsertVariantAbsentSuccess() {
+		assertDoesNotThrow(() -> iconDao.insertVariantAbsent(new IconVariant("abcd", 64, new byte[] { 0x01 })));
+		assertDoesNotThrow(() -> iconDao.insertVariantAbsent(new IconVariant("abcd", 32, new byte[] { 0x02 })));
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("SELECT * FROM icon_variant ORDER BY size");
+				ResultSet result = statement.getResultSet();
+				assertNotNull(result);
+				assertTrue(result.next());
+				assertEquals(32, result.getInt("size"));
+				assertArrayEquals(new byte[1], result.getBytes("data"));
+				assertTrue(result.next());
+				assertEquals(64, result.getInt("size"));
+				assertArrayEquals(new byte[] { 0x01 }, result.getBytes("data"));
+				assertFalse(result.next());
+			}
+		});
+	}
+
+	@Test
+	void testInsertVariantAbsentException() {
+		assertThrowsExactly(SQLRunnerExecuteException.class, () -> iconDao.insertVariantAbsent(new IconVariant("ef01", 32, new byte[] { 0x01 })));
+	}
+
+	@Test
+	void testSelectVariantSuccess() {
+		IconVariant variant = assertDoesNotThrow(() -> iconDao.selectVariant("abcd", 32));
+		assertEquals("abcd", variant.getHash());
+		assertEquals(32, variant.getSize());
+		assertArrayEquals(new byte[1], variant.getData());
+		assertNull(assertDoesNotThrow(() -> iconDao.selectVariant("abcd", 64)));
+	}
+
+}
@@ -4,12 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -24,7 +26,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import net.techquiry.app.common.TestAppConfiguration;
 import net.techquiry.app.database.exception.SQLRunnerExecuteException;
+import net.techquiry.app.entity.FeedEntry;
 import net.techquiry.app.entity.Inquiry;
+import net.techquiry.app.entity.SearchEntry;
 
 @SpringBootTest(classes = TestAppConfiguration.class)
 @ExtendWith(SpringExtension.class)
@@ -57,16 +61,49 @@ class InquiryDaoTest {
 								'title' TEXT NOT NULL,
 								'content' TEXT NOT NULL,
 								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('inquiry_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
 								ON UPDATE CASCADE ON DELETE CASCADE
 						);
 						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'observer' (
+								'inquiry_id' INTEGER NOT NULL,
+								'user_id' INTEGER NOT NULL,
+								PRIMARY KEY('inquiry_id', 'user_id'),
+								FOREIGN KEY ('inquiry_id') REFERENCES 'inquiry'('inquiry_id')
+								ON UPDATE CASCADE ON DELETE CASCADE,
+								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
+								ON UPDATE CASCADE ON DELETE CASCADE
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'response' (
+								'response_id' INTEGER NOT NULL UNIQUE,
+								'inquiry_id' INTEGER NOT NULL,
+								'user_id' INTEGER NOT NULL,
+								'anonymous' INTEGER NOT NULL,
+								'content' TEXT NOT NULL,
+								PRIMARY KEY('response_id'),
+								FOREIGN KEY ('inquiry_id') REFERENCES 'inquiry'('inquiry_id')
+								ON UPDATE CASCADE ON DELETE CASCADE,
+								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
+								ON UPDATE CASCADE ON DELETE CASCADE
+						);
+						""");
+				statement.execute("CREATE VIRTUAL TABLE IF NOT EXISTS 'inquiry_search' USING fts5('title', 'content', content = 'inquiry', content_rowid = 'inquiry_id');");
+				statement.execute("CREATE VIRTUAL TABLE IF NOT EXISTS 'response_search' USING fts5('content', content = 'response', content_rowid = 'response_id');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test',	'Test Content', true);");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(1, 0, 'Example',	'Example Content', true);");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(2, 0, 'Instance',	'Instance Content', false);");
+				statement.execute("INSERT INTO observer(inquiry_id, user_id) VALUES(0, 1);");
+				statement.execute("INSERT INTO response(response_id, inquiry_id, user_id, anonymous, content) VALUES(0, 2, 1, false, 'Example Response');");
+				statement.execute("INSERT INTO inquiry_search(inquiry_search) VALUES('rebuild');");
+				statement.execute("INSERT INTO response_search(response_search) VALUES('rebuild');");
 				connection.commit();
 			}
 		});
@@ -77,6 +114,10 @@ class InquiryDaoTest {
 		assertDoesNotThrow(() -> {
 			try (Connection connection = dataSource.getConnection()) {
 				Statement statement = connection.createStatement();
+				statement.execute("DROP TABLE 'response_search'");
+				statement.execute("DROP TABLE 'inquiry_search'");
+				statement.execute("DROP TABLE 'response'");
+				statement.execute("DROP TABLE 'observer'");
 				statement.execute("DROP TABLE 'inquiry'");
 				statement.execute("DROP TABLE 'user_login'");
 				connection.commit();
@@ -104,6 +145,15 @@ class InquiryDaoTest {
 		});
 	}
 
+	@Test
+	void testDeleteIfOwnedSuccess() {
+		assertFalse(assertDoesNotThrow(() -> inquiryDao.deleteIfOwned(1, 1)));
+		assertFalse(assertDoesNotThrow(() -> inquiryDao.deleteIfOwned(3, 0)));
+		assertNotNull(assertDoesNotThrow(() -> inquiryDao.select(1)));
+		assertTrue(assertDoesNotThrow(() -> inquiryDao.deleteIfOwned(1, 0)));
+		assertNull(assertDoesNotThrow(() -> inquiryDao.select(1)));
+	}
+
 	@Test
 	void testInsertSuccess() {
 		int id = assertDoesNotThrow(() -> inquiryDao.insert(new Inquiry(0, 0, "Success", "Success Content", false)));
@@ -144,6 +194,22 @@ class InquiryDaoTest {
 		assertEquals(2, inquiry1.getInquiryId());
 	}
 
+	@Test
+	void testRangeAfterSuccess() {
+		List<Inquiry> inquiries0 = assertDoesNotThrow(() -> inquiryDao.rangeAfter(2, Integer.MIN_VALUE));
+		assertEquals(2, inquiries0.size());
+		assertEquals(0, inquiries0.get(0).getInquiryId());
+		assertEquals(1, inquiries0.get(1).getInquiryId());
+		List<Inquiry> inquiries1 = assertDoesNotThrow(() -> inquiryDao.rangeAfter(2, 1));
+		assertEquals(1, inquiries1.size());
+		Inquiry inquiry = inquiries1.get(0);
+		assertEquals(2, inquiry.getInquiryId());
+		assertEquals(0, inquiry.getUserId());
+		assertEquals("Instance", inquiry.getTitle());
+		assertEquals("Instance Content", inquiry.getContent());
+		assertEquals(false, inquiry.getAnonymous());
+	}
+
 	@Test
 	void testSelectFromUserIdNonAnonymousSuccess() {
 		List<Inquiry> inquiries0 = assertDoesNotThrow(() -> inquiryDao.selectFromUserIdNonAnonymous(0));
@@ -178,6 +244,19 @@ class InquiryDaoTest {
 		assertEquals(true, inquiry1.getAnonymous());
 	}
 
+	@Test
+	void testStreamFromUserIdSuccess() {
+		List<Inquiry> inquiries0 = new ArrayList<>();
+		int count0 = assertDoesNotThrow(() -> inquiryDao.streamFromUserId(0, inquiries0::add));
+		assertEquals(2, count0);
+		assertEquals(1, inquiries0.get(0).getInquiryId());
+		assertEquals(2, inquiries0.get(1).getInquiryId());
+		List<Inquiry> inquiries1 = new ArrayList<>();
+		int count1 = assertDoesNotThrow(() -> inquiryDao.streamFromUserIdNonAnonymous(0, inquiries1::add));
+		assertEquals(1, count1);
+		assertEquals(2, inquiries1.get(0).getInquiryId());
+	}
+
 	@Test
 	void testSelectSuccess() {
 		Inquiry inquiry = assertDoesNotThrow(() -> inquiryDao.select(1));
@@ -207,9 +286,81 @@ class InquiryDaoTest {
 		});
 	}
 
+	@Test
+	void testUpdateIfOwnedSuccess() {
+		assertFalse(assertDoesNotThrow(() -> inquiryDao.updateIfOwned(new Inquiry(0, 0, "Forbidden", "Forbidden Content", false))));
+		assertFalse(assertDoesNotThrow(() -> inquiryDao.updateIfOwned(new Inquiry(3, 1, "Missing", "Missing Content", false))));
+		assertTrue(assertDoesNotThrow(() -> inquiryDao.updateIfOwned(new Inquiry(0, 1, "Updated", "Updated Content", false))));
+		Inquiry inquiry = assertDoesNotThrow(() -> inquiryDao.select(0));
+		assertEquals(1, inquiry.getUserId());
+		assertEquals("Updated", inquiry.getTitle());
+		assertEquals("Updated Content", inquiry.getContent());
+		assertEquals(false, inquiry.getAnonymous());
+	}
+
 	@Test
 	void testUpdateException() {
 		assertThrowsExactly(SQLRunnerExecuteException.class, () -> inquiryDao.update(new Inquiry(0, 3, "Fail", "Fail Content", false)));
 	}
 
+	@Test
+	void testFeedSuccess() {
+		List<FeedEntry> feed0 = assertDoesNotThrow(() -> inquiryDao.feed(2, Integer.MIN_VALUE, 1));
+		assertEquals(2, feed0.size());
+		assertEquals(0, feed0.get(0).getInquiry().getInquiryId());
+		assertEquals(true, feed0.get(0).getObserving());
+		assertEquals(1, feed0.get(1).getInquiry().getInquiryId());
+		assertEquals(false, feed0.get(1).getObserving());
+		List<FeedEntry> feed1 = assertDoesNotThrow(() -> inquiryDao.feed(2, 1, null));
+		assertEquals(1, feed1.size());
+		Inquiry inquiry = feed1.get(0).getInquiry();
+		assertEquals(2, inquiry.getInquiryId());
+		assertEquals("Instance", inquiry.getTitle());
+		assertEquals(false, feed1.get(0).getObserving());
+	}
+
+	@Test
+	void testSearchSuccess() {
+		List<SearchEntry> search0 = assertDoesNotThrow(() -> inquiryDao.search("\"example\"", 3, 0));
+		assertEquals(2, search0.size());
+		assertEquals(1, search0.get(0).getInquiry().getInquiryId());
+		assertEquals(1, search0.get(0).getPosition());
+		assertEquals("<mark>Example</mark>", search0.get(0).getSnippet());
+		assertEquals(2, search0.get(1).getInquiry().getInquiryId());
+		assertEquals("<mark>Example</mark> Response", search0.get(1).getSnippet());
+		SearchEntry first = search0.get(0);
+		List<SearchEntry> search1 = assertDoesNotThrow(() -> inquiryDao.search("\"example\"", 3, first.getPosition()));
+		assertEquals(1, search1.size());
+		assertEquals(2, search1.get(0).getInquiry().getInquiryId());
+		assertEquals(2, search1.get(0).getPosition());
+		List<SearchEntry> search2 = assertDoesNotThrow(() -> inquiryDao.search("\"missing\"", 3, 0));
+		assertTrue(search2.isEmpty());
+	}
+
+	@Test
+	void testSearchEscaped() {
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("INSERT INTO response(response_id, inquiry_id, user_id, anonymous, content) VALUES(1, 0, 0, false, '<img src=x onerror=alert(1)> & Markup');");
+				statement.execute("INSERT INTO response_search(response_search) VALUES('rebuild');");
+				connection.commit();
+			}
+		});
+		List<SearchEntry> search = assertDoesNotThrow(() -> inquiryDao.search("\"markup\"", 3, 0));
+		assertEquals(1, search.size());
+		assertEquals("&lt;img src=x onerror=alert(1)&gt; &amp; <mark>Markup</mark>", search.get(0).getSnippet());
+	}
+
+	@Test
+	void testSearchFromUserIdSuccess() {
+		List<SearchEntry> search0 = assertDoesNotThrow(() -> inquiryDao.searchFromUserId("\"example\"", 0, 3, 0));
+		assertEquals(2, search0.size());
+		List<SearchEntry> search1 = assertDoesNotThrow(() -> inquiryDao.searchFromUserIdNonAnonymous("\"example\"", 0, 3, 0));
+		assertEquals(1, search1.size());
+		assertEquals(2, search1.get(0).getInquiry().getInquiryId());
+		List<SearchEntry> search2 = assertDoesNotThrow(() -> inquiryDao.searchFromUserId("\"example\"", 1, 3, 0));
+		assertTrue(search2.isEmpty());
+	}
+
 }
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -61,6 +62,8 @@ class ObserverDaoTest {
 								'title' TEXT NOT NULL,
 								'content' TEXT NOT NULL,
 								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('inquiry_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
 								ON UPDATE CASCADE ON DELETE CASCADE
@@ -77,6 +80,16 @@ class ObserverDaoTest {
 								ON UPDATE CASCADE ON DELETE CASCADE
 						);
 						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'observer_insert_trigger' AFTER INSERT ON 'observer' BEGIN
+								UPDATE 'inquiry' SET observer_count = observer_count + 1 WHERE inquiry_id = NEW.inquiry_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'observer_delete_trigger' AFTER DELETE ON 'observer' BEGIN
+								UPDATE 'inquiry' SET observer_count = observer_count - 1 WHERE inquiry_id = OLD.inquiry_id;
+						END;
+						""");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test',	'Test Content', true);");
@@ -133,6 +146,14 @@ class ObserverDaoTest {
 		});
 	}
 
+	@Test
+	void testDeleteIfPresentSuccess() {
+		assertTrue(assertDoesNotThrow(() -> observerDao.deleteIfPresent(new Observer(1, 1))));
+		assertFalse(assertDoesNotThrow(() -> observerDao.deleteIfPresent(new Observer(1, 1))));
+		assertFalse(assertDoesNotThrow(() -> observerDao.deleteIfPresent(new Observer(2, 0))));
+		assertFalse(assertDoesNotThrow(() -> observerDao.check(new Observer(1, 1))));
+	}
+
 	@Test
 	void testInsertSuccess() {
 		assertDoesNotThrow(() -> observerDao.insert(new Observer(2, 1)));
@@ -155,6 +176,15 @@ class ObserverDaoTest {
 		assertThrowsExactly(SQLRunnerExecuteException.class, () -> observerDao.insert(new Observer(3, 2)));
 	}
 
+	@Test
+	void testInsertIfAbsentSuccess() {
+		assertTrue(assertDoesNotThrow(() -> observerDao.insertIfAbsent(new Observer(2, 1))));
+		assertFalse(assertDoesNotThrow(() -> observerDao.insertIfAbsent(new Observer(2, 1))));
+		assertFalse(assertDoesNotThrow(() -> observerDao.insertIfAbsent(new Observer(3, 1))));
+		assertTrue(assertDoesNotThrow(() -> observerDao.check(new Observer(2, 1))));
+		assertEquals(1, assertDoesNotThrow(() -> observerDao.countFromInquiryId(2)));
+	}
+
 	@Test
 	void testSelectFromInquiryIdSuccess() {
 		List<UserLogin> observers = assertDoesNotThrow(() -> observerDao.selectFromInquiryId(1));
@@ -178,4 +208,18 @@ class ObserverDaoTest {
 		assertEquals(true, inquiry.getAnonymous());
 	}
 
+	@Test
+	void testStreamFromUserIdSuccess() {
+		List<Inquiry> inquiries = new ArrayList<>();
+		int count = assertDoesNotThrow(() -> observerDao.streamFromUserId(1, inquiries::add));
+		assertEquals(2, count);
+		assertEquals(2, inquiries.size());
+		Inquiry inquiry = inquiries.getFirst();
+		assertEquals(0, inquiry.getInquiryId());
+		assertEquals(1, inquiry.getUserId());
+		assertEquals("Test", inquiry.getTitle());
+		assertEquals("Test Content", inquiry.getContent());
+		assertEquals(true, inquiry.getAnonymous());
+	}
+
 }
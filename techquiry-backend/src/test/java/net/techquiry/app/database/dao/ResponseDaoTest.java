@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -57,6 +58,8 @@ class ResponseDaoTest {
 								'title' TEXT NOT NULL,
 								'content' TEXT NOT NULL,
 								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('inquiry_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
 								ON UPDATE CASCADE ON DELETE CASCADE
@@ -69,6 +72,7 @@ class ResponseDaoTest {
 								'user_id' INTEGER NOT NULL,
 								'anonymous' INTEGER NOT NULL,
 								'content' TEXT NOT NULL,
+								'upvote_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('response_id'),
 								FOREIGN KEY ('inquiry_id') REFERENCES 'inquiry'('inquiry_id')
 								ON UPDATE CASCADE ON DELETE CASCADE,
@@ -76,6 +80,16 @@ class ResponseDaoTest {
 								ON UPDATE CASCADE ON DELETE CASCADE
 						);
 						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'response_insert_trigger' AFTER INSERT ON 'response' BEGIN
+								UPDATE 'inquiry' SET response_count = response_count + 1 WHERE inquiry_id = NEW.inquiry_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'response_delete_trigger' AFTER DELETE ON 'response' BEGIN
+								UPDATE 'inquiry' SET response_count = response_count - 1 WHERE inquiry_id = OLD.inquiry_id;
+						END;
+						""");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test',	'Test Content', true);");
@@ -124,6 +138,15 @@ class ResponseDaoTest {
 		});
 	}
 
+	@Test
+	void testDeleteIfOwnedSuccess() {
+		assertFalse(assertDoesNotThrow(() -> responseDao.deleteIfOwned(1, 0)));
+		assertFalse(assertDoesNotThrow(() -> responseDao.deleteIfOwned(3, 0)));
+		assertNotNull(assertDoesNotThrow(() -> responseDao.select(1)));
+		assertTrue(assertDoesNotThrow(() -> responseDao.deleteIfOwned(1, 1)));
+		assertNull(assertDoesNotThrow(() -> responseDao.select(1)));
+	}
+
 	@Test
 	void testInsertSuccess() {
 		int id = assertDoesNotThrow(() -> responseDao.insert(new Response(0, 1, 1, true, "Example Response")));
@@ -191,6 +214,18 @@ class ResponseDaoTest {
 		});
 	}
 
+	@Test
+	void testUpdateIfOwnedSuccess() {
+		assertFalse(assertDoesNotThrow(() -> responseDao.updateIfOwned(new Response(0, 0, 1, false, "Forbidden Response"))));
+		assertFalse(assertDoesNotThrow(() -> responseDao.updateIfOwned(new Response(3, 0, 0, false, "Missing Response"))));
+		assertTrue(assertDoesNotThrow(() -> responseDao.updateIfOwned(new Response(0, 2, 0, false, "Updated Response"))));
+		Response response = assertDoesNotThrow(() -> responseDao.select(0));
+		assertEquals(0, response.getInquiryId());
+		assertEquals(0, response.getUserId());
+		assertEquals(false, response.getAnonymous());
+		assertEquals("Updated Response", response.getContent());
+	}
+
 	@Test
 	void testUpdateException() {
 		assertThrowsExactly(SQLRunnerExecuteException.class, () -> responseDao.update(new Response(0, 3, 2, false, "Fail Response")));
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -61,6 +62,8 @@ class UpvoteDaoTest {
 								'title' TEXT NOT NULL,
 								'content' TEXT NOT NULL,
 								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('inquiry_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
 								ON UPDATE CASCADE ON DELETE CASCADE
@@ -73,6 +76,7 @@ class UpvoteDaoTest {
 								'user_id' INTEGER NOT NULL,
 								'anonymous' INTEGER NOT NULL,
 								'content' TEXT NOT NULL,
+								'upvote_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('response_id'),
 								FOREIGN KEY ('inquiry_id') REFERENCES 'inquiry'('inquiry_id')
 								ON UPDATE CASCADE ON DELETE CASCADE,
@@ -91,6 +95,26 @@ class UpvoteDaoTest {
 								ON UPDATE CASCADE ON DELETE CASCADE
 						);
 						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'response_insert_trigger' AFTER INSERT ON 'response' BEGIN
+								UPDATE 'inquiry' SET response_count = response_count + 1 WHERE inquiry_id = NEW.inquiry_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'response_delete_trigger' AFTER DELETE ON 'response' BEGIN
+								UPDATE 'inquiry' SET response_count = response_count - 1 WHERE inquiry_id = OLD.inquiry_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'upvote_insert_trigger' AFTER INSERT ON 'upvote' BEGIN
+								UPDATE 'response' SET upvote_count = upvote_count + 1 WHERE response_id = NEW.response_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'upvote_delete_trigger' AFTER DELETE ON 'upvote' BEGIN
+								UPDATE 'response' SET upvote_count = upvote_count - 1 WHERE response_id = OLD.response_id;
+						END;
+						""");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test',	'Test Content', true);");
@@ -151,6 +175,14 @@ class UpvoteDaoTest {
 		});
 	}
 
+	@Test
+	void testDeleteIfPresentSuccess() {
+		assertTrue(assertDoesNotThrow(() -> upvoteDao.deleteIfPresent(new Upvote(1, 1))));
+		assertFalse(assertDoesNotThrow(() -> upvoteDao.deleteIfPresent(new Upvote(1, 1))));
+		assertFalse(assertDoesNotThrow(() -> upvoteDao.deleteIfPresent(new Upvote(2, 0))));
+		assertFalse(assertDoesNotThrow(() -> upvoteDao.check(new Upvote(1, 1))));
+	}
+
 	@Test
 	void testInsertSuccess() {
 		assertDoesNotThrow(() -> upvoteDao.insert(new Upvote(2, 1)));
@@ -173,6 +205,15 @@ class UpvoteDaoTest {
 		assertThrowsExactly(SQLRunnerExecuteException.class, () -> upvoteDao.insert(new Upvote(3, 2)));
 	}
 
+	@Test
+	void testInsertIfAbsentSuccess() {
+		assertTrue(assertDoesNotThrow(() -> upvoteDao.insertIfAbsent(new Upvote(2, 1))));
+		assertFalse(assertDoesNotThrow(() -> upvoteDao.insertIfAbsent(new Upvote(2, 1))));
+		assertFalse(assertDoesNotThrow(() -> upvoteDao.insertIfAbsent(new Upvote(3, 1))));
+		assertTrue(assertDoesNotThrow(() -> upvoteDao.check(new Upvote(2, 1))));
+		assertEquals(1, assertDoesNotThrow(() -> upvoteDao.countFromResponseId(2)));
+	}
+
 	@Test
 	void testSelectFromResponseIdSuccess() {
 		List<UserLogin> upvotes = assertDoesNotThrow(() -> upvoteDao.selectFromResponseId(0));
@@ -196,4 +237,16 @@ class UpvoteDaoTest {
 		assertEquals("Instance Response", response.getContent());
 	}
 
+	@Test
+	void testStreamFromUserIdSuccess() {
+		List<Response> responses = new ArrayList<>();
+		int count = assertDoesNotThrow(() -> upvoteDao.streamFromUserId(1, responses::add));
+		assertEquals(1, count);
+		assertEquals(1, responses.size());
+		Response response = responses.getFirst();
+		assertEquals(1, response.getResponseId());
+		assertEquals(2, response.getInquiryId());
+		assertEquals("Instance Response", response.getContent());
+	}
+
 }
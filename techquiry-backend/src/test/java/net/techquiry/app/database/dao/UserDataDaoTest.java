@@ -50,22 +50,31 @@ class UserDataDaoTest {
 								PRIMARY KEY('user_id')
 						);
 						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'icon' (
+								'icon_hash' TEXT NOT NULL UNIQUE,
+								'data' BLOB NOT NULL,
+								PRIMARY KEY('icon_hash')
+						);
+						""");
 				statement.execute("""
 						CREATE TABLE IF NOT EXISTS 'user_data' (
 								'user_id' INTEGER NOT NULL UNIQUE,
 								'first_name' TEXT NOT NULL,
 								'last_name' TEXT NOT NULL,
-								'icon' BLOB,
+								'icon_hash' TEXT,
 								PRIMARY KEY('user_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
-								ON UPDATE CASCADE ON DELETE CASCADE
+								ON UPDATE CASCADE ON DELETE CASCADE,
+								FOREIGN KEY ('icon_hash') REFERENCES 'icon'('icon_hash')
 						);
 						""");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(2, 'charlie', 'YWJjZGFiY2Q=', 'YWJjZA==');");
-				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon) VALUES(0, 'Alice', 'Smith', X'0000');");
-				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon) VALUES(1, 'Bob', 'Johnson', NULL);");
+				statement.execute("INSERT INTO icon(icon_hash, data) VALUES('abcd', X'0000');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(0, 'Alice', 'Smith', 'abcd');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(1, 'Bob', 'Johnson', NULL);");
 				connection.commit();
 			}
 		});
@@ -77,6 +86,7 @@ class UserDataDaoTest {
 			try (Connection connection = dataSource.getConnection()) {
 				Statement statement = connection.createStatement();
 				statement.execute("DROP TABLE 'user_data'");
+				statement.execute("DROP TABLE 'icon'");
 				statement.execute("DROP TABLE 'user_login'");
 				connection.commit();
 			}
@@ -110,7 +120,7 @@ class UserDataDaoTest {
 				assertEquals(2, result.getInt("user_id"));
 				assertEquals("Charlie", result.getString("first_name"));
 				assertEquals("Brown", result.getString("last_name"));
-				assertNull(result.getBytes("icon"));
+				assertNull(result.getString("icon_hash"));
 				assertFalse(result.next());
 			}
 		});
@@ -128,23 +138,45 @@ class UserDataDaoTest {
 		assertEquals(1, userData.getUserId());
 		assertEquals("Bob", userData.getFirstName());
 		assertEquals("Johnson", userData.getLastName());
-		assertNull(userData.getIcon());
+		assertNull(userData.getIconHash());
+		UserData other = assertDoesNotThrow(() -> userDataDao.select(0));
+		assertEquals("abcd", other.getIconHash());
+		assertNull(assertDoesNotThrow(() -> userDataDao.select(2)));
 	}
 
 	@Test
 	void testUpdateSuccess() {
-		assertDoesNotThrow(() -> userDataDao.update(new UserData(1, "David", "Dawson")));
+		assertDoesNotThrow(() -> userDataDao.update(new UserData(0, "David", "Dawson")));
 		assertDoesNotThrow(() -> {
 			try (Connection connection = dataSource.getConnection()) {
 				Statement statement = connection.createStatement();
-				statement.execute("SELECT * FROM user_data WHERE user_id = 1");
+				statement.execute("SELECT * FROM user_data WHERE user_id = 0");
 				ResultSet result = statement.getResultSet();
 				assertNotNull(result);
 				assertTrue(result.next());
-				assertEquals(1, result.getInt("user_id"));
+				assertEquals(0, result.getInt("user_id"));
 				assertEquals("David", result.getString("first_name"));
 				assertEquals("Dawson", result.getString("last_name"));
-				assertNull(assertDoesNotThrow(() -> result.getBytes("icon")));
+				assertEquals("abcd", result.getString("icon_hash"));
+			}
+		});
+	}
+
+	@Test
+	void testUpdateIconSuccess() {
+		assertDoesNotThrow(() -> userDataDao.updateIcon(1, "abcd"));
+		assertDoesNotThrow(() -> userDataDao.updateIcon(0, null));
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("SELECT user_id, icon_hash FROM user_data ORDER BY user_id");
+				ResultSet result = statement.getResultSet();
+				assertNotNull(result);
+				assertTrue(result.next());
+				assertNull(result.getString("icon_hash"));
+				assertTrue(result.next());
+				assertEquals("abcd", result.getString("icon_hash"));
+				assertFalse(result.next());
 			}
 		});
 	}
@@ -129,6 +129,20 @@ class UserLoginDaoTest {
 		assertEquals(2, userLogin1.getUserId());
 	}
 
+	@Test
+	void testRangeAfterSuccess() {
+		List<UserLogin> userLogins0 = assertDoesNotThrow(() -> userLoginDao.rangeAfter(2, Integer.MIN_VALUE));
+		assertEquals(2, userLogins0.size());
+		assertEquals(0, userLogins0.get(0).getUserId());
+		assertEquals(1, userLogins0.get(1).getUserId());
+		List<UserLogin> userLogins1 = assertDoesNotThrow(() -> userLoginDao.rangeAfter(2, 0));
+		assertEquals(2, userLogins1.size());
+		UserLogin userLogin = userLogins1.get(0);
+		assertEquals(1, userLogin.getUserId());
+		assertEquals("bob", userLogin.getUsername());
+		assertEquals(2, userLogins1.get(1).getUserId());
+	}
+
 	@Test
 	void testSelectSuccess() {
 		UserLogin userLogin = assertDoesNotThrow(() -> userLoginDao.select(1));
@@ -13,6 +13,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import net.techquiry.app.common.TestAppConfiguration;
 import net.techquiry.app.dto.InquiryDto;
+import net.techquiry.app.entity.FeedEntry;
 import net.techquiry.app.entity.Inquiry;
 import net.techquiry.app.mapper.exception.MissingValueException;
 
@@ -34,9 +35,20 @@ class InquiryMapperTest {
 		assertEquals(true, inquiryDto.getAnonymous());
 	}
 
+	@Test
+	void testFeedEntryToDtoSuccess() {
+		Inquiry inquiry = new Inquiry(2, 0, "Instance", "Instance Content", false, 1, 3);
+		InquiryDto inquiryDto = inquiryMapper.toDto(new FeedEntry(inquiry, true));
+		assertEquals(2, inquiryDto.getInquiryId());
+		assertEquals(0, inquiryDto.getUserId());
+		assertEquals(1, inquiryDto.getResponseCount());
+		assertEquals(3, inquiryDto.getObserverCount());
+		assertEquals(true, inquiryDto.getObserving());
+	}
+
 	@Test
 	void testToEntitySuccess() {
-		InquiryDto inquiryDto = new InquiryDto(null, null, "Example", "Example Content", true);
+		InquiryDto inquiryDto = new InquiryDto(null, null, "Example", "Example Content", true, null, null, null, null);
 		Inquiry inquiry = assertDoesNotThrow(() -> inquiryMapper.toEntity(inquiryDto));
 		assertEquals("Example", inquiry.getTitle());
 		assertEquals("Example Content", inquiry.getContent());
@@ -45,17 +57,17 @@ class InquiryMapperTest {
 
 	@Test
 	void testToEntityException() {
-		InquiryDto target0 = new InquiryDto(null, null, null, "Example Content", true);
+		InquiryDto target0 = new InquiryDto(null, null, null, "Example Content", true, null, null, null, null);
 		assertThrowsExactly(MissingValueException.class, () -> inquiryMapper.toEntity(target0));
-		InquiryDto target1 = new InquiryDto(null, null, "Example", null, true);
+		InquiryDto target1 = new InquiryDto(null, null, "Example", null, true, null, null, null, null);
 		assertThrowsExactly(MissingValueException.class, () -> inquiryMapper.toEntity(target1));
-		InquiryDto target2 = new InquiryDto(null, null, "Example", "Example Content", null);
+		InquiryDto target2 = new InquiryDto(null, null, "Example", "Example Content", null, null, null, null, null);
 		assertThrowsExactly(MissingValueException.class, () -> inquiryMapper.toEntity(target2));
 	}
 
 	@Test
 	void testUpdateEntitySuccess() {
-		InquiryDto inquiryDto = new InquiryDto(null, null, "Example", "Example Content", true);
+		InquiryDto inquiryDto = new InquiryDto(null, null, "Example", "Example Content", true, null, null, null, null);
 		Inquiry original = new Inquiry(2, 0, "Instance", "Instance Content", false);
 		Inquiry inquiry = inquiryMapper.updateEntity(inquiryDto, original);
 		assertEquals("Example", inquiry.getTitle());
@@ -35,7 +35,7 @@ class ResponseMapperTest {
 
 	@Test
 	void testToEntitySuccess() {
-		ResponseDto responseDto = new ResponseDto(null, null, null, false, "Instance Response");
+		ResponseDto responseDto = new ResponseDto(null, null, null, false, "Instance Response", null);
 		Response response = assertDoesNotThrow(() -> responseMapper.toEntity(responseDto));
 		assertEquals(false, response.getAnonymous());
 		assertEquals("Instance Response", response.getContent());
@@ -43,15 +43,15 @@ class ResponseMapperTest {
 
 	@Test
 	void testToEntityException() {
-		ResponseDto target0 = new ResponseDto(null, null, null, null, "Instance Response");
+		ResponseDto target0 = new ResponseDto(null, null, null, null, "Instance Response", null);
 		assertThrowsExactly(MissingValueException.class, () -> responseMapper.toEntity(target0));
-		ResponseDto target1 = new ResponseDto(null, null, null, false, null);
+		ResponseDto target1 = new ResponseDto(null, null, null, false, null, null);
 		assertThrowsExactly(MissingValueException.class, () -> responseMapper.toEntity(target1));
 	}
 
 	@Test
 	void testUpdateEntitySuccess() {
-		ResponseDto responseDto = new ResponseDto(null, null, null, false, "Instance Response");
+		ResponseDto responseDto = new ResponseDto(null, null, null, false, "Instance Response", null);
 		Response original = new Response(0, 0, 0, true, "Test Response");
 		Response response = responseMapper.updateEntity(responseDto, original);
 		assertEquals(false, response.getAnonymous());
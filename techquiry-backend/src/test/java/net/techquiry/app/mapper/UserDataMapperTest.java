@@ -24,16 +24,17 @@ class UserDataMapperTest {
 
 	@Test
 	void testToDtoSuccess() {
-		UserData userData = new UserData(1, "Bob", "Johnson");
+		UserData userData = new UserData(1, "Bob", "Johnson", "abcd");
 		UserDataDto userDataDto = userDataMapper.toDto(userData);
 		assertEquals(1, userDataDto.getUserId());
 		assertEquals("Bob", userDataDto.getFirstName());
 		assertEquals("Johnson", userDataDto.getLastName());
+		assertEquals("abcd", userDataDto.getIconHash());
 	}
 
 	@Test
 	void testToEntitySuccess() {
-		UserDataDto userDataDto = new UserDataDto(null, "Bob", "Johnson");
+		UserDataDto userDataDto = new UserDataDto(null, "Bob", "Johnson", null);
 		UserData userData = assertDoesNotThrow(() -> userDataMapper.toEntity(userDataDto));
 		assertEquals("Bob", userData.getFirstName());
 		assertEquals("Johnson", userData.getLastName());
@@ -41,15 +42,15 @@ class UserDataMapperTest {
 
 	@Test
 	void testToEntityException() {
-		UserDataDto target0 = new UserDataDto(null, null, "Johnson");
+		UserDataDto target0 = new UserDataDto(null, null, "Johnson", null);
 		assertThrowsExactly(MissingValueException.class, () -> userDataMapper.toEntity(target0));
-		UserDataDto target1 = new UserDataDto(null, "Bob", null);
+		UserDataDto target1 = new UserDataDto(null, "Bob", null, null);
 		assertThrowsExactly(MissingValueException.class, () -> userDataMapper.toEntity(target1));
 	}
 
 	@Test
 	void testUpdateEntitySuccess() {
-		UserDataDto userDataDto = new UserDataDto(null, "Bob", "Johnson");
+		UserDataDto userDataDto = new UserDataDto(null, "Bob", "Johnson", null);
 		UserData original = new UserData(1, "Alice", "Smith");
 		UserData userData = userDataMapper.updateEntity(userDataDto, original);
 		assertEquals(1, userData.getUserId());
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -22,8 +23,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import net.techquiry.app.common.CursorUtils;
 import net.techquiry.app.common.TestAppConfiguration;
+import net.techquiry.app.entity.FeedEntry;
 import net.techquiry.app.entity.Inquiry;
+import net.techquiry.app.entity.SearchEntry;
 import net.techquiry.app.service.action.InquiryActionService;
 import net.techquiry.app.service.exception.EntityNotFoundException;
 import net.techquiry.app.service.exception.ForbiddenOperationException;
@@ -69,16 +73,49 @@ class InquiryServiceTest {
 								'title' TEXT NOT NULL,
 								'content' TEXT NOT NULL,
 								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('inquiry_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
 								ON UPDATE CASCADE ON DELETE CASCADE
 						);
 						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'observer' (
+								'inquiry_id' INTEGER NOT NULL,
+								'user_id' INTEGER NOT NULL,
+								PRIMARY KEY('inquiry_id', 'user_id'),
+								FOREIGN KEY ('inquiry_id') REFERENCES 'inquiry'('inquiry_id')
+								ON UPDATE CASCADE ON DELETE CASCADE,
+								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
+								ON UPDATE CASCADE ON DELETE CASCADE
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'response' (
+								'response_id' INTEGER NOT NULL UNIQUE,
+								'inquiry_id' INTEGER NOT NULL,
+								'user_id' INTEGER NOT NULL,
+								'anonymous' INTEGER NOT NULL,
+								'content' TEXT NOT NULL,
+								PRIMARY KEY('response_id'),
+								FOREIGN KEY ('inquiry_id') REFERENCES 'inquiry'('inquiry_id')
+								ON UPDATE CASCADE ON DELETE CASCADE,
+								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
+								ON UPDATE CASCADE ON DELETE CASCADE
+						);
+						""");
+				statement.execute("CREATE VIRTUAL TABLE IF NOT EXISTS 'inquiry_search' USING fts5('title', 'content', content = 'inquiry', content_rowid = 'inquiry_id');");
+				statement.execute("CREATE VIRTUAL TABLE IF NOT EXISTS 'response_search' USING fts5('content', content = 'response', content_rowid = 'response_id');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test',	'Test Content', true);");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(1, 0, 'Example',	'Example Content', true);");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(2, 0, 'Instance',	'Instance Content', false);");
+				statement.execute("INSERT INTO observer(inquiry_id, user_id) VALUES(0, 1);");
+				statement.execute("INSERT INTO response(response_id, inquiry_id, user_id, anonymous, content) VALUES(0, 2, 1, false, 'Example Response');");
+				statement.execute("INSERT INTO inquiry_search(inquiry_search) VALUES('rebuild');");
+				statement.execute("INSERT INTO response_search(response_search) VALUES('rebuild');");
 				connection.commit();
 			}
 		});
@@ -89,6 +126,10 @@ class InquiryServiceTest {
 		assertDoesNotThrow(() -> {
 			try (Connection connection = dataSource.getConnection()) {
 				Statement statement = connection.createStatement();
+				statement.execute("DROP TABLE 'response_search'");
+				statement.execute("DROP TABLE 'inquiry_search'");
+				statement.execute("DROP TABLE 'response'");
+				statement.execute("DROP TABLE 'observer'");
 				statement.execute("DROP TABLE 'inquiry'");
 				statement.execute("DROP TABLE 'user_login'");
 				connection.commit();
@@ -114,6 +155,25 @@ class InquiryServiceTest {
 		assertEquals(false, inquiry.getAnonymous());
 	}
 
+	@Test
+	void testGetInquiryRangeAfterSuccess() {
+		List<Inquiry> inquiries0 = assertDoesNotThrow(() -> inquiryService.getInquiryRangeAfter(2, null));
+		assertEquals(2, inquiries0.size());
+		assertEquals(0, inquiries0.get(0).getInquiryId());
+		assertEquals(1, inquiries0.get(1).getInquiryId());
+		String cursor = CursorUtils.encodeCursor(inquiries0.get(1).getInquiryId());
+		List<Inquiry> inquiries1 = assertDoesNotThrow(() -> inquiryService.getInquiryRangeAfter(2, cursor));
+		assertEquals(1, inquiries1.size());
+		assertEquals(2, inquiries1.get(0).getInquiryId());
+	}
+
+	@Test
+	void testGetInquiryRangeAfterException() {
+		assertThrowsExactly(InvalidRequestException.class, () -> inquiryService.getInquiryRangeAfter(-1, null));
+		assertThrowsExactly(InvalidRequestException.class, () -> inquiryService.getInquiryRangeAfter(2, "%invalid%"));
+		assertThrowsExactly(InvalidRequestException.class, () -> inquiryService.getInquiryRangeAfter(2, "AAAA"));
+	}
+
 	@Test
 	void testGetInquiryByInquiryIdSuccess() {
 		Inquiry inquiry = assertDoesNotThrow(() -> inquiryService.getInquiryByInquiryId(1));
@@ -151,6 +211,26 @@ class InquiryServiceTest {
 		assertThrowsExactly(EntityNotFoundException.class, () -> inquiryActionService.getInquiryListByUserId(3));
 	}
 
+	@Test
+	void testGetInquiryStreamByUserIdSuccess() {
+		sessionHelper.setAuthentication(null);
+		EntityStream<Inquiry> stream0 = assertDoesNotThrow(() -> inquiryActionService.getInquiryStreamByUserId(0));
+		List<Inquiry> inquiries0 = new ArrayList<>();
+		assertEquals(1, assertDoesNotThrow(() -> stream0.forEach(inquiries0::add)));
+		assertEquals(2, inquiries0.get(0).getInquiryId());
+		sessionHelper.setAuthentication(new Authentication(0));
+		EntityStream<Inquiry> stream1 = assertDoesNotThrow(() -> inquiryActionService.getInquiryStreamByUserId(0));
+		sessionHelper.setAuthentication(null);
+		List<Inquiry> inquiries1 = new ArrayList<>();
+		assertEquals(2, assertDoesNotThrow(() -> stream1.forEach(inquiries1::add)));
+	}
+
+	@Test
+	void testGetInquiryStreamByUserIdException() {
+		sessionHelper.setAuthentication(null);
+		assertThrowsExactly(EntityNotFoundException.class, () -> inquiryActionService.getInquiryStreamByUserId(3));
+	}
+
 	@Test
 	void testCreateInquirySuccess() {
 		sessionHelper.setAuthentication(new Authentication(1));
@@ -248,4 +328,60 @@ class InquiryServiceTest {
 		assertThrowsExactly(InvalidRequestException.class, () -> inquiryActionService.updateInquiry(target4));
 	}
 
+	@Test
+	void testGetInquiryFeedSuccess() {
+		sessionHelper.setAuthentication(null);
+		List<FeedEntry> feed0 = assertDoesNotThrow(() -> inquiryActionService.getInquiryFeed(3, null));
+		assertEquals(3, feed0.size());
+		assertFalse(feed0.get(0).getObserving());
+		sessionHelper.setAuthentication(new Authentication(1));
+		List<FeedEntry> feed1 = assertDoesNotThrow(() -> inquiryActionService.getInquiryFeed(3, null));
+		assertTrue(feed1.get(0).getObserving());
+		assertFalse(feed1.get(1).getObserving());
+		String cursor = CursorUtils.encodeCursor(feed1.get(1).getInquiry().getInquiryId());
+		List<FeedEntry> feed2 = assertDoesNotThrow(() -> inquiryActionService.getInquiryFeed(3, cursor));
+		assertEquals(1, feed2.size());
+		assertEquals(2, feed2.get(0).getInquiry().getInquiryId());
+	}
+
+	@Test
+	void testGetInquiryFeedException() {
+		sessionHelper.setAuthentication(null);
+		assertThrowsExactly(InvalidRequestException.class, () -> inquiryActionService.getInquiryFeed(-1, null));
+		assertThrowsExactly(InvalidRequestException.class, () -> inquiryActionService.getInquiryFeed(2, "%invalid%"));
+	}
+
+	@Test
+	void testSearchInquiriesSuccess() {
+		sessionHelper.setAuthentication(null);
+		List<SearchEntry> search0 = assertDoesNotThrow(() -> inquiryActionService.searchInquiries("example", null, 1, null));
+		assertEquals(1, search0.size());
+		assertEquals(1, search0.get(0).getInquiry().getInquiryId());
+		assertEquals("<mark>Example</mark>", search0.get(0).getSnippet());
+		String cursor = CursorUtils.encodeCursor(search0.get(0).getPosition());
+		List<SearchEntry> search1 = assertDoesNotThrow(() -> inquiryActionService.searchInquiries("example", null, 2, cursor));
+		assertEquals(1, search1.size());
+		assertEquals(2, search1.get(0).getInquiry().getInquiryId());
+		assertEquals("<mark>Example</mark> Response", search1.get(0).getSnippet());
+		List<SearchEntry> search2 = assertDoesNotThrow(() -> inquiryActionService.searchInquiries("example", 0, 2, null));
+		assertEquals(1, search2.size());
+		assertEquals(2, search2.get(0).getInquiry().getInquiryId());
+		sessionHelper.setAuthentication(new Authentication(0));
+		List<SearchEntry> search3 = assertDoesNotThrow(() -> inquiryActionService.searchInquiries("example", 0, 2, null));
+		assertEquals(2, search3.size());
+		List<SearchEntry> search4 = assertDoesNotThrow(() -> inquiryActionService.searchInquiries("missing", null, 2, null));
+		assertTrue(search4.isEmpty());
+	}
+
+	@Test
+	void testSearchInquiriesException() {
+		sessionHelper.setAuthentication(null);
+		assertThrowsExactly(InvalidRequestException.class, () -> inquiryActionService.searchInquiries(" \t", null, 2, null));
+		assertThrowsExactly(InvalidRequestException.class, () -> inquiryActionService.searchInquiries("Test", null, -1, null));
+		assertThrowsExactly(InvalidRequestException.class, () -> inquiryActionService.searchInquiries("Test", null, 2, "%invalid%"));
+		String cursor = CursorUtils.encodeCursor(-1);
+		assertThrowsExactly(InvalidRequestException.class, () -> inquiryActionService.searchInquiries("Test", null, 2, cursor));
+		assertThrowsExactly(EntityNotFoundException.class, () -> inquiryActionService.searchInquiries("Test", 3, 2, null));
+	}
+
 }
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -71,6 +72,8 @@ class ObserverServiceTest {
 								'title' TEXT NOT NULL,
 								'content' TEXT NOT NULL,
 								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('inquiry_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
 								ON UPDATE CASCADE ON DELETE CASCADE
@@ -87,6 +90,16 @@ class ObserverServiceTest {
 								ON UPDATE CASCADE ON DELETE CASCADE
 						);
 						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'observer_insert_trigger' AFTER INSERT ON 'observer' BEGIN
+								UPDATE 'inquiry' SET observer_count = observer_count + 1 WHERE inquiry_id = NEW.inquiry_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'observer_delete_trigger' AFTER DELETE ON 'observer' BEGIN
+								UPDATE 'inquiry' SET observer_count = observer_count - 1 WHERE inquiry_id = OLD.inquiry_id;
+						END;
+						""");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test',	'Test Content', true);");
@@ -157,6 +170,19 @@ class ObserverServiceTest {
 		assertThrowsExactly(EntityNotFoundException.class, () -> observerService.getObservedInquiryListByUserId(2));
 	}
 
+	@Test
+	void testGetObservedInquiryStreamByUserIdSuccess() {
+		EntityStream<Inquiry> stream = assertDoesNotThrow(() -> observerService.getObservedInquiryStreamByUserId(1));
+		List<Inquiry> inquiries = new ArrayList<>();
+		assertEquals(2, assertDoesNotThrow(() -> stream.forEach(inquiries::add)));
+		assertEquals(0, inquiries.getFirst().getInquiryId());
+	}
+
+	@Test
+	void testGetObservedInquiryStreamByUserIdException() {
+		assertThrowsExactly(EntityNotFoundException.class, () -> observerService.getObservedInquiryStreamByUserId(2));
+	}
+
 	@Test
 	void testCheckObserverSuccess() {
 		sessionHelper.setAuthentication(new Authentication(1));
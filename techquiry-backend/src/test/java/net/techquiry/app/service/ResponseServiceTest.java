@@ -69,6 +69,8 @@ class ResponseServiceTest {
 								'title' TEXT NOT NULL,
 								'content' TEXT NOT NULL,
 								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('inquiry_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
 								ON UPDATE CASCADE ON DELETE CASCADE
@@ -81,6 +83,7 @@ class ResponseServiceTest {
 								'user_id' INTEGER NOT NULL,
 								'anonymous' INTEGER NOT NULL,
 								'content' TEXT NOT NULL,
+								'upvote_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('response_id'),
 								FOREIGN KEY ('inquiry_id') REFERENCES 'inquiry'('inquiry_id')
 								ON UPDATE CASCADE ON DELETE CASCADE,
@@ -88,6 +91,16 @@ class ResponseServiceTest {
 								ON UPDATE CASCADE ON DELETE CASCADE
 						);
 						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'response_insert_trigger' AFTER INSERT ON 'response' BEGIN
+								UPDATE 'inquiry' SET response_count = response_count + 1 WHERE inquiry_id = NEW.inquiry_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'response_delete_trigger' AFTER DELETE ON 'response' BEGIN
+								UPDATE 'inquiry' SET response_count = response_count - 1 WHERE inquiry_id = OLD.inquiry_id;
+						END;
+						""");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test',	'Test Content', true);");
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -71,6 +72,8 @@ class UpvoteServiceTest {
 								'title' TEXT NOT NULL,
 								'content' TEXT NOT NULL,
 								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('inquiry_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
 								ON UPDATE CASCADE ON DELETE CASCADE
@@ -83,6 +86,7 @@ class UpvoteServiceTest {
 								'user_id' INTEGER NOT NULL,
 								'anonymous' INTEGER NOT NULL,
 								'content' TEXT NOT NULL,
+								'upvote_count' INTEGER NOT NULL DEFAULT 0,
 								PRIMARY KEY('response_id'),
 								FOREIGN KEY ('inquiry_id') REFERENCES 'inquiry'('inquiry_id')
 								ON UPDATE CASCADE ON DELETE CASCADE,
@@ -101,6 +105,26 @@ class UpvoteServiceTest {
 								ON UPDATE CASCADE ON DELETE CASCADE
 						);
 						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'response_insert_trigger' AFTER INSERT ON 'response' BEGIN
+								UPDATE 'inquiry' SET response_count = response_count + 1 WHERE inquiry_id = NEW.inquiry_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'response_delete_trigger' AFTER DELETE ON 'response' BEGIN
+								UPDATE 'inquiry' SET response_count = response_count - 1 WHERE inquiry_id = OLD.inquiry_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'upvote_insert_trigger' AFTER INSERT ON 'upvote' BEGIN
+								UPDATE 'response' SET upvote_count = upvote_count + 1 WHERE response_id = NEW.response_id;
+						END;
+						""");
+				statement.execute("""
+						CREATE TRIGGER IF NOT EXISTS 'upvote_delete_trigger' AFTER DELETE ON 'upvote' BEGIN
+								UPDATE 'response' SET upvote_count = upvote_count - 1 WHERE response_id = OLD.response_id;
+						END;
+						""");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test',	'Test Content', true);");
@@ -175,6 +199,19 @@ class UpvoteServiceTest {
 		assertThrowsExactly(EntityNotFoundException.class, () -> upvoteService.getUpvotedResponseListByUserId(2));
 	}
 
+	@Test
+	void testGetUpvotedResponseStreamByUserIdSuccess() {
+		EntityStream<Response> stream = assertDoesNotThrow(() -> upvoteService.getUpvotedResponseStreamByUserId(1));
+		List<Response> responses = new ArrayList<>();
+		assertEquals(1, assertDoesNotThrow(() -> stream.forEach(responses::add)));
+		assertEquals(1, responses.getFirst().getResponseId());
+	}
+
+	@Test
+	void testGetUpvotedResponseStreamByUserIdException() {
+		assertThrowsExactly(EntityNotFoundException.class, () -> upvoteService.getUpvotedResponseStreamByUserId(2));
+	}
+
 	@Test
 	void testCheckUpvoteSuccess() {
 		sessionHelper.setAuthentication(new Authentication(1));
@@ -9,10 +9,19 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 
+import javax.imageio.ImageIO;
 import javax.sql.DataSource;
 
 import org.junit.jupiter.api.AfterEach;
@@ -21,9 +30,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import net.techquiry.app.common.Constants;
+import net.techquiry.app.common.Environment;
+import net.techquiry.app.common.SecurityUtils;
 import net.techquiry.app.common.TestAppConfiguration;
+import net.techquiry.app.database.IconCache;
+import net.techquiry.app.database.dao.IconDao;
+import net.techquiry.app.entity.Icon;
 import net.techquiry.app.entity.UserData;
 import net.techquiry.app.service.action.UserDataActionService;
 import net.techquiry.app.service.exception.EntityNotFoundException;
@@ -49,6 +65,12 @@ class UserDataServiceTest {
 	@Autowired
 	SessionHelper sessionHelper;
 
+	@Autowired
+	IconDao iconDao;
+
+	@Autowired
+	IconCache iconCache;
+
 	@BeforeEach
 	void initialize() {
 		assertDoesNotThrow(() -> {
@@ -63,22 +85,42 @@ class UserDataServiceTest {
 								PRIMARY KEY('user_id')
 						);
 						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'icon' (
+								'icon_hash' TEXT NOT NULL UNIQUE,
+								'data' BLOB NOT NULL,
+								PRIMARY KEY('icon_hash')
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'icon_variant' (
+								'icon_hash' TEXT NOT NULL,
+								'size' INTEGER NOT NULL,
+								'data' BLOB NOT NULL,
+								PRIMARY KEY('icon_hash', 'size'),
+								FOREIGN KEY ('icon_hash') REFERENCES 'icon'('icon_hash')
+								ON UPDATE CASCADE ON DELETE CASCADE
+						);
+						""");
 				statement.execute("""
 						CREATE TABLE IF NOT EXISTS 'user_data' (
 								'user_id' INTEGER NOT NULL UNIQUE,
 								'first_name' TEXT NOT NULL,
 								'last_name' TEXT NOT NULL,
-								'icon' BLOB,
+								'icon_hash' TEXT,
 								PRIMARY KEY('user_id'),
 								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
-								ON UPDATE CASCADE ON DELETE CASCADE
+								ON UPDATE CASCADE ON DELETE CASCADE,
+								FOREIGN KEY ('icon_hash') REFERENCES 'icon'('icon_hash')
 						);
 						""");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', 'MTIzNDU2Nzg=', 'MTIzNA==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'cGFzc3dvcmQ=', 'cGFzcw==');");
 				statement.execute("INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(2, 'charlie', 'YWJjZGFiY2Q=', 'YWJjZA==');");
-				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon) VALUES(0, 'Alice', 'Smith', X'0000');");
-				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon) VALUES(1, 'Bob', 'Johnson', NULL);");
+				statement.execute("INSERT INTO icon(icon_hash, data) VALUES('96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7', X'0000');");
+				statement.execute("INSERT INTO icon_variant(icon_hash, size, data) VALUES('96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7', 32, X'01');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(0, 'Alice', 'Smith', '96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(1, 'Bob', 'Johnson', NULL);");
 				connection.commit();
 			}
 		});
@@ -90,6 +132,8 @@ class UserDataServiceTest {
 			try (Connection connection = dataSource.getConnection()) {
 				Statement statement = connection.createStatement();
 				statement.execute("DROP TABLE 'user_data'");
+				statement.execute("DROP TABLE 'icon_variant'");
+				statement.execute("DROP TABLE 'icon'");
 				statement.execute("DROP TABLE 'user_login'");
 				connection.commit();
 			}
@@ -102,7 +146,7 @@ class UserDataServiceTest {
 		assertEquals(1, userData.getUserId());
 		assertEquals("Bob", userData.getFirstName());
 		assertEquals("Johnson", userData.getLastName());
-		assertEquals(null, userData.getIcon());
+		assertEquals(null, userData.getIconHash());
 	}
 
 	@Test
@@ -110,6 +154,80 @@ class UserDataServiceTest {
 		assertThrowsExactly(EntityNotFoundException.class, () -> userDataService.getDataByUserId(2));
 	}
 
+	@Test
+	void testGetIconByUserIdSuccess() {
+		Icon icon = assertDoesNotThrow(() -> userDataService.getIconByUserId(0));
+		assertEquals("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", icon.getHash());
+		assertArrayEquals(new byte[2], icon.getData());
+		assertNull(assertDoesNotThrow(() -> userDataService.getIconByUserId(1)));
+	}
+
+	@Test
+	void testGetIconByUserIdException() {
+		assertThrowsExactly(EntityNotFoundException.class, () -> userDataService.getIconByUserId(2));
+	}
+
+	@Test
+	void testGetIconByHashSuccess() {
+		Resource icon0 = assertDoesNotThrow(() -> userDataService.getIconByHash("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", null));
+		assertEquals(2, assertDoesNotThrow(() -> icon0.contentLength()));
+		assertArrayEquals(new byte[2], assertDoesNotThrow(() -> icon0.getContentAsByteArray()));
+		Resource icon1 = assertDoesNotThrow(() -> userDataService.getIconByHash("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", 32));
+		assertArrayEquals(new byte[] { 0x01 }, assertDoesNotThrow(() -> icon1.getContentAsByteArray()));
+		Resource icon2 = assertDoesNotThrow(() -> userDataService.getIconByHash("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", 64));
+		assertArrayEquals(new byte[2], assertDoesNotThrow(() -> icon2.getContentAsByteArray()));
+	}
+
+	@Test
+	void testCheckIconHash() {
+		assertDoesNotThrow(() -> userDataService.checkIconHash(0, "96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7"));
+		assertThrowsExactly(EntityNotFoundException.class, () -> userDataService.checkIconHash(1, "96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7"));
+		assertThrowsExactly(EntityNotFoundException.class, () -> userDataService.checkIconHash(0, "abcd"));
+		assertThrowsExactly(EntityNotFoundException.class, () -> userDataService.checkIconHash(5, "96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7"));
+	}
+
+	@Test
+	void testGetIconByHashFallback() {
+		iconCache.clear();
+		assertDoesNotThrow(() -> userDataService.getIconByHash("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", 64));
+		assertDoesNotThrow(() -> userDataService.getIconByHash("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", 256));
+		assertNull(iconCache.get("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", 64));
+		assertNotNull(iconCache.get("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", null));
+		assertEquals(1, iconCache.getSize());
+	}
+
+	@Test
+	void testGetIconByHashRange() {
+		byte[] image = assertDoesNotThrow(() -> createImage(512, 512, true));
+		sessionHelper.setAuthentication(new Authentication(1));
+		assertDoesNotThrow(() -> userDataActionService.updateIcon(1, new ByteArrayInputStream(image)));
+		String hash = SecurityUtils.hashContent(image);
+		Resource cached = assertDoesNotThrow(() -> userDataService.getIconByHash(hash, null));
+		Resource streamed = new IconResource(iconDao, hash, image.length);
+		int start = Constants.ICON_CHUNK_SIZE - 10;
+		assertTrue(image.length > start + 20);
+		for (Resource icon : List.of(cached, streamed)) {
+			assertEquals(image.length, assertDoesNotThrow(() -> icon.contentLength()));
+			assertArrayEquals(image, assertDoesNotThrow(() -> icon.getContentAsByteArray()));
+			assertDoesNotThrow(() -> {
+				try (InputStream stream = icon.getInputStream()) {
+					assertEquals(start, stream.skip(start));
+					assertArrayEquals(Arrays.copyOfRange(image, start, start + 20), stream.readNBytes(20));
+					assertEquals(image.length - start - 20, stream.skip(Long.MAX_VALUE));
+					assertEquals(-1, stream.read());
+				}
+			});
+		}
+		assertNotNull(iconCache.get(hash, null));
+	}
+
+	@Test
+	void testGetIconByHashException() {
+		assertThrowsExactly(EntityNotFoundException.class, () -> userDataService.getIconByHash("abcd", null));
+		assertThrowsExactly(EntityNotFoundException.class, () -> userDataService.getIconByHash("abcd", 64));
+		assertThrowsExactly(InvalidRequestException.class, () -> userDataService.getIconByHash("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", 100));
+	}
+
 	@Test
 	void testCreateDataSuccess() {
 		UserData target = new UserData(0, "Charlie", "Brown", null);
@@ -125,7 +243,7 @@ class UserDataServiceTest {
 				assertEquals(2, result.getInt("user_id"));
 				assertEquals("Charlie", result.getString("first_name"));
 				assertEquals("Brown", result.getString("last_name"));
-				assertNull(result.getBytes("icon"));
+				assertNull(result.getString("icon_hash"));
 			}
 		});
 	}
@@ -172,7 +290,7 @@ class UserDataServiceTest {
 
 	@Test
 	void testUpdateDataSuccess() {
-		UserData target = new UserData(1, "David", "Dawson", new byte[2]);
+		UserData target = new UserData(1, "David", "Dawson", "96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7");
 		sessionHelper.setAuthentication(new Authentication(1));
 		assertDoesNotThrow(() -> userDataActionService.updateData(target));
 		assertDoesNotThrow(() -> {
@@ -185,14 +303,14 @@ class UserDataServiceTest {
 				assertEquals(1, result.getInt("user_id"));
 				assertEquals("David", result.getString("first_name"));
 				assertEquals("Dawson", result.getString("last_name"));
-				assertArrayEquals(new byte[2], result.getBytes("icon"));
+				assertNull(result.getString("icon_hash"));
 			}
 		});
 	}
 
 	@Test
 	void testUpdateDataException() {
-		UserData target0 = new UserData(1, "David", "Dawson", new byte[2]);
+		UserData target0 = new UserData(1, "David", "Dawson", "96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7");
 		sessionHelper.setAuthentication(null);
 		assertThrowsExactly(UnauthorizedOperationException.class, () -> userDataActionService.updateData(target0));
 		sessionHelper.setAuthentication(new Authentication(0));
@@ -207,4 +325,126 @@ class UserDataServiceTest {
 		assertThrowsExactly(EntityNotFoundException.class, () -> userDataActionService.updateData(target3));
 	}
 
+	@Test
+	void testUpdateIconSuccess() {
+		byte[] image = assertDoesNotThrow(() -> createImage(512, 384, false));
+		String hash = SecurityUtils.hashContent(image);
+		sessionHelper.setAuthentication(new Authentication(1));
+		assertDoesNotThrow(() -> userDataActionService.updateIcon(1, new ByteArrayInputStream(image)));
+		assertDoesNotThrow(() -> userDataActionService.updateIcon(1, new ByteArrayInputStream(image)));
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("SELECT icon_hash FROM user_data WHERE user_id = 1");
+				ResultSet result = statement.getResultSet();
+				assertNotNull(result);
+				assertTrue(result.next());
+				assertEquals(hash, result.getString("icon_hash"));
+				result.close();
+				statement.execute("SELECT data FROM icon WHERE icon_hash = '%s'".formatted(hash));
+				ResultSet data = statement.getResultSet();
+				assertTrue(data.next());
+				assertArrayEquals(image, data.getBytes("data"));
+				data.close();
+				statement.execute("SELECT COUNT(*) AS count FROM icon");
+				ResultSet count = statement.getResultSet();
+				assertTrue(count.next());
+				assertEquals(2, count.getInt("count"));
+				count.close();
+				statement.execute("SELECT size, data FROM icon_variant WHERE icon_hash = '%s' ORDER BY size".formatted(hash));
+				ResultSet variants = statement.getResultSet();
+				int[][] dimensions = { { 32, 24 }, { 64, 48 }, { 256, 192 } };
+				for (int[] dimension : dimensions) {
+					assertTrue(variants.next());
+					BufferedImage variant = ImageIO.read(new ByteArrayInputStream(variants.getBytes("data")));
+					assertEquals(dimension[0], variants.getInt("size"));
+					assertEquals(dimension[0], variant.getWidth());
+					assertEquals(dimension[1], variant.getHeight());
+				}
+				assertFalse(variants.next());
+			}
+		});
+	}
+
+	@Test
+	void testUpdateIconSubsampled() {
+		byte[] image = assertDoesNotThrow(() -> createImage(4000, 3000, false));
+		String hash = SecurityUtils.hashContent(image);
+		sessionHelper.setAuthentication(new Authentication(1));
+		assertDoesNotThrow(() -> userDataActionService.updateIcon(1, new ByteArrayInputStream(image)));
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("SELECT data FROM icon_variant WHERE icon_hash = '%s' AND size = 256".formatted(hash));
+				ResultSet variants = statement.getResultSet();
+				assertTrue(variants.next());
+				BufferedImage variant = ImageIO.read(new ByteArrayInputStream(variants.getBytes("data")));
+				assertEquals(256, variant.getWidth());
+				assertEquals(192, variant.getHeight());
+				variants.close();
+			}
+		});
+	}
+
+	@Test
+	void testUpdateIconException() {
+		byte[] image = assertDoesNotThrow(() -> createImage(16, 16, false));
+		sessionHelper.setAuthentication(null);
+		assertThrowsExactly(UnauthorizedOperationException.class, () -> userDataActionService.updateIcon(1, new ByteArrayInputStream(image)));
+		sessionHelper.setAuthentication(new Authentication(0));
+		assertThrowsExactly(ForbiddenOperationException.class, () -> userDataActionService.updateIcon(1, new ByteArrayInputStream(image)));
+		sessionHelper.setAuthentication(new Authentication(1));
+		assertThrowsExactly(InvalidRequestException.class, () -> userDataActionService.updateIcon(1, new ByteArrayInputStream(new byte[2])));
+		assertThrowsExactly(InvalidRequestException.class, () -> userDataActionService.updateIcon(1, new ByteArrayInputStream(new byte[Environment.SRV_ICON_MAX_SIZE + 1])));
+		ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+		assertTrue(assertDoesNotThrow(() -> ImageIO.write(new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB), "jpg", jpeg)));
+		assertThrowsExactly(InvalidRequestException.class, () -> userDataActionService.updateIcon(1, new ByteArrayInputStream(jpeg.toByteArray())));
+		sessionHelper.setAuthentication(new Authentication(2));
+		assertThrowsExactly(EntityNotFoundException.class, () -> userDataActionService.updateIcon(2, new ByteArrayInputStream(image)));
+	}
+
+	@Test
+	void testDeleteIconSuccess() {
+		assertDoesNotThrow(() -> userDataService.getIconByHash("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", 32));
+		assertNotNull(iconCache.get("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", 32));
+		sessionHelper.setAuthentication(new Authentication(0));
+		assertDoesNotThrow(() -> userDataActionService.deleteIcon(0));
+		assertNull(iconCache.get("96a296d224f285c67bee93c30f8a309157f0daa35dc5b87e410b78630a09cfc7", 32));
+		assertDoesNotThrow(() -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Statement statement = connection.createStatement();
+				statement.execute("SELECT icon_hash FROM user_data WHERE user_id = 0");
+				ResultSet result = statement.getResultSet();
+				assertNotNull(result);
+				assertTrue(result.next());
+				assertNull(result.getString("icon_hash"));
+			}
+		});
+	}
+
+	@Test
+	void testDeleteIconException() {
+		sessionHelper.setAuthentication(null);
+		assertThrowsExactly(UnauthorizedOperationException.class, () -> userDataActionService.deleteIcon(0));
+		sessionHelper.setAuthentication(new Authentication(1));
+		assertThrowsExactly(ForbiddenOperationException.class, () -> userDataActionService.deleteIcon(0));
+		sessionHelper.setAuthentication(new Authentication(2));
+		assertThrowsExactly(EntityNotFoundException.class, () -> userDataActionService.deleteIcon(2));
+	}
+
+	byte[] createImage(int width, int height, boolean noise) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		if (noise) {
+			Random random = new Random(0);
+			for (int x = 0; x < width; x++) {
+				for (int y = 0; y < height; y++) {
+					image.setRGB(x, y, random.nextInt());
+				}
+			}
+		}
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", output);
+		return output.toByteArray();
+	}
+
 }
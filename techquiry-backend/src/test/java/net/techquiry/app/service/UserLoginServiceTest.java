@@ -13,6 +13,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 import javax.sql.DataSource;
 
@@ -24,8 +25,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import net.techquiry.app.common.CursorUtils;
 import net.techquiry.app.common.SecurityUtils;
 import net.techquiry.app.common.TestAppConfiguration;
+import net.techquiry.app.entity.Profile;
 import net.techquiry.app.entity.UserLogin;
 import net.techquiry.app.service.action.UserLoginActionService;
 import net.techquiry.app.service.exception.EntityNotFoundException;
@@ -65,12 +68,41 @@ class UserLoginServiceTest {
 								PRIMARY KEY('user_id')
 						);
 						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'user_data' (
+								'user_id' INTEGER NOT NULL UNIQUE,
+								'first_name' TEXT NOT NULL,
+								'last_name' TEXT NOT NULL,
+								'icon_hash' TEXT,
+								PRIMARY KEY('user_id'),
+								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
+								ON UPDATE CASCADE ON DELETE CASCADE
+						);
+						""");
+				statement.execute("""
+						CREATE TABLE IF NOT EXISTS 'inquiry' (
+								'inquiry_id' INTEGER NOT NULL UNIQUE,
+								'user_id' INTEGER NOT NULL,
+								'title' TEXT NOT NULL,
+								'content' TEXT NOT NULL,
+								'anonymous' INTEGER NOT NULL,
+								'response_count' INTEGER NOT NULL DEFAULT 0,
+								'observer_count' INTEGER NOT NULL DEFAULT 0,
+								PRIMARY KEY('inquiry_id'),
+								FOREIGN KEY ('user_id') REFERENCES 'user_login'('user_id')
+								ON UPDATE CASCADE ON DELETE CASCADE
+						);
+						""");
 				statement.execute(
 						"INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(0, 'alice', '5wq4WUIgP1dwqcr2Bela/SHzJwyUvIqo89/vHk565Lc=', 'nGxxd6QsFeF/cBeR5tgiIA==');");
 				statement.execute(
 						"INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(1, 'bob', 'ptp5i/V5DHjaOsFQfCo7NseUflYX45loc9DTSPrl+NU=', 'Fw7zNLq9p0L1bT68ifEz9g==');");
 				statement.execute(
 						"INSERT INTO user_login(user_id, username, password_hash, password_salt) VALUES(2, 'charlie', 'dm2H/fl9TtxWBKW5dN5nh9MRUNTbWuFM3xquxwQ+VC4=', 'jgKZJ7psArGnRao9N464eg==');");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(0, 'Alice', 'Smith', NULL);");
+				statement.execute("INSERT INTO user_data(user_id, first_name, last_name, icon_hash) VALUES(1, 'Bob', 'Johnson', NULL);");
+				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(0, 1, 'Test', 'Test Content', true);");
+				statement.execute("INSERT INTO inquiry(inquiry_id, user_id, title, content, anonymous) VALUES(1, 1, 'Example', 'Example Content', false);");
 				connection.commit();
 			}
 		});
@@ -81,6 +113,8 @@ class UserLoginServiceTest {
 		assertDoesNotThrow(() -> {
 			try (Connection connection = dataSource.getConnection()) {
 				Statement statement = connection.createStatement();
+				statement.execute("DROP TABLE 'inquiry'");
+				statement.execute("DROP TABLE 'user_data'");
 				statement.execute("DROP TABLE 'user_login'");
 				connection.commit();
 			}
@@ -104,6 +138,26 @@ class UserLoginServiceTest {
 		assertArrayEquals(SecurityUtils.decodeBase64("jgKZJ7psArGnRao9N464eg=="), userLogin.getPasswordSalt());
 	}
 
+	@Test
+	void testGetLoginRangeAfterSuccess() {
+		List<UserLogin> userLogins0 = assertDoesNotThrow(() -> userLoginService.getLoginRangeAfter(2, null));
+		assertEquals(2, userLogins0.size());
+		assertEquals(0, userLogins0.get(0).getUserId());
+		assertEquals(1, userLogins0.get(1).getUserId());
+		String cursor = CursorUtils.encodeCursor(userLogins0.get(1).getUserId());
+		List<UserLogin> userLogins1 = assertDoesNotThrow(() -> userLoginService.getLoginRangeAfter(2, cursor));
+		assertEquals(1, userLogins1.size());
+		assertEquals(2, userLogins1.get(0).getUserId());
+		assertEquals("charlie", userLogins1.get(0).getUsername());
+	}
+
+	@Test
+	void testGetLoginRangeAfterException() {
+		assertThrowsExactly(InvalidRequestException.class, () -> userLoginService.getLoginRangeAfter(-1, null));
+		assertThrowsExactly(InvalidRequestException.class, () -> userLoginService.getLoginRangeAfter(2, "%invalid%"));
+		assertThrowsExactly(InvalidRequestException.class, () -> userLoginService.getLoginRangeAfter(2, "AAAA"));
+	}
+
 	@Test
 	void testGetLoginByUserIdSuccess() {
 		UserLogin userLogin = assertDoesNotThrow(() -> userLoginService.getLoginByUserId(1));
@@ -250,6 +304,29 @@ class UserLoginServiceTest {
 		assertThrowsExactly(UnauthorizedOperationException.class, () -> userLoginActionService.getCurrentLogin());
 	}
 
+	@Test
+	void testGetProfileSuccess() {
+		sessionHelper.setAuthentication(null);
+		Profile profile0 = assertDoesNotThrow(() -> userLoginActionService.getProfile(1).join());
+		assertEquals("bob", profile0.getLogin().getUsername());
+		assertEquals("Bob", profile0.getData().getFirstName());
+		assertEquals("Johnson", profile0.getData().getLastName());
+		assertEquals(1, profile0.getInquiries().size());
+		assertEquals(1, profile0.getInquiries().get(0).getInquiryId());
+		sessionHelper.setAuthentication(new Authentication(1));
+		Profile profile1 = assertDoesNotThrow(() -> userLoginActionService.getProfile(1).join());
+		assertEquals(2, profile1.getInquiries().size());
+	}
+
+	@Test
+	void testGetProfileException() {
+		sessionHelper.setAuthentication(null);
+		CompletionException exception0 = assertThrowsExactly(CompletionException.class, () -> userLoginActionService.getProfile(2).join());
+		assertEquals(EntityNotFoundException.class, exception0.getCause().getClass());
+		CompletionException exception1 = assertThrowsExactly(CompletionException.class, () -> userLoginActionService.getProfile(3).join());
+		assertEquals(EntityNotFoundException.class, exception1.getCause().getClass());
+	}
+
 	@Test
 	void testAuthenticateUserSuccess() {
 		sessionHelper.setAuthentication(null);
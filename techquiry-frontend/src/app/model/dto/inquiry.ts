@@ -28,4 +28,19 @@ export interface Inquiry {
 	 */
 	anonymous: boolean;
 
+	/**
+	 * The number of responses to the inquiry.
+	 */
+	responseCount?: number;
+
+	/**
+	 * The number of users observing the inquiry.
+	 */
+	observerCount?: number;
+
+	/**
+	 * Whether the current user is observing the inquiry.
+	 */
+	observing?: boolean;
+
 }
@@ -0,0 +1,16 @@
+/**
+ * Represents and contains a page of a cursor paginated listing.
+ */
+export interface Page<T> {
+
+	/**
+	 * The items of the page.
+	 */
+	items: T[];
+
+	/**
+	 * The cursor of the next page, absent on the last page.
+	 */
+	nextCursor?: string;
+
+}
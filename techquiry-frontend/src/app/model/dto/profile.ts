@@ -0,0 +1,25 @@
+import { UserLogin } from '@app/model/dto/user-login';
+import { UserData } from '@app/model/dto/user-data';
+import { Inquiry } from '@app/model/dto/inquiry';
+
+/**
+ * Represents and contains a user's profile.
+ */
+export interface Profile {
+
+	/**
+	 * The login of the user.
+	 */
+	login: UserLogin;
+
+	/**
+	 * The data of the user.
+	 */
+	data: UserData;
+
+	/**
+	 * The inquiries posted by the user.
+	 */
+	inquiries: Inquiry[];
+
+}
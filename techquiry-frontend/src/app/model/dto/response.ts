@@ -28,4 +28,9 @@ export interface Response {
 	 */
 	content: string;
 
+	/**
+	 * The number of upvotes of the response.
+	 */
+	upvoteCount?: number;
+
 }
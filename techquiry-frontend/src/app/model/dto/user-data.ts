@@ -18,4 +18,9 @@ export interface UserData {
 	 */
 	lastName: string;
 
+	/**
+	 * The hash of the user's icon, which versions the icon URL.
+	 */
+	iconHash?: string;
+
 }
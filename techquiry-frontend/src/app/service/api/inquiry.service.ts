@@ -1,8 +1,9 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { UserLogin } from '@app/model/dto/user-login';
 import { Inquiry } from '@app/model/dto/inquiry';
+import { Page } from '@app/model/dto/page';
 import { Response } from '@app/model/dto/response';
 import { environment } from '@environment';
 
@@ -25,6 +26,12 @@ export class InquiryService {
 		return this.httpClient.get<Inquiry[]>(callUrl);
 	}
 
+	getInquiryFeed(count: number, cursor?: string): Observable<Page<Inquiry>> {
+		const callUrl = `${baseUrl}/feed/${count}`;
+		const params = cursor ? new HttpParams().set('cursor', cursor) : undefined;
+		return this.httpClient.get<Page<Inquiry>>(callUrl, { params, withCredentials: true });
+	}
+
 	createInquiry(inquiry: Inquiry): Observable<number> {
 		const callUrl = `${baseUrl}/create`;
 		return this.httpClient.post<number>(callUrl, inquiry, { withCredentials: true });
@@ -1,9 +1,10 @@
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Injectable } from '@angular/core';
 import { Observable } from 'rxjs';
 import { UserLogin } from '@app/model/dto/user-login';
 import { UserData } from '@app/model/dto/user-data';
 import { Inquiry } from '@app/model/dto/inquiry';
+import { Profile } from '@app/model/dto/profile';
 import { environment } from '@environment';
 
 const baseUrl: string = `${environment.apiUrl}/user`
@@ -60,6 +61,11 @@ export class UserService {
 		return this.httpClient.get<UserLogin>(callUrl);
 	}
 
+	getUserProfile(userId: number): Observable<Profile> {
+		const callUrl = `${baseUrl}/id/${userId}/profile`;
+		return this.httpClient.get<Profile>(callUrl, { withCredentials: true });
+	}
+
 	deleteUserLogin(userId: number): Observable<void> {
 		const callUrl = `${baseUrl}/id/${userId}/delete`;
 		return this.httpClient.post<void>(callUrl, '', { withCredentials: true });
@@ -100,9 +106,10 @@ export class UserService {
 		return this.httpClient.post<void>(callUrl, '', { withCredentials: true });
 	}
 
-	getUserIcon(userId: number): Observable<Blob> {
-		const callUrl = `${baseUrl}/id/${userId}/data/icon`;
-		return this.httpClient.get(callUrl, { responseType: 'blob' });
+	getUserIcon(userId: number, iconHash?: string, size?: number): Observable<Blob> {
+		const callUrl = iconHash ? `${baseUrl}/id/${userId}/data/icon/${iconHash}` : `${baseUrl}/id/${userId}/data/icon`;
+		const params = size ? new HttpParams().set('size', size) : undefined;
+		return this.httpClient.get(callUrl, { params, responseType: 'blob' });
 	}
 
 	updateUserIcon(userId: number, file: File): Observable<void> {
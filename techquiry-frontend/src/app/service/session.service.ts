@@ -30,7 +30,7 @@ export class SessionService {
 				next: (userLogin: UserLogin) => {
 					this.userService.getUserData(userLogin.userId!).subscribe({
 						next: (userData: UserData) => {
-							this.userService.getUserIcon(userLogin.userId!).subscribe({
+							this.userService.getUserIcon(userLogin.userId!, userData.iconHash, 64).subscribe({
 								next: (userIcon: Blob) => {
 									emit({ userLogin, userData, userIcon });
 								},